@@ -0,0 +1,323 @@
+package com.github.eddranca.datagenerator.arrow;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.eddranca.datagenerator.Generation;
+import com.github.eddranca.datagenerator.exception.SerializationException;
+import com.github.eddranca.datagenerator.export.ExportStatistics;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.complex.StructVector;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.ipc.ArrowWriter;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Exports collections in the Apache Arrow IPC file or stream format, for loading into
+ * Arrow-based engines without converting JSON to columns.
+ * <p>
+ * Items are read in {@link Builder#withBatchSize(int) record batches}. The schema is inferred
+ * from the first batch (see {@link #inferSchema(List)}), and each batch is written into reused
+ * column vectors and flushed before the next one is read, so memory use depends on the batch
+ * size rather than the collection size. A value whose type doesn't fit the inferred column, for
+ * example a decimal in a column that only held integers in the first batch, fails the export;
+ * a larger batch size samples more items.
+ *
+ * <pre>{@code
+ * ExportStatistics stats = ArrowExporter.builder()
+ *     .withFormat(ArrowFormat.STREAM)
+ *     .withBatchSize(65_536)
+ *     .build()
+ *     .export(generation, Path.of("out"));
+ * }</pre>
+ */
+public final class ArrowExporter {
+    static final int DEFAULT_BATCH_SIZE = 8_192;
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final ArrowFormat format;
+    private final int batchSize;
+
+    private ArrowExporter(Builder builder) {
+        this.format = builder.format;
+        this.batchSize = builder.batchSize;
+    }
+
+    /**
+     * Creates a builder for an exporter writing the Arrow file format.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Infers the Arrow schema of items: one nullable column per field, typed as boolean, 64-bit
+     * integer, double, string, struct or list. Fields that are always null, or have values of
+     * conflicting types, become strings.
+     *
+     * @param items the sample items
+     * @return the inferred schema
+     */
+    public static Schema inferSchema(List<JsonNode> items) {
+        return SchemaInference.infer(items);
+    }
+
+    /**
+     * Exports all collections into a directory, in alphabetical order, one file per collection
+     * named after it with the format's extension.
+     *
+     * @param generation      the generated data
+     * @param outputDirectory directory receiving the files, created if missing
+     * @return totals of the export
+     * @throws IOException if writing fails
+     */
+    public ExportStatistics export(Generation generation, Path outputDirectory) throws IOException {
+        return export(generation, outputDirectory, new TreeSet<>(generation.getCollectionNames()).toArray(String[]::new));
+    }
+
+    /**
+     * Exports the given collections into a directory, in the given order.
+     *
+     * @param generation      the generated data
+     * @param outputDirectory directory receiving the files, created if missing
+     * @param collectionNames names of the collections to export
+     * @return totals of the export
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if a collection doesn't exist
+     */
+    public ExportStatistics export(Generation generation, Path outputDirectory, String... collectionNames)
+        throws IOException {
+        for (String collectionName : collectionNames) {
+            requireCollection(generation, collectionName);
+        }
+        Files.createDirectories(outputDirectory);
+
+        long start = System.nanoTime();
+        List<Path> files = new ArrayList<>();
+        long rows = 0;
+        long bytes = 0;
+        for (String collectionName : collectionNames) {
+            Path file = outputDirectory.resolve(collectionName + format.extension());
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                rows += writeCollection(generation, collectionName, channel);
+                bytes += channel.size();
+            }
+            files.add(file);
+        }
+        return new ExportStatistics(rows, bytes, files, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Writes a collection to a stream. The stream is flushed but not closed.
+     *
+     * @param generation     the generated data
+     * @param collectionName name of the collection
+     * @param out            the stream to write to
+     * @return the number of rows written
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if the collection doesn't exist
+     */
+    public long export(Generation generation, String collectionName, OutputStream out) throws IOException {
+        requireCollection(generation, collectionName);
+        long rows = writeCollection(generation, collectionName, Channels.newChannel(out));
+        out.flush();
+        return rows;
+    }
+
+    private static void requireCollection(Generation generation, String collectionName) {
+        if (!generation.hasCollection(collectionName)) {
+            throw new IllegalArgumentException("Collection '" + collectionName + "' not found");
+        }
+    }
+
+    private long writeCollection(Generation generation, String collectionName, WritableByteChannel channel)
+        throws IOException {
+        Iterator<JsonNode> items = generation.streamJsonNodes(collectionName).iterator();
+        List<JsonNode> batch = new ArrayList<>(batchSize);
+        nextBatch(items, batch);
+        Schema schema = inferSchema(batch);
+
+        // Closing the writer closes its channel, which belongs to the caller
+        WritableByteChannel unclosed = new UnclosedChannel(channel);
+        long rows = 0;
+        try (BufferAllocator allocator = new RootAllocator();
+             VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator);
+             ArrowWriter writer = format == ArrowFormat.FILE
+                 ? new ArrowFileWriter(root, null, unclosed)
+                 : new ArrowStreamWriter(root, null, unclosed)) {
+            writer.start();
+            while (!batch.isEmpty()) {
+                fill(root, batch);
+                writer.writeBatch();
+                rows += batch.size();
+                nextBatch(items, batch);
+            }
+            writer.end();
+        }
+        return rows;
+    }
+
+    private void nextBatch(Iterator<JsonNode> items, List<JsonNode> batch) {
+        batch.clear();
+        while (batch.size() < batchSize && items.hasNext()) {
+            batch.add(items.next());
+        }
+    }
+
+    private static void fill(VectorSchemaRoot root, List<JsonNode> batch) {
+        root.allocateNew();
+        for (FieldVector vector : root.getFieldVectors()) {
+            String fieldName = vector.getName();
+            for (int row = 0; row < batch.size(); row++) {
+                write(vector, row, batch.get(row).get(fieldName));
+            }
+        }
+        root.setRowCount(batch.size());
+    }
+
+    private static void write(FieldVector vector, int index, JsonNode value) {
+        if (value == null || value.isNull()) {
+            writeNull(vector, index);
+        } else if (vector instanceof VarCharVector strings) {
+            strings.setSafe(index, toText(vector, value));
+        } else if (vector instanceof BigIntVector longs && value.isIntegralNumber() && value.canConvertToLong()) {
+            longs.setSafe(index, value.longValue());
+        } else if (vector instanceof Float8Vector doubles && value.isNumber()) {
+            doubles.setSafe(index, value.doubleValue());
+        } else if (vector instanceof BitVector booleans && value.isBoolean()) {
+            booleans.setSafe(index, value.booleanValue() ? 1 : 0);
+        } else if (vector instanceof StructVector struct && value.isObject()) {
+            struct.setIndexDefined(index);
+            for (FieldVector child : struct.getChildrenFromFields()) {
+                write(child, index, value.get(child.getName()));
+            }
+        } else if (vector instanceof ListVector list && value.isArray()) {
+            int offset = list.startNewValue(index);
+            FieldVector elements = (FieldVector) list.getDataVector();
+            for (int i = 0; i < value.size(); i++) {
+                write(elements, offset + i, value.get(i));
+            }
+            list.endValue(index, value.size());
+        } else {
+            IllegalArgumentException cause = new IllegalArgumentException(
+                "Got " + value.getNodeType() + " for " + vector.getField().getType());
+            throw new SerializationException("Field '" + vector.getName() + "' doesn't fit its inferred Arrow type; "
+                + "use a larger batch size so that the first batch covers all value types", cause);
+        }
+    }
+
+    private static void writeNull(FieldVector vector, int index) {
+        vector.setNull(index);
+        if (vector instanceof StructVector struct) {
+            // Keeps the offsets of nested lists contiguous
+            for (FieldVector child : struct.getChildrenFromFields()) {
+                writeNull(child, index);
+            }
+        }
+    }
+
+    private static byte[] toText(FieldVector vector, JsonNode value) {
+        if (!value.isContainerNode()) {
+            return value.asText().getBytes(StandardCharsets.UTF_8);
+        }
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Failed to serialize field '" + vector.getName() + "' to JSON", e);
+        }
+    }
+
+    /**
+     * Delegates writes to a channel but leaves it open when closed.
+     */
+    private record UnclosedChannel(WritableByteChannel channel) implements WritableByteChannel {
+        @Override
+        public int write(ByteBuffer source) throws IOException {
+            return channel.write(source);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() {
+            // The channel is closed by its owner
+        }
+    }
+
+    /**
+     * Builder for {@link ArrowExporter}.
+     */
+    public static final class Builder {
+        private ArrowFormat format = ArrowFormat.FILE;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the IPC format. Defaults to {@link ArrowFormat#FILE}.
+         *
+         * @param format the Arrow IPC format
+         * @return this builder
+         * @throws IllegalArgumentException if format is null
+         */
+        public Builder withFormat(ArrowFormat format) {
+            if (format == null) {
+                throw new IllegalArgumentException("Format must not be null");
+            }
+            this.format = format;
+            return this;
+        }
+
+        /**
+         * Sets the rows per record batch, which is also the sample the schema is inferred from.
+         * Defaults to {@value ArrowExporter#DEFAULT_BATCH_SIZE}.
+         *
+         * @param batchSize rows per record batch
+         * @return this builder
+         * @throws IllegalArgumentException if batchSize is not positive
+         */
+        public Builder withBatchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch size must be positive, got: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public ArrowExporter build() {
+            return new ArrowExporter(this);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.eddranca.datagenerator.arrow;
+
+/**
+ * Arrow IPC formats written by {@link ArrowExporter}.
+ */
+public enum ArrowFormat {
+    /**
+     * The random-access file format, with a footer indexing the record batches.
+     */
+    FILE(".arrow"),
+
+    /**
+     * The streaming format, which readers consume batch by batch without seeking.
+     */
+    STREAM(".arrows");
+
+    private final String extension;
+
+    ArrowFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the file extension used for this format, including the dot.
+     */
+    public String extension() {
+        return extension;
+    }
+}
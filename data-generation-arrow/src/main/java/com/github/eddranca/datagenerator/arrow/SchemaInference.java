@@ -0,0 +1,127 @@
+package com.github.eddranca.datagenerator.arrow;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Infers an Arrow schema from sample items.
+ * <p>
+ * Each field gets the narrowest type that holds every sampled value: booleans, 64-bit integers,
+ * doubles (integers mixed with decimals widen to doubles), strings, structs for objects and
+ * lists for arrays, merged recursively. Fields that are always null, or whose values have
+ * conflicting types, become strings; conflicting objects and arrays are then written as JSON
+ * text. Every field is nullable, and fields keep the order in which they first appear.
+ */
+final class SchemaInference {
+    private static final String LIST_ELEMENT = "$data$";
+
+    private SchemaInference() {
+    }
+
+    static Schema infer(List<JsonNode> items) {
+        Shape root = new Shape(Kind.STRUCT);
+        for (JsonNode item : items) {
+            root.merge(item);
+        }
+        List<Field> fields = new ArrayList<>();
+        root.children.forEach((name, shape) -> fields.add(shape.toField(name)));
+        return new Schema(fields);
+    }
+
+    private enum Kind {
+        NULL, BOOLEAN, LONG, DOUBLE, STRING, STRUCT, LIST
+    }
+
+    private static final class Shape {
+        private Kind kind;
+        private final Map<String, Shape> children = new LinkedHashMap<>();
+        private Shape element;
+
+        private Shape(Kind kind) {
+            this.kind = kind;
+        }
+
+        private void merge(JsonNode value) {
+            Kind valueKind = kindOf(value);
+            if (valueKind == Kind.NULL || kind == Kind.STRING) {
+                return;
+            }
+            if (kind == Kind.NULL) {
+                kind = valueKind;
+            } else if (kind != valueKind) {
+                boolean numeric = (kind == Kind.LONG || kind == Kind.DOUBLE)
+                    && (valueKind == Kind.LONG || valueKind == Kind.DOUBLE);
+                kind = numeric ? Kind.DOUBLE : Kind.STRING;
+                if (kind == Kind.STRING) {
+                    children.clear();
+                    element = null;
+                }
+                return;
+            }
+            if (kind == Kind.STRUCT) {
+                value.properties().forEach(field ->
+                    children.computeIfAbsent(field.getKey(), name -> new Shape(Kind.NULL)).merge(field.getValue()));
+            } else if (kind == Kind.LIST) {
+                if (element == null) {
+                    element = new Shape(Kind.NULL);
+                }
+                value.forEach(element::merge);
+            }
+        }
+
+        private static Kind kindOf(JsonNode value) {
+            if (value == null || value.isNull() || value.isMissingNode()) {
+                return Kind.NULL;
+            }
+            if (value.isBoolean()) {
+                return Kind.BOOLEAN;
+            }
+            if (value.isIntegralNumber()) {
+                // Integers beyond 64 bits keep their exact digits as strings
+                return value.canConvertToLong() ? Kind.LONG : Kind.STRING;
+            }
+            if (value.isNumber()) {
+                return Kind.DOUBLE;
+            }
+            if (value.isObject()) {
+                return Kind.STRUCT;
+            }
+            if (value.isArray()) {
+                return Kind.LIST;
+            }
+            return Kind.STRING;
+        }
+
+        private Field toField(String name) {
+            return switch (kind) {
+                case BOOLEAN -> leaf(name, ArrowType.Bool.INSTANCE);
+                case LONG -> leaf(name, new ArrowType.Int(64, true));
+                case DOUBLE -> leaf(name, new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE));
+                case NULL, STRING -> leaf(name, ArrowType.Utf8.INSTANCE);
+                case STRUCT -> {
+                    List<Field> fields = new ArrayList<>();
+                    children.forEach((childName, child) -> fields.add(child.toField(childName)));
+                    yield new Field(name, FieldType.nullable(ArrowType.Struct.INSTANCE), fields);
+                }
+                case LIST -> {
+                    Shape elementShape = element != null ? element : new Shape(Kind.NULL);
+                    yield new Field(name, FieldType.nullable(ArrowType.List.INSTANCE),
+                        List.of(elementShape.toField(LIST_ELEMENT)));
+                }
+            };
+        }
+
+        private static Field leaf(String name, ArrowType type) {
+            return new Field(name, FieldType.nullable(type), null);
+        }
+    }
+}
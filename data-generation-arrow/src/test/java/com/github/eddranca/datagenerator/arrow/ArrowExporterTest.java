@@ -0,0 +1,184 @@
+package com.github.eddranca.datagenerator.arrow;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.eddranca.datagenerator.DslDataGenerator;
+import com.github.eddranca.datagenerator.Generation;
+import com.github.eddranca.datagenerator.exception.SerializationException;
+import com.github.eddranca.datagenerator.export.ExportStatistics;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.apache.arrow.vector.ipc.ArrowReader;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArrowExporterTest {
+
+    private static final String DSL = """
+        {
+          "users": {
+            "count": 20,
+            "item": {
+              "id": {"gen": "sequence", "start": 1},
+              "name": {"gen": "name.fullName"},
+              "active": {"gen": "boolean"},
+              "score": {"gen": "float", "min": 0, "max": 100, "decimals": 2},
+              "address": {
+                "city": {"gen": "address.city"},
+                "zip": {"gen": "number", "min": 10000, "max": 99999}
+              },
+              "tags": {"array": {"size": 3, "item": {"gen": "lorem", "words": 1}}},
+              "nickname": null
+            }
+          },
+          "orders": {
+            "count": 5,
+            "item": {
+              "userId": {"ref": "users[*].id"}
+            }
+          }
+        }
+        """;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    private Generation generate() throws IOException {
+        return DslDataGenerator.create().withSeed(23L).fromJsonString(DSL).generate();
+    }
+
+    private List<JsonNode> readRows(ArrowReader reader, int[] batches) throws IOException {
+        List<JsonNode> rows = new ArrayList<>();
+        VectorSchemaRoot root = reader.getVectorSchemaRoot();
+        while (reader.loadNextBatch()) {
+            batches[0]++;
+            for (int row = 0; row < root.getRowCount(); row++) {
+                ObjectNode item = mapper.createObjectNode();
+                for (FieldVector vector : root.getFieldVectors()) {
+                    Object value = vector.getObject(row);
+                    item.set(vector.getName(), value == null ? null : mapper.readTree(mapper.writeValueAsString(value)));
+                }
+                rows.add(item);
+            }
+        }
+        return rows;
+    }
+
+    private List<JsonNode> expectedRows(Generation generation, String collectionName) throws IOException {
+        List<JsonNode> rows = new ArrayList<>();
+        for (JsonNode item : generation.streamJsonNodes(collectionName).toList()) {
+            rows.add(mapper.readTree(item.toString()));
+        }
+        return rows;
+    }
+
+    @Test
+    void testExportsFilesReadableByArrow() throws IOException {
+        Generation generation = generate();
+
+        ExportStatistics stats = ArrowExporter.builder()
+            .withBatchSize(7)
+            .build()
+            .export(generation, directory);
+
+        assertThat(stats.files()).containsExactly(directory.resolve("orders.arrow"), directory.resolve("users.arrow"));
+        assertThat(stats.rows()).isEqualTo(25);
+        assertThat(stats.bytes()).isEqualTo(Files.size(stats.files().get(0)) + Files.size(stats.files().get(1)));
+
+        int[] batches = new int[1];
+        try (BufferAllocator allocator = new RootAllocator();
+             FileChannel channel = FileChannel.open(directory.resolve("users.arrow"));
+             ArrowFileReader reader = new ArrowFileReader(channel, allocator)) {
+            Schema schema = reader.getVectorSchemaRoot().getSchema();
+            assertThat(schema.findField("id").getType()).isEqualTo(new ArrowType.Int(64, true));
+            assertThat(schema.findField("active").getType()).isEqualTo(ArrowType.Bool.INSTANCE);
+            assertThat(schema.findField("score").getType())
+                .isEqualTo(new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE));
+            assertThat(schema.findField("address").getType()).isEqualTo(ArrowType.Struct.INSTANCE);
+            assertThat(schema.findField("tags").getType()).isEqualTo(ArrowType.List.INSTANCE);
+            assertThat(schema.findField("nickname").getType()).isEqualTo(ArrowType.Utf8.INSTANCE);
+
+            assertThat(readRows(reader, batches)).isEqualTo(expectedRows(generation, "users"));
+        }
+        assertThat(batches[0]).isEqualTo(3);
+    }
+
+    @Test
+    void testWritesStreamFormatAndLeavesStreamOpen() throws IOException {
+        Generation generation = generate();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ArrowExporter exporter = ArrowExporter.builder()
+            .withFormat(ArrowFormat.STREAM)
+            .withBatchSize(4)
+            .build();
+
+        assertThat(exporter.export(generation, "users", out)).isEqualTo(20);
+        out.write('\n');
+
+        int[] batches = new int[1];
+        try (BufferAllocator allocator = new RootAllocator();
+             ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(out.toByteArray()), allocator)) {
+            assertThat(readRows(reader, batches)).isEqualTo(expectedRows(generation, "users"));
+        }
+        assertThat(batches[0]).isEqualTo(5);
+    }
+
+    @Test
+    void testInfersWidenedTypes() throws IOException {
+        List<JsonNode> items = List.of(
+            mapper.readTree("{\"count\": 1, \"mixed\": 1, \"empty\": null, \"list\": [1]}"),
+            mapper.readTree("{\"count\": 2.5, \"mixed\": \"a\", \"empty\": null, \"list\": [], \"late\": true}"));
+
+        Schema schema = ArrowExporter.inferSchema(items);
+
+        assertThat(schema.getFields()).extracting(field -> field.getName())
+            .containsExactly("count", "mixed", "empty", "list", "late");
+        assertThat(schema.findField("count").getType())
+            .isEqualTo(new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE));
+        assertThat(schema.findField("mixed").getType()).isEqualTo(ArrowType.Utf8.INSTANCE);
+        assertThat(schema.findField("empty").getType()).isEqualTo(ArrowType.Utf8.INSTANCE);
+        assertThat(schema.findField("list").getChildren().get(0).getType()).isEqualTo(new ArrowType.Int(64, true));
+        assertThat(schema.findField("late").getType()).isEqualTo(ArrowType.Bool.INSTANCE);
+    }
+
+    @Test
+    void testRejectsValuesOutsideInferredSchema() throws IOException {
+        Generation generation = DslDataGenerator.create()
+            .withSeed(5L)
+            .fromJsonString("""
+                {"values": {"count": 50, "item": {"value": {"gen": "choice", "options": [1, true]}}}}
+                """)
+            .generate();
+        ArrowExporter exporter = ArrowExporter.builder().withBatchSize(1).build();
+
+        assertThatThrownBy(() -> exporter.export(generation, "values", new ByteArrayOutputStream()))
+            .isInstanceOf(SerializationException.class)
+            .hasMessageContaining("'value'");
+        assertThatThrownBy(() -> exporter.export(generation, "missing", new ByteArrayOutputStream()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ArrowExporter.builder().withBatchSize(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
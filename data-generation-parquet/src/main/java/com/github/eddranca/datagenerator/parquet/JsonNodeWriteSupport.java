@@ -0,0 +1,140 @@
+package com.github.eddranca.datagenerator.parquet;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.eddranca.datagenerator.exception.SerializationException;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.conf.ParquetConfiguration;
+import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.RecordConsumer;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Type;
+
+import java.util.Map;
+
+/**
+ * Writes items as Parquet records of a schema derived by {@link SchemaInference}. Missing and
+ * null fields are left out of the record, which makes them null in their optional columns.
+ */
+final class JsonNodeWriteSupport extends WriteSupport<JsonNode> {
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final String LIST_FIELD = "list";
+
+    private final MessageType schema;
+    private RecordConsumer consumer;
+
+    JsonNodeWriteSupport(MessageType schema) {
+        this.schema = schema;
+    }
+
+    @Override
+    public WriteContext init(Configuration configuration) {
+        return new WriteContext(schema, Map.of());
+    }
+
+    @Override
+    public WriteContext init(ParquetConfiguration configuration) {
+        return new WriteContext(schema, Map.of());
+    }
+
+    @Override
+    public void prepareForWrite(RecordConsumer recordConsumer) {
+        this.consumer = recordConsumer;
+    }
+
+    @Override
+    public void write(JsonNode item) {
+        consumer.startMessage();
+        writeFields(schema, item);
+        consumer.endMessage();
+    }
+
+    private void writeFields(GroupType type, JsonNode object) {
+        for (int i = 0; i < type.getFieldCount(); i++) {
+            Type field = type.getType(i);
+            JsonNode value = object.get(field.getName());
+            if (value == null || value.isNull()) {
+                continue;
+            }
+            consumer.startField(field.getName(), i);
+            writeValue(field, value);
+            consumer.endField(field.getName(), i);
+        }
+    }
+
+    private void writeValue(Type type, JsonNode value) {
+        if (type.isPrimitive()) {
+            writePrimitive(type, value);
+            return;
+        }
+        GroupType group = type.asGroupType();
+        if (group.getLogicalTypeAnnotation() instanceof LogicalTypeAnnotation.ListLogicalTypeAnnotation) {
+            requireValue(type, value, value.isArray());
+            writeList(group, value);
+        } else {
+            requireValue(type, value, value.isObject());
+            consumer.startGroup();
+            writeFields(group, value);
+            consumer.endGroup();
+        }
+    }
+
+    private void writeList(GroupType list, JsonNode array) {
+        Type element = list.getType(0).asGroupType().getType(0);
+        consumer.startGroup();
+        if (!array.isEmpty()) {
+            consumer.startField(LIST_FIELD, 0);
+            for (JsonNode value : array) {
+                consumer.startGroup();
+                if (!value.isNull()) {
+                    consumer.startField(SchemaInference.LIST_ELEMENT, 0);
+                    writeValue(element, value);
+                    consumer.endField(SchemaInference.LIST_ELEMENT, 0);
+                }
+                consumer.endGroup();
+            }
+            consumer.endField(LIST_FIELD, 0);
+        }
+        consumer.endGroup();
+    }
+
+    private void writePrimitive(Type type, JsonNode value) {
+        switch (type.asPrimitiveType().getPrimitiveTypeName()) {
+            case BOOLEAN -> {
+                requireValue(type, value, value.isBoolean());
+                consumer.addBoolean(value.booleanValue());
+            }
+            case INT64 -> {
+                requireValue(type, value, value.isIntegralNumber() && value.canConvertToLong());
+                consumer.addLong(value.longValue());
+            }
+            case DOUBLE -> {
+                requireValue(type, value, value.isNumber());
+                consumer.addDouble(value.doubleValue());
+            }
+            default -> consumer.addBinary(Binary.fromString(toText(type, value)));
+        }
+    }
+
+    private static String toText(Type type, JsonNode value) {
+        if (!value.isContainerNode()) {
+            return value.asText();
+        }
+        try {
+            return mapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Failed to serialize field '" + type.getName() + "' to JSON", e);
+        }
+    }
+
+    private static void requireValue(Type type, JsonNode value, boolean fits) {
+        if (!fits) {
+            IllegalArgumentException cause = new IllegalArgumentException("Got " + value.getNodeType() + " for " + type);
+            throw new SerializationException("Field '" + type.getName() + "' doesn't fit its inferred Parquet type", cause);
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package com.github.eddranca.datagenerator.parquet;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.eddranca.datagenerator.Generation;
+import com.github.eddranca.datagenerator.builder.DslTreeBuilder;
+import com.github.eddranca.datagenerator.exception.DslValidationException;
+import com.github.eddranca.datagenerator.export.ExportStatistics;
+import com.github.eddranca.datagenerator.generator.GeneratorRegistry;
+import com.github.eddranca.datagenerator.node.CollectionNode;
+import com.github.eddranca.datagenerator.node.RootNode;
+import com.github.eddranca.datagenerator.validation.DslTreeBuildResult;
+import net.datafaker.Faker;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.column.ParquetProperties;
+import org.apache.parquet.conf.ParquetConfiguration;
+import org.apache.parquet.conf.PlainParquetConfiguration;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.api.WriteSupport;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.io.LocalOutputFile;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.schema.MessageType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Exports collections as Apache Parquet files, one {@code <collection>.parquet} file per
+ * collection, for Spark, DuckDB and other columnar engines.
+ * <p>
+ * The schema of each collection is derived from its item definition in the DSL: nested objects
+ * become groups and arrays become lists (see {@link #inferSchema(JsonNode, Generation, String)}).
+ * Items are streamed from the generation into the writer, which buffers one
+ * {@link Builder#withRowGroupSize(long) row group} at a time, so collections generated with
+ * streaming or memory optimization are never held in memory.
+ * <p>
+ * Dictionary encoding is enabled for the string columns of choices, literals and low-cardinality
+ * generators such as {@code country}, and disabled elsewhere, where building a dictionary for
+ * mostly unique values only costs time; {@link Builder#withDictionaryEncoding(String, boolean)}
+ * overrides it per column.
+ *
+ * <pre>{@code
+ * JsonNode dsl = mapper.readTree(dslFile);
+ * Generation generation = DslDataGenerator.create().withStreaming().fromJsonNode(dsl).generate();
+ * ExportStatistics stats = ParquetExporter.builder(Path.of("out"))
+ *     .withRowGroupSize(64L * 1024 * 1024)
+ *     .withCompression(CompressionCodecName.SNAPPY)
+ *     .build()
+ *     .export(generation, dsl);
+ * }</pre>
+ */
+public final class ParquetExporter {
+    private static final String EXTENSION = ".parquet";
+
+    private final Path outputDirectory;
+    private final long rowGroupSize;
+    private final int pageSize;
+    private final int dictionaryPageSize;
+    private final CompressionCodecName compression;
+    private final GeneratorRegistry generatorRegistry;
+    private final Map<String, Boolean> dictionaryEncoding;
+
+    private ParquetExporter(Builder builder) {
+        this.outputDirectory = builder.outputDirectory;
+        this.rowGroupSize = builder.rowGroupSize;
+        this.pageSize = builder.pageSize;
+        this.dictionaryPageSize = builder.dictionaryPageSize;
+        this.compression = builder.compression;
+        this.generatorRegistry = builder.generatorRegistry;
+        this.dictionaryEncoding = Map.copyOf(builder.dictionaryEncoding);
+    }
+
+    /**
+     * Creates a builder for an exporter writing to the given directory.
+     *
+     * @param outputDirectory directory receiving the files, created if missing
+     * @return a new builder
+     */
+    public static Builder builder(Path outputDirectory) {
+        return new Builder(outputDirectory);
+    }
+
+    /**
+     * Returns the Parquet schema a collection is written with. Leaf columns whose type the DSL
+     * doesn't determine are typed by the first item of the collection.
+     *
+     * @param dsl            the DSL the generation was created from
+     * @param generation     the generated data
+     * @param collectionName name of the collection
+     * @return the Parquet schema
+     * @throws DslValidationException   if the DSL is invalid
+     * @throws IllegalArgumentException if the collection doesn't exist or isn't defined in the DSL
+     */
+    public MessageType inferSchema(JsonNode dsl, Generation generation, String collectionName) {
+        requireCollection(generation, collectionName);
+        CollectionNode collection = collectionNode(collectionNodes(dsl), collectionName);
+        JsonNode firstItem = generation.streamJsonNodes(collectionName).findFirst().orElse(null);
+        return SchemaInference.infer(collectionName, collection.getItem(), firstItem).schema();
+    }
+
+    /**
+     * Exports all collections, in alphabetical order.
+     *
+     * @param generation the generated data
+     * @param dsl        the DSL the generation was created from
+     * @return totals of the export
+     * @throws IOException              if writing fails
+     * @throws DslValidationException   if the DSL is invalid
+     * @throws IllegalArgumentException if a collection isn't defined in the DSL
+     */
+    public ExportStatistics export(Generation generation, JsonNode dsl) throws IOException {
+        return export(generation, dsl, new TreeSet<>(generation.getCollectionNames()).toArray(String[]::new));
+    }
+
+    /**
+     * Exports the given collections, in the given order.
+     *
+     * @param generation      the generated data
+     * @param dsl             the DSL the generation was created from
+     * @param collectionNames names of the collections to export
+     * @return totals of the export
+     * @throws IOException              if writing fails
+     * @throws DslValidationException   if the DSL is invalid
+     * @throws IllegalArgumentException if a collection doesn't exist or isn't defined in the DSL
+     */
+    public ExportStatistics export(Generation generation, JsonNode dsl, String... collectionNames) throws IOException {
+        for (String collectionName : collectionNames) {
+            requireCollection(generation, collectionName);
+        }
+        Map<String, CollectionNode> collections = collectionNodes(dsl);
+        Files.createDirectories(outputDirectory);
+
+        long start = System.nanoTime();
+        List<Path> files = new ArrayList<>();
+        long rows = 0;
+        long bytes = 0;
+        for (String collectionName : collectionNames) {
+            Path file = outputDirectory.resolve(collectionName + EXTENSION);
+            rows += writeCollection(generation, collectionNode(collections, collectionName), collectionName, file);
+            bytes += Files.size(file);
+            files.add(file);
+        }
+        return new ExportStatistics(rows, bytes, files, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private static void requireCollection(Generation generation, String collectionName) {
+        if (!generation.hasCollection(collectionName)) {
+            throw new IllegalArgumentException("Collection '" + collectionName + "' not found");
+        }
+    }
+
+    /**
+     * Parses the DSL into its node tree and returns the first definition of each collection.
+     */
+    private Map<String, CollectionNode> collectionNodes(JsonNode dsl) {
+        DslTreeBuildResult result = new DslTreeBuilder(generatorRegistry).build(dsl);
+        if (result.hasErrors()) {
+            throw new DslValidationException(result.getErrors());
+        }
+        RootNode root = result.getTree();
+        Map<String, CollectionNode> collections = new LinkedHashMap<>();
+        for (CollectionNode collection : root.getCollections().values()) {
+            collections.putIfAbsent(collection.getCollectionName(), collection);
+        }
+        return collections;
+    }
+
+    private static CollectionNode collectionNode(Map<String, CollectionNode> collections, String collectionName) {
+        CollectionNode collection = collections.get(collectionName);
+        if (collection == null) {
+            throw new IllegalArgumentException("Collection '" + collectionName + "' is not defined in the DSL");
+        }
+        return collection;
+    }
+
+    private long writeCollection(Generation generation, CollectionNode collection, String collectionName, Path file)
+        throws IOException {
+        Iterator<JsonNode> items = generation.streamJsonNodes(collectionName).iterator();
+        JsonNode firstItem = items.hasNext() ? items.next() : null;
+        SchemaInference.CollectionSchema schema = SchemaInference.infer(collectionName, collection.getItem(), firstItem);
+
+        WriterBuilder builder = new WriterBuilder(new LocalOutputFile(file), schema.schema())
+            .withConf(new PlainParquetConfiguration())
+            .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+            .withRowGroupSize(rowGroupSize)
+            .withPageSize(pageSize)
+            .withDictionaryPageSize(dictionaryPageSize)
+            .withCompressionCodec(compression)
+            .withDictionaryEncoding(false);
+        for (String column : schema.dictionaryColumns()) {
+            builder.withDictionaryEncoding(column, true);
+        }
+        dictionaryEncoding.forEach(builder::withDictionaryEncoding);
+
+        long rows = 0;
+        try (ParquetWriter<JsonNode> writer = builder.build()) {
+            if (firstItem != null) {
+                writer.write(firstItem);
+                rows++;
+            }
+            while (items.hasNext()) {
+                writer.write(items.next());
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private static final class WriterBuilder extends ParquetWriter.Builder<JsonNode, WriterBuilder> {
+        private final MessageType schema;
+
+        private WriterBuilder(OutputFile file, MessageType schema) {
+            super(file);
+            this.schema = schema;
+        }
+
+        @Override
+        protected WriterBuilder self() {
+            return this;
+        }
+
+        @Override
+        protected WriteSupport<JsonNode> getWriteSupport(Configuration configuration) {
+            return new JsonNodeWriteSupport(schema);
+        }
+
+        @Override
+        protected WriteSupport<JsonNode> getWriteSupport(ParquetConfiguration configuration) {
+            return new JsonNodeWriteSupport(schema);
+        }
+    }
+
+    /**
+     * Builder for {@link ParquetExporter}.
+     */
+    public static final class Builder {
+        private final Path outputDirectory;
+        private long rowGroupSize = ParquetWriter.DEFAULT_BLOCK_SIZE;
+        private int pageSize = ParquetProperties.DEFAULT_PAGE_SIZE;
+        private int dictionaryPageSize = ParquetProperties.DEFAULT_DICTIONARY_PAGE_SIZE;
+        private CompressionCodecName compression = CompressionCodecName.SNAPPY;
+        private GeneratorRegistry generatorRegistry;
+        private final Map<String, Boolean> dictionaryEncoding = new HashMap<>();
+
+        private Builder(Path outputDirectory) {
+            if (outputDirectory == null) {
+                throw new IllegalArgumentException("Output directory must not be null");
+            }
+            this.outputDirectory = outputDirectory;
+        }
+
+        /**
+         * Sets the target size of a row group, the unit buffered in memory and read in parallel.
+         * Defaults to 128 MiB.
+         *
+         * @param rowGroupSize row group size in bytes
+         * @return this builder
+         * @throws IllegalArgumentException if rowGroupSize is not positive
+         */
+        public Builder withRowGroupSize(long rowGroupSize) {
+            if (rowGroupSize <= 0) {
+                throw new IllegalArgumentException("Row group size must be positive, got: " + rowGroupSize);
+            }
+            this.rowGroupSize = rowGroupSize;
+            return this;
+        }
+
+        /**
+         * Sets the target size of a page, the unit of encoding and compression within a column.
+         * Defaults to 1 MiB.
+         *
+         * @param pageSize page size in bytes
+         * @return this builder
+         * @throws IllegalArgumentException if pageSize is not positive
+         */
+        public Builder withPageSize(int pageSize) {
+            if (pageSize <= 0) {
+                throw new IllegalArgumentException("Page size must be positive, got: " + pageSize);
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum size of a column's dictionary. A column whose dictionary grows beyond
+         * it falls back to plain encoding. Defaults to 1 MiB.
+         *
+         * @param dictionaryPageSize dictionary page size in bytes
+         * @return this builder
+         * @throws IllegalArgumentException if dictionaryPageSize is not positive
+         */
+        public Builder withDictionaryPageSize(int dictionaryPageSize) {
+            if (dictionaryPageSize <= 0) {
+                throw new IllegalArgumentException("Dictionary page size must be positive, got: " + dictionaryPageSize);
+            }
+            this.dictionaryPageSize = dictionaryPageSize;
+            return this;
+        }
+
+        /**
+         * Sets the compression codec. Defaults to {@link CompressionCodecName#SNAPPY}.
+         *
+         * @param compression the compression codec
+         * @return this builder
+         * @throws IllegalArgumentException if compression is null
+         */
+        public Builder withCompression(CompressionCodecName compression) {
+            if (compression == null) {
+                throw new IllegalArgumentException("Compression must not be null");
+            }
+            this.compression = compression;
+            return this;
+        }
+
+        /**
+         * Enables or disables dictionary encoding for a column, overriding the default.
+         *
+         * @param columnPath dot-separated column path, such as {@code address.city} or
+         *                   {@code tags.list.element} for the elements of a list
+         * @param enabled    whether the column is dictionary-encoded
+         * @return this builder
+         * @throws IllegalArgumentException if columnPath is null
+         */
+        public Builder withDictionaryEncoding(String columnPath, boolean enabled) {
+            if (columnPath == null) {
+                throw new IllegalArgumentException("Column path must not be null");
+            }
+            dictionaryEncoding.put(columnPath, enabled);
+            return this;
+        }
+
+        /**
+         * Sets the generator registry used to parse the DSL, needed when it uses custom
+         * generators. Defaults to the built-in generators.
+         *
+         * @param generatorRegistry the generator registry
+         * @return this builder
+         */
+        public Builder withGeneratorRegistry(GeneratorRegistry generatorRegistry) {
+            this.generatorRegistry = generatorRegistry;
+            return this;
+        }
+
+        public ParquetExporter build() {
+            if (generatorRegistry == null) {
+                generatorRegistry = GeneratorRegistry.withDefaultGenerators(new Faker());
+            }
+            return new ParquetExporter(this);
+        }
+    }
+}
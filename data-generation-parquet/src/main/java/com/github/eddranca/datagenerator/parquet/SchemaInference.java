@@ -0,0 +1,167 @@
+package com.github.eddranca.datagenerator.parquet;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.eddranca.datagenerator.node.ArrayFieldNode;
+import com.github.eddranca.datagenerator.node.ChoiceFieldNode;
+import com.github.eddranca.datagenerator.node.DslNode;
+import com.github.eddranca.datagenerator.node.GeneratedFieldNode;
+import com.github.eddranca.datagenerator.node.ItemNode;
+import com.github.eddranca.datagenerator.node.LiteralFieldNode;
+import com.github.eddranca.datagenerator.node.ObjectFieldNode;
+import com.github.eddranca.datagenerator.node.ReferenceSpreadFieldNode;
+import com.github.eddranca.datagenerator.node.ShadowBindingNode;
+import com.github.eddranca.datagenerator.node.SpreadFieldNode;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Type;
+import org.apache.parquet.schema.Types;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Derives the Parquet schema of a collection from its DSL item definition.
+ * <p>
+ * Nested objects ({@link ObjectFieldNode}) become groups and arrays ({@link ArrayFieldNode})
+ * become three-level lists, recursively. Generators don't declare the type of their values, so
+ * leaf columns are typed by the generator where it is known ({@code number}, {@code sequence},
+ * {@code float}, {@code boolean}), by the value of literals, and otherwise by the value in the
+ * first generated item: booleans, 64-bit integers, doubles, or UTF-8 strings. Objects and arrays
+ * produced by other fields, such as references to whole items, are written as JSON strings.
+ * Fields the DSL doesn't name, like those of spreads, are taken from the first item. Every
+ * column is optional.
+ * <p>
+ * Columns of choices, literals and low-cardinality generators such as {@code country} are
+ * marked for dictionary encoding.
+ */
+final class SchemaInference {
+    static final String LIST_ELEMENT = "element";
+    private static final Set<String> LOW_CARDINALITY_ADDRESS_FIELDS = Set.of("country", "countryCode", "state");
+
+    private final Set<String> dictionaryColumns = new LinkedHashSet<>();
+
+    private SchemaInference() {
+    }
+
+    /**
+     * The Parquet schema of a collection and the dot-separated paths of its dictionary-encoded
+     * columns.
+     */
+    record CollectionSchema(MessageType schema, Set<String> dictionaryColumns) {
+    }
+
+    static CollectionSchema infer(String collectionName, ItemNode item, JsonNode firstItem) {
+        SchemaInference inference = new SchemaInference();
+        List<Type> fields = inference.fields(item.getFields(), firstItem, "");
+        MessageType schema = Types.buildMessage().addFields(fields.toArray(Type[]::new)).named(collectionName);
+        return new CollectionSchema(schema, Collections.unmodifiableSet(inference.dictionaryColumns));
+    }
+
+    private List<Type> fields(Map<String, DslNode> definitions, JsonNode sample, String prefix) {
+        Set<String> names = new LinkedHashSet<>();
+        if (sample != null && sample.isObject()) {
+            // The generated item has the real output fields, including spread ones
+            sample.fieldNames().forEachRemaining(names::add);
+        } else {
+            definitions.forEach((name, node) -> {
+                if (!(node instanceof ShadowBindingNode || node instanceof SpreadFieldNode
+                    || node instanceof ReferenceSpreadFieldNode)) {
+                    names.add(name);
+                }
+            });
+        }
+        List<Type> fields = new ArrayList<>();
+        for (String name : names) {
+            fields.add(type(name, definitions.get(name), sample != null ? sample.get(name) : null, prefix + name));
+        }
+        return fields;
+    }
+
+    private Type type(String name, DslNode node, JsonNode sample, String path) {
+        if (node instanceof ObjectFieldNode object) {
+            List<Type> fields = fields(object.getFields(), sample, path + ".");
+            // Parquet has no empty groups
+            if (!fields.isEmpty()) {
+                return Types.optionalGroup().addFields(fields.toArray(Type[]::new)).named(name);
+            }
+        } else if (node instanceof ArrayFieldNode array) {
+            JsonNode element = firstElement(sample);
+            Type elementType = type(LIST_ELEMENT, array.getItemNode(), element, path + ".list." + LIST_ELEMENT);
+            return Types.optionalList().element(elementType).named(name);
+        }
+        return leaf(name, node, sample, path);
+    }
+
+    private static JsonNode firstElement(JsonNode array) {
+        if (array == null || !array.isArray()) {
+            return null;
+        }
+        for (JsonNode element : array) {
+            if (!element.isNull()) {
+                return element;
+            }
+        }
+        return null;
+    }
+
+    private Type leaf(String name, DslNode node, JsonNode sample, String path) {
+        if (isLowCardinality(node)) {
+            dictionaryColumns.add(path);
+        }
+        PrimitiveTypeName type = generatorType(node);
+        if (type == null) {
+            type = valueType(node instanceof LiteralFieldNode literal ? literal.getValue() : sample);
+        }
+        if (type == PrimitiveTypeName.BINARY) {
+            return Types.optional(type).as(LogicalTypeAnnotation.stringType()).named(name);
+        }
+        return Types.optional(type).named(name);
+    }
+
+    private static PrimitiveTypeName generatorType(DslNode node) {
+        if (!(node instanceof GeneratedFieldNode generated) || generated.hasPath()) {
+            return null;
+        }
+        return switch (generated.getGeneratorName()) {
+            case "number", "sequence" -> PrimitiveTypeName.INT64;
+            case "float" -> PrimitiveTypeName.DOUBLE;
+            case "boolean" -> PrimitiveTypeName.BOOLEAN;
+            default -> null;
+        };
+    }
+
+    private static PrimitiveTypeName valueType(JsonNode value) {
+        if (value == null) {
+            return PrimitiveTypeName.BINARY;
+        }
+        if (value.isBoolean()) {
+            return PrimitiveTypeName.BOOLEAN;
+        }
+        if (value.isIntegralNumber() && value.canConvertToLong()) {
+            return PrimitiveTypeName.INT64;
+        }
+        if (value.isFloatingPointNumber()) {
+            return PrimitiveTypeName.DOUBLE;
+        }
+        return PrimitiveTypeName.BINARY;
+    }
+
+    private static boolean isLowCardinality(DslNode node) {
+        if (node instanceof ChoiceFieldNode || node instanceof LiteralFieldNode) {
+            return true;
+        }
+        if (node instanceof GeneratedFieldNode generated) {
+            return switch (generated.getGeneratorName()) {
+                case "country" -> true;
+                case "address" -> generated.hasPath() && LOW_CARDINALITY_ADDRESS_FIELDS.contains(generated.getPath());
+                default -> false;
+            };
+        }
+        return false;
+    }
+}
@@ -0,0 +1,197 @@
+package com.github.eddranca.datagenerator.parquet;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.eddranca.datagenerator.DslDataGenerator;
+import com.github.eddranca.datagenerator.Generation;
+import com.github.eddranca.datagenerator.exception.SerializationException;
+import com.github.eddranca.datagenerator.export.ExportStatistics;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.io.ColumnIOFactory;
+import org.apache.parquet.io.LocalInputFile;
+import org.apache.parquet.io.RecordReader;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParquetExporterTest {
+
+    private static final String DSL = """
+        {
+          "users": {
+            "count": 300,
+            "item": {
+              "id": {"gen": "sequence", "start": 1},
+              "name": {"gen": "name.fullName"},
+              "country": {"gen": "country.name"},
+              "status": {"gen": "choice", "options": ["active", "inactive"]},
+              "verified": {"gen": "boolean"},
+              "score": {"gen": "float", "min": 0, "max": 100, "decimals": 2},
+              "address": {
+                "city": {"gen": "address.city"},
+                "zip": {"gen": "number", "min": 10000, "max": 99999}
+              },
+              "tags": {"array": {"minSize": 0, "maxSize": 3, "item": {"gen": "lorem", "words": 1}}},
+              "nickname": null
+            }
+          },
+          "orders": {
+            "count": 20,
+            "item": {
+              "user": {"ref": "users[*]"},
+              "total": {"gen": "float", "min": 1, "max": 500}
+            }
+          }
+        }
+        """;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    private JsonNode dsl() throws IOException {
+        return mapper.readTree(DSL);
+    }
+
+    private Generation generate(JsonNode dsl) throws IOException {
+        return DslDataGenerator.create().withSeed(31L).fromJsonNode(dsl).generate();
+    }
+
+    private List<Group> readRows(Path file, List<BlockMetaData> rowGroups) throws IOException {
+        List<Group> rows = new ArrayList<>();
+        try (ParquetFileReader reader = ParquetFileReader.open(new LocalInputFile(file))) {
+            MessageType schema = reader.getFooter().getFileMetaData().getSchema();
+            rowGroups.addAll(reader.getFooter().getBlocks());
+            PageReadStore pages;
+            while ((pages = reader.readNextRowGroup()) != null) {
+                RecordReader<Group> records = new ColumnIOFactory().getColumnIO(schema)
+                    .getRecordReader(pages, new GroupRecordConverter(schema));
+                for (long i = 0; i < pages.getRowCount(); i++) {
+                    rows.add(records.read());
+                }
+            }
+        }
+        return rows;
+    }
+
+    @Test
+    void testWritesNestedRowsInSeveralRowGroups() throws IOException {
+        JsonNode dsl = dsl();
+        Generation generation = generate(dsl);
+
+        ExportStatistics stats = ParquetExporter.builder(directory)
+            .withRowGroupSize(8 * 1024)
+            .withPageSize(1024)
+            .build()
+            .export(generation, dsl);
+
+        assertThat(stats.files()).containsExactly(directory.resolve("orders.parquet"), directory.resolve("users.parquet"));
+        assertThat(stats.rows()).isEqualTo(320);
+        assertThat(stats.bytes()).isEqualTo(Files.size(stats.files().get(0)) + Files.size(stats.files().get(1)));
+
+        List<BlockMetaData> rowGroups = new ArrayList<>();
+        List<Group> rows = readRows(directory.resolve("users.parquet"), rowGroups);
+        List<JsonNode> expected = generation.streamJsonNodes("users").toList();
+        assertThat(rowGroups).hasSizeGreaterThan(1);
+        assertThat(rows).hasSize(300);
+        for (int i = 0; i < rows.size(); i++) {
+            Group row = rows.get(i);
+            JsonNode item = expected.get(i);
+            assertThat(row.getLong("id", 0)).isEqualTo(item.get("id").asLong());
+            assertThat(row.getString("country", 0)).isEqualTo(item.get("country").asText());
+            assertThat(row.getBoolean("verified", 0)).isEqualTo(item.get("verified").asBoolean());
+            assertThat(row.getDouble("score", 0)).isEqualTo(item.get("score").asDouble());
+            assertThat(row.getGroup("address", 0).getString("city", 0)).isEqualTo(item.get("address").get("city").asText());
+            assertThat(row.getGroup("address", 0).getLong("zip", 0)).isEqualTo(item.get("address").get("zip").asLong());
+            assertThat(row.getFieldRepetitionCount("nickname")).isZero();
+
+            Group tags = row.getGroup("tags", 0);
+            List<String> tagValues = new ArrayList<>();
+            for (int j = 0; j < tags.getFieldRepetitionCount("list"); j++) {
+                tagValues.add(tags.getGroup("list", j).getString("element", 0));
+            }
+            List<String> expectedTags = new ArrayList<>();
+            item.get("tags").forEach(tag -> expectedTags.add(tag.asText()));
+            assertThat(tagValues).isEqualTo(expectedTags);
+        }
+    }
+
+    @Test
+    void testEncodesLowCardinalityColumnsWithDictionaries() throws IOException {
+        JsonNode dsl = dsl();
+        Generation generation = generate(dsl);
+
+        ParquetExporter.builder(directory)
+            .withDictionaryEncoding("status", false)
+            .build()
+            .export(generation, dsl, "users");
+
+        List<BlockMetaData> rowGroups = new ArrayList<>();
+        readRows(directory.resolve("users.parquet"), rowGroups);
+        Set<String> dictionaryColumns = new HashSet<>();
+        for (ColumnChunkMetaData column : rowGroups.get(0).getColumns()) {
+            if (column.hasDictionaryPage()) {
+                dictionaryColumns.add(column.getPath().toDotString());
+            }
+        }
+        assertThat(dictionaryColumns).containsExactly("country");
+    }
+
+    @Test
+    void testInfersSchemaFromDsl() throws IOException {
+        JsonNode dsl = dsl();
+        Generation generation = generate(dsl);
+        ParquetExporter exporter = ParquetExporter.builder(directory).build();
+
+        MessageType users = exporter.inferSchema(dsl, generation, "users");
+        assertThat(users.getType("id").asPrimitiveType().getPrimitiveTypeName()).isEqualTo(PrimitiveTypeName.INT64);
+        assertThat(users.getType("score").asPrimitiveType().getPrimitiveTypeName()).isEqualTo(PrimitiveTypeName.DOUBLE);
+        assertThat(users.getType("name").getLogicalTypeAnnotation()).isEqualTo(LogicalTypeAnnotation.stringType());
+        assertThat(users.getType("address").asGroupType().getFieldCount()).isEqualTo(2);
+        assertThat(users.getType("tags").getLogicalTypeAnnotation()).isEqualTo(LogicalTypeAnnotation.listType());
+        assertThat(users.getType("nickname").getLogicalTypeAnnotation()).isEqualTo(LogicalTypeAnnotation.stringType());
+
+        // References to whole items are objects the DSL doesn't describe, written as JSON text
+        MessageType orders = exporter.inferSchema(dsl, generation, "orders");
+        assertThat(orders.getType("user").getLogicalTypeAnnotation()).isEqualTo(LogicalTypeAnnotation.stringType());
+    }
+
+    @Test
+    void testRejectsInvalidInput() throws IOException {
+        JsonNode dsl = mapper.readTree("""
+            {"values": {"count": 50, "item": {"value": {"gen": "choice", "options": [1, true]}}}}
+            """);
+        Generation generation = generate(dsl);
+        ParquetExporter exporter = ParquetExporter.builder(directory).build();
+
+        assertThatThrownBy(() -> exporter.export(generation, dsl))
+            .isInstanceOf(SerializationException.class)
+            .hasMessageContaining("'value'");
+        assertThatThrownBy(() -> exporter.export(generation, dsl, "missing"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> exporter.export(generate(dsl()), dsl, "users"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("not defined in the DSL");
+        assertThatThrownBy(() -> ParquetExporter.builder(directory).withRowGroupSize(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,18 +1,32 @@
 package com.github.eddranca.datagenerator;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.github.eddranca.datagenerator.util.SqlBatchOptions;
 import com.github.eddranca.datagenerator.util.SqlInsertGenerator;
 import com.github.eddranca.datagenerator.util.SqlProjection;
+import com.github.eddranca.datagenerator.util.SqlRowFormatter;
 import com.github.eddranca.datagenerator.util.SqlSchemaParser;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -22,10 +36,20 @@ import java.util.stream.Stream;
  * @param <T> the type of items stored in collections (JsonNode for eager, LazyItemProxy for lazy)
  */
 public abstract class AbstractGeneration<T> implements Generation {
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectMapper SMILE_MAPPER = new SmileMapper(SmileFactory.builder()
+        .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+        .build());
+    private static final ObjectMapper CBOR_MAPPER = new CBORMapper(CBORFactory.builder()
+        .enable(CBORGenerator.Feature.STRINGREF)
+        .build());
+
     protected final Map<String, List<T>> collections;
+    private final Supplier<CacheStatistics> cacheStatistics;
 
-    protected AbstractGeneration(Map<String, List<T>> collectionsMap) {
+    protected AbstractGeneration(Map<String, List<T>> collectionsMap, Supplier<CacheStatistics> cacheStatistics) {
         this.collections = new HashMap<>(collectionsMap);
+        this.cacheStatistics = cacheStatistics;
     }
 
     /**
@@ -35,6 +59,20 @@ public abstract class AbstractGeneration<T> implements Generation {
      */
     protected abstract JsonNode toJsonNode(T item);
 
+    /**
+     * Writes an item as a JSON object.
+     * Eager implementation writes the stored JsonNode without copying it.
+     * Lazy implementation writes each field as it is materialized.
+     */
+    protected void writeItem(JsonGenerator generator, T item) throws IOException {
+        generator.writeTree(toJsonNode(item));
+    }
+
+    @Override
+    public CacheStatistics getFilteredCollectionCacheStatistics() {
+        return cacheStatistics.get();
+    }
+
     @Override
     public Set<String> getCollectionNames() {
         return collections.keySet();
@@ -58,6 +96,26 @@ public abstract class AbstractGeneration<T> implements Generation {
         return collection.stream().map(this::toJsonNode);
     }
 
+    @Override
+    public JsonNode getItem(String collectionName, long index) {
+        List<T> collection = collections.get(collectionName);
+        if (collection == null) {
+            throw new IllegalArgumentException("Collection '" + collectionName + "' not found");
+        }
+        Objects.checkIndex(index, collection.size());
+        return toJsonNode(collection.get((int) index));
+    }
+
+    @Override
+    public Stream<JsonNode> streamRange(String collectionName, long fromIndex, long toIndex) {
+        List<T> collection = collections.get(collectionName);
+        if (collection == null) {
+            throw new IllegalArgumentException("Collection '" + collectionName + "' not found");
+        }
+        Objects.checkFromToIndex(fromIndex, toIndex, collection.size());
+        return collection.subList((int) fromIndex, (int) toIndex).stream().map(this::toJsonNode);
+    }
+
     @Override
     public Map<String, Stream<JsonNode>> asJsonNodes() {
         Map<String, Stream<JsonNode>> streams = new HashMap<>();
@@ -106,8 +164,8 @@ public abstract class AbstractGeneration<T> implements Generation {
                 continue;
             }
 
-            Stream<String> sqlStream = entry.getValue().stream()
-                .map(item -> SqlInsertGenerator.generateSqlInsert(tableName, toJsonNode(item)));
+            Stream<String> sqlStream = SqlInsertGenerator.generateSqlInserts(tableName,
+                entry.getValue().stream().map(this::toJsonNode), null);
             sqlStreams.put(tableName, sqlStream);
         }
         return sqlStreams;
@@ -120,8 +178,7 @@ public abstract class AbstractGeneration<T> implements Generation {
             throw new IllegalArgumentException("Collection '" + collectionName + "' not found");
         }
 
-        return collection.stream()
-            .map(item -> SqlInsertGenerator.generateSqlInsert(collectionName, toJsonNode(item)));
+        return SqlInsertGenerator.generateSqlInserts(collectionName, collection.stream().map(this::toJsonNode), null);
     }
 
     @Override
@@ -132,8 +189,8 @@ public abstract class AbstractGeneration<T> implements Generation {
             String tableName = entry.getKey();
             SqlProjection projection = projections.get(tableName);
 
-            Stream<String> sqlStream = entry.getValue().stream()
-                .map(item -> SqlInsertGenerator.generateSqlInsert(tableName, toJsonNode(item), projection));
+            Stream<String> sqlStream = SqlInsertGenerator.generateSqlInserts(tableName,
+                entry.getValue().stream().map(this::toJsonNode), projection);
             sqlStreams.put(tableName, sqlStream);
         }
         return sqlStreams;
@@ -146,8 +203,108 @@ public abstract class AbstractGeneration<T> implements Generation {
             throw new IllegalArgumentException("Collection '" + collectionName + "' not found");
         }
 
-        return collection.stream()
-            .map(item -> SqlInsertGenerator.generateSqlInsert(collectionName, toJsonNode(item), projection));
+        return SqlInsertGenerator.generateSqlInserts(collectionName, collection.stream().map(this::toJsonNode), projection);
+    }
+
+    @Override
+    public Map<String, Stream<String>> asSqlInsertBatches(SqlBatchOptions options) {
+        Map<String, Stream<String>> sqlStreams = new HashMap<>();
+        for (Map.Entry<String, List<T>> entry : collections.entrySet()) {
+            String tableName = entry.getKey();
+            sqlStreams.put(tableName, SqlInsertGenerator.generateSqlInsertBatches(tableName,
+                entry.getValue().stream().map(this::toJsonNode), null, options));
+        }
+        return sqlStreams;
+    }
+
+    @Override
+    public Stream<String> streamSqlInsertBatches(String collectionName, SqlBatchOptions options) {
+        return streamSqlInsertBatchesWithProjection(collectionName, null, options);
+    }
+
+    @Override
+    public Stream<String> streamSqlInsertBatchesWithProjection(String collectionName, SqlProjection projection,
+                                                               SqlBatchOptions options) {
+        List<T> collection = collections.get(collectionName);
+        if (collection == null) {
+            throw new IllegalArgumentException("Collection '" + collectionName + "' not found");
+        }
+
+        return SqlInsertGenerator.generateSqlInsertBatches(collectionName,
+            collection.stream().map(this::toJsonNode), projection, options);
+    }
+
+    @Override
+    public void writeSql(String collectionName, Writer out) throws IOException {
+        writeSql(collectionName, null, out);
+    }
+
+    @Override
+    public void writeSql(String collectionName, SqlProjection projection, Writer out) throws IOException {
+        List<T> collection = collections.get(collectionName);
+        if (collection == null) {
+            throw new IllegalArgumentException("Collection '" + collectionName + "' not found");
+        }
+
+        SqlRowFormatter formatter = SqlRowFormatter.of(collectionName, projection);
+        for (T item : collection) {
+            formatter.appendInsert(toJsonNode(item), out);
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    @Override
+    public void writeJson(String collectionName, OutputStream out) throws IOException {
+        write(collectionName, OutputFormat.JSON, out);
+    }
+
+    @Override
+    public void writeAllJson(OutputStream out) throws IOException {
+        writeAll(OutputFormat.JSON, out);
+    }
+
+    @Override
+    public void write(String collectionName, OutputFormat format, OutputStream out) throws IOException {
+        List<T> collection = collections.get(collectionName);
+        if (collection == null) {
+            throw new IllegalArgumentException("Collection '" + collectionName + "' not found");
+        }
+        try (JsonGenerator generator = createGenerator(format, out)) {
+            writeCollection(generator, collection);
+        }
+    }
+
+    @Override
+    public void writeAll(OutputFormat format, OutputStream out) throws IOException {
+        try (JsonGenerator generator = createGenerator(format, out)) {
+            generator.writeStartObject();
+            for (Map.Entry<String, List<T>> entry : collections.entrySet()) {
+                generator.writeFieldName(entry.getKey());
+                writeCollection(generator, entry.getValue());
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeCollection(JsonGenerator generator, List<T> collection) throws IOException {
+        generator.writeStartArray();
+        for (T item : collection) {
+            writeItem(generator, item);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Creates a generator that flushes but doesn't close the caller's stream when closed.
+     */
+    private static JsonGenerator createGenerator(OutputFormat format, OutputStream out) throws IOException {
+        ObjectMapper mapper = switch (format) {
+            case JSON -> JSON_MAPPER;
+            case SMILE -> SMILE_MAPPER;
+            case CBOR -> CBOR_MAPPER;
+        };
+        return mapper.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     /**
@@ -288,6 +445,30 @@ public abstract class AbstractGeneration<T> implements Generation {
             return generate().streamSqlInsertsWithProjection(collectionName, projection);
         }
 
+        /**
+         * Generates the data and returns multi-row SQL INSERT statement streams for all collections.
+         *
+         * @param options the row and byte limits of a statement
+         * @return a map of table names to multi-row SQL INSERT statement streams
+         * @throws IOException if file reading fails
+         */
+        public Map<String, Stream<String>> generateAsSqlBatches(SqlBatchOptions options) throws IOException {
+            return generate().asSqlInsertBatches(options);
+        }
+
+        /**
+         * Generates the data and returns multi-row SQL INSERT statements for a single collection.
+         *
+         * @param collectionName the name of the collection to stream
+         * @param options        the row and byte limits of a statement
+         * @return a stream of multi-row SQL INSERT statements
+         * @throws IOException              if file reading fails
+         * @throws IllegalArgumentException if the collection doesn't exist
+         */
+        public Stream<String> streamSqlInsertBatches(String collectionName, SqlBatchOptions options) throws IOException {
+            return generate().streamSqlInsertBatches(collectionName, options);
+        }
+
         /**
          * Generates the data and returns SQL INSERT statements based on CREATE TABLE schemas.
          * Automatically parses the schemas to extract column types and applies them.
@@ -0,0 +1,25 @@
+package com.github.eddranca.datagenerator;
+
+/**
+ * Usage counters of the filtered collection cache of a generation.
+ * <p>
+ * Conditional references and references with filters reuse the filtered collections they
+ * compute through this cache. A low hit rate with many evictions means the cache budget set
+ * with {@link DslDataGenerator.Builder#withFilteredCollectionCacheSize(int)} is too small for
+ * the filters in use, or that the filters change for every item.
+ *
+ * @param hits      lookups answered from the cache
+ * @param misses    lookups that had to compute the filtered collection
+ * @param evictions entries dropped to stay within the budget
+ * @param size      entries currently cached
+ * @param maxSize   maximum number of cached entries
+ */
+public record CacheStatistics(long hits, long misses, long evictions, int size, int maxSize) {
+    /**
+     * Returns the fraction of lookups answered from the cache, or 0 if there were none.
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
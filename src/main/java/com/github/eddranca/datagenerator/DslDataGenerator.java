@@ -9,10 +9,16 @@ import com.github.eddranca.datagenerator.expression.ExpressionFunctionRegistry;
 import com.github.eddranca.datagenerator.generator.Generator;
 import com.github.eddranca.datagenerator.generator.GeneratorRegistry;
 import com.github.eddranca.datagenerator.node.RootNode;
+import com.github.eddranca.datagenerator.random.CoordinateRandom;
+import com.github.eddranca.datagenerator.random.RandomnessEngine;
 import com.github.eddranca.datagenerator.validation.DslTreeBuildResult;
 import com.github.eddranca.datagenerator.visitor.AbstractGenerationContext;
+import com.github.eddranca.datagenerator.visitor.CollectionScheduler;
+import com.github.eddranca.datagenerator.visitor.CompiledItemPlans;
 import com.github.eddranca.datagenerator.visitor.DataGenerationVisitor;
 import com.github.eddranca.datagenerator.visitor.EagerGenerationContext;
+import com.github.eddranca.datagenerator.visitor.FilteredCollectionCache;
+import com.github.eddranca.datagenerator.visitor.IndexedGenerationContext;
 import com.github.eddranca.datagenerator.visitor.LazyGenerationContext;
 import com.github.eddranca.datagenerator.visitor.PathDependencyAnalyzer;
 import net.datafaker.Faker;
@@ -24,6 +30,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Main entry point for generating test data from a JSON DSL specification.
@@ -33,7 +40,8 @@ import java.util.Set;
  * <p>
  * <b>Thread Safety:</b> This class is NOT thread-safe. Each instance should be used by a single thread.
  * The internal Random instance and generator registry maintain mutable state that is not synchronized.
- * If concurrent data generation is needed, create separate DslDataGenerator instances per thread.
+ * If concurrent data generation is needed, create separate DslDataGenerator instances per thread,
+ * or enable {@link Builder#withParallelGeneration()} to let a single generation use several threads.
  * <p>
  * Example usage:
  * <pre>{@code
@@ -50,14 +58,22 @@ public class DslDataGenerator {
     private final int maxFilteringRetries;
     private final FilteringBehavior filteringBehavior;
     private final boolean memoryOptimizationEnabled;
+    private final boolean streamingEnabled;
+    private final boolean randomAccessEnabled;
+    private final int parallelism;
+    private final int filteredCollectionCacheSize;
     private final ExpressionFunctionRegistry expressionFunctionRegistry;
 
     private DslDataGenerator(Builder builder) {
-        this.random = new Random(builder.seed);
+        this.parallelism = builder.parallelism;
+        this.random = builder.createRandom();
         this.mapper = new ObjectMapper();
         this.maxFilteringRetries = builder.maxFilteringRetries;
         this.filteringBehavior = builder.filteringBehavior;
         this.memoryOptimizationEnabled = builder.memoryOptimizationEnabled;
+        this.streamingEnabled = builder.streamingEnabled;
+        this.randomAccessEnabled = builder.randomAccessEnabled;
+        this.filteredCollectionCacheSize = builder.filteredCollectionCacheSize;
         this.expressionFunctionRegistry = builder.expressionFunctionRegistry != null
             ? builder.expressionFunctionRegistry : new ExpressionFunctionRegistry();
         this.generatorRegistry = builder.generatorRegistry != null ? builder.generatorRegistry
@@ -145,24 +161,51 @@ public class DslDataGenerator {
             LazyGenerationContext lazyContext = new LazyGenerationContext(generatorRegistry, random,
                 maxFilteringRetries, filteringBehavior);
             lazyContext.setReferencedPaths(referencedPaths);
+            lazyContext.setCollectionsReadWithoutPaths(analyzer.getCollectionsReadWithoutPaths());
+            if (streamingEnabled) {
+                lazyContext.setStreamedCollections(analyzer.getUnreferencedCollections(rootNode));
+            }
             context = lazyContext;
+        } else if (randomAccessEnabled) {
+            context = new IndexedGenerationContext(generatorRegistry, (CoordinateRandom) random,
+                maxFilteringRetries, filteringBehavior);
         } else {
             context = new EagerGenerationContext(generatorRegistry, random, maxFilteringRetries, filteringBehavior);
         }
-
-        DataGenerationVisitor<?> visitor = new DataGenerationVisitor<>(context, expressionFunctionRegistry);
-
-        rootNode.accept(visitor);
+        context.setFilteredCollectionCacheSize(filteredCollectionCacheSize);
+
+        // Pre-bind item definitions to their generators; output is the same as with plain dispatch
+        CompiledItemPlans itemPlans = CompiledItemPlans.compile(rootNode, generatorRegistry, context.getMapper());
+        DataGenerationVisitor<?> visitor = new DataGenerationVisitor<>(context, expressionFunctionRegistry, itemPlans);
+
+        if (parallelism > 1 && context instanceof EagerGenerationContext eagerContext) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                eagerContext.setForkJoinPool(pool);
+                // Independent collections run concurrently, each with its own visitor
+                new CollectionScheduler(rootNode).run(pool, collection -> collection.accept(visitor.copyForWorker()));
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            rootNode.accept(visitor);
+        }
         return getGeneration(context);
     }
 
     private Generation getGeneration(AbstractGenerationContext<?> context) {
         if (memoryOptimizationEnabled) {
             LazyGenerationContext lazyContext = (LazyGenerationContext) context;
-            return new LazyGeneration(lazyContext.getNamedCollections());
+            return new LazyGeneration(lazyContext.getNamedCollections(), lazyContext::getFilteredCollectionCacheStatistics);
+        } else if (randomAccessEnabled) {
+            // Collections are index-addressed lists that compute items on access
+            IndexedGenerationContext indexedContext = (IndexedGenerationContext) context;
+            return new EagerGeneration(indexedContext.getNamedCollections(),
+                indexedContext::getFilteredCollectionCacheStatistics);
         } else {
             EagerGenerationContext eagerContext = (EagerGenerationContext) context;
-            return new EagerGeneration(eagerContext.getNamedCollections());
+            return new EagerGeneration(eagerContext.getNamedCollections(),
+                eagerContext::getFilteredCollectionCacheStatistics);
         }
     }
 
@@ -178,6 +221,11 @@ public class DslDataGenerator {
         private int maxFilteringRetries = 100;
         private FilteringBehavior filteringBehavior = FilteringBehavior.RETURN_NULL;
         private boolean memoryOptimizationEnabled = false;
+        private boolean streamingEnabled = false;
+        private int parallelism = 0;
+        private int filteredCollectionCacheSize = FilteredCollectionCache.DEFAULT_MAX_SIZE;
+        private boolean randomAccessEnabled = false;
+        private RandomnessEngine randomnessEngine;
 
         private Builder() {
         }
@@ -272,6 +320,28 @@ public class DslDataGenerator {
             return this;
         }
 
+        /**
+         * Sets the maximum number of filtered collections kept in memory.
+         * <p>
+         * Conditional references and references with filters cache the filtered collections
+         * they compute, keyed by the (resolved) condition and filter values. When the cache is
+         * full the least recently used entry is evicted. Equality and numeric range conditions
+         * are answered from indexes and don't use the cache. Hit, miss and eviction counts are
+         * available from {@link Generation#getFilteredCollectionCacheStatistics()}.
+         * Default is {@value FilteredCollectionCache#DEFAULT_MAX_SIZE} entries.
+         *
+         * @param maxEntries the maximum number of cached filtered collections, 0 disables caching
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if maxEntries is negative
+         */
+        public Builder withFilteredCollectionCacheSize(int maxEntries) {
+            if (maxEntries < 0) {
+                throw new IllegalArgumentException("Filtered collection cache size must not be negative, got: " + maxEntries);
+            }
+            this.filteredCollectionCacheSize = maxEntries;
+            return this;
+        }
+
         /**
          * Enables memory optimization using lazy field materialization.
          * Only referenced fields are initially generated; other fields are created on-demand during streaming.
@@ -292,6 +362,132 @@ public class DslDataGenerator {
             return this;
         }
 
+        /**
+         * Enables streaming generation, on top of {@link #withMemoryOptimization()}.
+         * <p>
+         * Collections that no other collection references or picks from are not stored at all:
+         * their items are generated while the collection is streamed for output and handed
+         * straight to the consumer, so memory use stays constant regardless of their count.
+         * Referenced collections are kept as lazy proxies as with memory optimization alone.
+         *
+         * <p><strong>Consistency behavior:</strong> every stream over an unreferenced collection
+         * generates new items, so stream each of them once.
+         *
+         * @return this builder for method chaining
+         */
+        public Builder withStreaming() {
+            this.memoryOptimizationEnabled = true;
+            this.streamingEnabled = true;
+            return this;
+        }
+
+        /**
+         * Enables parallel generation using all available processors.
+         *
+         * @return this builder for method chaining
+         * @see #withParallelGeneration(int)
+         */
+        public Builder withParallelGeneration() {
+            return withParallelGeneration(Runtime.getRuntime().availableProcessors());
+        }
+
+        /**
+         * Enables parallel generation of collection items using the given number of threads.
+         * <p>
+         * Collections that don't reference each other (directly, through picks or through
+         * expressions) are also generated concurrently, in dependency order.
+         * <p>
+         * Each item draws from its own random stream derived from the seed, the collection
+         * name and the item index, so the output for a given seed is the same for every
+         * parallelism level (including 1). It differs from the output of a generator without
+         * parallel generation, which uses a single shared random sequence.
+         * <p>
+         * Collections that use sequential references or stateful generators ({@code sequence},
+         * {@code csv}) are still generated one item at a time. Parallelism only applies to
+         * eager generation; with {@link #withMemoryOptimization()} items are generated sequentially.
+         * Custom generators must be thread-safe to be used with parallel generation.
+         *
+         * @param parallelism the number of worker threads (must be positive)
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if parallelism is not positive
+         */
+        public Builder withParallelGeneration(int parallelism) {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("Parallelism must be positive, got: " + parallelism);
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Enables random-access generation: nothing is generated up front, and every item is
+         * computed from its own coordinate stream when it is requested through
+         * {@link Generation#getItem(String, long)}, {@link Generation#streamRange(String, long, long)}
+         * or any of the streaming methods. Getting an item never generates the items before it;
+         * references into other collections compute only the referenced item.
+         * <p>
+         * Items are recomputed on every access and are the same every time. The output is the
+         * same as that of an eager generation with the same coordinate-based
+         * {@link #withRandomnessEngine(RandomnessEngine) randomness engine}
+         * ({@link RandomnessEngine#splitMix64()} unless another one is set).
+         * <p>
+         * Conditional references scan the referenced collection once to build an index or a
+         * filtered list; references with filters sample it and only scan it when most of its
+         * items are filtered out. Collections
+         * that use sequential references or stateful generators ({@code sequence}, {@code csv})
+         * are generated in full the first time one of their items is needed.
+         * Cannot be combined with {@link #withMemoryOptimization()}.
+         *
+         * @return this builder for method chaining
+         */
+        public Builder withRandomAccess() {
+            this.randomAccessEnabled = true;
+            return this;
+        }
+
+        /**
+         * Sets the engine that creates the random source of the generation.
+         * <p>
+         * {@link RandomnessEngine#sequential()} (the default) draws every value from one
+         * {@link Random} sequence. {@link RandomnessEngine#splitMix64()} and
+         * {@link RandomnessEngine#splittable()} derive a stream for every
+         * (seed, collection, item index, field path) coordinate instead: each item's values
+         * are independent of the items generated before it, and adding or removing a field
+         * does not change the values of the other fields. With memory optimization enabled,
+         * only items are positioned, not fields.
+         * <p>
+         * Parallel generation and random access require a coordinate-based engine and use
+         * {@link RandomnessEngine#splitMix64()} unless another one is set.
+         *
+         * @param randomnessEngine the engine to use
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if randomnessEngine is null
+         */
+        public Builder withRandomnessEngine(RandomnessEngine randomnessEngine) {
+            if (randomnessEngine == null) {
+                throw new IllegalArgumentException("Randomness engine must not be null");
+            }
+            this.randomnessEngine = randomnessEngine;
+            return this;
+        }
+
+        private Random createRandom() {
+            if (randomAccessEnabled && memoryOptimizationEnabled) {
+                throw new IllegalArgumentException("Random access cannot be combined with memory optimization");
+            }
+            boolean coordinatesRequired = parallelism > 0 || randomAccessEnabled;
+            RandomnessEngine engine = randomnessEngine;
+            if (engine == null) {
+                engine = coordinatesRequired ? RandomnessEngine.splitMix64() : RandomnessEngine.sequential();
+            }
+            Random random = engine.createRandom(seed);
+            if (coordinatesRequired && !(random instanceof CoordinateRandom)) {
+                throw new IllegalArgumentException(
+                    "Parallel generation and random access require a coordinate-based randomness engine");
+            }
+            return random;
+        }
+
         /**
          * Creates a Generation.Builder for fluent file-based generation.
          *
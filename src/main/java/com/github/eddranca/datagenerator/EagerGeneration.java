@@ -4,11 +4,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class EagerGeneration extends AbstractGeneration<JsonNode> {
 
-    EagerGeneration(Map<String, List<JsonNode>> collectionsMap) {
-        super(collectionsMap);
+    EagerGeneration(Map<String, List<JsonNode>> collectionsMap,
+                    Supplier<CacheStatistics> cacheStatistics) {
+        super(collectionsMap, cacheStatistics);
     }
 
     @Override
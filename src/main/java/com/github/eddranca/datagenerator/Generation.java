@@ -1,8 +1,12 @@
 package com.github.eddranca.datagenerator;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.eddranca.datagenerator.util.SqlBatchOptions;
 import com.github.eddranca.datagenerator.util.SqlProjection;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -61,6 +65,50 @@ public interface Generation {
      */
     Stream<JsonNode> streamJsonNodes(String collectionName);
 
+    /**
+     * Returns a single item of a collection.
+     *
+     * <p>
+     * With {@link DslDataGenerator.Builder#withRandomAccess()} only the requested item
+     * (and the items it references) is computed, regardless of its index.
+     *
+     * @param collectionName name of the collection
+     * @param index          index of the item within the collection
+     * @return the item at the given index
+     * @throws IllegalArgumentException  if the collection doesn't exist
+     * @throws IndexOutOfBoundsException if the index is outside the collection
+     */
+    JsonNode getItem(String collectionName, long index);
+
+    /**
+     * Streams a range of items from a collection.
+     *
+     * <p>
+     * With {@link DslDataGenerator.Builder#withRandomAccess()} only the items in the range
+     * (and the items they reference) are computed, so separate workers can each produce
+     * their own part of a collection.
+     *
+     * @param collectionName name of the collection to stream
+     * @param fromIndex      index of the first item (inclusive)
+     * @param toIndex        index after the last item (exclusive)
+     * @return Stream of JsonNode items in the range
+     * @throws IllegalArgumentException  if the collection doesn't exist
+     * @throws IndexOutOfBoundsException if the range is outside the collection
+     */
+    Stream<JsonNode> streamRange(String collectionName, long fromIndex, long toIndex);
+
+    /**
+     * Returns the hit, miss and eviction counts of the filtered collection cache.
+     *
+     * <p>
+     * With memory optimization, references may keep being resolved while items are streamed,
+     * so the counts are read at the time of the call.
+     *
+     * @return the current cache statistics
+     * @see DslDataGenerator.Builder#withFilteredCollectionCacheSize(int)
+     */
+    CacheStatistics getFilteredCollectionCacheStatistics();
+
     /**
      * Returns streams of JsonNode items for all collections.
      *
@@ -149,6 +197,131 @@ public interface Generation {
      */
     Stream<String> streamSqlInsertsWithProjection(String collectionName, SqlProjection projection);
 
+    /**
+     * Returns streams of multi-row SQL INSERT statements for all collections.
+     *
+     * <p>
+     * Each statement inserts up to {@link SqlBatchOptions#rowsPerStatement()} rows, which
+     * databases parse far faster than one statement per row.
+     *
+     * @param options the row and byte limits of a statement
+     * @return Map where keys are table names and values are streams of multi-row INSERT statements
+     */
+    Map<String, Stream<String>> asSqlInsertBatches(SqlBatchOptions options);
+
+    /**
+     * Generates multi-row SQL INSERT statements for a single collection.
+     *
+     * <p>
+     * The column list is computed once from the first row and reused for the following rows.
+     *
+     * @param collectionName name of the collection to stream
+     * @param options        the row and byte limits of a statement
+     * @return Stream of multi-row INSERT statements
+     * @throws IllegalArgumentException if the collection doesn't exist
+     */
+    Stream<String> streamSqlInsertBatches(String collectionName, SqlBatchOptions options);
+
+    /**
+     * Generates multi-row SQL INSERT statements with projection support for a single collection.
+     *
+     * @param collectionName name of the collection to stream
+     * @param projection     SQL projection for field filtering and type mapping
+     * @param options        the row and byte limits of a statement
+     * @return Stream of multi-row INSERT statements
+     * @throws IllegalArgumentException if the collection doesn't exist
+     */
+    Stream<String> streamSqlInsertBatchesWithProjection(String collectionName, SqlProjection projection,
+                                                        SqlBatchOptions options);
+
+    /**
+     * Writes the SQL INSERT statements of a collection to a writer, one per line.
+     *
+     * <p>
+     * <strong>Memory-efficient:</strong> Columns and value encoders are resolved once for the
+     * table and statements are appended straight to the writer, without a string per row.
+     * The writer is flushed but not closed.
+     *
+     * @param collectionName name of the collection to write
+     * @param out            writer receiving the statements
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if the collection doesn't exist
+     */
+    void writeSql(String collectionName, Writer out) throws IOException;
+
+    /**
+     * Writes the SQL INSERT statements of a collection with projection support, one per line.
+     *
+     * @param collectionName name of the collection to write
+     * @param projection     SQL projection for field filtering and type mapping
+     * @param out            writer receiving the statements
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if the collection doesn't exist
+     * @see #writeSql(String, Writer)
+     */
+    void writeSql(String collectionName, SqlProjection projection, Writer out) throws IOException;
+
+    /**
+     * Writes a collection to a stream as a JSON array of its items.
+     *
+     * <p>
+     * <strong>Memory-efficient:</strong> Items are written straight to a Jackson
+     * {@code JsonGenerator} instead of being serialized from a separate copy of each item.
+     * With memory optimization, each field is written as soon as it is generated.
+     * The stream is flushed but not closed.
+     *
+     * @param collectionName name of the collection to write
+     * @param out            stream to write the JSON to
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if the collection doesn't exist
+     */
+    void writeJson(String collectionName, OutputStream out) throws IOException;
+
+    /**
+     * Writes all collections to a stream as a JSON object mapping each collection name
+     * to the array of its items.
+     *
+     * <p>
+     * Items are written the same way as by {@link #writeJson(String, OutputStream)}.
+     * The stream is flushed but not closed.
+     *
+     * @param out stream to write the JSON to
+     * @throws IOException if writing fails
+     */
+    void writeAllJson(OutputStream out) throws IOException;
+
+    /**
+     * Writes a collection to a stream as an array of its items, encoded in the given format.
+     *
+     * <p>
+     * Binary formats are smaller and faster to parse than JSON text, especially since every
+     * item of a collection repeats the same property names, which {@link OutputFormat#SMILE}
+     * and {@link OutputFormat#CBOR} write only once. Items are written the same way as by
+     * {@link #writeJson(String, OutputStream)}. The stream is flushed but not closed.
+     *
+     * @param collectionName name of the collection to write
+     * @param format         the encoding to write
+     * @param out            stream to write to
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if the collection doesn't exist
+     */
+    void write(String collectionName, OutputFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Writes all collections to a stream as an object mapping each collection name to the
+     * array of its items, encoded in the given format.
+     *
+     * <p>
+     * Items are written the same way as by {@link #writeJson(String, OutputStream)}.
+     * The stream is flushed but not closed.
+     *
+     * @param format the encoding to write
+     * @param out    stream to write to
+     * @throws IOException if writing fails
+     * @see #write(String, OutputFormat, OutputStream)
+     */
+    void writeAll(OutputFormat format, OutputStream out) throws IOException;
+
     /**
      * Convenience method to check if a collection exists.
      *
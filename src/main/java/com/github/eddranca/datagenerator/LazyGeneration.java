@@ -1,10 +1,13 @@
 package com.github.eddranca.datagenerator;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.github.eddranca.datagenerator.visitor.LazyItemProxy;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Memory-optimized implementation of Generation that uses lazy evaluation
@@ -35,8 +38,9 @@ import java.util.Map;
  */
 public class LazyGeneration extends AbstractGeneration<LazyItemProxy> {
 
-    LazyGeneration(Map<String, List<LazyItemProxy>> lazyCollectionsMap) {
-        super(lazyCollectionsMap);
+    LazyGeneration(Map<String, List<LazyItemProxy>> lazyCollectionsMap,
+                   Supplier<CacheStatistics> cacheStatistics) {
+        super(lazyCollectionsMap, cacheStatistics);
     }
 
     @Override
@@ -45,5 +49,11 @@ public class LazyGeneration extends AbstractGeneration<LazyItemProxy> {
         return item.getMaterializedCopy();
     }
 
+    @Override
+    protected void writeItem(JsonGenerator generator, LazyItemProxy item) throws IOException {
+        // Fields are written as they are materialized, without a copy of the item
+        item.writeTo(generator);
+    }
+
 
 }
@@ -0,0 +1,24 @@
+package com.github.eddranca.datagenerator;
+
+/**
+ * Encodings in which generated collections can be written, see
+ * {@link Generation#write(String, OutputFormat, java.io.OutputStream)}.
+ */
+public enum OutputFormat {
+    /**
+     * JSON text.
+     */
+    JSON,
+
+    /**
+     * Smile, Jackson's binary JSON encoding. Property names are written once and referenced
+     * afterwards, which pays off since all items of a collection share their keys.
+     */
+    SMILE,
+
+    /**
+     * CBOR (RFC 8949) with the stringref extension, so repeated property names and values are
+     * written once and referenced afterwards. Readers must support stringref, as Jackson does.
+     */
+    CBOR
+}
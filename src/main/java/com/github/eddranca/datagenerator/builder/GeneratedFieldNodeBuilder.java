@@ -1,6 +1,7 @@
 package com.github.eddranca.datagenerator.builder;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.eddranca.datagenerator.generator.Generator;
 import com.github.eddranca.datagenerator.generator.GeneratorOptionSpec;
 import com.github.eddranca.datagenerator.node.ChoiceFieldNode;
 import com.github.eddranca.datagenerator.node.DslNode;
@@ -71,7 +72,20 @@ class GeneratedFieldNodeBuilder {
         OptionReferenceParser optionParser = new OptionReferenceParser(context, referenceBuilder);
         GeneratorOptions options = optionParser.parseOptions(fieldName, fieldDef);
 
-        return new GeneratedFieldNode(generatorInfo.name, options, generatorInfo.path, filters);
+        return new GeneratedFieldNode(generatorInfo.name, options, generatorInfo.path, filters,
+            compileGenerator(generatorInfo.name, options));
+    }
+
+    private Generator compileGenerator(String generatorName, GeneratorOptions options) {
+        if (options.hasRuntimeOptions()) {
+            return null;
+        }
+        try {
+            return context.getGenerator(generatorName).compile(options.getStaticOptions());
+        } catch (RuntimeException e) {
+            // Invalid options keep failing at generation time, like uncompiled generators do
+            return null;
+        }
     }
 
     private GeneratorInfo parseGeneratorSpec(String generatorSpec) {
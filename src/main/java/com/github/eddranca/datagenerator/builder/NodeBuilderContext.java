@@ -2,6 +2,7 @@ package com.github.eddranca.datagenerator.builder;
 
 import com.github.eddranca.datagenerator.ValidationError;
 import com.github.eddranca.datagenerator.expression.ExpressionFunctionRegistry;
+import com.github.eddranca.datagenerator.generator.Generator;
 import com.github.eddranca.datagenerator.generator.GeneratorOptionSpec;
 import com.github.eddranca.datagenerator.validation.ValidationContext;
 
@@ -45,6 +46,10 @@ class NodeBuilderContext {
         validationContext.declarePick(pick);
     }
 
+    public Generator getGenerator(String generatorName) {
+        return validationContext.getGenerator(generatorName);
+    }
+
     public GeneratorOptionSpec getGeneratorOptionSpec(String generatorName) {
         return validationContext.getGeneratorOptionSpec(generatorName);
     }
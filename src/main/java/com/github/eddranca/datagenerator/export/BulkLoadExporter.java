@@ -0,0 +1,283 @@
+package com.github.eddranca.datagenerator.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.eddranca.datagenerator.Generation;
+import com.github.eddranca.datagenerator.util.SqlProjection;
+import com.github.eddranca.datagenerator.util.SqlSchemaParser;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Writes collections in the input formats of native bulk loaders, PostgreSQL {@code COPY} and
+ * MySQL {@code LOAD DATA}, which load rows much faster than INSERT statements.
+ * <p>
+ * The columns are taken from the first item of a collection, restricted to the projection's
+ * fields; later items are written in the same column order, with NULL for missing fields.
+ * Column types from the projection (or a parsed CREATE TABLE statement) control encoding:
+ * integer columns get booleans as 1 and 0, TIMESTAMP and DATETIME columns get ISO date-times
+ * with a space instead of the {@code T}, and JSON columns get every value as JSON. Objects and
+ * arrays are always written as JSON text.
+ * <p>
+ * Values are escaped and written straight to the output, without building a string per row.
+ *
+ * <pre>{@code
+ * BulkLoadExporter exporter = BulkLoadExporter.builder(BulkLoadFormat.POSTGRES_CSV)
+ *     .withSchema(createUsersTableSql)
+ *     .build();
+ * List<String> columns = exporter.columns(generation, "users");
+ * String copy = exporter.loadStatement("users", columns, null); // COPY users (...) FROM STDIN WITH (FORMAT csv)
+ * exporter.export(generation, "users", out);
+ * }</pre>
+ */
+public final class BulkLoadExporter {
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final String ESCAPED_NULL = "\\N";
+
+    private final BulkLoadFormat format;
+    private final SqlProjection projection;
+
+    private BulkLoadExporter(Builder builder) {
+        this.format = builder.format;
+        this.projection = builder.projection;
+    }
+
+    /**
+     * Creates a builder for an exporter writing the given format.
+     *
+     * @param format the bulk load format
+     * @return a new builder
+     */
+    public static Builder builder(BulkLoadFormat format) {
+        return new Builder(format);
+    }
+
+    /**
+     * Returns the columns written for a collection: the fields of its first item that the
+     * projection includes, in item order.
+     *
+     * @param generation     the generated data
+     * @param collectionName name of the collection
+     * @return the column names, empty for an empty collection
+     * @throws IllegalArgumentException if the collection doesn't exist
+     */
+    public List<String> columns(Generation generation, String collectionName) {
+        if (generation.getCollectionSize(collectionName) == 0) {
+            return List.of();
+        }
+        List<String> columns = new ArrayList<>();
+        generation.getItem(collectionName, 0).fieldNames().forEachRemaining(fieldName -> {
+            if (projection == null || projection.shouldIncludeField(fieldName)) {
+                columns.add(fieldName);
+            }
+        });
+        return columns;
+    }
+
+    /**
+     * Returns the statement loading the exported rows into a table.
+     *
+     * @param tableName the table to load
+     * @param columns   the exported columns, see {@link #columns(Generation, String)}
+     * @param fileName  the exported file, or null to read from standard input (PostgreSQL only)
+     * @return a {@code COPY} or {@code LOAD DATA} statement
+     * @throws IllegalArgumentException if no file is given for MySQL
+     */
+    public String loadStatement(String tableName, List<String> columns, String fileName) {
+        String columnList = " (" + String.join(", ", columns) + ")";
+        return switch (format) {
+            case POSTGRES_TEXT, POSTGRES_CSV -> {
+                String source = fileName == null ? "STDIN" : "'" + fileName.replace("'", "''") + "'";
+                String options = format == BulkLoadFormat.POSTGRES_CSV ? " WITH (FORMAT csv)" : "";
+                yield "COPY " + tableName + columnList + " FROM " + source + options;
+            }
+            case MYSQL_TSV -> {
+                if (fileName == null) {
+                    throw new IllegalArgumentException("LOAD DATA requires a file name");
+                }
+                String file = fileName.replace("\\", "\\\\").replace("'", "\\'");
+                yield "LOAD DATA LOCAL INFILE '" + file + "' INTO TABLE " + tableName
+                    + " CHARACTER SET utf8mb4" + columnList;
+            }
+        };
+    }
+
+    /**
+     * Writes a collection as UTF-8 to a stream. The stream is flushed but not closed.
+     *
+     * @param generation     the generated data
+     * @param collectionName name of the collection
+     * @param out            the stream to write to
+     * @return the number of rows written
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if the collection doesn't exist
+     */
+    public long export(Generation generation, String collectionName, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+        long rows = export(generation, collectionName, writer);
+        writer.flush();
+        return rows;
+    }
+
+    /**
+     * Writes a collection to a writer. The writer is neither flushed nor closed.
+     *
+     * @param generation     the generated data
+     * @param collectionName name of the collection
+     * @param out            the writer to write to
+     * @return the number of rows written
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if the collection doesn't exist
+     */
+    public long export(Generation generation, String collectionName, Writer out) throws IOException {
+        String[] columns = columns(generation, collectionName).toArray(String[]::new);
+        ColumnKind[] kinds = new ColumnKind[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            kinds[i] = ColumnKind.of(projection != null ? projection.getFieldType(columns[i]) : null);
+        }
+        char delimiter = format == BulkLoadFormat.POSTGRES_CSV ? ',' : '\t';
+
+        long rows = 0;
+        Iterator<JsonNode> items = generation.streamJsonNodes(collectionName).iterator();
+        while (items.hasNext()) {
+            JsonNode item = items.next();
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    out.write(delimiter);
+                }
+                writeValue(out, item.get(columns[i]), kinds[i]);
+            }
+            out.write('\n');
+            rows++;
+        }
+        return rows;
+    }
+
+    private void writeValue(Writer out, JsonNode value, ColumnKind kind) throws IOException {
+        if (value == null || value.isNull()) {
+            if (format != BulkLoadFormat.POSTGRES_CSV) {
+                out.write(ESCAPED_NULL);
+            }
+            return;
+        }
+        if (kind == ColumnKind.JSON || value.isContainerNode()) {
+            writeText(out, mapper.writeValueAsString(value));
+        } else if (value.isBoolean()) {
+            // MySQL has no boolean type; BOOLEAN columns are TINYINT(1)
+            if (kind == ColumnKind.INTEGER || format == BulkLoadFormat.MYSQL_TSV) {
+                out.write(value.booleanValue() ? '1' : '0');
+            } else {
+                out.write(value.booleanValue() ? "true" : "false");
+            }
+        } else if (value.isNumber()) {
+            out.write(value.asText());
+        } else {
+            String text = value.asText();
+            if (kind == ColumnKind.TIMESTAMP && text.length() > 10 && text.charAt(10) == 'T') {
+                text = text.substring(0, 10) + ' ' + text.substring(11);
+            }
+            writeText(out, text);
+        }
+    }
+
+    private void writeText(Writer out, String text) throws IOException {
+        if (format == BulkLoadFormat.POSTGRES_CSV) {
+            writeCsvText(out, text);
+            return;
+        }
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            String escape = switch (text.charAt(i)) {
+                case '\\' -> "\\\\";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                case '\t' -> "\\t";
+                case '\0' -> format == BulkLoadFormat.MYSQL_TSV ? "\\0" : null;
+                default -> null;
+            };
+            if (escape != null) {
+                out.write(text, start, i - start);
+                out.write(escape);
+                start = i + 1;
+            }
+        }
+        out.write(text, start, text.length() - start);
+    }
+
+    /**
+     * Writes a CSV field, quoting it if it contains special characters. Empty strings and the
+     * end-of-data marker are quoted too, so they aren't read as NULL or as the end of the data.
+     */
+    private static void writeCsvText(Writer out, String text) throws IOException {
+        boolean quote = text.isEmpty() || text.equals("\\.");
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(text);
+            return;
+        }
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '"') {
+                out.write(text, start, i + 1 - start);
+                out.write('"');
+                start = i + 1;
+            }
+        }
+        out.write(text, start, text.length() - start);
+        out.write('"');
+    }
+
+    /**
+     * Builder for {@link BulkLoadExporter}.
+     */
+    public static final class Builder {
+        private final BulkLoadFormat format;
+        private SqlProjection projection;
+
+        private Builder(BulkLoadFormat format) {
+            if (format == null) {
+                throw new IllegalArgumentException("Format must not be null");
+            }
+            this.format = format;
+        }
+
+        /**
+         * Restricts the columns to the projection's fields and encodes values by its types.
+         *
+         * @param projection the SQL projection
+         * @return this builder
+         */
+        public Builder withProjection(SqlProjection projection) {
+            this.projection = projection;
+            return this;
+        }
+
+        /**
+         * Encodes values by the column types of a CREATE TABLE statement.
+         *
+         * @param createTableSql the CREATE TABLE statement
+         * @return this builder
+         * @throws com.github.eddranca.datagenerator.exception.SerializationException if parsing fails
+         */
+        public Builder withSchema(String createTableSql) {
+            this.projection = SqlSchemaParser.parseCreateTable(createTableSql);
+            return this;
+        }
+
+        public BulkLoadExporter build() {
+            return new BulkLoadExporter(this);
+        }
+    }
+}
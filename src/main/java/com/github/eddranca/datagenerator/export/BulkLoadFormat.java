@@ -0,0 +1,24 @@
+package com.github.eddranca.datagenerator.export;
+
+/**
+ * Input formats of native database bulk loaders.
+ */
+public enum BulkLoadFormat {
+    /**
+     * PostgreSQL {@code COPY ... FROM STDIN} text format: tab-separated, {@code \N} for NULL
+     * and backslash escapes for backslashes, tabs and line breaks.
+     */
+    POSTGRES_TEXT,
+
+    /**
+     * PostgreSQL {@code COPY ... FROM STDIN WITH (FORMAT csv)}: comma-separated, an unquoted
+     * empty field for NULL and double quotes around values that need them.
+     */
+    POSTGRES_CSV,
+
+    /**
+     * MySQL {@code LOAD DATA INFILE} with its default field and line handling: tab-separated,
+     * {@code \N} for NULL and backslash escapes. Booleans are written as 1 and 0.
+     */
+    MYSQL_TSV
+}
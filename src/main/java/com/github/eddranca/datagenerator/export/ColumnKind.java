@@ -0,0 +1,28 @@
+package com.github.eddranca.datagenerator.export;
+
+/**
+ * Encoding-relevant kind of a column, derived once from its SQL type.
+ */
+enum ColumnKind {
+    DEFAULT, INTEGER, DATE, TIMESTAMP, JSON;
+
+    static ColumnKind of(String sqlType) {
+        if (sqlType == null) {
+            return DEFAULT;
+        }
+        String upperType = sqlType.toUpperCase();
+        if (upperType.contains("JSON")) {
+            return JSON;
+        }
+        if (upperType.contains("TIMESTAMP") || upperType.contains("DATETIME")) {
+            return TIMESTAMP;
+        }
+        if (upperType.contains("DATE")) {
+            return DATE;
+        }
+        if (upperType.contains("INT")) {
+            return INTEGER;
+        }
+        return DEFAULT;
+    }
+}
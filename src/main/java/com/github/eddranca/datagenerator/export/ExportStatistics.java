@@ -0,0 +1,38 @@
+package com.github.eddranca.datagenerator.export;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Totals of an export run.
+ *
+ * @param rows    rows written across all collections
+ * @param bytes   bytes written across all files
+ * @param files   files written, in the order they were created
+ * @param elapsed wall-clock time of the export
+ */
+public record ExportStatistics(long rows, long bytes, List<Path> files, Duration elapsed) {
+    public ExportStatistics {
+        files = List.copyOf(files);
+    }
+
+    /**
+     * Returns the rows written per second, or 0 if no time elapsed.
+     */
+    public double rowsPerSecond() {
+        return perSecond(rows);
+    }
+
+    /**
+     * Returns the bytes written per second, or 0 if no time elapsed.
+     */
+    public double bytesPerSecond() {
+        return perSecond(bytes);
+    }
+
+    private double perSecond(long count) {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : count * 1_000_000_000.0 / nanos;
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.eddranca.datagenerator.export;
+
+import com.github.eddranca.datagenerator.Generation;
+import com.github.eddranca.datagenerator.OutputFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the output formats on a collection: how many bytes each encoding takes and how fast
+ * it is written, to decide whether a binary format is worth it for the downstream consumer.
+ * <p>
+ * Each format writes the collection to a stream that only counts bytes, so the times measure
+ * encoding rather than I/O. With memory optimization, items are materialized during every
+ * write, and that time is included. Writes are repeated and the fastest one is reported, which
+ * leaves out most JIT warm-up; this is a quick comparison, not a benchmark harness.
+ *
+ * <pre>{@code
+ * List<FormatStatistics> stats = FormatComparison.compare(generation, "users", 5);
+ * FormatStatistics json = stats.get(0);
+ * for (FormatStatistics format : stats) {
+ *     System.out.printf("%s: %d bytes (%.0f%% of JSON), %.0f rows/s%n", format.format(),
+ *         format.bytes(), format.sizeRatio(json) * 100, format.rowsPerSecond());
+ * }
+ * }</pre>
+ */
+public final class FormatComparison {
+
+    private FormatComparison() {
+    }
+
+    /**
+     * Writes a collection in every {@link OutputFormat}, in declaration order with JSON first.
+     *
+     * @param generation     the generated data
+     * @param collectionName name of the collection
+     * @param rounds         writes per format; the fastest is reported
+     * @return statistics per format, in {@link OutputFormat} order
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if the collection doesn't exist or rounds is not positive
+     */
+    public static List<FormatStatistics> compare(Generation generation, String collectionName, int rounds)
+        throws IOException {
+        if (rounds <= 0) {
+            throw new IllegalArgumentException("Rounds must be positive, got: " + rounds);
+        }
+        if (!generation.hasCollection(collectionName)) {
+            throw new IllegalArgumentException("Collection '" + collectionName + "' not found");
+        }
+        long rows = generation.getCollectionSize(collectionName);
+        List<FormatStatistics> statistics = new ArrayList<>();
+        for (OutputFormat format : OutputFormat.values()) {
+            long fastest = Long.MAX_VALUE;
+            long bytes = 0;
+            for (int round = 0; round < rounds; round++) {
+                CountingOutputStream out = new CountingOutputStream();
+                long start = System.nanoTime();
+                generation.write(collectionName, format, out);
+                fastest = Math.min(fastest, System.nanoTime() - start);
+                bytes = out.count;
+            }
+            statistics.add(new FormatStatistics(format, rows, bytes, Duration.ofNanos(fastest)));
+        }
+        return statistics;
+    }
+
+    /**
+     * Discards what is written and counts the bytes.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
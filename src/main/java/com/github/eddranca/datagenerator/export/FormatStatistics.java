@@ -0,0 +1,43 @@
+package com.github.eddranca.datagenerator.export;
+
+import com.github.eddranca.datagenerator.OutputFormat;
+
+import java.time.Duration;
+
+/**
+ * Size and write time of a collection in one output format.
+ *
+ * @param format  the output format
+ * @param rows    items written
+ * @param bytes   encoded size in bytes
+ * @param elapsed wall-clock time of the write
+ */
+public record FormatStatistics(OutputFormat format, long rows, long bytes, Duration elapsed) {
+
+    /**
+     * Returns the rows written per second, or 0 if no time elapsed.
+     */
+    public double rowsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : rows * 1_000_000_000.0 / nanos;
+    }
+
+    /**
+     * Returns the bytes written per second, or 0 if no time elapsed.
+     */
+    public double bytesPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : bytes * 1_000_000_000.0 / nanos;
+    }
+
+    /**
+     * Returns this size as a fraction of another format's size, such as 0.6 for an encoding
+     * 40% smaller than the baseline.
+     *
+     * @param baseline the statistics to compare against, usually JSON
+     * @return the size ratio, or 0 if the baseline is empty
+     */
+    public double sizeRatio(FormatStatistics baseline) {
+        return baseline.bytes == 0 ? 0 : (double) bytes / baseline.bytes;
+    }
+}
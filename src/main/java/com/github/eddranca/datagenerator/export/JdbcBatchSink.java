@@ -0,0 +1,476 @@
+package com.github.eddranca.datagenerator.export;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.eddranca.datagenerator.Generation;
+import com.github.eddranca.datagenerator.exception.SerializationException;
+import com.github.eddranca.datagenerator.util.SqlProjection;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads collections into database tables through JDBC batches of prepared statements.
+ * <p>
+ * Each collection is inserted into the table of the same name with one
+ * {@code INSERT INTO table (columns) VALUES (?, ...)} statement, whose columns are the fields
+ * of the first item restricted to the table's projection. Values are bound with typed setters,
+ * so the database never parses SQL text per row. Every {@link Builder#withBatchSize(int) batch}
+ * of rows is executed with {@code executeBatch} and committed.
+ * <p>
+ * Tables are loaded one after the other, ordered by the foreign keys the database reports, so
+ * referenced rows exist before the rows referencing them. Within a table, items are read on the
+ * calling thread, since generations are not thread-safe, and handed to
+ * {@link Builder#withConnectionsPerTable(int) several connections} inserting batches concurrently.
+ * Tables with self-referencing foreign keys should be loaded with a single connection.
+ *
+ * <pre>{@code
+ * LoadStatistics stats = JdbcBatchSink.builder(dataSource)
+ *     .withBatchSize(5_000)
+ *     .withConnectionsPerTable(4)
+ *     .build()
+ *     .load(generation);
+ * }</pre>
+ */
+public final class JdbcBatchSink {
+    static final int DEFAULT_BATCH_SIZE = 1_000;
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final List<JsonNode> END = List.of();
+
+    private final DataSource dataSource;
+    private final int batchSize;
+    private final int connectionsPerTable;
+    private final Map<String, SqlProjection> projections;
+
+    private JdbcBatchSink(Builder builder) {
+        this.dataSource = builder.dataSource;
+        this.batchSize = builder.batchSize;
+        this.connectionsPerTable = builder.connectionsPerTable;
+        this.projections = Map.copyOf(builder.projections);
+    }
+
+    /**
+     * Creates a builder for a sink inserting through the given data source.
+     *
+     * @param dataSource the data source providing connections
+     * @return a new builder
+     */
+    public static Builder builder(DataSource dataSource) {
+        return new Builder(dataSource);
+    }
+
+    /**
+     * Loads all collections, in foreign key order.
+     *
+     * @param generation the generated data
+     * @return totals of the load
+     * @throws SQLException if reading the database metadata or inserting fails
+     */
+    public LoadStatistics load(Generation generation) throws SQLException {
+        return load(generation, generation.getCollectionNames().toArray(String[]::new));
+    }
+
+    /**
+     * Loads the given collections, in foreign key order.
+     *
+     * @param generation      the generated data
+     * @param collectionNames names of the collections to load
+     * @return totals of the load
+     * @throws SQLException             if reading the database metadata or inserting fails
+     * @throws IllegalArgumentException if a collection doesn't exist
+     */
+    public LoadStatistics load(Generation generation, String... collectionNames) throws SQLException {
+        for (String collectionName : collectionNames) {
+            if (!generation.hasCollection(collectionName)) {
+                throw new IllegalArgumentException("Collection '" + collectionName + "' not found");
+            }
+        }
+
+        long start = System.nanoTime();
+        List<String> order;
+        try (Connection connection = dataSource.getConnection()) {
+            order = loadOrder(connection.getMetaData(), Arrays.asList(collectionNames));
+        }
+
+        Map<String, Long> rowsByTable = new LinkedHashMap<>();
+        long batches = 0;
+        ExecutorService pool = Executors.newFixedThreadPool(connectionsPerTable);
+        try {
+            for (String table : order) {
+                InsertCounts counts = loadTable(generation, table, pool);
+                rowsByTable.put(table, counts.rows());
+                batches += counts.batches();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return new LoadStatistics(rowsByTable, batches, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Orders tables so that tables referenced by foreign keys come before the tables referencing
+     * them. Tables without mutual dependencies keep alphabetical order; cycles are appended in
+     * alphabetical order.
+     */
+    static List<String> loadOrder(DatabaseMetaData metaData, List<String> tables) throws SQLException {
+        Map<String, String> tablesByUpperName = new HashMap<>();
+        for (String table : tables) {
+            tablesByUpperName.put(table.toUpperCase(Locale.ROOT), table);
+        }
+
+        Map<String, Set<String>> dependencies = new HashMap<>();
+        for (String table : tables) {
+            Set<String> referenced = new HashSet<>();
+            // Unquoted identifiers may be stored in upper or lower case
+            for (String candidate : new TreeSet<>(List.of(table, table.toUpperCase(Locale.ROOT), table.toLowerCase(Locale.ROOT)))) {
+                try (ResultSet keys = metaData.getImportedKeys(null, null, candidate)) {
+                    while (keys.next()) {
+                        String dependency = tablesByUpperName.get(keys.getString("PKTABLE_NAME").toUpperCase(Locale.ROOT));
+                        if (dependency != null && !dependency.equals(table)) {
+                            referenced.add(dependency);
+                        }
+                    }
+                }
+            }
+            dependencies.put(table, referenced);
+        }
+
+        List<String> order = new ArrayList<>();
+        Set<String> remaining = new TreeSet<>(tables);
+        while (!remaining.isEmpty()) {
+            String next = remaining.stream()
+                .filter(table -> order.containsAll(dependencies.get(table)))
+                .findFirst()
+                .orElse(remaining.iterator().next());
+            order.add(next);
+            remaining.remove(next);
+        }
+        return order;
+    }
+
+    private InsertCounts loadTable(Generation generation, String table, ExecutorService pool) throws SQLException {
+        SqlProjection projection = projections.get(table);
+        List<String> columns = columns(generation, table, projection);
+        if (columns.isEmpty()) {
+            return new InsertCounts(0, 0);
+        }
+        ColumnKind[] kinds = new ColumnKind[columns.size()];
+        for (int i = 0; i < kinds.length; i++) {
+            kinds[i] = ColumnKind.of(projection != null ? projection.getFieldType(columns.get(i)) : null);
+        }
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+            + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+
+        BlockingQueue<List<JsonNode>> queue = new ArrayBlockingQueue<>(connectionsPerTable * 2);
+        List<CompletableFuture<InsertCounts>> workers = new ArrayList<>();
+        for (int i = 0; i < connectionsPerTable; i++) {
+            workers.add(CompletableFuture.supplyAsync(() -> insertBatches(sql, columns, kinds, queue), pool));
+        }
+
+        Iterator<JsonNode> items = generation.streamJsonNodes(table).iterator();
+        List<JsonNode> batch = new ArrayList<>(batchSize);
+        while (items.hasNext()) {
+            batch.add(items.next());
+            if (batch.size() == batchSize) {
+                handOff(queue, batch, workers);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            handOff(queue, batch, workers);
+        }
+        for (int i = 0; i < connectionsPerTable; i++) {
+            handOff(queue, END, workers);
+        }
+
+        long rows = 0;
+        long batches = 0;
+        for (CompletableFuture<InsertCounts> worker : workers) {
+            InsertCounts counts = await(worker);
+            rows += counts.rows();
+            batches += counts.batches();
+        }
+        return new InsertCounts(rows, batches);
+    }
+
+    /**
+     * Returns the fields of the first item that the projection includes, in item order.
+     */
+    private static List<String> columns(Generation generation, String table, SqlProjection projection) {
+        List<String> columns = new ArrayList<>();
+        if (generation.getCollectionSize(table) > 0) {
+            generation.getItem(table, 0).fieldNames().forEachRemaining(fieldName -> {
+                if (projection == null || projection.shouldIncludeField(fieldName)) {
+                    columns.add(fieldName);
+                }
+            });
+        }
+        return columns;
+    }
+
+    /**
+     * Queues a batch for the workers, failing fast if a worker stopped with an error instead of
+     * waiting for a queue nobody drains.
+     */
+    private static void handOff(BlockingQueue<List<JsonNode>> queue, List<JsonNode> batch,
+                                List<CompletableFuture<InsertCounts>> workers) throws SQLException {
+        try {
+            while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+                for (CompletableFuture<InsertCounts> worker : workers) {
+                    if (worker.isDone()) {
+                        await(worker);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while loading data", e);
+        }
+    }
+
+    private static InsertCounts await(CompletableFuture<InsertCounts> worker) throws SQLException {
+        try {
+            return worker.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Inserts queued batches on a connection of its own until the end marker arrives.
+     *
+     * @return the rows inserted and the batches executed
+     */
+    private InsertCounts insertBatches(String sql, List<String> columns, ColumnKind[] kinds,
+                                 BlockingQueue<List<JsonNode>> queue) {
+        long rows = 0;
+        long executed = 0;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int[] nullTypes = nullTypes(statement, kinds.length);
+                for (List<JsonNode> batch = queue.take(); batch != END; batch = queue.take()) {
+                    for (JsonNode item : batch) {
+                        for (int i = 0; i < kinds.length; i++) {
+                            bind(statement, i + 1, item.get(columns.get(i)), kinds[i], nullTypes[i]);
+                        }
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                    connection.commit();
+                    rows += batch.size();
+                    executed++;
+                }
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new CompletionException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+        return new InsertCounts(rows, executed);
+    }
+
+    /**
+     * Returns the SQL type each parameter's nulls are bound with. Several drivers reject
+     * {@link Types#NULL} for typed columns, so the types are read once per statement from its
+     * parameter metadata. Parameters whose type the driver doesn't report are bound as VARCHAR.
+     */
+    static int[] nullTypes(PreparedStatement statement, int parameterCount) {
+        int[] types = new int[parameterCount];
+        Arrays.fill(types, Types.VARCHAR);
+        try {
+            ParameterMetaData metaData = statement.getParameterMetaData();
+            for (int i = 0; i < parameterCount; i++) {
+                int type = metaData.getParameterType(i + 1);
+                if (type != Types.NULL) {
+                    types[i] = type;
+                }
+            }
+        } catch (SQLException e) {
+            // Parameter metadata is optional, the remaining parameters keep VARCHAR
+        }
+        return types;
+    }
+
+    /**
+     * Binds a value with the setter matching its type. Text in DATE and TIMESTAMP columns is
+     * bound as a date or timestamp when it is in ISO format, and JSON columns get JSON text.
+     * Nulls are bound with the parameter's SQL type, see {@link #nullTypes(PreparedStatement, int)}.
+     */
+    static void bind(PreparedStatement statement, int index, JsonNode value, ColumnKind kind,
+                     int nullType) throws SQLException {
+        if (value == null || value.isNull()) {
+            statement.setNull(index, nullType);
+        } else if (kind == ColumnKind.JSON || value.isContainerNode()) {
+            statement.setString(index, toJson(value));
+        } else if (value.isBoolean()) {
+            if (kind == ColumnKind.INTEGER) {
+                statement.setInt(index, value.booleanValue() ? 1 : 0);
+            } else {
+                statement.setBoolean(index, value.booleanValue());
+            }
+        } else if (value.isInt()) {
+            statement.setInt(index, value.intValue());
+        } else if (value.isLong()) {
+            statement.setLong(index, value.longValue());
+        } else if (value.isBigInteger() || value.isBigDecimal()) {
+            statement.setBigDecimal(index, value.decimalValue());
+        } else if (value.isNumber()) {
+            statement.setDouble(index, value.doubleValue());
+        } else {
+            bindText(statement, index, value.asText(), kind);
+        }
+    }
+
+    private static void bindText(PreparedStatement statement, int index, String text, ColumnKind kind) throws SQLException {
+        try {
+            if (kind == ColumnKind.TIMESTAMP) {
+                statement.setTimestamp(index, Timestamp.valueOf(LocalDateTime.parse(text)));
+                return;
+            }
+            if (kind == ColumnKind.DATE) {
+                statement.setDate(index, Date.valueOf(LocalDate.parse(text)));
+                return;
+            }
+        } catch (DateTimeParseException e) {
+            // Not ISO formatted, let the database convert the text
+        }
+        statement.setString(index, text);
+    }
+
+    private static String toJson(JsonNode value) {
+        try {
+            return mapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Failed to serialize complex object to JSON", e);
+        }
+    }
+
+    /**
+     * Rows inserted and batches executed, by a worker or for a whole table.
+     */
+    private record InsertCounts(long rows, long batches) {
+    }
+
+    /**
+     * Builder for {@link JdbcBatchSink}.
+     */
+    public static final class Builder {
+        private final DataSource dataSource;
+        private final Map<String, SqlProjection> projections = new HashMap<>();
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private int connectionsPerTable = 1;
+
+        private Builder(DataSource dataSource) {
+            if (dataSource == null) {
+                throw new IllegalArgumentException("Data source must not be null");
+            }
+            this.dataSource = dataSource;
+        }
+
+        /**
+         * Sets the rows executed and committed together. Defaults to 1,000.
+         *
+         * @param batchSize rows per batch (must be positive)
+         * @return this builder
+         * @throws IllegalArgumentException if batchSize is not positive
+         */
+        public Builder withBatchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch size must be positive, got: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of connections inserting into a table concurrently. Defaults to 1.
+         *
+         * @param connectionsPerTable connections per table (must be positive)
+         * @return this builder
+         * @throws IllegalArgumentException if connectionsPerTable is not positive
+         */
+        public Builder withConnectionsPerTable(int connectionsPerTable) {
+            if (connectionsPerTable <= 0) {
+                throw new IllegalArgumentException("Connections per table must be positive, got: " + connectionsPerTable);
+            }
+            this.connectionsPerTable = connectionsPerTable;
+            return this;
+        }
+
+        /**
+         * Restricts the columns of a table to the projection's fields and binds values by its
+         * types. Projections for several tables can be parsed from CREATE TABLE statements with
+         * {@link com.github.eddranca.datagenerator.util.SqlSchemaParser#parseCreateTables(Map)}.
+         *
+         * @param tableName  the table (and collection) name
+         * @param projection the SQL projection
+         * @return this builder
+         */
+        public Builder withProjection(String tableName, SqlProjection projection) {
+            this.projections.put(tableName, projection);
+            return this;
+        }
+
+        /**
+         * Adds projections for several tables.
+         *
+         * @param projections map of table names to their SQL projections
+         * @return this builder
+         * @see #withProjection(String, SqlProjection)
+         */
+        public Builder withProjections(Map<String, SqlProjection> projections) {
+            this.projections.putAll(projections);
+            return this;
+        }
+
+        public JdbcBatchSink build() {
+            return new JdbcBatchSink(this);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.eddranca.datagenerator.export;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Totals of a database load.
+ *
+ * @param rowsByTable rows inserted per table, in load order
+ * @param batches     batches executed and committed across all tables
+ * @param elapsed     wall-clock time of the load
+ */
+public record LoadStatistics(Map<String, Long> rowsByTable, long batches, Duration elapsed) {
+    public LoadStatistics {
+        rowsByTable = Collections.unmodifiableMap(new LinkedHashMap<>(rowsByTable));
+    }
+
+    /**
+     * Returns the rows inserted across all tables.
+     */
+    public long rows() {
+        return rowsByTable.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Returns the rows inserted per second, or 0 if no time elapsed.
+     */
+    public double rowsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : rows() * 1_000_000_000.0 / nanos;
+    }
+}
@@ -0,0 +1,382 @@
+package com.github.eddranca.datagenerator.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.eddranca.datagenerator.AbstractGeneration;
+import com.github.eddranca.datagenerator.Generation;
+import com.github.eddranca.datagenerator.exception.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Exports collections as newline-delimited JSON, one file per collection.
+ * <p>
+ * Items are read from the generation on the calling thread, since generations are not
+ * thread-safe, and grouped into chunks that worker threads serialize concurrently. Serialized
+ * chunks are handed back in order and written through a direct {@link ByteBuffer} to a
+ * {@link FileChannel}, so rows keep the order of the collection. At most two chunks per worker
+ * are in flight, which bounds memory use regardless of the collection size.
+ * <p>
+ * With a maximum file size, a collection rolls over to a new file before a row would exceed it.
+ * Files are then numbered ({@code users-00000.ndjson}, {@code users-00001.ndjson}, ...);
+ * otherwise each collection is written to a single {@code <collection>.ndjson} file.
+ *
+ * <pre>{@code
+ * ExportStatistics stats = NdjsonExporter.builder(Path.of("out"))
+ *     .withThreads(4)
+ *     .withMaxFileSize(256L * 1024 * 1024)
+ *     .build()
+ *     .export(generation);
+ * System.out.printf("%.0f rows/s%n", stats.rowsPerSecond());
+ * }</pre>
+ */
+public final class NdjsonExporter {
+    static final int DEFAULT_CHUNK_SIZE = 1_000;
+    static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+    private static final String EXTENSION = ".ndjson";
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final Path outputDirectory;
+    private final int threads;
+    private final int chunkSize;
+    private final int bufferSize;
+    private final long maxFileSize;
+
+    private NdjsonExporter(Builder builder) {
+        this.outputDirectory = builder.outputDirectory;
+        this.threads = builder.threads;
+        this.chunkSize = builder.chunkSize;
+        this.bufferSize = builder.bufferSize;
+        this.maxFileSize = builder.maxFileSize;
+    }
+
+    /**
+     * Creates a builder for an exporter writing to the given directory.
+     *
+     * @param outputDirectory directory receiving the files, created if missing
+     * @return a new builder
+     */
+    public static Builder builder(Path outputDirectory) {
+        return new Builder(outputDirectory);
+    }
+
+    /**
+     * Generates the data and exports all collections.
+     *
+     * @param generation the configured generation builder
+     * @return totals of the export
+     * @throws IOException if generation or writing fails
+     */
+    public ExportStatistics export(AbstractGeneration.Builder generation) throws IOException {
+        return export(generation.generate());
+    }
+
+    /**
+     * Exports all collections, in alphabetical order.
+     *
+     * @param generation the generated data
+     * @return totals of the export
+     * @throws IOException if writing fails
+     */
+    public ExportStatistics export(Generation generation) throws IOException {
+        return export(generation, new TreeSet<>(generation.getCollectionNames()).toArray(String[]::new));
+    }
+
+    /**
+     * Exports the given collections, in the given order.
+     *
+     * @param generation      the generated data
+     * @param collectionNames names of the collections to export
+     * @return totals of the export
+     * @throws IOException              if writing fails
+     * @throws IllegalArgumentException if a collection doesn't exist
+     */
+    public ExportStatistics export(Generation generation, String... collectionNames) throws IOException {
+        for (String collectionName : collectionNames) {
+            if (!generation.hasCollection(collectionName)) {
+                throw new IllegalArgumentException("Collection '" + collectionName + "' not found");
+            }
+        }
+        Files.createDirectories(outputDirectory);
+
+        long start = System.nanoTime();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+        List<Path> files = new ArrayList<>();
+        long rows = 0;
+        long bytes = 0;
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            for (String collectionName : collectionNames) {
+                try (CollectionWriter writer = new CollectionWriter(collectionName, buffer, files)) {
+                    exportCollection(generation, collectionName, pool, writer);
+                    rows += writer.rows;
+                    bytes += writer.totalBytes;
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return new ExportStatistics(rows, bytes, files, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private void exportCollection(Generation generation, String collectionName, ForkJoinPool pool,
+                                  CollectionWriter writer) throws IOException {
+        Deque<CompletableFuture<Chunk>> pending = new ArrayDeque<>();
+        Iterator<JsonNode> items = generation.streamJsonNodes(collectionName).iterator();
+        List<JsonNode> batch = new ArrayList<>(chunkSize);
+        while (items.hasNext()) {
+            batch.add(items.next());
+            if (batch.size() == chunkSize) {
+                List<JsonNode> chunkItems = batch;
+                pending.add(CompletableFuture.supplyAsync(() -> serialize(chunkItems), pool));
+                batch = new ArrayList<>(chunkSize);
+                // Write finished chunks in order once enough are queued
+                while (pending.size() > threads * 2) {
+                    writer.write(await(pending.poll()));
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            List<JsonNode> chunkItems = batch;
+            pending.add(CompletableFuture.supplyAsync(() -> serialize(chunkItems), pool));
+        }
+        while (!pending.isEmpty()) {
+            writer.write(await(pending.poll()));
+        }
+    }
+
+    private static Chunk await(CompletableFuture<Chunk> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Serializes items to NDJSON, remembering where each row ends so rows are never split
+     * across files.
+     */
+    static Chunk serialize(List<JsonNode> items) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(items.size() * 128);
+        int[] rowEnds = new int[items.size()];
+        try (JsonGenerator generator = mapper.createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            for (int i = 0; i < rowEnds.length; i++) {
+                generator.writeTree(items.get(i));
+                generator.writeRaw('\n');
+                generator.flush();
+                rowEnds[i] = out.size();
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Failed to serialize items as NDJSON", e);
+        }
+        return new Chunk(out.toByteArray(), rowEnds);
+    }
+
+    /**
+     * Serialized rows of a chunk.
+     *
+     * @param bytes   the NDJSON bytes
+     * @param rowEnds offset after the newline of each row
+     */
+    record Chunk(byte[] bytes, int[] rowEnds) {
+    }
+
+    /**
+     * Writes the chunks of one collection, rolling over to a new file when the maximum file
+     * size would be exceeded.
+     */
+    private final class CollectionWriter implements Closeable {
+        private final String collectionName;
+        private final ByteBuffer buffer;
+        private final List<Path> files;
+        private FileChannel channel;
+        private int part;
+        private long fileBytes;
+        long rows;
+        long totalBytes;
+
+        CollectionWriter(String collectionName, ByteBuffer buffer, List<Path> files) throws IOException {
+            this.collectionName = collectionName;
+            this.buffer = buffer;
+            this.files = files;
+            buffer.clear();
+            open();
+        }
+
+        void write(Chunk chunk) throws IOException {
+            byte[] bytes = chunk.bytes();
+            int[] rowEnds = chunk.rowEnds();
+            int runStart = 0;
+            for (int row = 0; row < rowEnds.length; row++) {
+                int rowStart = row == 0 ? 0 : rowEnds[row - 1];
+                // Roll over before a row that doesn't fit, unless the file would stay empty
+                long written = fileBytes + rowStart - runStart;
+                if (maxFileSize > 0 && written > 0 && written + rowEnds[row] - rowStart > maxFileSize) {
+                    put(bytes, runStart, rowStart - runStart);
+                    roll();
+                    runStart = rowStart;
+                }
+            }
+            put(bytes, runStart, bytes.length - runStart);
+            rows += rowEnds.length;
+        }
+
+        private void put(byte[] bytes, int offset, int length) throws IOException {
+            fileBytes += length;
+            totalBytes += length;
+            while (length > 0) {
+                int count = Math.min(buffer.remaining(), length);
+                buffer.put(bytes, offset, count);
+                offset += count;
+                length -= count;
+                if (!buffer.hasRemaining()) {
+                    drain();
+                }
+            }
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void open() throws IOException {
+            String fileName = maxFileSize > 0
+                ? String.format("%s-%05d%s", collectionName, part, EXTENSION)
+                : collectionName + EXTENSION;
+            Path file = outputDirectory.resolve(fileName);
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+            files.add(file);
+            fileBytes = 0;
+        }
+
+        private void roll() throws IOException {
+            drain();
+            channel.close();
+            part++;
+            open();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                drain();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link NdjsonExporter}.
+     */
+    public static final class Builder {
+        private final Path outputDirectory;
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private int bufferSize = DEFAULT_BUFFER_SIZE;
+        private long maxFileSize;
+
+        private Builder(Path outputDirectory) {
+            if (outputDirectory == null) {
+                throw new IllegalArgumentException("Output directory must not be null");
+            }
+            this.outputDirectory = outputDirectory;
+        }
+
+        /**
+         * Sets the number of threads serializing chunks. Defaults to the available processors.
+         *
+         * @param threads the number of worker threads (must be positive)
+         * @return this builder
+         * @throws IllegalArgumentException if threads is not positive
+         */
+        public Builder withThreads(int threads) {
+            if (threads <= 0) {
+                throw new IllegalArgumentException("Threads must be positive, got: " + threads);
+            }
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * Sets the number of items serialized together by a worker. Defaults to 1,000.
+         *
+         * @param chunkSize items per chunk (must be positive)
+         * @return this builder
+         * @throws IllegalArgumentException if chunkSize is not positive
+         */
+        public Builder withChunkSize(int chunkSize) {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("Chunk size must be positive, got: " + chunkSize);
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Sets the size of the direct buffer that files are written through. Defaults to 1 MiB.
+         *
+         * @param bufferSize buffer size in bytes (must be positive)
+         * @return this builder
+         * @throws IllegalArgumentException if bufferSize is not positive
+         */
+        public Builder withBufferSize(int bufferSize) {
+            if (bufferSize <= 0) {
+                throw new IllegalArgumentException("Buffer size must be positive, got: " + bufferSize);
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * Rolls each collection over to a new file before a row would make the current one
+         * larger than the given size. A single row larger than the limit gets a file of its own.
+         *
+         * @param maxFileSize maximum file size in bytes (must be positive)
+         * @return this builder
+         * @throws IllegalArgumentException if maxFileSize is not positive
+         */
+        public Builder withMaxFileSize(long maxFileSize) {
+            if (maxFileSize <= 0) {
+                throw new IllegalArgumentException("Max file size must be positive, got: " + maxFileSize);
+            }
+            this.maxFileSize = maxFileSize;
+            return this;
+        }
+
+        public NdjsonExporter build() {
+            return new NdjsonExporter(this);
+        }
+    }
+}
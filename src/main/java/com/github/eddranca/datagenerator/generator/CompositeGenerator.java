@@ -0,0 +1,80 @@
+package com.github.eddranca.datagenerator.generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import net.datafaker.Faker;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Base class for generators that produce an object whose fields are generated independently,
+ * such as {@code name} with {@code firstName}, {@code lastName} and so on.
+ * <p>
+ * Each field is registered with its own generator. Generating the whole object runs every field
+ * generator in registration order, while a path-qualified field such as {@code name.firstName}
+ * only runs the generator of that field, instead of building the whole object to extract one value.
+ * <p>
+ * Fields are registered from the constructor and never change afterwards, so instances are
+ * thread-safe as long as the field generators are.
+ */
+public abstract class CompositeGenerator implements Generator {
+    private final Map<String, Generator> fields = new LinkedHashMap<>();
+
+    /**
+     * Registers the generator of a field. Fields appear in generated objects in registration order.
+     *
+     * @param name      the field name
+     * @param generator the generator producing the field value
+     */
+    protected final void field(String name, Generator generator) {
+        fields.put(name, generator);
+    }
+
+    /**
+     * Registers a field whose value is a string produced by Faker.
+     *
+     * @param name  the field name
+     * @param value function producing the field value from the context's Faker
+     */
+    protected final void textField(String name, Function<Faker, String> value) {
+        field(name, (SinkGenerator) (context, sink) -> sink.writeString(value.apply(context.faker())));
+    }
+
+    /**
+     * Returns the generators of the fields, in registration order.
+     *
+     * @return unmodifiable map from field name to field generator
+     */
+    public Map<String, Generator> getFieldGenerators() {
+        return Collections.unmodifiableMap(fields);
+    }
+
+    @Override
+    public JsonNode generate(GeneratorContext context) {
+        ObjectNode result = context.mapper().createObjectNode();
+        for (Map.Entry<String, Generator> field : fields.entrySet()) {
+            result.set(field.getKey(), field.getValue().generate(context));
+        }
+        return result;
+    }
+
+    /**
+     * Generates only the field the path starts with, then extracts the rest of the path from it.
+     */
+    @Override
+    public JsonNode generateAtPath(GeneratorContext context, String path) {
+        if (path == null || path.isEmpty()) {
+            return generate(context);
+        }
+        int dot = path.indexOf('.');
+        Generator field = fields.get(dot < 0 ? path : path.substring(0, dot));
+        if (field == null) {
+            return null;
+        }
+        JsonNode value = field.generate(context);
+        return dot < 0 ? value : Generator.extractPath(value, path.substring(dot + 1));
+    }
+}
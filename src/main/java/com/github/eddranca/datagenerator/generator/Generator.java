@@ -48,6 +48,20 @@ public interface Generator {
      */
     JsonNode generate(GeneratorContext context);
 
+    /**
+     * Generates one value and writes it into a sink.
+     * <p>
+     * Lets consumers such as serializers take scalar values without an intermediate JsonNode.
+     * Default implementation writes the value returned by {@link #generate(GeneratorContext)};
+     * built-in generators write scalars directly, see {@link SinkGenerator}.
+     *
+     * @param context the generation context containing Faker and options
+     * @param sink    the sink receiving the value
+     */
+    default void generateInto(GeneratorContext context, ValueSink sink) {
+        sink.writeValue(generate(context));
+    }
+
     /**
      * Generates data with filtering support. Custom generators can override this
      * to implement native filtering (e.g., database queries with WHERE clauses).
@@ -101,6 +115,36 @@ public interface Generator {
         return false;
     }
 
+    /**
+     * Indicates whether this generator keeps state between calls (counters, cursors),
+     * so that its output depends on the order in which it is invoked.
+     * <p>
+     * Collections using stateful generators are never generated in parallel.
+     *
+     * @return true if generated values depend on previous invocations
+     */
+    default boolean isStateful() {
+        return false;
+    }
+
+    /**
+     * Compiles a fixed set of options into a generator bound to them.
+     * <p>
+     * Called once per field when the DSL is built, for fields whose options are all static.
+     * The returned generator then produces every value of the field, always with a context
+     * holding these same options, so it can parse and validate them once instead of on every
+     * call. If compiling fails, the field keeps using this generator and reports the error
+     * when generating, as before.
+     * <p>
+     * Default implementation returns this generator unchanged.
+     *
+     * @param options the static options of the field
+     * @return a generator producing the same values as this one for the given options
+     */
+    default Generator compile(JsonNode options) {
+        return this;
+    }
+
     /**
      * Returns the option specification for this generator, describing which options
      * are required, which are optional, and whether unknown options should be rejected.
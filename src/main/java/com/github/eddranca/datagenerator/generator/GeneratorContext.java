@@ -14,6 +14,17 @@ import java.util.Optional;
  * to extend the context with additional resources in the future.
  */
 public record GeneratorContext(Faker faker, JsonNode options, ObjectMapper mapper) {
+    /**
+     * Creates a context holding only options, to read them with the convenience methods
+     * when compiling a generator (see {@link Generator#compile(JsonNode)}).
+     *
+     * @param options the generation options
+     * @return a context without Faker or ObjectMapper
+     */
+    public static GeneratorContext ofOptions(JsonNode options) {
+        return new GeneratorContext(null, options, null);
+    }
+
     /**
      * Convenience method to get a string option value.
      *
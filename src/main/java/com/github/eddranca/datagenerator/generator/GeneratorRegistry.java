@@ -73,10 +73,35 @@ public class GeneratorRegistry {
         return new GeneratorContext(faker, options, mapper);
     }
 
+    /**
+     * Returns the Faker instance shared by all generator contexts, for callers that draw random
+     * values directly, such as choice fields choosing an option.
+     *
+     * @return the shared Faker
+     */
+    public Faker getFaker() {
+        return faker;
+    }
+
     public Generator get(String name) {
         return generators.get(name);
     }
 
+    /**
+     * Returns the generator of one field of a registered {@link CompositeGenerator}, so callers
+     * can bind a path-qualified field such as {@code name.firstName} once and then generate
+     * only that field.
+     *
+     * @param name the generator name
+     * @param path the field name
+     * @return the field generator, or null if the generator is not composite or has no such field
+     */
+    public Generator getFieldGenerator(String name, String path) {
+        return generators.get(name) instanceof CompositeGenerator composite
+            ? composite.getFieldGenerators().get(path)
+            : null;
+    }
+
     public GeneratorOptionSpec getOptionSpec(String name) {
         Generator generator = generators.get(name);
         return generator != null ? generator.getOptionSpec() : null;
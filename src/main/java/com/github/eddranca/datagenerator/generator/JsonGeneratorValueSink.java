@@ -0,0 +1,109 @@
+package com.github.eddranca.datagenerator.generator;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Value sink that writes values straight to a Jackson {@link JsonGenerator}, so scalars produced
+ * by {@link SinkGenerator}s are serialized without a JsonNode in between. Used to write the
+ * items of streamed collections, which are not kept after they are written.
+ * <p>
+ * Sink methods can't throw checked exceptions, so write failures are thrown as
+ * {@link UncheckedIOException}s.
+ */
+public final class JsonGeneratorValueSink implements ValueSink {
+    private final JsonGenerator generator;
+
+    public JsonGeneratorValueSink(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Returns the generator values are written to, for writing the structure around them.
+     *
+     * @return the generator
+     */
+    public JsonGenerator getGenerator() {
+        return generator;
+    }
+
+    @Override
+    public void writeNull() {
+        try {
+            generator.writeNull();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void writeBoolean(boolean value) {
+        try {
+            generator.writeBoolean(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void writeInt(int value) {
+        try {
+            generator.writeNumber(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void writeLong(long value) {
+        try {
+            generator.writeNumber(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void writeDouble(double value) {
+        try {
+            generator.writeNumber(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void writeString(String value) {
+        try {
+            generator.writeString(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void writeNode(JsonNode value) {
+        try {
+            if (value == null) {
+                generator.writeNull();
+            } else {
+                generator.writeTree(value);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes a JsonNode value as it is, so numbers keep their exact node type.
+     *
+     * @param value the value, null is written as null
+     */
+    @Override
+    public void writeValue(JsonNode value) {
+        writeNode(value);
+    }
+}
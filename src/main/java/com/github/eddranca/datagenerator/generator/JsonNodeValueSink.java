@@ -0,0 +1,67 @@
+package com.github.eddranca.datagenerator.generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+/**
+ * Value sink that keeps the last written value as a JsonNode, built with the node factories
+ * instead of a databind conversion. Used to adapt {@link SinkGenerator}s to
+ * {@link Generator#generate(GeneratorContext)}.
+ */
+public final class JsonNodeValueSink implements ValueSink {
+    private JsonNode value = NullNode.getInstance();
+
+    /**
+     * Returns the last written value.
+     *
+     * @return the value, a null node if nothing was written
+     */
+    public JsonNode getValue() {
+        return value;
+    }
+
+    @Override
+    public void writeNull() {
+        value = NullNode.getInstance();
+    }
+
+    @Override
+    public void writeBoolean(boolean value) {
+        this.value = BooleanNode.valueOf(value);
+    }
+
+    @Override
+    public void writeInt(int value) {
+        this.value = IntNode.valueOf(value);
+    }
+
+    @Override
+    public void writeLong(long value) {
+        this.value = LongNode.valueOf(value);
+    }
+
+    @Override
+    public void writeDouble(double value) {
+        this.value = DoubleNode.valueOf(value);
+    }
+
+    @Override
+    public void writeString(String value) {
+        this.value = value != null ? TextNode.valueOf(value) : NullNode.getInstance();
+    }
+
+    @Override
+    public void writeNode(JsonNode value) {
+        this.value = value != null ? value : NullNode.getInstance();
+    }
+
+    @Override
+    public void writeValue(JsonNode value) {
+        writeNode(value);
+    }
+}
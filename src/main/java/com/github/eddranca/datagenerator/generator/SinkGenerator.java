@@ -0,0 +1,24 @@
+package com.github.eddranca.datagenerator.generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Generator that writes its values into a {@link ValueSink}, so scalar values reach serializers
+ * and columnar stores without being wrapped in JsonNode instances.
+ * <p>
+ * Implementations only provide {@link #generateInto(GeneratorContext, ValueSink)};
+ * {@link #generate(GeneratorContext)} adapts it for callers that need a JsonNode.
+ */
+@FunctionalInterface
+public interface SinkGenerator extends Generator {
+
+    @Override
+    void generateInto(GeneratorContext context, ValueSink sink);
+
+    @Override
+    default JsonNode generate(GeneratorContext context) {
+        JsonNodeValueSink sink = new JsonNodeValueSink();
+        generateInto(context, sink);
+        return sink.getValue();
+    }
+}
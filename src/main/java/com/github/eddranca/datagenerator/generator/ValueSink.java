@@ -0,0 +1,56 @@
+package com.github.eddranca.datagenerator.generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Receives generated values without wrapping scalars in JsonNode instances.
+ * <p>
+ * Generators write one value per call with {@link Generator#generateInto(GeneratorContext, ValueSink)}.
+ * Scalars go through the typed methods, values that have no scalar form (objects, arrays) through
+ * {@link #writeNode(JsonNode)}. Serializers and columnar stores can implement this interface to
+ * consume values directly; {@link JsonNodeValueSink} turns them back into JsonNode values.
+ */
+public interface ValueSink {
+
+    void writeNull();
+
+    void writeBoolean(boolean value);
+
+    void writeInt(int value);
+
+    void writeLong(long value);
+
+    void writeDouble(double value);
+
+    void writeString(String value);
+
+    /**
+     * Writes a value that has no scalar form, such as an object or an array.
+     *
+     * @param value the value
+     */
+    void writeNode(JsonNode value);
+
+    /**
+     * Writes a JsonNode value, using the typed methods for scalar nodes.
+     *
+     * @param value the value, null or missing nodes are written as null
+     */
+    default void writeValue(JsonNode value) {
+        if (value == null || value.isNull() || value.isMissingNode()) {
+            writeNull();
+        } else if (value.isTextual()) {
+            writeString(value.textValue());
+        } else if (value.isInt()) {
+            writeInt(value.intValue());
+        } else if (value.isLong()) {
+            writeLong(value.longValue());
+        } else if (value.isDouble() || value.isFloat()) {
+            writeDouble(value.doubleValue());
+        } else if (value.isBoolean()) {
+            writeBoolean(value.booleanValue());
+        } else {
+            writeNode(value);
+        }
+    }
+}
@@ -1,33 +1,22 @@
 package com.github.eddranca.datagenerator.generator.defaults;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.eddranca.datagenerator.generator.Generator;
-import com.github.eddranca.datagenerator.generator.GeneratorContext;
+import com.github.eddranca.datagenerator.generator.CompositeGenerator;
 import com.github.eddranca.datagenerator.generator.GeneratorOptionSpec;
-import net.datafaker.Faker;
 
-import java.util.Map;
+public class AddressGenerator extends CompositeGenerator {
 
-public class AddressGenerator implements Generator {
+    public AddressGenerator() {
+        textField("streetAddress", faker -> faker.address().streetAddress());
+        textField("city", faker -> faker.address().city());
+        textField("state", faker -> faker.address().state());
+        textField("zipCode", faker -> faker.address().zipCode());
+        textField("country", faker -> faker.address().country());
+        textField("countryCode", faker -> faker.address().countryCode());
+        textField("fullAddress", faker -> faker.address().fullAddress());
+    }
 
     @Override
     public GeneratorOptionSpec getOptionSpec() {
         return GeneratorOptionSpec.strict();
     }
-
-    @Override
-    public JsonNode generate(GeneratorContext context) {
-        Faker faker = context.faker();
-        ObjectMapper mapper = context.mapper();
-        return mapper.valueToTree(
-            Map.of(
-                "streetAddress", faker.address().streetAddress(),
-                "city", faker.address().city(),
-                "state", faker.address().state(),
-                "zipCode", faker.address().zipCode(),
-                "country", faker.address().country(),
-                "countryCode", faker.address().countryCode(),
-                "fullAddress", faker.address().fullAddress()));
-    }
 }
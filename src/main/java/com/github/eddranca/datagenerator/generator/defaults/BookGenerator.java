@@ -1,30 +1,19 @@
 package com.github.eddranca.datagenerator.generator.defaults;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.eddranca.datagenerator.generator.Generator;
-import com.github.eddranca.datagenerator.generator.GeneratorContext;
+import com.github.eddranca.datagenerator.generator.CompositeGenerator;
 import com.github.eddranca.datagenerator.generator.GeneratorOptionSpec;
-import net.datafaker.Faker;
 
-import java.util.Map;
+public class BookGenerator extends CompositeGenerator {
 
-public class BookGenerator implements Generator {
+    public BookGenerator() {
+        textField("title", faker -> faker.book().title());
+        textField("author", faker -> faker.book().author());
+        textField("publisher", faker -> faker.book().publisher());
+        textField("genre", faker -> faker.book().genre());
+    }
 
     @Override
     public GeneratorOptionSpec getOptionSpec() {
         return GeneratorOptionSpec.strict();
     }
-
-    @Override
-    public JsonNode generate(GeneratorContext context) {
-        Faker faker = context.faker();
-        ObjectMapper mapper = context.mapper();
-        return mapper.valueToTree(
-            Map.of("title", faker.book().title(),
-                "author", faker.book().author(),
-                "publisher", faker.book().publisher(),
-                "genre", faker.book().genre())
-        );
-    }
 }
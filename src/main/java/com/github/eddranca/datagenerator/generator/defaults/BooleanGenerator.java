@@ -2,13 +2,15 @@ package com.github.eddranca.datagenerator.generator.defaults;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.eddranca.datagenerator.generator.Generator;
+import com.fasterxml.jackson.databind.node.BooleanNode;
 import com.github.eddranca.datagenerator.generator.GeneratorContext;
 import com.github.eddranca.datagenerator.generator.GeneratorOptionSpec;
+import com.github.eddranca.datagenerator.generator.SinkGenerator;
+import com.github.eddranca.datagenerator.generator.ValueSink;
 
 import java.util.List;
 
-public class BooleanGenerator implements Generator {
+public class BooleanGenerator implements SinkGenerator {
 
     @Override
     public GeneratorOptionSpec getOptionSpec() {
@@ -18,15 +20,13 @@ public class BooleanGenerator implements Generator {
     }
 
     @Override
-    public JsonNode generate(GeneratorContext context) {
-        ObjectMapper mapper = context.mapper();
+    public void generateInto(GeneratorContext context, ValueSink sink) {
         double probability = context.getDoubleOption("probability", 0.5); // Default 50/50
 
         // Clamp probability between 0.0 and 1.0
         probability = Math.max(0.0, Math.min(1.0, probability));
 
-        boolean result = context.faker().random().nextDouble() < probability;
-        return mapper.valueToTree(result);
+        sink.writeBoolean(context.faker().random().nextDouble() < probability);
     }
 
     @Override
@@ -52,12 +52,12 @@ public class BooleanGenerator implements Generator {
 
         // If only true is filtered, always return false
         if (filterTrue) {
-            return mapper.valueToTree(false);
+            return BooleanNode.FALSE;
         }
 
         // If only false is filtered, always return true
         if (filterFalse) {
-            return mapper.valueToTree(true);
+            return BooleanNode.TRUE;
         }
 
         // No filtering needed
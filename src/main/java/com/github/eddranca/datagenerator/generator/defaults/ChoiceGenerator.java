@@ -8,6 +8,7 @@ import com.github.eddranca.datagenerator.generator.GeneratorOptionSpec;
 import net.datafaker.service.RandomService;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -17,6 +18,29 @@ import java.util.List;
 public class ChoiceGenerator implements Generator {
     public static final String OPTIONS = "options";
     public static final String WEIGHTS = "weights";
+    private static final int MAX_REJECTIONS = 16;
+
+    private final Weights weights; // fixed weights, null to read them from the options on each call
+
+    public ChoiceGenerator() {
+        this(null);
+    }
+
+    private ChoiceGenerator(Weights weights) {
+        this.weights = weights;
+    }
+
+    /**
+     * Creates a choice generator with fixed weights, ignoring the weights in the options.
+     *
+     * @param weights the weight of each option, or null for equal weights
+     * @return the choice generator
+     */
+    public static ChoiceGenerator withWeights(List<Double> weights) {
+        return new ChoiceGenerator(weights != null
+            ? Weights.of(weights.stream().mapToDouble(Double::doubleValue).toArray())
+            : Weights.UNIFORM);
+    }
 
     @Override
     public GeneratorOptionSpec getOptionSpec() {
@@ -26,42 +50,84 @@ public class ChoiceGenerator implements Generator {
             .build();
     }
 
+    /**
+     * Chooses the index of an option according to this generator's fixed weights.
+     * <p>
+     * Lets callers choose before computing any option and then compute only the chosen one.
+     *
+     * @param optionsCount   the number of options
+     * @param randomInstance the random source to draw from
+     * @return the chosen index
+     * @throws IllegalStateException if this generator reads its weights from the options
+     */
+    public int chooseIndex(int optionsCount, RandomService randomInstance) {
+        return fixedWeights().choose(optionsCount, randomInstance);
+    }
+
+    /**
+     * Chooses the index of an option among those not excluded, according to this generator's
+     * fixed weights. Excluded options are rejected and re-sampled a bounded number of times,
+     * before falling back to a scan of the remaining options.
+     *
+     * @param optionsCount   the number of options
+     * @param randomInstance the random source to draw from
+     * @param excluded       options that can't be chosen, by index
+     * @param remaining      the number of options not excluded, at least one
+     * @return the chosen index
+     * @throws IllegalStateException if this generator reads its weights from the options
+     */
+    public int chooseIndex(int optionsCount, RandomService randomInstance, boolean[] excluded, int remaining) {
+        return fixedWeights().choose(optionsCount, randomInstance, excluded, remaining);
+    }
+
+    private Weights fixedWeights() {
+        if (weights == null) {
+            throw new IllegalStateException("Choice generator weights are read from the options");
+        }
+        return weights;
+    }
+
+    /**
+     * Parses the weights once. Options are still read from the context on each call.
+     */
+    @Override
+    public Generator compile(JsonNode options) {
+        return new ChoiceGenerator(getWeights(options));
+    }
+
     @Override
     public JsonNode generate(GeneratorContext context) {
-        JsonNode options = context.options();
-        JsonNode optionsArray = options.get(OPTIONS);
-        List<Double> weights = getWeights(options, optionsArray.size());
+        JsonNode optionsArray = context.options().get(OPTIONS);
+        Weights optionWeights = weights != null ? weights : getWeights(context.options());
 
         // Use the Faker's random instance for consistency
         RandomService contextRandom = context.faker().random();
-        int chosenIndex = chooseWeightedIndex(weights, contextRandom);
+        int chosenIndex = optionWeights.choose(optionsArray.size(), contextRandom);
         return optionsArray.get(chosenIndex);
     }
 
     @Override
     public JsonNode generateWithFilter(GeneratorContext context, List<JsonNode> filterValues) {
-        JsonNode options = context.options();
-        JsonNode optionsArray = options.get(OPTIONS);
+        JsonNode optionsArray = context.options().get(OPTIONS);
 
         // If no filtering needed, use regular generate
         if (filterValues == null || filterValues.isEmpty()) {
             return generate(context);
         }
 
-        // Get weights if present, default to 1.0 for each option
-        List<Double> originalWeights = getWeights(options, optionsArray.size());
+        Weights originalWeights = weights != null ? weights : getWeights(context.options());
 
         // Filter out options and maintain corresponding weights
         List<JsonNode> validOptions = new ArrayList<>();
-        List<Double> validWeights = new ArrayList<>();
+        double[] validWeights = new double[optionsArray.size()];
 
         for (int i = 0; i < optionsArray.size(); i++) {
             JsonNode option = optionsArray.get(i);
             boolean shouldFilter = filterValues.contains(option);
 
             if (!shouldFilter) {
+                validWeights[validOptions.size()] = originalWeights.get(i);
                 validOptions.add(option);
-                validWeights.add(originalWeights.get(i));
             }
         }
 
@@ -72,7 +138,8 @@ public class ChoiceGenerator implements Generator {
 
         // Choose from valid options using their weights
         RandomService contextRandom = context.faker().random();
-        int chosenIndex = chooseWeightedIndex(validWeights, contextRandom);
+        int chosenIndex = Weights.of(Arrays.copyOf(validWeights, validOptions.size()))
+            .choose(validOptions.size(), contextRandom);
         return validOptions.get(chosenIndex);
     }
 
@@ -87,49 +154,126 @@ public class ChoiceGenerator implements Generator {
         return generate(context);
     }
 
-    private List<Double> getWeights(JsonNode options, int optionsCount) {
+    private static Weights getWeights(JsonNode options) {
         if (!options.has(WEIGHTS)) {
             // Default to equal weights of 1.0
-            List<Double> defaultWeights = new ArrayList<>();
-            for (int i = 0; i < optionsCount; i++) {
-                defaultWeights.add(1.0);
-            }
-            return defaultWeights;
+            return Weights.UNIFORM;
         }
 
         JsonNode weightsArray = options.get(WEIGHTS);
-        List<Double> weights = new ArrayList<>();
-        for (JsonNode weightNode : weightsArray) {
-            weights.add(weightNode.asDouble());
+        double[] values = new double[weightsArray.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = weightsArray.get(i).asDouble();
         }
-        return weights;
+        return Weights.of(values);
     }
 
-    private int chooseWeightedIndex(List<Double> weights, RandomService randomInstance) {
-        if (weights.size() == 1) {
-            return 0;
-        }
+    /**
+     * Option weights prepared for constant time sampling with Walker's alias method.
+     * <p>
+     * Each of the n columns of the table holds one option with probability {@code probability[i]}
+     * and another option, its alias, with the remaining probability. Sampling picks a column
+     * uniformly and then one of its two options. Null tables mean equal weights.
+     */
+    private record Weights(double[] values, double[] probability, int[] alias) {
+        static final Weights UNIFORM = new Weights(null, null, null);
 
-        // Calculate total weight
-        double totalWeight = weights.stream().mapToDouble(Double::doubleValue).sum();
+        static Weights of(double[] values) {
+            double totalWeight = Arrays.stream(values).sum();
+            // If all weights are equal (or total is 0), use simple random selection
+            boolean equal = Arrays.stream(values).allMatch(w -> w == values[0]);
+            if (totalWeight == 0.0 || equal) {
+                return UNIFORM;
+            }
 
-        // If all weights are equal (or total is 0), use simple random selection
-        if (totalWeight == 0.0 || weights.stream().allMatch(w -> w.equals(weights.get(0)))) {
-            return randomInstance.nextInt(weights.size());
+            int n = values.length;
+            double[] probability = new double[n];
+            int[] alias = new int[n];
+            double[] scaled = new double[n];
+            int[] small = new int[n];
+            int[] large = new int[n];
+            int smallCount = 0;
+            int largeCount = 0;
+            for (int i = 0; i < n; i++) {
+                scaled[i] = values[i] * n / totalWeight;
+                if (scaled[i] < 1.0) {
+                    small[smallCount++] = i;
+                } else {
+                    large[largeCount++] = i;
+                }
+            }
+            while (smallCount > 0 && largeCount > 0) {
+                int less = small[--smallCount];
+                int more = large[--largeCount];
+                probability[less] = scaled[less];
+                alias[less] = more;
+                scaled[more] = scaled[more] + scaled[less] - 1.0;
+                if (scaled[more] < 1.0) {
+                    small[smallCount++] = more;
+                } else {
+                    large[largeCount++] = more;
+                }
+            }
+            // Whatever is left only differs from 1 by rounding errors
+            while (largeCount > 0) {
+                probability[large[--largeCount]] = 1.0;
+            }
+            while (smallCount > 0) {
+                probability[small[--smallCount]] = 1.0;
+            }
+            return new Weights(values, probability, alias);
         }
 
-        // Weighted selection
-        double randomValue = randomInstance.nextDouble() * totalWeight;
-        double cumulativeWeight = 0.0;
+        double get(int index) {
+            return values != null ? values[index] : 1.0;
+        }
 
-        for (int i = 0; i < weights.size(); i++) {
-            cumulativeWeight += weights.get(i);
-            if (randomValue <= cumulativeWeight) {
-                return i;
+        int choose(int optionsCount, RandomService randomInstance) {
+            if (optionsCount == 1) {
+                return 0;
+            }
+            if (values == null) {
+                return randomInstance.nextInt(optionsCount);
             }
+            int column = randomInstance.nextInt(optionsCount);
+            return randomInstance.nextDouble() < probability[column] ? column : alias[column];
         }
 
-        // Fallback to last option (should rarely happen due to floating point precision)
-        return weights.size() - 1;
+        int choose(int optionsCount, RandomService randomInstance, boolean[] excluded, int remaining) {
+            if (remaining == optionsCount) {
+                return choose(optionsCount, randomInstance);
+            }
+            if (remaining == 1) {
+                for (int i = 0; i < optionsCount; i++) {
+                    if (!excluded[i]) {
+                        return i;
+                    }
+                }
+            }
+            for (int attempt = 0; attempt < MAX_REJECTIONS; attempt++) {
+                int index = choose(optionsCount, randomInstance);
+                if (!excluded[index]) {
+                    return index;
+                }
+            }
+
+            // Most of the weight is excluded, scan the remaining options instead
+            double remainingWeight = 0.0;
+            for (int i = 0; i < optionsCount; i++) {
+                remainingWeight += excluded[i] ? 0.0 : get(i);
+            }
+            double randomValue = randomInstance.nextDouble() * remainingWeight;
+            int last = -1;
+            for (int i = 0; i < optionsCount; i++) {
+                if (!excluded[i]) {
+                    last = i;
+                    randomValue -= get(i);
+                    if (randomValue < 0.0) {
+                        return i;
+                    }
+                }
+            }
+            return last;
+        }
     }
 }
@@ -1,30 +1,19 @@
 package com.github.eddranca.datagenerator.generator.defaults;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.eddranca.datagenerator.generator.Generator;
-import com.github.eddranca.datagenerator.generator.GeneratorContext;
+import com.github.eddranca.datagenerator.generator.CompositeGenerator;
 import com.github.eddranca.datagenerator.generator.GeneratorOptionSpec;
-import net.datafaker.Faker;
 
-import java.util.Map;
+public class CompanyGenerator extends CompositeGenerator {
 
-public class CompanyGenerator implements Generator {
+    public CompanyGenerator() {
+        textField("name", faker -> faker.company().name());
+        textField("industry", faker -> faker.company().industry());
+        textField("profession", faker -> faker.company().profession());
+        textField("buzzword", faker -> faker.company().buzzword());
+    }
 
     @Override
     public GeneratorOptionSpec getOptionSpec() {
         return GeneratorOptionSpec.strict();
     }
-
-    @Override
-    public JsonNode generate(GeneratorContext context) {
-        Faker faker = context.faker();
-        ObjectMapper mapper = context.mapper();
-        return mapper.valueToTree(
-            Map.of("name", faker.company().name(),
-                "industry", faker.company().industry(),
-                "profession", faker.company().profession(),
-                "buzzword", faker.company().buzzword())
-        );
-    }
 }
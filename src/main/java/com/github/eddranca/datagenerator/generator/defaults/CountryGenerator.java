@@ -1,30 +1,20 @@
 package com.github.eddranca.datagenerator.generator.defaults;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.eddranca.datagenerator.generator.Generator;
-import com.github.eddranca.datagenerator.generator.GeneratorContext;
+import com.github.eddranca.datagenerator.generator.CompositeGenerator;
 import com.github.eddranca.datagenerator.generator.GeneratorOptionSpec;
-import net.datafaker.Faker;
 
-import java.util.Map;
+public class CountryGenerator extends CompositeGenerator {
 
-public class CountryGenerator implements Generator {
-    @Override
-    public GeneratorOptionSpec getOptionSpec() {
-        return GeneratorOptionSpec.strict();
+    public CountryGenerator() {
+        textField("name", faker -> faker.country().name());
+        textField("countryCode", faker -> faker.country().countryCode2());
+        textField("capital", faker -> faker.country().capital());
+        textField("currency", faker -> faker.country().currency());
+        textField("currencyCode", faker -> faker.country().currencyCode());
     }
 
     @Override
-    public JsonNode generate(GeneratorContext context) {
-        Faker faker = context.faker();
-        ObjectMapper mapper = context.mapper();
-        return mapper.valueToTree(
-            Map.of("name", faker.country().name(),
-                "countryCode", faker.country().countryCode2(),
-                "capital", faker.country().capital(),
-                "currency", faker.country().currency(),
-                "currencyCode", faker.country().currencyCode())
-        );
+    public GeneratorOptionSpec getOptionSpec() {
+        return GeneratorOptionSpec.strict();
     }
 }
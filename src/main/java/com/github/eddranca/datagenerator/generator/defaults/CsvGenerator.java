@@ -33,7 +33,12 @@ public class CsvGenerator implements Generator {
     }
 
     @Override
-    public JsonNode generate(GeneratorContext context) {
+    public boolean isStateful() {
+        return true;
+    }
+
+    @Override
+    public synchronized JsonNode generate(GeneratorContext context) {
         JsonNode options = context.options();
         String file = context.getStringOption("file");
         boolean sequential = context.getBooleanOption("sequential", true);
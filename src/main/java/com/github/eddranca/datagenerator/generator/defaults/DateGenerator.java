@@ -1,22 +1,22 @@
 package com.github.eddranca.datagenerator.generator.defaults;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.eddranca.datagenerator.generator.Generator;
 import com.github.eddranca.datagenerator.generator.GeneratorContext;
 import com.github.eddranca.datagenerator.generator.GeneratorOptionSpec;
-import net.datafaker.Faker;
+import com.github.eddranca.datagenerator.generator.SinkGenerator;
+import com.github.eddranca.datagenerator.generator.ValueSink;
 
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.function.Function;
 
 /**
  * Simple date generator that creates random dates between two given dates with
  * optional formatting
  */
-public class DateGenerator implements Generator {
+public class DateGenerator implements SinkGenerator {
 
     @Override
     public GeneratorOptionSpec getOptionSpec() {
@@ -26,51 +26,57 @@ public class DateGenerator implements Generator {
     }
 
     @Override
-    public JsonNode generate(GeneratorContext context) {
-        Faker faker = context.faker();
-        ObjectMapper mapper = context.mapper();
+    public void generateInto(GeneratorContext context, ValueSink sink) {
+        compile(context.options()).generateInto(context, sink);
+    }
+
+    /**
+     * Parses the date range and format once, so generating a date only draws the day offset.
+     */
+    @Override
+    public SinkGenerator compile(JsonNode options) {
+        GeneratorContext optionsContext = GeneratorContext.ofOptions(options);
 
         // Default date range: epoch time to next year
         LocalDate defaultFrom = LocalDate.of(1970, 1, 1); // Unix epoch
         LocalDate defaultTo = LocalDate.now().plusYears(1);
 
-        // Parse from and to dates using syntactic sugar
-        String fromStr = context.getStringOption("from");
-        String toStr = context.getStringOption("to");
+        String fromStr = optionsContext.getStringOption("from");
+        String toStr = optionsContext.getStringOption("to");
 
         LocalDate from = fromStr != null ? LocalDate.parse(fromStr) : defaultFrom;
         LocalDate to = toStr != null ? LocalDate.parse(toStr) : defaultTo;
 
-        // Generate random date between from and to
         long daysBetween = ChronoUnit.DAYS.between(from, to);
         if (daysBetween < 0) {
             throw new IllegalArgumentException("'from' date must be before 'to' date");
         }
 
-        LocalDate randomDate = from.plusDays(faker.random().nextLong(daysBetween + 1));
-
-        // Format the date using syntactic sugar
-        String format = context.getStringOption("format");
-        String formattedDate = formatDate(randomDate, format);
-
-        return mapper.valueToTree(formattedDate);
+        return new CompiledDateGenerator(from, daysBetween, dateFormatter(optionsContext.getStringOption("format")));
     }
 
-    private String formatDate(LocalDate date, String format) {
+    private static Function<LocalDate, String> dateFormatter(String format) {
         if (format == null) {
             // Default ISO date format
-            return date.toString();
+            return LocalDate::toString;
         }
 
         return switch (format.toLowerCase()) {
-            case "iso" -> date.toString();
-            case "iso_datetime" -> date.atStartOfDay().toString();
-            case "timestamp" -> String.valueOf(date.atStartOfDay().toEpochSecond(ZoneOffset.UTC) * 1000);
-            case "epoch" -> String.valueOf(date.atStartOfDay().toEpochSecond(ZoneOffset.UTC));
-            default -> {
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern(format);
-                yield date.format(formatter);
-            }
+            case "iso" -> LocalDate::toString;
+            case "iso_datetime" -> date -> date.atStartOfDay().toString();
+            case "timestamp" -> date -> String.valueOf(date.atStartOfDay().toEpochSecond(ZoneOffset.UTC) * 1000);
+            case "epoch" -> date -> String.valueOf(date.atStartOfDay().toEpochSecond(ZoneOffset.UTC));
+            default -> DateTimeFormatter.ofPattern(format)::format;
         };
     }
+
+    private record CompiledDateGenerator(LocalDate from, long daysBetween, Function<LocalDate, String> formatter)
+        implements SinkGenerator {
+
+        @Override
+        public void generateInto(GeneratorContext context, ValueSink sink) {
+            LocalDate randomDate = from.plusDays(context.faker().random().nextLong(daysBetween + 1));
+            sink.writeString(formatter.apply(randomDate));
+        }
+    }
 }
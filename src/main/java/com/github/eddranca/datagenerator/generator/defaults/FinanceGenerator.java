@@ -1,29 +1,18 @@
 package com.github.eddranca.datagenerator.generator.defaults;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.eddranca.datagenerator.generator.Generator;
-import com.github.eddranca.datagenerator.generator.GeneratorContext;
+import com.github.eddranca.datagenerator.generator.CompositeGenerator;
 import com.github.eddranca.datagenerator.generator.GeneratorOptionSpec;
-import net.datafaker.Faker;
 
-import java.util.Map;
+public class FinanceGenerator extends CompositeGenerator {
 
-public class FinanceGenerator implements Generator {
+    public FinanceGenerator() {
+        textField("iban", faker -> faker.finance().iban());
+        textField("bic", faker -> faker.finance().bic());
+        textField("creditCard", faker -> faker.finance().creditCard());
+    }
 
     @Override
     public GeneratorOptionSpec getOptionSpec() {
         return GeneratorOptionSpec.strict();
     }
-
-    @Override
-    public JsonNode generate(GeneratorContext context) {
-        Faker faker = context.faker();
-        ObjectMapper mapper = context.mapper();
-        return mapper.valueToTree(
-            Map.of("iban", faker.finance().iban(),
-                "bic", faker.finance().bic(),
-                "creditCard", faker.finance().creditCard())
-        );
-    }
 }
@@ -1,12 +1,12 @@
 package com.github.eddranca.datagenerator.generator.defaults;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.eddranca.datagenerator.generator.Generator;
 import com.github.eddranca.datagenerator.generator.GeneratorContext;
 import com.github.eddranca.datagenerator.generator.GeneratorOptionSpec;
+import com.github.eddranca.datagenerator.generator.SinkGenerator;
+import com.github.eddranca.datagenerator.generator.ValueSink;
 
-public class FloatGenerator implements Generator {
+public class FloatGenerator implements SinkGenerator {
 
     @Override
     public GeneratorOptionSpec getOptionSpec() {
@@ -16,15 +16,20 @@ public class FloatGenerator implements Generator {
     }
 
     @Override
-    public JsonNode generate(GeneratorContext context) {
-        ObjectMapper mapper = context.mapper();
-        int min = context.getIntOption("min", Integer.MIN_VALUE);
-        int max = context.getIntOption("max", Integer.MAX_VALUE);
-        int decimals = context.getIntOption("decimals", 2);
+    public void generateInto(GeneratorContext context, ValueSink sink) {
+        compile(context.options()).generateInto(context, sink);
+    }
+
+    @Override
+    public SinkGenerator compile(JsonNode options) {
+        GeneratorContext optionsContext = GeneratorContext.ofOptions(options);
+        int min = optionsContext.getIntOption("min", Integer.MIN_VALUE);
+        int max = optionsContext.getIntOption("max", Integer.MAX_VALUE);
+        int decimals = optionsContext.getIntOption("decimals", 2);
 
         // Ensure decimals is within reasonable bounds
-        decimals = Math.max(0, Math.min(decimals, 10));
+        int boundedDecimals = Math.max(0, Math.min(decimals, 10));
 
-        return mapper.valueToTree(context.faker().number().randomDouble(decimals, min, max));
+        return (context, sink) -> sink.writeDouble(context.faker().number().randomDouble(boundedDecimals, min, max));
     }
 }
@@ -1,29 +1,19 @@
 package com.github.eddranca.datagenerator.generator.defaults;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.eddranca.datagenerator.generator.Generator;
-import com.github.eddranca.datagenerator.generator.GeneratorContext;
+import com.github.eddranca.datagenerator.generator.CompositeGenerator;
 import com.github.eddranca.datagenerator.generator.GeneratorOptionSpec;
-import net.datafaker.Faker;
 
-import java.util.Map;
+public class InternetGenerator extends CompositeGenerator {
 
-public class InternetGenerator implements Generator {
+    public InternetGenerator() {
+        textField("emailAddress", faker -> faker.internet().emailAddress());
+        textField("domainName", faker -> faker.internet().domainName());
+        textField("url", faker -> faker.internet().url());
+        textField("username", faker -> faker.credentials().username());
+    }
 
     @Override
     public GeneratorOptionSpec getOptionSpec() {
         return GeneratorOptionSpec.strict();
     }
-
-    @Override
-    public JsonNode generate(GeneratorContext context) {
-        Faker faker = context.faker();
-        ObjectMapper mapper = context.mapper();
-        return mapper.valueToTree(
-            Map.of("emailAddress", faker.internet().emailAddress(),
-                "domainName", faker.internet().domainName(),
-                "url", faker.internet().url(),
-                "username", faker.credentials().username()));
-    }
 }
@@ -2,15 +2,16 @@ package com.github.eddranca.datagenerator.generator.defaults;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.eddranca.datagenerator.generator.Generator;
 import com.github.eddranca.datagenerator.generator.GeneratorContext;
 import com.github.eddranca.datagenerator.generator.GeneratorOptionSpec;
+import com.github.eddranca.datagenerator.generator.SinkGenerator;
+import com.github.eddranca.datagenerator.generator.ValueSink;
 import net.datafaker.Faker;
 
 import java.util.List;
 import java.util.Map;
 
-public class LoremGenerator implements Generator {
+public class LoremGenerator implements SinkGenerator {
     private static final String WORD = "word";
     private static final String WORDS = "words";
     private static final String SENTENCE = "sentence";
@@ -26,13 +27,13 @@ public class LoremGenerator implements Generator {
     }
 
     @Override
-    public JsonNode generate(GeneratorContext context) {
+    public void generateInto(GeneratorContext context, ValueSink sink) {
         Faker faker = context.faker();
         ObjectMapper mapper = context.mapper();
         JsonNode options = context.options();
         if (options == null) {
             // Default: return all available fields
-            return mapper.valueToTree(
+            sink.writeNode(mapper.valueToTree(
                 Map.of(
                     WORD, faker.lorem().word(),
                     WORDS, String.join(" ", faker.lorem().words(5)),
@@ -41,29 +42,33 @@ public class LoremGenerator implements Generator {
                     PARAGRAPH, faker.lorem().paragraph(),
                     PARAGRAPHS, String.join("\n\n", faker.lorem().paragraphs(2))
                 )
-            );
+            ));
+            return;
         }
 
         // Use syntactic sugar methods for option retrieval
         if (options.has(WORDS)) {
             int wordCount = context.getIntOption(WORDS, 5);
             List<String> words = faker.lorem().words(Math.max(1, wordCount));
-            return mapper.valueToTree(String.join(" ", words));
+            sink.writeString(String.join(" ", words));
+            return;
         }
 
         if (options.has(SENTENCES)) {
             int sentenceCount = context.getIntOption(SENTENCES, 1);
             List<String> sentences = faker.lorem().sentences(Math.max(1, sentenceCount));
-            return mapper.valueToTree(String.join(" ", sentences));
+            sink.writeString(String.join(" ", sentences));
+            return;
         }
 
         if (options.has(PARAGRAPHS)) {
             int paragraphCount = context.getIntOption(PARAGRAPHS, 1);
             List<String> paragraphs = faker.lorem().paragraphs(Math.max(1, paragraphCount));
-            return mapper.valueToTree(String.join("\n\n", paragraphs));
+            sink.writeString(String.join("\n\n", paragraphs));
+            return;
         }
 
         // Default fallback
-        return mapper.valueToTree(faker.lorem().sentence());
+        sink.writeString(faker.lorem().sentence());
     }
 }
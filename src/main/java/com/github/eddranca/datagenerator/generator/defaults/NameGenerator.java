@@ -1,32 +1,21 @@
 package com.github.eddranca.datagenerator.generator.defaults;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.eddranca.datagenerator.generator.Generator;
-import com.github.eddranca.datagenerator.generator.GeneratorContext;
+import com.github.eddranca.datagenerator.generator.CompositeGenerator;
 import com.github.eddranca.datagenerator.generator.GeneratorOptionSpec;
-import net.datafaker.Faker;
 
-import java.util.Map;
+public class NameGenerator extends CompositeGenerator {
 
-public class NameGenerator implements Generator {
+    public NameGenerator() {
+        textField("firstName", faker -> faker.name().firstName());
+        textField("lastName", faker -> faker.name().lastName());
+        textField("fullName", faker -> faker.name().fullName());
+        textField("prefix", faker -> faker.name().prefix());
+        textField("suffix", faker -> faker.name().suffix());
+        textField("title", faker -> faker.name().title());
+    }
 
     @Override
     public GeneratorOptionSpec getOptionSpec() {
         return GeneratorOptionSpec.strict();
     }
-
-    @Override
-    public JsonNode generate(GeneratorContext context) {
-        Faker faker = context.faker();
-        ObjectMapper mapper = context.mapper();
-        return mapper.valueToTree(
-            Map.of("firstName", faker.name().firstName(),
-                "lastName", faker.name().lastName(),
-                "fullName", faker.name().fullName(),
-                "prefix", faker.name().prefix(),
-                "suffix", faker.name().suffix(),
-                "title", faker.name().title())
-        );
-    }
 }
@@ -1,12 +1,12 @@
 package com.github.eddranca.datagenerator.generator.defaults;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.eddranca.datagenerator.generator.Generator;
 import com.github.eddranca.datagenerator.generator.GeneratorContext;
 import com.github.eddranca.datagenerator.generator.GeneratorOptionSpec;
+import com.github.eddranca.datagenerator.generator.SinkGenerator;
+import com.github.eddranca.datagenerator.generator.ValueSink;
 
-public class NumberGenerator implements Generator {
+public class NumberGenerator implements SinkGenerator {
 
     @Override
     public GeneratorOptionSpec getOptionSpec() {
@@ -16,10 +16,15 @@ public class NumberGenerator implements Generator {
     }
 
     @Override
-    public JsonNode generate(GeneratorContext context) {
-        int min = context.getIntOption("min", Integer.MIN_VALUE);
-        int max = context.getIntOption("max", Integer.MAX_VALUE);
-        ObjectMapper mapper = context.mapper();
-        return mapper.valueToTree(context.faker().number().numberBetween(min, max));
+    public void generateInto(GeneratorContext context, ValueSink sink) {
+        compile(context.options()).generateInto(context, sink);
+    }
+
+    @Override
+    public SinkGenerator compile(JsonNode options) {
+        GeneratorContext optionsContext = GeneratorContext.ofOptions(options);
+        int min = optionsContext.getIntOption("min", Integer.MIN_VALUE);
+        int max = optionsContext.getIntOption("max", Integer.MAX_VALUE);
+        return (context, sink) -> sink.writeInt(context.faker().number().numberBetween(min, max));
     }
 }
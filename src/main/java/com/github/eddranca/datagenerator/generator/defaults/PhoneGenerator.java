@@ -1,13 +1,12 @@
 package com.github.eddranca.datagenerator.generator.defaults;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.eddranca.datagenerator.generator.Generator;
 import com.github.eddranca.datagenerator.generator.GeneratorContext;
 import com.github.eddranca.datagenerator.generator.GeneratorOptionSpec;
+import com.github.eddranca.datagenerator.generator.SinkGenerator;
+import com.github.eddranca.datagenerator.generator.ValueSink;
 import net.datafaker.Faker;
 
-public class PhoneGenerator implements Generator {
+public class PhoneGenerator implements SinkGenerator {
 
     @Override
     public GeneratorOptionSpec getOptionSpec() {
@@ -17,20 +16,19 @@ public class PhoneGenerator implements Generator {
     }
 
     @Override
-    public JsonNode generate(GeneratorContext context) {
+    public void generateInto(GeneratorContext context, ValueSink sink) {
         Faker faker = context.faker();
-        ObjectMapper mapper = context.mapper();
         String format = context.getStringOption("format");
 
         if (format == null) {
             format = "international";
         }
 
-        return switch (format) {
-            case "international" -> mapper.valueToTree(faker.phoneNumber().phoneNumber());
-            case "cell", "mobile" -> mapper.valueToTree(faker.phoneNumber().cellPhone());
-            case "extension" -> mapper.valueToTree(faker.phoneNumber().extension());
-            default -> mapper.valueToTree(faker.phoneNumber().phoneNumber());
-        };
+        sink.writeString(switch (format) {
+            case "international" -> faker.phoneNumber().phoneNumber();
+            case "cell", "mobile" -> faker.phoneNumber().cellPhone();
+            case "extension" -> faker.phoneNumber().extension();
+            default -> faker.phoneNumber().phoneNumber();
+        });
     }
 }
@@ -1,15 +1,15 @@
 package com.github.eddranca.datagenerator.generator.defaults;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.IntNode;
-import com.github.eddranca.datagenerator.generator.Generator;
 import com.github.eddranca.datagenerator.generator.GeneratorContext;
 import com.github.eddranca.datagenerator.generator.GeneratorOptionSpec;
+import com.github.eddranca.datagenerator.generator.SinkGenerator;
+import com.github.eddranca.datagenerator.generator.ValueSink;
 
 import java.util.IdentityHashMap;
 import java.util.Map;
 
-public class SequenceGenerator implements Generator {
+public class SequenceGenerator implements SinkGenerator {
     private final Map<JsonNode, Integer> counters = new IdentityHashMap<>();
 
     @Override
@@ -20,7 +20,12 @@ public class SequenceGenerator implements Generator {
     }
 
     @Override
-    public JsonNode generate(GeneratorContext context) {
+    public boolean isStateful() {
+        return true;
+    }
+
+    @Override
+    public synchronized void generateInto(GeneratorContext context, ValueSink sink) {
         JsonNode options = context.options();
         int start = context.getIntOption("start", 0);
         int increment = context.getIntOption("increment", 1);
@@ -33,6 +38,6 @@ public class SequenceGenerator implements Generator {
         int next = current + increment;
         counters.put(options, next);
 
-        return new IntNode(current);
+        sink.writeInt(current);
     }
 }
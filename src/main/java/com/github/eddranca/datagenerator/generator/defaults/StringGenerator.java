@@ -1,13 +1,13 @@
 package com.github.eddranca.datagenerator.generator.defaults;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.eddranca.datagenerator.generator.Generator;
 import com.github.eddranca.datagenerator.generator.GeneratorContext;
 import com.github.eddranca.datagenerator.generator.GeneratorOptionSpec;
+import com.github.eddranca.datagenerator.generator.SinkGenerator;
+import com.github.eddranca.datagenerator.generator.ValueSink;
 import net.datafaker.Faker;
 
-public class StringGenerator implements Generator {
+public class StringGenerator implements SinkGenerator {
     public static final String LENGTH = "length";
     public static final String MIN_LENGTH = "minLength";
     public static final String MAX_LENGTH = "maxLength";
@@ -23,44 +23,62 @@ public class StringGenerator implements Generator {
     }
 
     @Override
-    public JsonNode generate(GeneratorContext context) {
-        Faker faker = context.faker();
-        ObjectMapper mapper = context.mapper();
+    public void generateInto(GeneratorContext context, ValueSink sink) {
+        compile(context.options()).generateInto(context, sink);
+    }
+
+    /**
+     * Reads and validates the length and character options once.
+     */
+    @Override
+    public SinkGenerator compile(JsonNode options) {
+        GeneratorContext optionsContext = GeneratorContext.ofOptions(options);
 
         // Parse configuration options
-        String allowedChars = context.getStringOption(ALLOWED_CHARS);
+        String allowedChars = optionsContext.getStringOption(ALLOWED_CHARS);
         if (allowedChars == null) allowedChars = DEFAULT_CHARS;
 
-        int maxLength = context.getIntOption(MAX_LENGTH, 20);
-        int minLength = context.getIntOption(MIN_LENGTH, 1);
+        int maxLength = optionsContext.getIntOption(MAX_LENGTH, 20);
+        int minLength = optionsContext.getIntOption(MIN_LENGTH, 1);
 
         if (minLength < 0) {
             throw new IllegalArgumentException("minLength cannot be negative");
         }
 
-        int length;
-        JsonNode options = context.options();
+        int length = -1; // drawn between minLength and maxLength for each value
         if (options != null && options.has(LENGTH)) {
-            length = context.getIntOption(LENGTH, 10);
+            length = optionsContext.getIntOption(LENGTH, 10);
             if (length < 0) {
                 throw new IllegalArgumentException("length cannot be negative");
             }
         } else {
             minLength = Math.min(minLength, maxLength);
-            length = faker.number().numberBetween(minLength, maxLength + 1);
         }
 
-        // Generate string using allowed characters
-        String regexPattern = context.getStringOption(REGEX);
-        if (regexPattern == null) {
-            StringBuilder result = new StringBuilder();
-            for (int i = 0; i < length; i++) {
+        return new CompiledStringGenerator(allowedChars, length, minLength, maxLength,
+            optionsContext.getStringOption(REGEX));
+    }
+
+    private record CompiledStringGenerator(String allowedChars, int length, int minLength, int maxLength,
+                                           String regexPattern) implements SinkGenerator {
+
+        @Override
+        public void generateInto(GeneratorContext context, ValueSink sink) {
+            Faker faker = context.faker();
+            int valueLength = length >= 0 ? length : faker.number().numberBetween(minLength, maxLength + 1);
+
+            if (regexPattern != null) {
+                sink.writeString(faker.regexify(regexPattern));
+                return;
+            }
+
+            // Generate string using allowed characters
+            StringBuilder result = new StringBuilder(valueLength);
+            for (int i = 0; i < valueLength; i++) {
                 int randomIndex = faker.number().numberBetween(0, allowedChars.length());
                 result.append(allowedChars.charAt(randomIndex));
             }
-            return mapper.valueToTree(result.toString());
+            sink.writeString(result.toString());
         }
-
-        return mapper.valueToTree(faker.regexify(regexPattern));
     }
 }
@@ -1,15 +1,14 @@
 package com.github.eddranca.datagenerator.generator.defaults;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.eddranca.datagenerator.generator.Generator;
 import com.github.eddranca.datagenerator.generator.GeneratorContext;
 import com.github.eddranca.datagenerator.generator.GeneratorOptionSpec;
+import com.github.eddranca.datagenerator.generator.SinkGenerator;
+import com.github.eddranca.datagenerator.generator.ValueSink;
 import net.datafaker.Faker;
 
 import java.util.UUID;
 
-public class UuidGenerator implements Generator {
+public class UuidGenerator implements SinkGenerator {
 
     @Override
     public GeneratorOptionSpec getOptionSpec() {
@@ -17,13 +16,12 @@ public class UuidGenerator implements Generator {
     }
 
     @Override
-    public JsonNode generate(GeneratorContext context) {
+    public void generateInto(GeneratorContext context, ValueSink sink) {
         // Create a deterministic UUID using the context's faker random
         Faker faker = context.faker();
-        ObjectMapper mapper = context.mapper();
         long mostSigBits = faker.random().nextLong();
         long leastSigBits = faker.random().nextLong();
         UUID uuid = new UUID(mostSigBits, leastSigBits);
-        return mapper.valueToTree(uuid.toString());
+        sink.writeString(uuid.toString());
     }
 }
@@ -44,10 +44,11 @@ public class ArrayFieldReferenceNode extends AbstractReferenceNode {
 
     @Override
     public JsonNode resolve(AbstractGenerationContext<?> context, JsonNode currentItem, List<JsonNode> filterValues) {
-        // Use cached filtered collection for array field references
-        List<JsonNode> collection = context.getFilteredCollectionForArrayField(collectionName, fieldName, filterValues);
+        // Select an element that isn't filtered out
+        JsonNode selected = context.selectFromFilteredCollectionForArrayField(
+            collectionName, fieldName, filterValues, this, sequential);
 
-        if (collection.isEmpty()) {
+        if (selected == null) {
             if (filterValues != null && !filterValues.isEmpty()) {
                 return context.handleFilteringFailure(
                     "Array field reference '" + getReferenceString() + "' has no valid values after filtering");
@@ -55,8 +56,7 @@ public class ArrayFieldReferenceNode extends AbstractReferenceNode {
             return context.getMapper().nullNode();
         }
 
-        // Select an element and extract the field (supporting nested paths)
-        JsonNode selected = context.getElementFromCollection(collection, this, sequential);
+        // Extract the field (supporting nested paths)
         JsonNode fieldValue = extractNestedField(selected, fieldName);
 
         return fieldValue.isMissingNode() ? context.getMapper().nullNode() : fieldValue;
@@ -1,5 +1,7 @@
 package com.github.eddranca.datagenerator.node;
 
+import com.github.eddranca.datagenerator.generator.defaults.ChoiceGenerator;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -14,6 +16,7 @@ public class ChoiceFieldNode implements DslNode {
     private final List<DslNode> options;
     private final List<Double> weights;
     private final List<FilterNode> filters;
+    private final ChoiceGenerator choiceGenerator;
 
     /**
      * Creates a ChoiceFieldNode with equal weights for all options.
@@ -43,6 +46,8 @@ public class ChoiceFieldNode implements DslNode {
             .anyMatch(w -> w == null || w <= 0)) {
             throw new IllegalArgumentException("All weights must be positive numbers");
         }
+
+        this.choiceGenerator = ChoiceGenerator.withWeights(this.weights);
     }
 
     /**
@@ -80,6 +85,13 @@ public class ChoiceFieldNode implements DslNode {
         return weights != null;
     }
 
+    /**
+     * Returns the generator selecting among the generated options, compiled for these weights.
+     */
+    public ChoiceGenerator getChoiceGenerator() {
+        return choiceGenerator;
+    }
+
     public List<FilterNode> getFilters() {
         return filters;
     }
@@ -4,11 +4,15 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.github.eddranca.datagenerator.util.JsonNodeUtils;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 /**
  * Represents a comparison condition for conditional references.
  * Supports = and != operators.
+ * <p>
+ * Conditions are compared by value, so conditions resolved from shadow bindings to the same
+ * values are equal.
  */
 public class ComparisonCondition implements Condition {
     private final String fieldPath;
@@ -115,6 +119,24 @@ public class ComparisonCondition implements Condition {
         return Set.of(fieldPath);
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ComparisonCondition that)) {
+            return false;
+        }
+        return fieldPath.equals(that.fieldPath)
+            && operator == that.operator
+            && Objects.equals(expectedValue, that.expectedValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fieldPath, operator, expectedValue);
+    }
+
     private boolean matchesValue(JsonNode actualNode, Object expectedValue) {
         if (actualNode.isMissingNode() || actualNode.isNull()) {
             return expectedValue == null;
@@ -53,15 +53,17 @@ public class ConditionalReferenceNode extends AbstractReferenceNode {
 
     @Override
     public JsonNode resolve(AbstractGenerationContext<?> context, JsonNode currentItem, List<JsonNode> filterValues) {
-        // Use cached filtered collection (handles both condition and filter values)
-        List<JsonNode> filteredCollection = context.getFilteredCollection(
+        // Select a matching element that isn't filtered out
+        JsonNode selected = context.selectFromFilteredCollection(
             getCollectionNameString(),
             condition,
             filterValues,
-            hasFieldName() ? fieldName : ""
+            hasFieldName() ? fieldName : "",
+            this,
+            sequential
         );
 
-        if (filteredCollection.isEmpty()) {
+        if (selected == null) {
             if (filterValues != null && !filterValues.isEmpty()) {
                 return context.handleFilteringFailure("Conditional reference '" + getReferenceString() + "' has no valid values after filtering");
             } else {
@@ -69,9 +71,6 @@ public class ConditionalReferenceNode extends AbstractReferenceNode {
             }
         }
 
-        // Select an element
-        JsonNode selected = context.getElementFromCollection(filteredCollection, this, sequential);
-
         // Extract field if specified (supporting nested paths)
         return hasFieldName() ? extractNestedField(selected, fieldName) : selected;
     }
@@ -1,5 +1,7 @@
 package com.github.eddranca.datagenerator.node;
 
+import com.github.eddranca.datagenerator.generator.Generator;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,12 +15,19 @@ public class GeneratedFieldNode implements DslNode {
     private final GeneratorOptions options;
     private final String path; // for dot notation like "name.firstName"
     private final List<FilterNode> filters;
+    private final Generator compiledGenerator; // bound to the static options, null if not compiled
 
     public GeneratedFieldNode(String generatorName, GeneratorOptions options, String path, List<FilterNode> filters) {
+        this(generatorName, options, path, filters, null);
+    }
+
+    public GeneratedFieldNode(String generatorName, GeneratorOptions options, String path, List<FilterNode> filters,
+                              Generator compiledGenerator) {
         this.generatorName = generatorName;
         this.options = options;
         this.path = path;
         this.filters = new ArrayList<>(filters);
+        this.compiledGenerator = compiledGenerator;
     }
 
     public String getGeneratorName() {
@@ -45,6 +54,16 @@ public class GeneratedFieldNode implements DslNode {
         return !filters.isEmpty();
     }
 
+    /**
+     * Returns the generator compiled for this field's static options when the DSL was built.
+     *
+     * @return the compiled generator, or null if the field has runtime options or wasn't compiled
+     * @see Generator#compile(com.fasterxml.jackson.databind.JsonNode)
+     */
+    public Generator getCompiledGenerator() {
+        return compiledGenerator;
+    }
+
     @Override
     public <T> T accept(DslNodeVisitor<T> visitor) {
         return visitor.visitGeneratedField(this);
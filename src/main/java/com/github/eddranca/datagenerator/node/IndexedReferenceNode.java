@@ -110,7 +110,7 @@ public class IndexedReferenceNode extends AbstractReferenceNode {
         List<JsonNode> collection = context.getCollection(collectionName);
 
         if (isWildcardIndex()) {
-            return resolveWildcardIndex(context, collection, filterValues);
+            return resolveWildcardIndex(context, filterValues);
         } else if (isRangeIndex) {
             return resolveRangeIndex(context, collection, filterValues);
         } else {
@@ -118,21 +118,16 @@ public class IndexedReferenceNode extends AbstractReferenceNode {
         }
     }
 
-    private JsonNode resolveWildcardIndex(AbstractGenerationContext<?> context, List<JsonNode> collection, List<JsonNode> filterValues) {
-        // Use cached filtered collection for wildcard index
-        if (filterValues != null && !filterValues.isEmpty()) {
-            collection = context.getFilteredCollection(collectionName, null, filterValues, hasFieldName() ? fieldName : "");
-            if (collection.isEmpty()) {
+    private JsonNode resolveWildcardIndex(AbstractGenerationContext<?> context, List<JsonNode> filterValues) {
+        // Select an element that isn't filtered out
+        JsonNode selected = context.selectFromFilteredCollection(
+            collectionName, null, filterValues, hasFieldName() ? fieldName : "", this, sequential);
+        if (selected == null) {
+            if (filterValues != null && !filterValues.isEmpty()) {
                 return context.handleFilteringFailure(ERROR_PREFIX + getReferenceString() + "' has no valid values after filtering");
             }
-        }
-
-        if (collection.isEmpty()) {
             return context.getMapper().nullNode();
         }
-
-        // Select an element
-        JsonNode selected = context.getElementFromCollection(collection, this, sequential);
         return hasFieldName() ? extractNestedField(selected, fieldName) : selected;
     }
 
@@ -6,12 +6,15 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Represents a logical condition that combines multiple conditions.
  * Supports AND and OR operators.
+ * <p>
+ * Conditions are compared by value: same operator and equal conditions in the same order.
  */
 public class LogicalCondition implements Condition {
     
@@ -76,6 +79,22 @@ public class LogicalCondition implements Condition {
         return paths;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof LogicalCondition that)) {
+            return false;
+        }
+        return type == that.type && conditions.equals(that.conditions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, conditions);
+    }
+
     @Override
     public boolean hasShadowBindingReferences() {
         return conditions.stream().anyMatch(Condition::hasShadowBindingReferences);
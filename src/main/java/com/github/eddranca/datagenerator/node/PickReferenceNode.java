@@ -21,6 +21,10 @@ public class PickReferenceNode extends AbstractReferenceNode {
         this.fieldName = fieldName != null ? fieldName : "";
     }
 
+    public String getPickName() {
+        return pickName;
+    }
+
     public boolean hasFieldName() {
         return !fieldName.isEmpty();
     }
@@ -1,5 +1,7 @@
 package com.github.eddranca.datagenerator.node;
 
+import java.util.Objects;
+
 /**
  * Represents a reference to a shadow binding value in a condition.
  * Used in conditional references like: products[regionId=$user.regionId].id
@@ -55,6 +57,22 @@ public class ShadowBindingReference {
         return fieldPath;
     }
 
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ShadowBindingReference that)) {
+            return false;
+        }
+        return bindingName.equals(that.bindingName) && fieldPath.equals(that.fieldPath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bindingName, fieldPath);
+    }
+
     @Override
     public String toString() {
         return bindingName + "." + fieldPath;
@@ -41,25 +41,16 @@ public class SimpleReferenceNode extends AbstractReferenceNode {
 
     @Override
     public JsonNode resolve(AbstractGenerationContext<?> context, JsonNode currentItem, List<JsonNode> filterValues) {
-        // Use cached filtered collection if filtering is needed
-        List<JsonNode> collection;
-        if (filterValues != null && !filterValues.isEmpty()) {
-            collection = context.getFilteredCollection(collectionName, null, filterValues, hasFieldName() ? fieldName : "");
-            if (collection.isEmpty()) {
+        // Select an element that isn't filtered out
+        JsonNode selected = context.selectFromFilteredCollection(
+            collectionName, null, filterValues, hasFieldName() ? fieldName : "", this, sequential);
+        if (selected == null) {
+            if (filterValues != null && !filterValues.isEmpty()) {
                 return context.handleFilteringFailure("Simple reference '" + getReferenceString() + "' has no valid values after filtering");
             }
-        } else {
-            // No filtering needed, get collection directly
-            collection = context.getCollection(collectionName);
-        }
-
-        if (collection.isEmpty()) {
             return context.getMapper().nullNode();
         }
 
-        // Select an element
-        JsonNode selected = context.getElementFromCollection(collection, this, sequential);
-
         // Extract field if specified (supporting nested paths)
         return hasFieldName() ? extractNestedField(selected, fieldName) : selected;
     }
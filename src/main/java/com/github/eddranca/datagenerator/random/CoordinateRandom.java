@@ -0,0 +1,157 @@
+package com.github.eddranca.datagenerator.random;
+
+import java.util.Random;
+
+/**
+ * Random source whose stream is positioned per generated item instead of advancing
+ * through one shared sequence.
+ * <p>
+ * Every thread keeps its own stream state, so items can be generated on any thread and
+ * in any order while still drawing the same values: after {@link #positionAt(String, long)}
+ * the stream depends only on the base seed, the collection name and the item index.
+ * {@link #positionAtField(String)} further narrows the stream to one field of the current
+ * item, so adding or removing a field does not shift the values of the others.
+ * Values are produced by a SplitMix64 counter; subclasses can plug in another generator
+ * by overriding {@link #seedStream(long)} and {@link #nextLong()}.
+ * <p>
+ * Because it extends {@link Random}, an instance can be handed to Datafaker and to the
+ * generation context unchanged; all derived methods ({@code nextInt(bound)},
+ * {@code nextDouble()}, ...) go through {@link #next(int)} or {@link #nextLong()}.
+ */
+public class CoordinateRandom extends Random {
+    private static final long serialVersionUID = 1L;
+    private static final int COUNTER = 0;
+    private static final int ITEM_SEED = 1;
+
+    private volatile long baseSeed;
+    private final transient ThreadLocal<long[]> streamState = ThreadLocal.withInitial(() -> new long[2]);
+
+    public CoordinateRandom(long seed) {
+        super(seed);
+    }
+
+    /**
+     * Sets the base seed from which all item streams are derived.
+     * Also called by the {@link Random} constructor, before instance fields are initialized.
+     */
+    @Override
+    public void setSeed(long seed) {
+        this.baseSeed = seed;
+    }
+
+    public long getBaseSeed() {
+        return baseSeed;
+    }
+
+    /**
+     * Positions the calling thread's stream at the start of the given item.
+     *
+     * @param collection the collection name
+     * @param index      the item index within the collection
+     */
+    public void positionAt(String collection, long index) {
+        long itemSeed = SplitMix64.itemSeed(baseSeed, collection, index);
+        streamState.get()[ITEM_SEED] = itemSeed;
+        seedStream(itemSeed);
+    }
+
+    /**
+     * Positions the calling thread's stream at the start of a field of the current item.
+     *
+     * @param fieldPath the dot-separated path of the field within the item
+     */
+    public void positionAtField(String fieldPath) {
+        seedStream(SplitMix64.fieldSeed(streamState.get()[ITEM_SEED], fieldPath));
+    }
+
+    /**
+     * Captures the calling thread's stream position, so that another coordinate can be
+     * generated in between and the stream resumed afterwards.
+     *
+     * @return the current position
+     * @see #restorePosition(Position)
+     */
+    public Position capturePosition() {
+        long[] state = streamState.get();
+        return new Position(state[COUNTER], state[ITEM_SEED], captureStream());
+    }
+
+    /**
+     * Restores a position captured on the calling thread.
+     *
+     * @param position the position returned by {@link #capturePosition()}
+     */
+    public void restorePosition(Position position) {
+        long[] state = streamState.get();
+        state[COUNTER] = position.counter;
+        state[ITEM_SEED] = position.itemSeed;
+        restoreStream(position.stream);
+    }
+
+    /**
+     * Returns subclass-specific stream state to include in a {@link Position}.
+     */
+    protected Object captureStream() {
+        return null;
+    }
+
+    /**
+     * Restores subclass-specific stream state captured by {@link #captureStream()}.
+     */
+    protected void restoreStream(Object stream) {
+        // The counter is the whole stream state
+    }
+
+    /**
+     * Restarts the calling thread's stream from the given seed.
+     *
+     * @param streamSeed the seed of the new stream
+     */
+    protected void seedStream(long streamSeed) {
+        streamState.get()[COUNTER] = streamSeed;
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public long nextLong() {
+        long[] state = streamState.get();
+        state[COUNTER] += SplitMix64.GOLDEN_GAMMA;
+        return SplitMix64.mix(state[COUNTER]);
+    }
+
+    /**
+     * Gaussian values are computed without the cached second value kept by {@link Random},
+     * since that cache would be shared between threads.
+     */
+    @Override
+    public double nextGaussian() {
+        double v1;
+        double v2;
+        double s;
+        do {
+            v1 = 2 * nextDouble() - 1;
+            v2 = 2 * nextDouble() - 1;
+            s = v1 * v1 + v2 * v2;
+        } while (s >= 1 || s == 0);
+        return v1 * StrictMath.sqrt(-2 * StrictMath.log(s) / s);
+    }
+
+    /**
+     * Opaque stream position of one thread, see {@link #capturePosition()}.
+     */
+    public static final class Position {
+        private final long counter;
+        private final long itemSeed;
+        private final Object stream;
+
+        private Position(long counter, long itemSeed, Object stream) {
+            this.counter = counter;
+            this.itemSeed = itemSeed;
+            this.stream = stream;
+        }
+    }
+}
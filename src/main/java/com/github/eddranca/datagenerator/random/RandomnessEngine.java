@@ -0,0 +1,53 @@
+package com.github.eddranca.datagenerator.random;
+
+import java.util.Random;
+
+/**
+ * Creates the random source used for a generation.
+ * <p>
+ * The returned {@link Random} is shared by the generation context and by Datafaker.
+ * Engines returning a {@link CoordinateRandom} get per-coordinate streams: the generation
+ * positions the stream at every (collection, item index, field path) before generating
+ * it, so each value can be computed independently of everything generated before it.
+ * This is required for parallel generation.
+ * <p>
+ * Built-in engines:
+ * <ul>
+ *   <li>{@link #sequential()} - one {@link Random} sequence for the whole generation (default)</li>
+ *   <li>{@link #splitMix64()} - counter-based SplitMix64 streams per coordinate</li>
+ *   <li>{@link #splittable()} - {@link java.util.SplittableRandom} streams per coordinate</li>
+ * </ul>
+ */
+@FunctionalInterface
+public interface RandomnessEngine {
+
+    /**
+     * Creates the random source for a generation.
+     *
+     * @param seed the generation seed
+     * @return the random source
+     */
+    Random createRandom(long seed);
+
+    /**
+     * Returns an engine drawing every value from a single {@link Random} sequence.
+     * Each value depends on all values generated before it.
+     */
+    static RandomnessEngine sequential() {
+        return Random::new;
+    }
+
+    /**
+     * Returns a counter-based engine deriving a SplitMix64 stream for every coordinate.
+     */
+    static RandomnessEngine splitMix64() {
+        return CoordinateRandom::new;
+    }
+
+    /**
+     * Returns an engine deriving a {@link java.util.SplittableRandom} for every coordinate.
+     */
+    static RandomnessEngine splittable() {
+        return SplittableCoordinateRandom::new;
+    }
+}
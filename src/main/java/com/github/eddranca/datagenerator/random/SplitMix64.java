@@ -0,0 +1,74 @@
+package com.github.eddranca.datagenerator.random;
+
+/**
+ * SplitMix64 mixing functions used to derive independent random streams from
+ * a base seed and a generation coordinate.
+ * <p>
+ * The finalizer is the one used by {@link java.util.SplittableRandom}: consecutive
+ * inputs produce statistically independent outputs, which makes it suitable both as
+ * a counter-based generator and as a seed derivation function.
+ */
+public final class SplitMix64 {
+    /**
+     * Odd constant added to the counter on every step (the 64-bit golden ratio).
+     */
+    public static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private SplitMix64() {
+    }
+
+    /**
+     * Applies the SplitMix64 finalizer to a 64-bit value.
+     *
+     * @param z the value to mix
+     * @return the mixed value
+     */
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Computes a stable 64-bit hash of a string (FNV-1a over UTF-16 code units).
+     * The result does not depend on the JVM or on {@link String#hashCode()}.
+     *
+     * @param value the string to hash
+     * @return the hash value
+     */
+    public static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Derives the initial stream state for one item of a collection.
+     *
+     * @param seed       the base seed of the generation
+     * @param collection the collection name
+     * @param index      the item index within the collection
+     * @return the stream state for the item
+     */
+    public static long itemSeed(long seed, String collection, long index) {
+        long collectionSeed = mix(seed ^ mix(hash(collection)));
+        return mix(collectionSeed + index * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Derives the stream state for one field of an item.
+     *
+     * @param itemSeed  the stream state of the item, see {@link #itemSeed(long, String, long)}
+     * @param fieldPath the dot-separated path of the field within the item
+     * @return the stream state for the field
+     */
+    public static long fieldSeed(long itemSeed, String fieldPath) {
+        return mix(itemSeed ^ mix(hash(fieldPath) + GOLDEN_GAMMA));
+    }
+}
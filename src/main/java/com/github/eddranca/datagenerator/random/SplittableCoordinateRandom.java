@@ -0,0 +1,90 @@
+package com.github.eddranca.datagenerator.random;
+
+import java.util.SplittableRandom;
+
+/**
+ * {@link CoordinateRandom} whose per-coordinate streams are produced by
+ * {@link SplittableRandom} instead of a plain SplitMix64 counter.
+ * <p>
+ * Coordinates are derived exactly as in {@link CoordinateRandom}; each positioning creates
+ * a new {@link SplittableRandom} for the calling thread, seeded with the coordinate's seed.
+ * Integer, bounded and floating point values use {@link SplittableRandom}'s own algorithms.
+ */
+public class SplittableCoordinateRandom extends CoordinateRandom {
+    private static final long serialVersionUID = 1L;
+
+    private final transient ThreadLocal<SplittableRandom[]> streams =
+        ThreadLocal.withInitial(() -> new SplittableRandom[]{new SplittableRandom(getBaseSeed())});
+
+    public SplittableCoordinateRandom(long seed) {
+        super(seed);
+    }
+
+    @Override
+    protected void seedStream(long streamSeed) {
+        streams.get()[0] = new SplittableRandom(streamSeed);
+    }
+
+    /**
+     * Positioning never mutates an existing {@link SplittableRandom}, so keeping a reference
+     * to it is enough to resume it later.
+     */
+    @Override
+    protected Object captureStream() {
+        return stream();
+    }
+
+    @Override
+    protected void restoreStream(Object stream) {
+        streams.get()[0] = (SplittableRandom) stream;
+    }
+
+    private SplittableRandom stream() {
+        return streams.get()[0];
+    }
+
+    @Override
+    protected int next(int bits) {
+        return stream().nextInt() >>> (32 - bits);
+    }
+
+    @Override
+    public int nextInt() {
+        return stream().nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return stream().nextInt(bound);
+    }
+
+    @Override
+    public int nextInt(int origin, int bound) {
+        return stream().nextInt(origin, bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return stream().nextLong();
+    }
+
+    @Override
+    public long nextLong(long bound) {
+        return stream().nextLong(bound);
+    }
+
+    @Override
+    public long nextLong(long origin, long bound) {
+        return stream().nextLong(origin, bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return stream().nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return stream().nextBoolean();
+    }
+}
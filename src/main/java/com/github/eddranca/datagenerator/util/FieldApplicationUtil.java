@@ -23,7 +23,20 @@ public class FieldApplicationUtil {
      * @param value the generated value for the field
      */
     public static void applyFieldToObject(ObjectNode target, String fieldName, DslNode fieldNode, JsonNode value) {
-        if (fieldNode instanceof SpreadFieldNode || fieldNode instanceof ReferenceSpreadFieldNode) {
+        applyFieldToObject(target, fieldName, isSpread(fieldNode), value);
+    }
+
+    /**
+     * Applies a field value to an object, for callers that resolved once whether the field
+     * is a spread field.
+     *
+     * @param target the object node to apply the field to
+     * @param fieldName the name of the field being applied
+     * @param spread whether the field is a spread field, see {@link #isSpread(DslNode)}
+     * @param value the generated value for the field
+     */
+    public static void applyFieldToObject(ObjectNode target, String fieldName, boolean spread, JsonNode value) {
+        if (spread) {
             // Spread fields return an object to merge
             if (value != null && value.isObject()) {
                 ObjectNode spreadObj = (ObjectNode) value;
@@ -35,6 +48,17 @@ public class FieldApplicationUtil {
         }
     }
 
+    /**
+     * Whether a field merges the properties of its value into the object instead of being set
+     * as a single field.
+     *
+     * @param fieldNode the DSL node representing the field
+     * @return true for spread fields
+     */
+    public static boolean isSpread(DslNode fieldNode) {
+        return fieldNode instanceof SpreadFieldNode || fieldNode instanceof ReferenceSpreadFieldNode;
+    }
+
     private FieldApplicationUtil() {
         // Utility class - prevent instantiation
     }
@@ -0,0 +1,37 @@
+package com.github.eddranca.datagenerator.util;
+
+/**
+ * Limits of multi-row SQL INSERT statements.
+ * <p>
+ * Rows are added to a statement until it holds {@code rowsPerStatement} rows or the next row
+ * would make it longer than {@code maxStatementBytes} UTF-8 bytes. A row that exceeds the byte
+ * limit on its own gets a statement of its own.
+ *
+ * @param rowsPerStatement  maximum rows per statement
+ * @param maxStatementBytes maximum statement length in UTF-8 bytes
+ */
+public record SqlBatchOptions(int rowsPerStatement, int maxStatementBytes) {
+    /**
+     * Byte limit used by {@link #ofRows(int)}, well below the packet limits of common databases.
+     */
+    public static final int DEFAULT_MAX_STATEMENT_BYTES = 1 << 20;
+
+    public SqlBatchOptions {
+        if (rowsPerStatement <= 0) {
+            throw new IllegalArgumentException("Rows per statement must be positive, got: " + rowsPerStatement);
+        }
+        if (maxStatementBytes <= 0) {
+            throw new IllegalArgumentException("Max statement bytes must be positive, got: " + maxStatementBytes);
+        }
+    }
+
+    /**
+     * Creates options with the given number of rows per statement and the default byte limit.
+     *
+     * @param rowsPerStatement maximum rows per statement
+     * @return the batch options
+     */
+    public static SqlBatchOptions ofRows(int rowsPerStatement) {
+        return new SqlBatchOptions(rowsPerStatement, DEFAULT_MAX_STATEMENT_BYTES);
+    }
+}
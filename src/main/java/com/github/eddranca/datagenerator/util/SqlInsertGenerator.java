@@ -1,24 +1,25 @@
 package com.github.eddranca.datagenerator.util;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.eddranca.datagenerator.exception.SerializationException;
 
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-import java.util.StringJoiner;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Utility class for generating SQL INSERT statements from JsonNode data.
  * Supports field projections and data type-aware formatting.
+ * <p>
+ * Rows of the same table are best formatted with a single {@link SqlRowFormatter}, which
+ * resolves columns and encoders once; these methods create one per call or per stream.
  */
 public final class SqlInsertGenerator {
-    private static final Logger logger = Logger.getLogger(SqlInsertGenerator.class.getName());
-    private static final ObjectMapper mapper = new ObjectMapper();
 
     private SqlInsertGenerator() {
         // Utility class
@@ -46,121 +47,126 @@ public final class SqlInsertGenerator {
      * @throws SerializationException if JSON serialization fails for complex objects
      */
     public static String generateSqlInsert(String tableName, JsonNode item, SqlProjection projection) {
-        StringBuilder sql = new StringBuilder("INSERT INTO ");
-        sql.append(tableName).append(" (");
-
-        StringJoiner columns = new StringJoiner(", ");
-        StringJoiner values = new StringJoiner(", ");
-        Set<String> complexFields = new HashSet<>();
-
-        for (Map.Entry<String, JsonNode> field : item.properties()) {
-            String fieldName = field.getKey();
-            JsonNode val = field.getValue();
-
-            if (shouldSkipField(projection, fieldName)) {
-                continue;
-            }
-
-            columns.add(fieldName);
-            String sqlType = getSqlType(projection, fieldName);
-            String formattedValue = formatValue(val, sqlType, tableName, fieldName, complexFields);
-            values.add(formattedValue);
-        }
-
-        sql.append(columns).append(") VALUES (").append(values).append(");");
-        logComplexFields(tableName, complexFields);
-
-        return sql.toString();
+        return SqlRowFormatter.of(tableName, projection).formatInsert(item);
     }
 
-    private static boolean shouldSkipField(SqlProjection projection, String fieldName) {
-        return projection != null && !projection.shouldIncludeField(fieldName);
+    /**
+     * Generates SQL INSERT statements for a stream of items, sharing one formatter so columns
+     * and encoders are resolved once per table.
+     *
+     * @param tableName  the name of the table
+     * @param items      the items, one statement each
+     * @param projection optional projection for field filtering and type mapping
+     * @return stream of INSERT statements
+     * @throws SerializationException if JSON serialization fails for complex objects
+     */
+    public static Stream<String> generateSqlInserts(String tableName, Stream<JsonNode> items, SqlProjection projection) {
+        SqlRowFormatter formatter = SqlRowFormatter.of(tableName, projection);
+        return items.map(formatter::formatInsert);
     }
 
-    private static String getSqlType(SqlProjection projection, String fieldName) {
-        return projection != null ? projection.getFieldType(fieldName) : null;
+    /**
+     * Generates multi-row SQL INSERT statements for a stream of items.
+     *
+     * <p>
+     * The column list is computed once from the first row (restricted to the projection's
+     * fields) and reused while rows have the same columns. A row with different columns
+     * starts a new statement with its own column list. Statements are produced lazily
+     * as the returned stream is consumed.
+     *
+     * @param tableName  the name of the table
+     * @param items      the items, one row each
+     * @param projection optional projection for field filtering and type mapping
+     * @param options    the row and byte limits of a statement
+     * @return stream of multi-row INSERT statements
+     * @throws SerializationException if JSON serialization fails for complex objects
+     */
+    public static Stream<String> generateSqlInsertBatches(String tableName, Stream<JsonNode> items,
+                                                          SqlProjection projection, SqlBatchOptions options) {
+        BatchIterator batches = new BatchIterator(SqlRowFormatter.of(tableName, projection), items.iterator(), options);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED), false)
+            .onClose(items::close);
     }
 
-    private static String formatValue(JsonNode val, String sqlType, String tableName, String fieldName, Set<String> complexFields) {
-        if (val.isNull()) {
-            return "NULL";
-        }
-        if (val.isNumber()) {
-            return formatNumericValue(val);
-        }
-        if (val.isBoolean()) {
-            return formatBooleanValue(val, sqlType);
-        }
-        if (val.isTextual()) {
-            return formatTextValue(val.asText(), sqlType);
-        }
-        if (val.isObject() || val.isArray()) {
-            return formatComplexValue(val, sqlType, tableName, fieldName, complexFields);
+    /**
+     * Groups formatted rows into statements. Rows are formatted one ahead, so a row that
+     * doesn't fit the current statement opens the next one.
+     */
+    private static final class BatchIterator implements Iterator<String> {
+        private final SqlRowFormatter formatter;
+        private final Iterator<JsonNode> items;
+        private final SqlBatchOptions options;
+        private final StringBuilder rowBuffer = new StringBuilder();
+        private String row;
+        private boolean rowStartsStatement;
+
+        BatchIterator(SqlRowFormatter formatter, Iterator<JsonNode> items, SqlBatchOptions options) {
+            this.formatter = formatter;
+            this.items = items;
+            this.options = options;
         }
-        return formatTextValue(val.asText(), sqlType);
-    }
 
-    private static String formatComplexValue(JsonNode val, String sqlType, String tableName, String fieldName, Set<String> complexFields) {
-        complexFields.add(fieldName);
-        try {
-            String jsonString = mapper.writeValueAsString(val);
-            return formatTextValue(jsonString, sqlType);
-        } catch (JsonProcessingException e) {
-            logger.log(Level.SEVERE,
-                "Failed to serialize complex object to JSON for table ''{0}'', field ''{1}''",
-                new Object[]{tableName, fieldName});
-            throw new SerializationException("Failed to serialize complex object to JSON", e);
+        @Override
+        public boolean hasNext() {
+            return row != null || items.hasNext();
         }
-    }
 
-    private static void logComplexFields(String tableName, Set<String> complexFields) {
-        if (!complexFields.isEmpty()) {
-            logger.log(Level.WARNING,
-                "Complex objects detected in table ''{0}'', fields: {1}. " +
-                    "Converting to JSON string representation for SQL insert. " +
-                    "Consider using a database with native JSON support for optimal performance.",
-                new Object[]{tableName, String.join(", ", complexFields)});
-        }
-    }
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (row == null) {
+                readRow();
+            }
 
-    /**
-     * Formats a numeric value.
-     */
-    private static String formatNumericValue(JsonNode val) {
-        return val.asText();
-    }
+            String prefix = formatter.prefix();
+            StringBuilder sql = new StringBuilder(prefix).append(row);
+            // Account for the closing semicolon up front
+            long bytes = utf8Length(prefix) + utf8Length(row) + 1L;
+            int rows = 1;
+            row = null;
+            while (rows < options.rowsPerStatement() && items.hasNext()) {
+                readRow();
+                long rowBytes = utf8Length(row) + 2L;
+                if (rowStartsStatement || bytes + rowBytes > options.maxStatementBytes()) {
+                    break;
+                }
+                sql.append(", ").append(row);
+                bytes += rowBytes;
+                rows++;
+                row = null;
+            }
+            return sql.append(';').toString();
+        }
 
-    /**
-     * Formats a boolean value based on SQL type.
-     */
-    private static String formatBooleanValue(JsonNode val, String sqlType) {
-        if (sqlType != null) {
-            String upperType = sqlType.toUpperCase();
-            // Handle different boolean representations
-            if (upperType.contains("TINYINT") || upperType.contains("INT")) {
-                return val.asBoolean() ? "1" : "0";
+        /**
+         * Formats the next item, noting whether its columns differ from the previous row's.
+         */
+        private void readRow() {
+            rowStartsStatement = formatter.prepare(items.next());
+            rowBuffer.setLength(0);
+            try {
+                formatter.appendPreparedRow(rowBuffer);
+            } catch (IOException e) {
+                // StringBuilder doesn't throw
+                throw new UncheckedIOException(e);
             }
+            row = rowBuffer.toString();
         }
-        return val.asText();
     }
 
-    /**
-     * Formats a text value based on SQL type.
-     * Handles special formatting for DATE, TIMESTAMP, and other types.
-     */
-    private static String formatTextValue(String text, String sqlType) {
-        String escaped = text.replace("'", "''");
-
-        if (sqlType != null) {
-            String upperType = sqlType.toUpperCase();
-
-            // For DATE and TIMESTAMP types, use appropriate SQL functions if needed
-            if (upperType.contains("DATE") || upperType.contains("TIMESTAMP")) {
-                // Keep as string literal - databases will handle conversion
-                return "'" + escaped + "'";
+    private static int utf8Length(String text) {
+        int length = text.length();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x800) {
+                // Surrogate pairs count 2 + 2, matching their 4-byte encoding
+                length += Character.isSurrogate(c) ? 1 : 2;
+            } else if (c >= 0x80) {
+                length++;
             }
         }
-
-        return "'" + escaped + "'";
+        return length;
     }
 }
@@ -0,0 +1,228 @@
+package com.github.eddranca.datagenerator.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.eddranca.datagenerator.exception.SerializationException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Formats the rows of one table as SQL INSERT statements.
+ * <p>
+ * Everything that is the same for every row is resolved once: the column list (from the first
+ * row, restricted to the projection's fields), the statement prefix and how each column encodes
+ * its values. Rows are appended straight to an {@link Appendable}, and a row with different
+ * columns recompiles the column list. Complex fields stored as JSON text are reported once per
+ * formatter instead of once per row.
+ * <p>
+ * Formatters keep per-table state and are not thread-safe.
+ */
+public final class SqlRowFormatter {
+    private static final Logger logger = Logger.getLogger(SqlRowFormatter.class.getName());
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final String[] NO_COLUMNS = new String[0];
+
+    private final String tableName;
+    private final SqlProjection projection;
+    private final Set<String> reportedComplexFields = new HashSet<>();
+    private final StringBuilder buffer = new StringBuilder();
+    private String[] columns = NO_COLUMNS;
+    private boolean[] integerColumns = new boolean[0];
+    private String prefix;
+    private JsonNode[] row = new JsonNode[0];
+
+    private SqlRowFormatter(String tableName, SqlProjection projection) {
+        this.tableName = tableName;
+        this.projection = projection;
+    }
+
+    /**
+     * Creates a formatter for a table.
+     *
+     * @param tableName  the name of the table
+     * @param projection optional projection for field filtering and type mapping
+     * @return a new formatter
+     */
+    public static SqlRowFormatter of(String tableName, SqlProjection projection) {
+        return new SqlRowFormatter(tableName, projection);
+    }
+
+    /**
+     * Appends the INSERT statement of an item, without a trailing line break.
+     *
+     * @param item the item to insert
+     * @param out  where to append the statement
+     * @throws IOException            if appending fails
+     * @throws SerializationException if JSON serialization fails for complex objects
+     */
+    public void appendInsert(JsonNode item, Appendable out) throws IOException {
+        prepare(item);
+        out.append(prefix);
+        appendPreparedRow(out);
+        out.append(';');
+    }
+
+    /**
+     * Returns the INSERT statement of an item, built in a buffer reused across calls.
+     *
+     * @param item the item to insert
+     * @return the INSERT statement
+     * @throws SerializationException if JSON serialization fails for complex objects
+     */
+    public String formatInsert(JsonNode item) {
+        buffer.setLength(0);
+        try {
+            appendInsert(item, buffer);
+        } catch (IOException e) {
+            // StringBuilder doesn't throw
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * Loads the projected values of an item in column order, recompiling the columns if the
+     * item's fields differ from the current ones.
+     *
+     * @return true if the columns changed
+     */
+    boolean prepare(JsonNode item) {
+        int index = 0;
+        boolean matches = true;
+        for (Map.Entry<String, JsonNode> field : item.properties()) {
+            String fieldName = field.getKey();
+            if (projection != null && !projection.shouldIncludeField(fieldName)) {
+                continue;
+            }
+            if (index >= columns.length || !columns[index].equals(fieldName)) {
+                matches = false;
+                break;
+            }
+            row[index++] = field.getValue();
+        }
+        if (matches && index == columns.length && prefix != null) {
+            return false;
+        }
+        compileColumns(item);
+        return true;
+    }
+
+    private void compileColumns(JsonNode item) {
+        String[] names = new String[item.size()];
+        JsonNode[] values = new JsonNode[item.size()];
+        int count = 0;
+        for (Map.Entry<String, JsonNode> field : item.properties()) {
+            if (projection == null || projection.shouldIncludeField(field.getKey())) {
+                names[count] = field.getKey();
+                values[count++] = field.getValue();
+            }
+        }
+        columns = Arrays.copyOf(names, count);
+        row = Arrays.copyOf(values, count);
+        integerColumns = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            String sqlType = projection != null ? projection.getFieldType(columns[i]) : null;
+            integerColumns[i] = sqlType != null && sqlType.toUpperCase().contains("INT");
+        }
+        prefix = "INSERT INTO " + tableName + " (" + String.join(", ", columns) + ") VALUES ";
+    }
+
+    /**
+     * Returns the statement prefix up to and including {@code VALUES }, for the current columns.
+     */
+    String prefix() {
+        return prefix;
+    }
+
+    /**
+     * Appends the values tuple of the prepared item, such as {@code (1, 'a')}.
+     */
+    void appendPreparedRow(Appendable out) throws IOException {
+        out.append('(');
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            appendValue(out, i, row[i]);
+        }
+        out.append(')');
+    }
+
+    private void appendValue(Appendable out, int column, JsonNode value) throws IOException {
+        if (value.isNull()) {
+            out.append("NULL");
+        } else if (value.isNumber()) {
+            out.append(value.asText());
+        } else if (value.isBoolean()) {
+            if (integerColumns[column]) {
+                out.append(value.booleanValue() ? '1' : '0');
+            } else {
+                out.append(value.booleanValue() ? "true" : "false");
+            }
+        } else if (value.isContainerNode()) {
+            reportComplexField(columns[column]);
+            appendQuoted(out, toJson(columns[column], value));
+        } else {
+            appendQuoted(out, value.asText());
+        }
+    }
+
+    private String toJson(String fieldName, JsonNode value) {
+        try {
+            return mapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            logger.log(Level.SEVERE,
+                "Failed to serialize complex object to JSON for table ''{0}'', field ''{1}''",
+                new Object[]{tableName, fieldName});
+            throw new SerializationException("Failed to serialize complex object to JSON", e);
+        }
+    }
+
+    private void reportComplexField(String fieldName) {
+        if (reportedComplexFields.add(fieldName)) {
+            logger.log(Level.WARNING,
+                "Complex objects detected in table ''{0}'', field: {1}. " +
+                    "Converting to JSON string representation for SQL insert. " +
+                    "Consider using a database with native JSON support for optimal performance.",
+                new Object[]{tableName, fieldName});
+        }
+    }
+
+    /**
+     * Appends a string literal, doubling single quotes.
+     */
+    private static void appendQuoted(Appendable out, String text) throws IOException {
+        out.append('\'');
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\'') {
+                appendRange(out, text, start, i + 1);
+                out.append('\'');
+                start = i + 1;
+            }
+        }
+        appendRange(out, text, start, text.length());
+        out.append('\'');
+    }
+
+    /**
+     * Appends part of a string without the substring that {@link Appendable#append(CharSequence, int, int)}
+     * creates for writers.
+     */
+    private static void appendRange(Appendable out, String text, int start, int end) throws IOException {
+        if (out instanceof Writer writer) {
+            writer.write(text, start, end - start);
+        } else {
+            out.append(text, start, end);
+        }
+    }
+}
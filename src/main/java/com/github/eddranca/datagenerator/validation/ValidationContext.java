@@ -1,5 +1,6 @@
 package com.github.eddranca.datagenerator.validation;
 
+import com.github.eddranca.datagenerator.generator.Generator;
 import com.github.eddranca.datagenerator.generator.GeneratorOptionSpec;
 import com.github.eddranca.datagenerator.generator.GeneratorRegistry;
 
@@ -57,6 +58,10 @@ public class ValidationContext {
         return registeredGenerators.contains(name);
     }
 
+    public Generator getGenerator(String name) {
+        return generatorRegistry.get(name);
+    }
+
     public GeneratorOptionSpec getGeneratorOptionSpec(String name) {
         return generatorRegistry.getOptionSpec(name);
     }
@@ -2,6 +2,7 @@ package com.github.eddranca.datagenerator.visitor;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.eddranca.datagenerator.CacheStatistics;
 import com.github.eddranca.datagenerator.FilteringBehavior;
 import com.github.eddranca.datagenerator.exception.FilteringException;
 import com.github.eddranca.datagenerator.generator.FilteringGeneratorAdapter;
@@ -9,15 +10,23 @@ import com.github.eddranca.datagenerator.generator.Generator;
 import com.github.eddranca.datagenerator.generator.GeneratorContext;
 import com.github.eddranca.datagenerator.generator.GeneratorRegistry;
 import com.github.eddranca.datagenerator.node.CollectionNode;
+import com.github.eddranca.datagenerator.node.ComparisonCondition;
 import com.github.eddranca.datagenerator.node.Condition;
+import com.github.eddranca.datagenerator.node.LogicalCondition;
 import com.github.eddranca.datagenerator.node.Sequential;
+import com.github.eddranca.datagenerator.random.CoordinateRandom;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 
 /**
  * Abstract base class for generation contexts that provides shared functionality
@@ -36,11 +45,19 @@ import java.util.Random;
  * @param <T> The type of items stored in collections (JsonNode for eager, LazyItemProxy for lazy)
  */
 public abstract class AbstractGenerationContext<T> {
+    /**
+     * Rejected samples in a row after which a filtered selection materializes the filtered
+     * collection instead.
+     */
+    private static final int MAX_REJECTIONS = 16;
+
     protected final GeneratorRegistry generatorRegistry;
     protected final Random random;
     protected final ObjectMapper mapper;
     protected final Map<Sequential, Integer> sequentialCounters;
-    protected final Map<FilteredCollectionKey, List<JsonNode>> filteredCollectionCache;
+    protected final FilteredCollectionCache filteredCollectionCache;
+    protected final Map<String, Map<String, EqualityIndex>> equalityIndexes;
+    protected final Map<String, Map<String, RangeIndex>> rangeIndexes;
     protected final int maxFilteringRetries;
     protected final FilteringBehavior filteringBehavior;
 
@@ -51,7 +68,10 @@ public abstract class AbstractGenerationContext<T> {
         this.mapper = new ObjectMapper();
         // IdentityHashMap for Sequential keys - object identity matters for per-node counters
         this.sequentialCounters = new IdentityHashMap<>();
-        this.filteredCollectionCache = new HashMap<>();
+        // Synchronized - filtered collections may be requested by parallel item workers
+        this.filteredCollectionCache = new FilteredCollectionCache(FilteredCollectionCache.DEFAULT_MAX_SIZE);
+        this.equalityIndexes = new ConcurrentHashMap<>();
+        this.rangeIndexes = new ConcurrentHashMap<>();
         this.maxFilteringRetries = maxFilteringRetries;
         this.filteringBehavior = filteringBehavior;
     }
@@ -69,6 +89,66 @@ public abstract class AbstractGenerationContext<T> {
         return mapper;
     }
 
+    /**
+     * Sets the maximum number of filtered collections kept in the cache.
+     *
+     * @param maxSize the maximum number of entries, zero disables caching
+     */
+    public void setFilteredCollectionCacheSize(int maxSize) {
+        filteredCollectionCache.setMaxSize(maxSize);
+    }
+
+    public CacheStatistics getFilteredCollectionCacheStatistics() {
+        return filteredCollectionCache.statistics();
+    }
+
+    /**
+     * Positions the random stream at the start of an item when coordinate-based randomness
+     * is in use, so the item's values do not depend on the items generated before it.
+     *
+     * @param collectionName the DSL name of the collection
+     * @param index          the item index within the collection
+     */
+    protected void positionRandomAt(String collectionName, int index) {
+        if (random instanceof CoordinateRandom coordinateRandom) {
+            coordinateRandom.positionAt(collectionName, index);
+        }
+    }
+
+    /**
+     * Whether every field of an item draws from its own random stream, so adding or
+     * removing fields does not change the values of the others.
+     */
+    protected boolean usesFieldStreams() {
+        return random instanceof CoordinateRandom;
+    }
+
+    /**
+     * Positions the random stream at a field of the current item.
+     * Only meaningful when {@link #usesFieldStreams()} is true.
+     *
+     * @param fieldPath the dot-separated path of the field within the item
+     */
+    protected void positionRandomAtField(String fieldPath) {
+        if (random instanceof CoordinateRandom coordinateRandom) {
+            coordinateRandom.positionAtField(fieldPath);
+        }
+    }
+
+    /**
+     * Drops what was derived from the items registered under a collection name. Called whenever
+     * items are registered under the name: several DSL entries with the same name are merged into
+     * one list, which keeps its identity, so indexes and cached filtered collections computed
+     * before the merge would still be used.
+     *
+     * @param name the collection name
+     */
+    protected void invalidateCollection(String name) {
+        equalityIndexes.remove(name);
+        rangeIndexes.remove(name);
+        filteredCollectionCache.evictCollection(name);
+    }
+
     // Abstract methods that subclasses must implement
     public abstract void registerCollection(String name, List<T> collection);
 
@@ -129,11 +209,10 @@ public abstract class AbstractGenerationContext<T> {
             return new ArrayList<>(collection);
         }
 
+        Set<JsonNode> excluded = new HashSet<>(filterValues);
         return collection.stream()
-            .filter(item -> {
-                JsonNode valueToCheck = fieldName.isEmpty() ? item : item.path(fieldName);
-                return filterValues.stream().noneMatch(valueToCheck::equals);
-            }).toList();
+            .filter(item -> !isExcluded(item, fieldName, excluded, false))
+            .toList();
     }
 
     /**
@@ -151,12 +230,85 @@ public abstract class AbstractGenerationContext<T> {
             return new ArrayList<>(collection);
         }
 
+        Set<JsonNode> excluded = new HashSet<>(filterValues);
         return collection.stream()
-            .filter(item -> {
-                JsonNode fieldValue = item.path(fieldName);
-                return !fieldValue.isMissingNode() &&
-                    filterValues.stream().noneMatch(fieldValue::equals);
-            }).toList();
+            .filter(item -> !isExcluded(item, fieldName, excluded, true))
+            .toList();
+    }
+
+    private static boolean isExcluded(JsonNode item, String fieldName, Set<JsonNode> excluded, boolean requireField) {
+        JsonNode valueToCheck = fieldName.isEmpty() ? item : item.path(fieldName);
+        return (requireField && valueToCheck.isMissingNode()) || excluded.contains(valueToCheck);
+    }
+
+    /**
+     * Selects a random or sequential element of a collection, optionally restricted to the
+     * items matching a condition, whose value is not one of the filter values.
+     * <p>
+     * Random selections with filter values sample the collection directly and reject
+     * excluded items, so a few excluded values don't cost a filtered copy of the whole
+     * collection for every item. If 16 samples in a row are rejected, most of the collection
+     * is excluded and the filtered collection is materialized (and cached) instead.
+     * Sequential selections always use the filtered collection, since their round-robin
+     * position depends on it.
+     * <p>
+     * This is a CORE utility method that typed reference nodes should use.
+     *
+     * @param collectionName the name of the source collection
+     * @param condition      the condition items must match (null for none)
+     * @param filterValues   the values to exclude (null if no filtering)
+     * @param fieldName      the field whose value is filtered (empty string for the whole item)
+     * @param node           the reference node, for sequential selection
+     * @param sequential     whether to select sequentially
+     * @return the selected item, or null if no item is left after filtering
+     */
+    public JsonNode selectFromFilteredCollection(String collectionName, Condition condition,
+                                                 List<JsonNode> filterValues, String fieldName,
+                                                 Sequential node, boolean sequential) {
+        return selectExcluding(collectionName, condition, filterValues, fieldName, node, sequential, false);
+    }
+
+    /**
+     * Like {@link #selectFromFilteredCollection} for array field references: items without
+     * the field are never selected when filtering.
+     *
+     * @param collectionName the name of the source collection
+     * @param fieldName      the field whose value is filtered
+     * @param filterValues   the values to exclude (null if no filtering)
+     * @param node           the reference node, for sequential selection
+     * @param sequential     whether to select sequentially
+     * @return the selected item, or null if no item is left after filtering
+     */
+    public JsonNode selectFromFilteredCollectionForArrayField(String collectionName, String fieldName,
+                                                              List<JsonNode> filterValues,
+                                                              Sequential node, boolean sequential) {
+        return selectExcluding(collectionName, null, filterValues, fieldName, node, sequential, true);
+    }
+
+    private JsonNode selectExcluding(String collectionName, Condition condition, List<JsonNode> filterValues,
+                                     String fieldName, Sequential node, boolean sequential, boolean requireField) {
+        List<JsonNode> candidates = condition == null
+            ? getCollection(collectionName)
+            : getFilteredCollection(collectionName, condition, null, fieldName, sequential);
+        if (filterValues == null || filterValues.isEmpty()) {
+            return candidates.isEmpty() ? null : getElementFromCollection(candidates, node, sequential);
+        }
+
+        if (!sequential && !candidates.isEmpty()) {
+            Set<JsonNode> excluded = new HashSet<>(filterValues);
+            for (int attempt = 0; attempt < MAX_REJECTIONS; attempt++) {
+                JsonNode item = candidates.get(random.nextInt(candidates.size()));
+                if (!isExcluded(item, fieldName, excluded, requireField)) {
+                    return item;
+                }
+            }
+        }
+
+        // High rejection rate - materialize the items that are left
+        List<JsonNode> filtered = requireField
+            ? getFilteredCollectionForArrayField(collectionName, fieldName, filterValues)
+            : getFilteredCollection(collectionName, condition, filterValues, fieldName, sequential);
+        return filtered.isEmpty() ? null : getElementFromCollection(filtered, node, sequential);
     }
 
     /**
@@ -186,10 +338,13 @@ public abstract class AbstractGenerationContext<T> {
             return 0;
         }
 
-        int current = sequentialCounters.getOrDefault(node, 0);
-        int index = current % collectionSize;
-        sequentialCounters.put(node, current + 1);
-        return index;
+        // Collections generated concurrently share the counter map
+        synchronized (sequentialCounters) {
+            int current = sequentialCounters.getOrDefault(node, 0);
+            int index = current % collectionSize;
+            sequentialCounters.put(node, current + 1);
+            return index;
+        }
     }
 
     /**
@@ -227,7 +382,13 @@ public abstract class AbstractGenerationContext<T> {
      * - References with filter values
      * - Combinations of both
      * <p>
-     * The cache key is based on collection name, condition, filter values, and field name.
+     * The cache key is based on collection name, condition (by value), filter values, and
+     * field name. The cache is bounded, least recently used entries are evicted.
+     * <p>
+     * Equality and numeric range conditions (and AND conditions containing them) are answered
+     * from hash and sorted indexes of the collection instead, without scanning it or adding
+     * cache entries. Conditions with shadow bindings are resolved anew for every item and would
+     * otherwise add an entry for every distinct resolved value.
      *
      * @param collectionName the name of the source collection
      * @param condition      the condition to apply (null for simple references)
@@ -237,11 +398,32 @@ public abstract class AbstractGenerationContext<T> {
      */
     public List<JsonNode> getFilteredCollection(String collectionName, Condition condition,
                                                 List<JsonNode> filterValues, String fieldName) {
+        return getFilteredCollection(collectionName, condition, filterValues, fieldName, false);
+    }
+
+    /**
+     * Like {@link #getFilteredCollection(String, Condition, List, String)}, optionally keeping
+     * the matching items in collection order. Sequential references step through the filtered
+     * collection round-robin and need that order, so range indexes, whose slices are in value
+     * order, are not used for them.
+     */
+    private List<JsonNode> getFilteredCollection(String collectionName, Condition condition,
+                                                 List<JsonNode> filterValues, String fieldName,
+                                                 boolean collectionOrder) {
+        if (condition != null) {
+            List<JsonNode> indexed = lookupIndexed(collectionName, condition, collectionOrder);
+            if (indexed != null) {
+                return filterValues != null && !filterValues.isEmpty()
+                    ? applyFiltering(indexed, fieldName, filterValues)
+                    : indexed;
+            }
+        }
+
         // Create cache key
         FilteredCollectionKey key = new FilteredCollectionKey(collectionName, condition, filterValues, fieldName);
 
         // Return cached result if available
-        return filteredCollectionCache.computeIfAbsent(key, k ->
+        return filteredCollectionCache.get(key, () ->
             computeFilteredCollection(collectionName, condition, filterValues, fieldName));
     }
 
@@ -274,6 +456,85 @@ public abstract class AbstractGenerationContext<T> {
         return collection;
     }
 
+    /**
+     * Returns the items matching a condition using equality and range indexes, or null if the
+     * condition has no comparison an index can answer.
+     * <p>
+     * Equality comparisons map to a hash bucket. Range comparisons on the same numeric field
+     * narrow down one contiguous slice of the field's sorted index, which is returned as a view.
+     * For AND conditions the smallest candidate is filtered with the whole condition, unless
+     * the candidate already accounts for every comparison of it.
+     * <p>
+     * Range slices are in value order rather than collection order, so they are skipped when
+     * the result has to keep collection order.
+     */
+    private List<JsonNode> lookupIndexed(String collectionName, Condition condition, boolean collectionOrder) {
+        List<ComparisonCondition> equalities = EqualityIndex.indexableComparisons(condition);
+        List<ComparisonCondition> ranges = collectionOrder ? List.of() : RangeIndex.indexableComparisons(condition);
+        if (equalities.isEmpty() && ranges.isEmpty()) {
+            return null;
+        }
+
+        List<JsonNode> collection = getCollection(collectionName);
+        List<JsonNode> narrowest = null;
+        int narrowestComparisons = 0;
+        for (ComparisonCondition comparison : equalities) {
+            EqualityIndex index = getIndex(equalityIndexes, collectionName, collection, comparison.getFieldPath(),
+                EqualityIndex::isFor, EqualityIndex::build);
+            if (narrowest == null || index.bucketSize(comparison.getExpectedValue()) < narrowest.size()) {
+                narrowest = index.lookup(comparison.getExpectedValue());
+                narrowestComparisons = 1;
+            }
+        }
+
+        Map<String, List<ComparisonCondition>> rangesByField = new LinkedHashMap<>();
+        for (ComparisonCondition comparison : ranges) {
+            rangesByField.computeIfAbsent(comparison.getFieldPath(), k -> new ArrayList<>()).add(comparison);
+        }
+        for (Map.Entry<String, List<ComparisonCondition>> entry : rangesByField.entrySet()) {
+            RangeIndex index = getIndex(rangeIndexes, collectionName, collection, entry.getKey(),
+                RangeIndex::isFor, RangeIndex::build);
+            if (!index.isUsable()) {
+                continue;
+            }
+            int from = 0;
+            int to = index.size();
+            for (ComparisonCondition comparison : entry.getValue()) {
+                from = Math.max(from, index.from(comparison));
+                to = Math.min(to, index.to(comparison));
+            }
+            if (narrowest == null || Math.max(0, to - from) < narrowest.size()) {
+                narrowest = index.slice(from, to);
+                narrowestComparisons = entry.getValue().size();
+            }
+        }
+
+        if (narrowest == null) {
+            return null;
+        }
+        int comparisons = condition instanceof LogicalCondition logical ? logical.getConditions().size() : 1;
+        return narrowestComparisons == comparisons ? narrowest : applyCondition(narrowest, condition);
+    }
+
+    /**
+     * Gets the index of a collection by a field path, building it on first use, after the
+     * collection was invalidated, or when the collection instance registered under the name
+     * has changed.
+     */
+    private <I> I getIndex(Map<String, Map<String, I>> indexesByCollection, String collectionName,
+                           List<JsonNode> collection, String fieldPath,
+                           BiPredicate<I, List<JsonNode>> isFor,
+                           BiFunction<List<JsonNode>, String, I> build) {
+        Map<String, I> indexes = indexesByCollection.computeIfAbsent(collectionName, k -> new ConcurrentHashMap<>());
+        I index = indexes.get(fieldPath);
+        if (index == null || !isFor.test(index, collection)) {
+            // Built outside of the map - reading the items may resolve references of other indexes
+            index = build.apply(collection, fieldPath);
+            indexes.put(fieldPath, index);
+        }
+        return index;
+    }
+
     /**
      * Applies a condition to filter a collection.
      * Only items that match the condition are included.
@@ -313,7 +574,7 @@ public abstract class AbstractGenerationContext<T> {
         // Use the same cache with a special marker to distinguish array field filtering
         FilteredCollectionKey key = new FilteredCollectionKey(collectionName, null, filterValues, fieldName);
 
-        return filteredCollectionCache.computeIfAbsent(key, k ->
+        return filteredCollectionCache.get(key, () ->
             applyFilteringOnField(getCollection(collectionName), fieldName, filterValues));
     }
 
@@ -0,0 +1,166 @@
+package com.github.eddranca.datagenerator.visitor;
+
+import com.github.eddranca.datagenerator.node.CollectionNode;
+import com.github.eddranca.datagenerator.node.RootNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Schedules the collections of a DSL tree so that collections that don't depend on each
+ * other are generated concurrently.
+ * <p>
+ * The dependency graph is derived from the references found by {@link PathDependencyAnalyzer}
+ * and preserves the results of declaration-order generation:
+ * <ul>
+ *   <li>a collection waits for every earlier collection that contributes to a name it reads
+ *       (by DSL key or by {@code name}), and for every earlier collection declaring a pick it reads</li>
+ *   <li>a collection that contributes to a name (or declares a pick) waits for every earlier
+ *       collection reading it, so readers never see items registered after them</li>
+ *   <li>collections merged under the same {@code name} are registered in declaration order</li>
+ * </ul>
+ * All edges point from a later collection to an earlier one, so the graph is always acyclic.
+ */
+public class CollectionScheduler {
+    private final List<CollectionNode> collections;
+    private final List<Set<Integer>> dependencies;
+
+    public CollectionScheduler(RootNode rootNode) {
+        this.collections = new ArrayList<>(rootNode.getCollections().values());
+
+        PathDependencyAnalyzer analyzer = new PathDependencyAnalyzer();
+        analyzer.analyzeRoot(rootNode);
+        this.dependencies = buildDependencies(analyzer.getCollectionDependencies(), analyzer.getPickDependencies());
+    }
+
+    private List<Set<Integer>> buildDependencies(Map<String, Set<String>> collectionReads,
+                                                 Map<String, Set<String>> pickReads) {
+        List<Set<Integer>> result = new ArrayList<>();
+        for (int i = 0; i < collections.size(); i++) {
+            result.add(new TreeSet<>());
+        }
+
+        for (int reader = 0; reader < collections.size(); reader++) {
+            String key = collections.get(reader).getName();
+            for (String name : collectionReads.getOrDefault(key, Set.of())) {
+                for (int writer = 0; writer < collections.size(); writer++) {
+                    if (contributesTo(collections.get(writer), name)) {
+                        addOrderedEdge(result, reader, writer);
+                    }
+                }
+            }
+            for (String pick : pickReads.getOrDefault(key, Set.of())) {
+                for (int writer = 0; writer < collections.size(); writer++) {
+                    if (collections.get(writer).getPicks().containsKey(pick)) {
+                        addOrderedEdge(result, reader, writer);
+                    }
+                }
+            }
+        }
+
+        // Collections merged under one name must be registered in declaration order
+        Map<String, Integer> lastContributor = new LinkedHashMap<>();
+        for (int i = 0; i < collections.size(); i++) {
+            Integer previous = lastContributor.put(collections.get(i).getCollectionName(), i);
+            if (previous != null) {
+                result.get(i).add(previous);
+            }
+        }
+        return result;
+    }
+
+    private static boolean contributesTo(CollectionNode node, String name) {
+        return node.getName().equals(name) || node.getCollectionName().equals(name);
+    }
+
+    /**
+     * Adds an edge between a reader and a writer, always making the later-declared
+     * collection wait for the earlier one.
+     */
+    private static void addOrderedEdge(List<Set<Integer>> dependencies, int reader, int writer) {
+        if (reader > writer) {
+            dependencies.get(reader).add(writer);
+        } else if (writer > reader) {
+            dependencies.get(writer).add(reader);
+        }
+    }
+
+    /**
+     * Returns the DSL keys of the collections each collection waits for, in declaration order.
+     */
+    public Map<String, Set<String>> getDependencies() {
+        Map<String, Set<String>> result = new LinkedHashMap<>();
+        for (int i = 0; i < collections.size(); i++) {
+            Set<String> names = new LinkedHashSet<>();
+            for (int dependency : dependencies.get(i)) {
+                names.add(collections.get(dependency).getName());
+            }
+            result.put(collections.get(i).getName(), Collections.unmodifiableSet(names));
+        }
+        return result;
+    }
+
+    /**
+     * Groups collections into waves: every collection in a wave only depends on collections
+     * of earlier waves, so all collections of one wave can run concurrently.
+     *
+     * @return the DSL keys of the collections in each wave
+     */
+    public List<List<String>> getWaves() {
+        int[] levels = new int[collections.size()];
+        List<List<String>> waves = new ArrayList<>();
+        for (int i = 0; i < collections.size(); i++) {
+            int level = 0;
+            for (int dependency : dependencies.get(i)) {
+                level = Math.max(level, levels[dependency] + 1);
+            }
+            levels[i] = level;
+            while (waves.size() <= level) {
+                waves.add(new ArrayList<>());
+            }
+            waves.get(level).add(collections.get(i).getName());
+        }
+        return waves;
+    }
+
+    /**
+     * Runs the generation task of every collection on the executor. Each collection starts
+     * as soon as all collections it depends on have completed.
+     *
+     * @param executor the executor running the collection tasks
+     * @param task     generates and registers one collection
+     */
+    public void run(Executor executor, Consumer<CollectionNode> task) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < collections.size(); i++) {
+            CollectionNode collection = collections.get(i);
+            CompletableFuture<?>[] inputs = dependencies.get(i).stream()
+                .map(futures::get)
+                .toArray(CompletableFuture[]::new);
+            futures.add(CompletableFuture.allOf(inputs)
+                .thenRunAsync(() -> task.accept(collection), executor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
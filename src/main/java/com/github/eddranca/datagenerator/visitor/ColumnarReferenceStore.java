@@ -0,0 +1,293 @@
+package com.github.eddranca.datagenerator.visitor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Column-oriented copy of the referenced fields of a lazy collection.
+ * <p>
+ * Only the paths other collections reference are kept, one column per path. Columns whose
+ * values all have the same type are stored as primitive arrays ({@code int[]}, {@code long[]},
+ * {@code double[]}, a {@link BitSet} for booleans) or, for strings, as dictionary codes into
+ * a table of distinct values. Other columns keep their JsonNode values.
+ * <p>
+ * References read items through {@link #rows()}, a list view that rebuilds a small object
+ * holding only the stored paths on every access. Nothing else of the items is materialized.
+ */
+final class ColumnarReferenceStore {
+    private final int size;
+    private final String[][] paths;
+    private final Column[] columns;
+
+    private ColumnarReferenceStore(int size, String[][] paths, Column[] columns) {
+        this.size = size;
+        this.paths = paths;
+        this.columns = columns;
+    }
+
+    /**
+     * Builds the store for a collection, materializing only the given paths of each item.
+     *
+     * @param items           the lazy items of the collection
+     * @param referencedPaths dot-separated field paths to store, must not contain "*"
+     * @return the store
+     */
+    static ColumnarReferenceStore build(List<LazyItemProxy> items, Set<String> referencedPaths) {
+        List<String> storedPaths = withoutNestedPaths(referencedPaths);
+        int size = items.size();
+        String[][] paths = new String[storedPaths.size()][];
+        Column[] columns = new Column[storedPaths.size()];
+
+        JsonNode[] values = new JsonNode[size];
+        for (int c = 0; c < columns.length; c++) {
+            String path = storedPaths.get(c);
+            for (int row = 0; row < size; row++) {
+                values[row] = items.get(row).getReferencedValue(path);
+            }
+            paths[c] = path.split("\\.");
+            columns[c] = Column.of(values);
+        }
+        return new ColumnarReferenceStore(size, paths, columns);
+    }
+
+    /**
+     * Drops paths contained in another stored path, e.g. "address.city" when "address" is stored.
+     */
+    private static List<String> withoutNestedPaths(Set<String> referencedPaths) {
+        List<String> result = new ArrayList<>();
+        for (String path : new TreeSet<>(referencedPaths)) {
+            boolean nested = result.stream().anyMatch(stored -> path.startsWith(stored + "."));
+            if (!nested) {
+                result.add(path);
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the items as objects holding only the stored paths.
+     */
+    List<JsonNode> rows() {
+        return new RowList();
+    }
+
+    private ObjectNode row(int index) {
+        ObjectNode row = JsonNodeFactory.instance.objectNode();
+        for (int c = 0; c < columns.length; c++) {
+            JsonNode value = columns[c].get(index);
+            if (value != null) {
+                setPath(row, paths[c], value);
+            }
+        }
+        return row;
+    }
+
+    private static void setPath(ObjectNode row, String[] path, JsonNode value) {
+        ObjectNode parent = row;
+        for (int i = 0; i < path.length - 1; i++) {
+            JsonNode child = parent.get(path[i]);
+            parent = child instanceof ObjectNode object ? object : parent.putObject(path[i]);
+        }
+        parent.set(path[path.length - 1], value);
+    }
+
+    private class RowList extends AbstractList<JsonNode> implements RandomAccess {
+        @Override
+        public JsonNode get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+            }
+            return row(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * One stored path. {@link #get(int)} returns null for items where the path is missing.
+     */
+    private abstract static class Column {
+        private final BitSet present;
+
+        Column(BitSet present) {
+            this.present = present;
+        }
+
+        JsonNode get(int row) {
+            return present.get(row) ? value(row) : null;
+        }
+
+        abstract JsonNode value(int row);
+
+        static Column of(JsonNode[] values) {
+            BitSet present = new BitSet(values.length);
+            boolean allInt = true;
+            boolean allLong = true;
+            boolean allDouble = true;
+            boolean allBoolean = true;
+            boolean allText = true;
+            for (int row = 0; row < values.length; row++) {
+                JsonNode value = values[row];
+                if (value == null || value.isMissingNode()) {
+                    continue;
+                }
+                present.set(row);
+                allInt &= value.isInt();
+                allLong &= value.isLong();
+                allDouble &= value.isDouble();
+                allBoolean &= value.isBoolean();
+                allText &= value.isTextual();
+            }
+
+            if (allInt) {
+                int[] ints = new int[values.length];
+                present.stream().forEach(row -> ints[row] = values[row].intValue());
+                return new IntColumn(present, ints);
+            } else if (allLong) {
+                long[] longs = new long[values.length];
+                present.stream().forEach(row -> longs[row] = values[row].longValue());
+                return new LongColumn(present, longs);
+            } else if (allDouble) {
+                double[] doubles = new double[values.length];
+                present.stream().forEach(row -> doubles[row] = values[row].doubleValue());
+                return new DoubleColumn(present, doubles);
+            } else if (allBoolean) {
+                BitSet booleans = new BitSet(values.length);
+                present.stream().forEach(row -> booleans.set(row, values[row].booleanValue()));
+                return new BooleanColumn(present, booleans);
+            } else if (allText) {
+                return StringColumn.encode(present, values);
+            }
+            JsonNode[] nodes = new JsonNode[values.length];
+            present.stream().forEach(row -> nodes[row] = values[row]);
+            return new NodeColumn(present, nodes);
+        }
+    }
+
+    private static final class IntColumn extends Column {
+        private final int[] values;
+
+        IntColumn(BitSet present, int[] values) {
+            super(present);
+            this.values = values;
+        }
+
+        @Override
+        JsonNode value(int row) {
+            return IntNode.valueOf(values[row]);
+        }
+    }
+
+    private static final class LongColumn extends Column {
+        private final long[] values;
+
+        LongColumn(BitSet present, long[] values) {
+            super(present);
+            this.values = values;
+        }
+
+        @Override
+        JsonNode value(int row) {
+            return LongNode.valueOf(values[row]);
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+        private final double[] values;
+
+        DoubleColumn(BitSet present, double[] values) {
+            super(present);
+            this.values = values;
+        }
+
+        @Override
+        JsonNode value(int row) {
+            return DoubleNode.valueOf(values[row]);
+        }
+    }
+
+    private static final class BooleanColumn extends Column {
+        private final BitSet values;
+
+        BooleanColumn(BitSet present, BitSet values) {
+            super(present);
+            this.values = values;
+        }
+
+        @Override
+        JsonNode value(int row) {
+            return BooleanNode.valueOf(values.get(row));
+        }
+    }
+
+    /**
+     * Dictionary-encoded strings: each row holds the code of its value in a table of
+     * distinct values, so repeated values are stored once.
+     */
+    private static final class StringColumn extends Column {
+        private final int[] codes;
+        private final TextNode[] dictionary;
+
+        private StringColumn(BitSet present, int[] codes, TextNode[] dictionary) {
+            super(present);
+            this.codes = codes;
+            this.dictionary = dictionary;
+        }
+
+        static StringColumn encode(BitSet present, JsonNode[] values) {
+            int[] codes = new int[values.length];
+            Map<String, Integer> codesByValue = new HashMap<>();
+            List<TextNode> dictionary = new ArrayList<>();
+            present.stream().forEach(row -> {
+                String text = values[row].textValue();
+                codes[row] = codesByValue.computeIfAbsent(text, key -> {
+                    dictionary.add(TextNode.valueOf(key));
+                    return dictionary.size() - 1;
+                });
+            });
+            return new StringColumn(present, codes, dictionary.toArray(new TextNode[0]));
+        }
+
+        @Override
+        JsonNode value(int row) {
+            return dictionary[codes[row]];
+        }
+    }
+
+    private static final class NodeColumn extends Column {
+        private final JsonNode[] values;
+
+        NodeColumn(BitSet present, JsonNode[] values) {
+            super(present);
+            this.values = values;
+        }
+
+        @Override
+        JsonNode value(int row) {
+            return values[row];
+        }
+    }
+}
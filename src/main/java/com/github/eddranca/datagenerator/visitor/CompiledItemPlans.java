@@ -0,0 +1,165 @@
+package com.github.eddranca.datagenerator.visitor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.eddranca.datagenerator.generator.Generator;
+import com.github.eddranca.datagenerator.generator.GeneratorContext;
+import com.github.eddranca.datagenerator.generator.GeneratorRegistry;
+import com.github.eddranca.datagenerator.node.ArrayFieldNode;
+import com.github.eddranca.datagenerator.node.ChoiceFieldNode;
+import com.github.eddranca.datagenerator.node.CollectionNode;
+import com.github.eddranca.datagenerator.node.DslNode;
+import com.github.eddranca.datagenerator.node.GeneratedFieldNode;
+import com.github.eddranca.datagenerator.node.GeneratorOptionNode;
+import com.github.eddranca.datagenerator.node.ItemNode;
+import com.github.eddranca.datagenerator.node.ObjectFieldNode;
+import com.github.eddranca.datagenerator.node.RootNode;
+import com.github.eddranca.datagenerator.node.ShadowBindingNode;
+import com.github.eddranca.datagenerator.util.FieldApplicationUtil;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Execution plans compiled from a DSL tree after it has been built and validated.
+ * <p>
+ * Compilation turns every {@link ItemNode} and {@link ObjectFieldNode} into an {@link ItemPlan}
+ * and pre-binds every generated field that has only static options: the generator is looked up
+ * once and its {@link GeneratorContext} is created once, instead of on every generated value.
+ * Fields that need per-item resolution (runtime options, filters, references) keep using
+ * regular visitor dispatch.
+ * <p>
+ * Plans are immutable after compilation and can be shared between threads.
+ */
+public final class CompiledItemPlans {
+    private final GeneratorRegistry generatorRegistry;
+    private final ObjectMapper mapper;
+    // IdentityHashMap - plans belong to specific node instances
+    private final Map<DslNode, ItemPlan> objectPlans = new IdentityHashMap<>();
+    private final Map<GeneratedFieldNode, ItemPlan.FieldStep> generatorSteps = new IdentityHashMap<>();
+
+    private CompiledItemPlans(GeneratorRegistry generatorRegistry, ObjectMapper mapper) {
+        this.generatorRegistry = generatorRegistry;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Compiles plans for all collections of a DSL tree.
+     *
+     * @param rootNode          the validated DSL tree
+     * @param generatorRegistry the registry used to resolve generators
+     * @param mapper            the mapper handed to generators through their context
+     * @return the compiled plans
+     */
+    public static CompiledItemPlans compile(RootNode rootNode, GeneratorRegistry generatorRegistry,
+                                            ObjectMapper mapper) {
+        CompiledItemPlans plans = new CompiledItemPlans(generatorRegistry, mapper);
+        for (CollectionNode collection : rootNode.getCollections().values()) {
+            ItemNode item = collection.getItem();
+            plans.objectPlans.computeIfAbsent(item, k -> plans.compileObject(item.getFields(), ""));
+        }
+        return plans;
+    }
+
+    ItemPlan planFor(DslNode node) {
+        return objectPlans.get(node);
+    }
+
+    ItemPlan.FieldStep stepFor(GeneratedFieldNode node) {
+        return generatorSteps.get(node);
+    }
+
+    /**
+     * @param pathPrefix path of the object within the item ("" for the item itself),
+     *                   or null if the object is generated several times per item
+     */
+    private ItemPlan compileObject(Map<String, DslNode> fields, String pathPrefix) {
+        int size = fields.size();
+        String[] names = new String[size];
+        String[] paths = new String[size];
+        ItemPlan.FieldStep[] steps = new ItemPlan.FieldStep[size];
+        boolean[] output = new boolean[size];
+        boolean[] spread = new boolean[size];
+        boolean usesShadowBindings = false;
+
+        int i = 0;
+        for (Map.Entry<String, DslNode> entry : fields.entrySet()) {
+            DslNode fieldNode = entry.getValue();
+            names[i] = entry.getKey();
+            if (pathPrefix != null) {
+                paths[i] = pathPrefix.isEmpty() ? names[i] : pathPrefix + "." + names[i];
+            }
+            steps[i] = compileField(fieldNode, paths[i]);
+            // Shadow binding fields (starting with $) are evaluated but excluded from output
+            output[i] = !names[i].startsWith("$");
+            spread[i] = FieldApplicationUtil.isSpread(fieldNode);
+            usesShadowBindings |= definesShadowBinding(fieldNode);
+            i++;
+        }
+
+        return new ItemPlan(names, paths, steps, output, spread, usesShadowBindings);
+    }
+
+    private ItemPlan.FieldStep compileField(DslNode node, String path) {
+        if (node instanceof GeneratedFieldNode generatedField) {
+            ItemPlan.FieldStep step = compileGeneratedField(generatedField);
+            if (step != null) {
+                generatorSteps.put(generatedField, step);
+                return step;
+            }
+            for (GeneratorOptionNode option : generatedField.getOptions().getGeneratorOptions().values()) {
+                compileField(option.isChoiceField() ? option.getChoiceField() : option.getGeneratorField(), null);
+            }
+        } else if (node instanceof ObjectFieldNode objectField) {
+            objectPlans.computeIfAbsent(objectField, k -> compileObject(objectField.getFields(), path));
+        } else if (node instanceof ArrayFieldNode arrayField) {
+            compileField(arrayField.getItemNode(), null);
+        } else if (node instanceof ChoiceFieldNode choiceField) {
+            for (DslNode option : choiceField.getOptions()) {
+                compileField(option, null);
+            }
+        }
+        return ItemPlan.FieldStep.visiting(node);
+    }
+
+    /**
+     * Pre-binds a generated field whose options are fully static and that has no filters.
+     *
+     * @return the bound step, or null if the field needs per-item resolution
+     */
+    private ItemPlan.FieldStep compileGeneratedField(GeneratedFieldNode node) {
+        Generator generator = node.getCompiledGenerator() != null
+            ? node.getCompiledGenerator()
+            : generatorRegistry.get(node.getGeneratorName());
+        if (generator == null || node.hasFilters() || node.getOptions().hasRuntimeOptions()) {
+            return null;
+        }
+
+        // Same options instance on every call - stateful generators key their state on it
+        GeneratorContext context = generatorRegistry.createContext(node.getOptions().getStaticOptions(), mapper);
+        if (node.hasPath()) {
+            String path = node.getPath();
+            Generator fieldGenerator = generatorRegistry.getFieldGenerator(node.getGeneratorName(), path);
+            if (fieldGenerator != null) {
+                return ItemPlan.FieldStep.generating(fieldGenerator, context);
+            }
+            return visitor -> generator.generateAtPath(context, path);
+        }
+        return ItemPlan.FieldStep.generating(generator, context);
+    }
+
+    private static boolean definesShadowBinding(DslNode node) {
+        if (node instanceof ShadowBindingNode) {
+            return true;
+        }
+        if (node instanceof ObjectFieldNode objectField) {
+            return objectField.getFields().values().stream().anyMatch(CompiledItemPlans::definesShadowBinding);
+        }
+        if (node instanceof ArrayFieldNode arrayField) {
+            return definesShadowBinding(arrayField.getItemNode());
+        }
+        if (node instanceof ChoiceFieldNode choiceField) {
+            return choiceField.getOptions().stream().anyMatch(CompiledItemPlans::definesShadowBinding);
+        }
+        return false;
+    }
+}
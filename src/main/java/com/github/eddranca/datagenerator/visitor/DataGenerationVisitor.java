@@ -7,6 +7,7 @@ import com.github.eddranca.datagenerator.expression.ExpressionEvaluator;
 import com.github.eddranca.datagenerator.expression.ExpressionFunctionRegistry;
 import com.github.eddranca.datagenerator.generator.Generator;
 import com.github.eddranca.datagenerator.generator.GeneratorContext;
+import com.github.eddranca.datagenerator.generator.JsonGeneratorValueSink;
 import com.github.eddranca.datagenerator.generator.defaults.ChoiceGenerator;
 import com.github.eddranca.datagenerator.node.ArrayFieldNode;
 import com.github.eddranca.datagenerator.node.ArrayFieldReferenceNode;
@@ -35,13 +36,15 @@ import com.github.eddranca.datagenerator.node.ShadowBindingNode;
 import com.github.eddranca.datagenerator.node.SimpleReferenceNode;
 import com.github.eddranca.datagenerator.node.SpreadFieldNode;
 import com.github.eddranca.datagenerator.util.FieldApplicationUtil;
+import net.datafaker.service.RandomService;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static com.github.eddranca.datagenerator.generator.defaults.ChoiceGenerator.WEIGHTS;
 
 /**
  * Visitor that generates actual data from the DSL node tree.
@@ -50,6 +53,9 @@ import static com.github.eddranca.datagenerator.generator.defaults.ChoiceGenerat
 public class DataGenerationVisitor<T> implements DslNodeVisitor<JsonNode> {
     private final AbstractGenerationContext<T> context;
     private final ExpressionFunctionRegistry expressionFunctionRegistry;
+    private final CompiledItemPlans itemPlans; // Optional pre-bound plans, null to always use plain dispatch
+    private final boolean fieldStreams; // Whether fields draw from their own random stream
+    private final RandomService random; // Shared Faker randomness, used to choose choice options
     private ObjectNode currentItem; // Track current item for "this" references
     private String currentCollectionName; // Track current collection for lazy generation
     private Map<String, JsonNode> shadowBindings = new HashMap<>(); // Track shadow bindings for current item
@@ -60,8 +66,41 @@ public class DataGenerationVisitor<T> implements DslNodeVisitor<JsonNode> {
 
     public DataGenerationVisitor(AbstractGenerationContext<T> context,
                                  ExpressionFunctionRegistry expressionFunctionRegistry) {
+        this(context, expressionFunctionRegistry, null);
+    }
+
+    public DataGenerationVisitor(AbstractGenerationContext<T> context,
+                                 ExpressionFunctionRegistry expressionFunctionRegistry,
+                                 CompiledItemPlans itemPlans) {
         this.context = context;
         this.expressionFunctionRegistry = expressionFunctionRegistry;
+        this.itemPlans = itemPlans;
+        this.fieldStreams = context.usesFieldStreams();
+        this.random = context.getGeneratorRegistry().getFaker().random();
+    }
+
+    /**
+     * Creates a visitor sharing this visitor's context and expression functions but with
+     * its own per-item state, so items can be generated on another thread.
+     */
+    public DataGenerationVisitor<T> copyForWorker() {
+        DataGenerationVisitor<T> worker = new DataGenerationVisitor<>(context, expressionFunctionRegistry, itemPlans);
+        worker.currentCollectionName = this.currentCollectionName;
+        return worker;
+    }
+
+    /**
+     * Whether fields of compiled plans are generated from per-field random streams.
+     */
+    boolean usesFieldStreams() {
+        return fieldStreams;
+    }
+
+    /**
+     * Positions the random stream at a field of the current item.
+     */
+    void positionAtField(String fieldPath) {
+        context.positionRandomAtField(fieldPath);
     }
 
     /**
@@ -125,6 +164,12 @@ public class DataGenerationVisitor<T> implements DslNodeVisitor<JsonNode> {
             // Standard item generation - lazy generation is now handled at collection level
             ObjectNode item = context.getMapper().createObjectNode();
             this.currentItem = item;
+            ItemPlan plan = itemPlans != null ? itemPlans.planFor(node) : null;
+            if (plan != null) {
+                // Items without shadow bindings never write to the map, so skip the allocation
+                this.shadowBindings = plan.usesShadowBindings() ? new HashMap<>() : Collections.emptyMap();
+                return plan.apply(this, item);
+            }
             this.shadowBindings = new HashMap<>(); // Fresh shadow bindings for each item
             return visitObjectLikeNode(node.getFields(), item);
         } finally {
@@ -136,7 +181,14 @@ public class DataGenerationVisitor<T> implements DslNodeVisitor<JsonNode> {
 
     @Override
     public JsonNode visitGeneratedField(GeneratedFieldNode node) {
-        Generator generator = context.getGeneratorRegistry().get(node.getGeneratorName());
+        ItemPlan.FieldStep compiledStep = itemPlans != null ? itemPlans.stepFor(node) : null;
+        if (compiledStep != null) {
+            return compiledStep.evaluate(this);
+        }
+
+        Generator generator = node.getCompiledGenerator() != null
+            ? node.getCompiledGenerator()
+            : context.getGeneratorRegistry().get(node.getGeneratorName());
         if (generator == null) {
             throw new IllegalArgumentException("Unknown generator: " + node.getGeneratorName());
         }
@@ -277,15 +329,17 @@ public class DataGenerationVisitor<T> implements DslNodeVisitor<JsonNode> {
     }
 
     private JsonNode resolveConditionalReference(ConditionalReferenceNode node, Condition resolvedCondition, List<JsonNode> filterValues) {
-        // Use the context's filtered collection with the resolved condition
-        List<JsonNode> filteredCollection = context.getFilteredCollection(
+        // Select an element matching the resolved condition that isn't filtered out
+        JsonNode selected = context.selectFromFilteredCollection(
             node.getCollectionNameString(),
             resolvedCondition,
             filterValues.isEmpty() ? null : filterValues,
-            node.hasFieldName() ? node.getFieldName() : ""
+            node.hasFieldName() ? node.getFieldName() : "",
+            node,
+            node.isSequential()
         );
 
-        if (filteredCollection.isEmpty()) {
+        if (selected == null) {
             if (!filterValues.isEmpty()) {
                 return context.handleFilteringFailure("Conditional reference '" + node.getReferenceString() + "' has no valid values after filtering");
             } else {
@@ -293,9 +347,6 @@ public class DataGenerationVisitor<T> implements DslNodeVisitor<JsonNode> {
             }
         }
 
-        // Select an element
-        JsonNode selected = context.getElementFromCollection(filteredCollection, node, node.isSequential());
-
         // Extract field if specified
         return node.hasFieldName() ? extractNestedField(selected, node.getFieldName()) : selected;
     }
@@ -318,44 +369,29 @@ public class DataGenerationVisitor<T> implements DslNodeVisitor<JsonNode> {
 
     @Override
     public JsonNode visitChoiceField(ChoiceFieldNode node) {
-        if (node.getOptions().isEmpty()) {
+        List<DslNode> options = node.getOptions();
+        if (options.isEmpty()) {
             return context.getMapper().nullNode();
         }
 
-        // Pre-generate all choice options
-        List<JsonNode> generatedOptions = new ArrayList<>();
-        for (DslNode option : node.getOptions()) {
-            JsonNode generated = option.accept(this);
-            generatedOptions.add(generated);
-        }
-
-        // Create options structure for ChoiceGenerator
-        ObjectNode choiceOptions = context.getMapper().createObjectNode();
-        ArrayNode optionsArray = context.getMapper().createArrayNode();
-        for (JsonNode generated : generatedOptions) {
-            optionsArray.add(generated);
+        // Choose first, then only generate the chosen option
+        ChoiceGenerator choiceGenerator = node.getChoiceGenerator();
+        if (!node.hasFilters()) {
+            return options.get(choiceGenerator.chooseIndex(options.size(), random)).accept(this);
         }
-        choiceOptions.set("options", optionsArray);
 
-        // Add weights if present
-        if (node.hasWeights()) {
-            ArrayNode weightsArray = context.getMapper().createArrayNode();
-            for (Double weight : node.getWeights()) {
-                weightsArray.add(weight);
+        // Options whose value is filtered out are excluded and another one is chosen
+        List<JsonNode> filterValues = computeFilteredValues(node.getFilters());
+        boolean[] excluded = new boolean[options.size()];
+        for (int remaining = options.size(); remaining > 0; remaining--) {
+            int index = choiceGenerator.chooseIndex(options.size(), random, excluded, remaining);
+            JsonNode value = options.get(index).accept(this);
+            if (!filterValues.contains(value)) {
+                return value;
             }
-            choiceOptions.set(WEIGHTS, weightsArray);
+            excluded[index] = true;
         }
-
-        // Use ChoiceGenerator to make the selection
-        ChoiceGenerator choiceGenerator = new ChoiceGenerator();
-
-        if (node.hasFilters()) {
-            List<JsonNode> filterValues = computeFilteredValues(node.getFilters());
-            return context.generateWithFilter(choiceGenerator, choiceOptions, null, filterValues);
-        }
-
-        GeneratorContext choiceContext = context.getGeneratorRegistry().createContext(choiceOptions, context.getMapper());
-        return choiceGenerator.generate(choiceContext);
+        return context.handleFilteringFailure("All choice options were filtered out");
     }
 
     private List<JsonNode> computeFilteredValues(List<FilterNode> filters) {
@@ -372,6 +408,10 @@ public class DataGenerationVisitor<T> implements DslNodeVisitor<JsonNode> {
     @Override
     public JsonNode visitObjectField(ObjectFieldNode node) {
         ObjectNode object = context.getMapper().createObjectNode();
+        ItemPlan plan = itemPlans != null ? itemPlans.planFor(node) : null;
+        if (plan != null) {
+            return plan.apply(this, object);
+        }
         return visitObjectLikeNode(node.getFields(), object);
     }
 
@@ -416,17 +456,8 @@ public class DataGenerationVisitor<T> implements DslNodeVisitor<JsonNode> {
     public JsonNode visitArrayField(ArrayFieldNode node) {
         ArrayNode array = context.getMapper().createArrayNode();
 
-        int arraySize;
-        if (node.hasFixedSize()) {
-            arraySize = node.getSize();
-        } else {
-            // Generate random size between min and max
-            int minSize = node.getMinSize();
-            int maxSize = node.getMaxSize();
-            arraySize = minSize + context.getRandom().nextInt(maxSize - minSize + 1);
-        }
-
         // Generate array items
+        int arraySize = arraySize(node);
         for (int i = 0; i < arraySize; i++) {
             JsonNode item = node.getItemNode().accept(this);
             array.add(item);
@@ -435,6 +466,55 @@ public class DataGenerationVisitor<T> implements DslNodeVisitor<JsonNode> {
         return array;
     }
 
+    private int arraySize(ArrayFieldNode node) {
+        if (node.hasFixedSize()) {
+            return node.getSize();
+        }
+        // Generate random size between min and max
+        int minSize = node.getMinSize();
+        int maxSize = node.getMaxSize();
+        return minSize + context.getRandom().nextInt(maxSize - minSize + 1);
+    }
+
+    /**
+     * Generates the value of a node and writes it to a JSON generator instead of returning it.
+     * <p>
+     * Compiled generator fields write their value into the sink with
+     * {@link Generator#generateInto}, so scalars are serialized without a JsonNode. Arrays are
+     * written element by element and objects with a compiled plan field by field, so their
+     * trees are never built. Other nodes are visited and the resulting value is written.
+     * Random values are drawn in the same order as when visiting the node, so the output is
+     * the same as writing the visited value.
+     *
+     * @param node the node to generate
+     * @param sink the sink writing to the JSON generator
+     * @throws IOException if writing fails
+     */
+    void writeValue(DslNode node, JsonGeneratorValueSink sink) throws IOException {
+        if (node instanceof GeneratedFieldNode generatedField) {
+            ItemPlan.FieldStep compiledStep = itemPlans != null ? itemPlans.stepFor(generatedField) : null;
+            if (compiledStep != null) {
+                compiledStep.write(this, sink);
+                return;
+            }
+        } else if (node instanceof ArrayFieldNode arrayField) {
+            int arraySize = arraySize(arrayField);
+            sink.getGenerator().writeStartArray();
+            for (int i = 0; i < arraySize; i++) {
+                writeValue(arrayField.getItemNode(), sink);
+            }
+            sink.getGenerator().writeEndArray();
+            return;
+        } else if (node instanceof ObjectFieldNode objectField) {
+            ItemPlan plan = itemPlans != null ? itemPlans.planFor(objectField) : null;
+            if (plan != null && !plan.hasSpreads()) {
+                plan.write(this, sink);
+                return;
+            }
+        }
+        sink.writeValue(node.accept(this));
+    }
+
     @Override
     public JsonNode visitReferenceSpreadField(ReferenceSpreadFieldNode node) {
         List<JsonNode> filterValues = computeFilteredValues(node.getFilters());
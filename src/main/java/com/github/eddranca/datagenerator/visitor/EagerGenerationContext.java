@@ -6,10 +6,14 @@ import com.github.eddranca.datagenerator.generator.GeneratorRegistry;
 import com.github.eddranca.datagenerator.node.CollectionNode;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Generation context for eager (non-memory-optimized) data generation.
@@ -17,38 +21,65 @@ import java.util.Random;
  * This implementation stores all generated data in memory immediately and
  * provides direct access to collections. It's suitable for smaller datasets
  * where memory usage is not a concern.
+ * <p>
+ * When a {@link ForkJoinPool} is configured, the items of a collection are generated in
+ * parallel chunks. This requires a {@link com.github.eddranca.datagenerator.random.CoordinateRandom}
+ * so that every item draws from its own random stream and the output is identical to a
+ * single-threaded run. Collections whose values depend on generation order (sequential
+ * references, stateful generators) are always generated sequentially.
+ * <p>
+ * Collection maps are concurrent so that independent collections can also be generated
+ * at the same time (see {@link CollectionScheduler}); each finished collection is published
+ * with a single atomic update.
  */
 public class EagerGenerationContext extends AbstractGenerationContext<JsonNode> {
+    private static final int MIN_CHUNK_SIZE = 16;
+
     private final Map<String, List<JsonNode>> namedCollections; // Final collections for output
     private final Map<String, List<JsonNode>> referenceCollections; // Collections available for references (includes DSL keys)
     private final Map<String, JsonNode> namedPicks;
+    private ForkJoinPool forkJoinPool;
+    private GenerationOrderAnalyzer orderAnalyzer;
 
     public EagerGenerationContext(GeneratorRegistry generatorRegistry, Random random,
                                   int maxFilteringRetries, FilteringBehavior filteringBehavior) {
         super(generatorRegistry, random, maxFilteringRetries, filteringBehavior);
-        this.namedCollections = new HashMap<>();
-        this.referenceCollections = new HashMap<>();
-        this.namedPicks = new HashMap<>();
+        this.namedCollections = new ConcurrentHashMap<>();
+        this.referenceCollections = new ConcurrentHashMap<>();
+        this.namedPicks = new ConcurrentHashMap<>();
     }
 
     public EagerGenerationContext(GeneratorRegistry generatorRegistry, Random random) {
         this(generatorRegistry, random, 100, FilteringBehavior.RETURN_NULL);
     }
 
+    /**
+     * Enables parallel item generation on the given pool.
+     *
+     * @param forkJoinPool the pool used to generate items
+     */
+    public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+        this.forkJoinPool = forkJoinPool;
+        this.orderAnalyzer = new GenerationOrderAnalyzer(generatorRegistry);
+    }
+
     @Override
     public void registerCollection(String name, List<JsonNode> collection) {
-        List<JsonNode> existing = namedCollections.get(name);
-        if (existing == null) {
-            namedCollections.put(name, new ArrayList<>(collection));
-        } else {
+        namedCollections.compute(name, (key, existing) -> {
+            if (existing == null) {
+                return new ArrayList<>(collection);
+            }
             // Merge collections with the same name
             existing.addAll(collection);
-        }
+            return existing;
+        });
+        invalidateCollection(name);
     }
 
     @Override
     public void registerReferenceCollection(String name, List<JsonNode> collection) {
         referenceCollections.put(name, new ArrayList<>(collection));
+        invalidateCollection(name);
     }
 
 
@@ -81,13 +112,7 @@ public class EagerGenerationContext extends AbstractGenerationContext<JsonNode>
 
     @Override
     public JsonNode createAndRegisterCollection(CollectionNode node, DataGenerationVisitor<JsonNode> visitor) {
-        // Standard eager generation
-        List<JsonNode> items = new ArrayList<>();
-
-        for (int i = 0; i < node.getCount(); i++) {
-            JsonNode item = node.getItem().accept(visitor);
-            items.add(item);
-        }
+        List<JsonNode> items = generateItems(node, visitor);
 
         // Register the collection
         registerCollection(node.getCollectionName(), items);
@@ -107,4 +132,65 @@ public class EagerGenerationContext extends AbstractGenerationContext<JsonNode>
             registerPick(alias, items.get(index));
         }
     }
+
+    private List<JsonNode> generateItems(CollectionNode node, DataGenerationVisitor<JsonNode> visitor) {
+        JsonNode[] items = new JsonNode[node.getCount()];
+
+        if (forkJoinPool != null && !orderAnalyzer.dependsOnGenerationOrder(node)) {
+            int chunkSize = Math.max(MIN_CHUNK_SIZE, items.length / (forkJoinPool.getParallelism() * 4));
+            ItemRangeTask task = new ItemRangeTask(node, visitor, items, 0, items.length, chunkSize);
+            if (ForkJoinTask.getPool() == forkJoinPool) {
+                // Already running on the pool, e.g. scheduled by the CollectionScheduler
+                task.invoke();
+            } else {
+                forkJoinPool.invoke(task);
+            }
+        } else {
+            generateRange(node, visitor, items, 0, items.length);
+        }
+
+        return Arrays.asList(items);
+    }
+
+    private void generateRange(CollectionNode node, DataGenerationVisitor<JsonNode> visitor,
+                               JsonNode[] items, int from, int to) {
+        for (int i = from; i < to; i++) {
+            positionRandomAt(node.getName(), i);
+            items[i] = node.getItem().accept(visitor);
+        }
+    }
+
+    /**
+     * Splits an index range of a collection until chunks are small enough, then
+     * generates each chunk with its own visitor.
+     */
+    private class ItemRangeTask extends RecursiveAction {
+        private final transient CollectionNode node;
+        private final transient DataGenerationVisitor<JsonNode> visitor;
+        private final transient JsonNode[] items;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        ItemRangeTask(CollectionNode node, DataGenerationVisitor<JsonNode> visitor,
+                      JsonNode[] items, int from, int to, int chunkSize) {
+            this.node = node;
+            this.visitor = visitor;
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                generateRange(node, visitor.copyForWorker(), items, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ItemRangeTask(node, visitor, items, from, middle, chunkSize),
+                new ItemRangeTask(node, visitor, items, middle, to, chunkSize));
+        }
+    }
 }
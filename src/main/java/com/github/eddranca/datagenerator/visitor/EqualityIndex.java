@@ -0,0 +1,157 @@
+package com.github.eddranca.datagenerator.visitor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.eddranca.datagenerator.node.ComparisonCondition;
+import com.github.eddranca.datagenerator.node.ComparisonOperator;
+import com.github.eddranca.datagenerator.node.Condition;
+import com.github.eddranca.datagenerator.node.LogicalCondition;
+import com.github.eddranca.datagenerator.util.JsonNodeUtils;
+
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Hash index of a collection by the value at one field path, used to answer equality
+ * conditions such as {@code users[country=$order.country]} without scanning the collection.
+ * <p>
+ * Buckets hold item positions in collection order, so a lookup returns the same items, in the
+ * same order, as filtering the collection with the condition. Keys follow the matching rules of
+ * {@link ComparisonCondition}: strings only match text values, booleans only match boolean
+ * values, integers and longs match integral numbers with the same value, and null matches null
+ * or missing values. Floating point values are compared with a tolerance and can't be hashed,
+ * so conditions on them are not indexable.
+ */
+final class EqualityIndex {
+    private static final Object NULL_KEY = new Object();
+    private static final Object UNMATCHABLE_KEY = new Object();
+    private static final int[] NO_ITEMS = new int[0];
+
+    private final List<JsonNode> source;
+    private final Map<Object, int[]> buckets;
+
+    private EqualityIndex(List<JsonNode> source, Map<Object, int[]> buckets) {
+        this.source = source;
+        this.buckets = buckets;
+    }
+
+    /**
+     * Builds the index of a collection by the value at a field path.
+     *
+     * @param source    the collection to index
+     * @param fieldPath dot-separated path of the indexed field
+     * @return the index
+     */
+    static EqualityIndex build(List<JsonNode> source, String fieldPath) {
+        Map<Object, int[]> buckets = new HashMap<>();
+        Map<Object, Integer> sizes = new HashMap<>();
+        int size = source.size();
+        Object[] keys = new Object[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = itemKey(JsonNodeUtils.extractNestedField(source.get(i), fieldPath));
+            sizes.merge(keys[i], 1, Integer::sum);
+        }
+        Map<Object, Integer> filled = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            int[] bucket = buckets.computeIfAbsent(keys[i], key -> new int[sizes.get(key)]);
+            bucket[filled.merge(keys[i], 1, Integer::sum) - 1] = i;
+        }
+        buckets.remove(UNMATCHABLE_KEY);
+        return new EqualityIndex(source, buckets);
+    }
+
+    /**
+     * Whether this index was built from the given collection instance.
+     */
+    boolean isFor(List<JsonNode> collection) {
+        return source == collection;
+    }
+
+    /**
+     * Returns the items whose indexed value equals the expected value of an equality condition.
+     */
+    List<JsonNode> lookup(Object expectedValue) {
+        return new Bucket(source, buckets.getOrDefault(expectedKey(expectedValue), NO_ITEMS));
+    }
+
+    int bucketSize(Object expectedValue) {
+        return buckets.getOrDefault(expectedKey(expectedValue), NO_ITEMS).length;
+    }
+
+    /**
+     * Returns the equality comparisons an index can answer: the condition itself, or the
+     * equality comparisons of an AND condition. Returns an empty list for other conditions.
+     */
+    static List<ComparisonCondition> indexableComparisons(Condition condition) {
+        if (condition instanceof ComparisonCondition comparison) {
+            return isIndexable(comparison) ? List.of(comparison) : List.of();
+        }
+        if (condition instanceof LogicalCondition logical && logical.getType() == LogicalCondition.Type.AND) {
+            return logical.getConditions().stream()
+                .filter(ComparisonCondition.class::isInstance)
+                .map(ComparisonCondition.class::cast)
+                .filter(EqualityIndex::isIndexable)
+                .toList();
+        }
+        return List.of();
+    }
+
+    private static boolean isIndexable(ComparisonCondition comparison) {
+        Object expected = comparison.getExpectedValue();
+        return comparison.getOperator() == ComparisonOperator.EQUALS
+            && (expected == null || expected instanceof String || expected instanceof Boolean
+            || expected instanceof Integer || expected instanceof Long);
+    }
+
+    private static Object expectedKey(Object expectedValue) {
+        if (expectedValue == null) {
+            return NULL_KEY;
+        }
+        if (expectedValue instanceof Integer intValue) {
+            return intValue.longValue();
+        }
+        return expectedValue;
+    }
+
+    private static Object itemKey(JsonNode value) {
+        if (value.isMissingNode() || value.isNull()) {
+            return NULL_KEY;
+        }
+        if (value.isTextual()) {
+            return value.textValue();
+        }
+        if (value.isBoolean()) {
+            return value.booleanValue();
+        }
+        if (value.isIntegralNumber()) {
+            return value.longValue();
+        }
+        // Objects, arrays and floating point values never equal an indexable expected value
+        return UNMATCHABLE_KEY;
+    }
+
+    /**
+     * List view over the items of one bucket.
+     */
+    private static final class Bucket extends AbstractList<JsonNode> implements RandomAccess {
+        private final List<JsonNode> source;
+        private final int[] positions;
+
+        Bucket(List<JsonNode> source, int[] positions) {
+            this.source = source;
+            this.positions = positions;
+        }
+
+        @Override
+        public JsonNode get(int index) {
+            return source.get(positions[index]);
+        }
+
+        @Override
+        public int size() {
+            return positions.length;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.eddranca.datagenerator.visitor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.eddranca.datagenerator.CacheStatistics;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Size-bounded cache of filtered collections with least-recently-used eviction.
+ * <p>
+ * Keys built from per-item filter values or resolved conditions can be unique to a single
+ * item, so an unbounded cache would grow with the size of the generated data. Hits, misses
+ * and evictions are counted and reported as {@link CacheStatistics}.
+ * <p>
+ * Values are computed outside of the cache lock: computing a filtered collection may read
+ * items that resolve references themselves. Two threads missing the same key may both compute
+ * it, which is harmless since the result is the same.
+ */
+public final class FilteredCollectionCache {
+    /**
+     * Default maximum number of cached filtered collections.
+     */
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final LinkedHashMap<FilteredCollectionKey, List<JsonNode>> entries;
+    private int maxSize;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public FilteredCollectionCache(int maxSize) {
+        this.maxSize = maxSize;
+        // Access order - iteration starts at the least recently used entry
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<FilteredCollectionKey, List<JsonNode>> eldest) {
+                if (size() > FilteredCollectionCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached filtered collection for a key, computing and caching it on a miss.
+     *
+     * @param key     the cache key
+     * @param compute computes the filtered collection
+     * @return the filtered collection
+     */
+    public List<JsonNode> get(FilteredCollectionKey key, Supplier<List<JsonNode>> compute) {
+        synchronized (entries) {
+            List<JsonNode> cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+
+        List<JsonNode> computed = compute.get();
+        if (maxSize > 0) {
+            synchronized (entries) {
+                entries.put(key, computed);
+            }
+        }
+        return computed;
+    }
+
+    /**
+     * Removes every cached filtered collection of a source collection, once the items
+     * registered under its name have changed. Removed entries are not counted as evictions.
+     *
+     * @param collectionName the name of the source collection
+     */
+    public void evictCollection(String collectionName) {
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.getCollectionName().equals(collectionName));
+        }
+    }
+
+    /**
+     * Sets the maximum number of cached entries, evicting the least recently used entries
+     * above it. Zero disables caching.
+     *
+     * @param maxSize the maximum number of entries
+     */
+    public void setMaxSize(int maxSize) {
+        synchronized (entries) {
+            this.maxSize = maxSize;
+            Iterator<Map.Entry<FilteredCollectionKey, List<JsonNode>>> iterator = entries.entrySet().iterator();
+            while (entries.size() > maxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions++;
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public CacheStatistics statistics() {
+        synchronized (entries) {
+            return new CacheStatistics(hits, misses, evictions, entries.size(), maxSize);
+        }
+    }
+}
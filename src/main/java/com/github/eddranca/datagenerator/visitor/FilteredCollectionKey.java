@@ -16,8 +16,8 @@ import java.util.Objects;
  * - The field name (if extracting a field before filtering)
  * <p>
  * The cache key is designed to be immutable and efficiently hashable.
- * It uses identity-based comparison for Condition objects since they are
- * part of the DSL tree structure and represent unique filtering logic.
+ * Conditions are compared by value, so a condition resolved from shadow bindings
+ * for one item hits the entry of an earlier item that resolved to the same values.
  */
 public final class FilteredCollectionKey {
     private final String collectionName;
@@ -43,10 +43,12 @@ public final class FilteredCollectionKey {
         this.hashCode = computeHashCode();
     }
 
+    public String getCollectionName() {
+        return collectionName;
+    }
+
     private int computeHashCode() {
-        // Use identity hash for condition since it's part of the DSL tree
-        int conditionHash = condition != null ? System.identityHashCode(condition) : 0;
-        return Objects.hash(collectionName, conditionHash, filterValues, fieldName);
+        return Objects.hash(collectionName, condition, filterValues, fieldName);
     }
 
     @Override
@@ -60,9 +62,8 @@ public final class FilteredCollectionKey {
 
         FilteredCollectionKey that = (FilteredCollectionKey) obj;
 
-        // Use identity comparison for condition (same DSL node = same filtering logic)
         return Objects.equals(collectionName, that.collectionName) &&
-               condition == that.condition &&
+               Objects.equals(condition, that.condition) &&
                Objects.equals(filterValues, that.filterValues) &&
                Objects.equals(fieldName, that.fieldName);
     }
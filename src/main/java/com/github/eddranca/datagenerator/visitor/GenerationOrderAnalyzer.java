@@ -0,0 +1,185 @@
+package com.github.eddranca.datagenerator.visitor;
+
+import com.github.eddranca.datagenerator.generator.Generator;
+import com.github.eddranca.datagenerator.generator.GeneratorRegistry;
+import com.github.eddranca.datagenerator.node.AbstractReferenceNode;
+import com.github.eddranca.datagenerator.node.ArrayFieldNode;
+import com.github.eddranca.datagenerator.node.ArrayFieldReferenceNode;
+import com.github.eddranca.datagenerator.node.ChoiceFieldNode;
+import com.github.eddranca.datagenerator.node.CollectionNode;
+import com.github.eddranca.datagenerator.node.ConditionalReferenceNode;
+import com.github.eddranca.datagenerator.node.DslNode;
+import com.github.eddranca.datagenerator.node.DslNodeVisitor;
+import com.github.eddranca.datagenerator.node.ExpressionFieldNode;
+import com.github.eddranca.datagenerator.node.FilterNode;
+import com.github.eddranca.datagenerator.node.GeneratedFieldNode;
+import com.github.eddranca.datagenerator.node.GeneratorOptionNode;
+import com.github.eddranca.datagenerator.node.IndexedReferenceNode;
+import com.github.eddranca.datagenerator.node.ItemNode;
+import com.github.eddranca.datagenerator.node.LiteralFieldNode;
+import com.github.eddranca.datagenerator.node.ObjectFieldNode;
+import com.github.eddranca.datagenerator.node.OptionReferenceNode;
+import com.github.eddranca.datagenerator.node.PickReferenceNode;
+import com.github.eddranca.datagenerator.node.ReferenceSpreadFieldNode;
+import com.github.eddranca.datagenerator.node.RootNode;
+import com.github.eddranca.datagenerator.node.SelfReferenceNode;
+import com.github.eddranca.datagenerator.node.ShadowBindingFieldNode;
+import com.github.eddranca.datagenerator.node.ShadowBindingNode;
+import com.github.eddranca.datagenerator.node.SimpleReferenceNode;
+import com.github.eddranca.datagenerator.node.SpreadFieldNode;
+
+import java.util.Collection;
+
+/**
+ * Detects item definitions whose values depend on the order in which items are generated.
+ * <p>
+ * An item is order-dependent when it contains a sequential (round-robin) reference or
+ * uses a stateful generator such as {@code sequence} or {@code csv}. Such collections must
+ * be generated one item after another; all other collections can be generated in parallel.
+ */
+public class GenerationOrderAnalyzer implements DslNodeVisitor<Boolean> {
+    private final GeneratorRegistry generatorRegistry;
+
+    public GenerationOrderAnalyzer(GeneratorRegistry generatorRegistry) {
+        this.generatorRegistry = generatorRegistry;
+    }
+
+    /**
+     * Checks whether the items of a collection must be generated sequentially.
+     *
+     * @param collection the collection to analyze
+     * @return true if item values depend on generation order
+     */
+    public boolean dependsOnGenerationOrder(CollectionNode collection) {
+        return collection.accept(this);
+    }
+
+    @Override
+    public Boolean visitRoot(RootNode node) {
+        return anyMatch(node.getCollections().values());
+    }
+
+    @Override
+    public Boolean visitCollection(CollectionNode node) {
+        return node.getItem().accept(this);
+    }
+
+    @Override
+    public Boolean visitItem(ItemNode node) {
+        return anyMatch(node.getFields().values());
+    }
+
+    @Override
+    public Boolean visitGeneratedField(GeneratedFieldNode node) {
+        Generator generator = generatorRegistry.get(node.getGeneratorName());
+        if (generator != null && generator.isStateful()) {
+            return true;
+        }
+        for (OptionReferenceNode optionRef : node.getOptions().getRuntimeOptions().values()) {
+            if (optionRef.getReference().accept(this)) {
+                return true;
+            }
+        }
+        return anyMatch(node.getOptions().getGeneratorOptions().values()) || anyMatch(node.getFilters());
+    }
+
+    @Override
+    public Boolean visitGeneratorOption(GeneratorOptionNode node) {
+        return node.isChoiceField() ? node.getChoiceField().accept(this) : node.getGeneratorField().accept(this);
+    }
+
+    @Override
+    public Boolean visitIndexedReference(IndexedReferenceNode node) {
+        return isOrderDependent(node);
+    }
+
+    @Override
+    public Boolean visitArrayFieldReference(ArrayFieldReferenceNode node) {
+        return isOrderDependent(node);
+    }
+
+    @Override
+    public Boolean visitSelfReference(SelfReferenceNode node) {
+        return isOrderDependent(node);
+    }
+
+    @Override
+    public Boolean visitSimpleReference(SimpleReferenceNode node) {
+        return isOrderDependent(node);
+    }
+
+    @Override
+    public Boolean visitPickReference(PickReferenceNode node) {
+        return isOrderDependent(node);
+    }
+
+    @Override
+    public Boolean visitConditionalReference(ConditionalReferenceNode node) {
+        return isOrderDependent(node);
+    }
+
+    @Override
+    public Boolean visitChoiceField(ChoiceFieldNode node) {
+        return anyMatch(node.getOptions()) || anyMatch(node.getFilters());
+    }
+
+    @Override
+    public Boolean visitObjectField(ObjectFieldNode node) {
+        return anyMatch(node.getFields().values());
+    }
+
+    @Override
+    public Boolean visitSpreadField(SpreadFieldNode node) {
+        Generator generator = generatorRegistry.get(node.getGeneratorName());
+        return generator != null && generator.isStateful();
+    }
+
+    @Override
+    public Boolean visitReferenceSpreadField(ReferenceSpreadFieldNode node) {
+        return node.isSequential() || anyMatch(node.getFilters());
+    }
+
+    @Override
+    public Boolean visitLiteralField(LiteralFieldNode node) {
+        return false;
+    }
+
+    @Override
+    public Boolean visitArrayField(ArrayFieldNode node) {
+        return node.getItemNode().accept(this);
+    }
+
+    @Override
+    public Boolean visitFilter(FilterNode node) {
+        return node.getFilterExpression().accept(this);
+    }
+
+    @Override
+    public Boolean visitShadowBinding(ShadowBindingNode node) {
+        return node.getReferenceNode() != null && node.getReferenceNode().accept(this);
+    }
+
+    @Override
+    public Boolean visitShadowBindingField(ShadowBindingFieldNode node) {
+        return false;
+    }
+
+    @Override
+    public Boolean visitExpression(ExpressionFieldNode node) {
+        // References inside expressions are always resolved randomly
+        return false;
+    }
+
+    private boolean isOrderDependent(AbstractReferenceNode node) {
+        return node.isSequential() || anyMatch(node.getFilters());
+    }
+
+    private boolean anyMatch(Collection<? extends DslNode> nodes) {
+        for (DslNode node : nodes) {
+            if (node.accept(this)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
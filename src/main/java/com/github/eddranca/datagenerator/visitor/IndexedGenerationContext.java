@@ -0,0 +1,213 @@
+package com.github.eddranca.datagenerator.visitor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.eddranca.datagenerator.FilteringBehavior;
+import com.github.eddranca.datagenerator.generator.GeneratorRegistry;
+import com.github.eddranca.datagenerator.node.CollectionNode;
+import com.github.eddranca.datagenerator.random.CoordinateRandom;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Generation context for random-access generation.
+ * <p>
+ * Nothing is generated up front: every collection is registered as a list that computes
+ * the item at a given index when it is requested. Since each item draws from its own
+ * coordinate stream (see {@link CoordinateRandom}), an item can be computed without
+ * generating the items before it, and computing it twice yields the same value.
+ * References into other collections pick an index and compute only that item.
+ * <p>
+ * Filtered and conditional references still scan the referenced collection once, and
+ * collections whose values depend on generation order (sequential references, stateful
+ * generators) are generated in full, in order, the first time one of their items is needed.
+ */
+public class IndexedGenerationContext extends AbstractGenerationContext<JsonNode> {
+    private final CoordinateRandom coordinateRandom;
+    private final GenerationOrderAnalyzer orderAnalyzer;
+    private final Map<String, List<JsonNode>> namedCollections; // Final collections for output
+    private final Map<String, List<JsonNode>> referenceCollections; // Collections available for references (includes DSL keys)
+    private final Map<String, JsonNode> namedPicks;
+
+    public IndexedGenerationContext(GeneratorRegistry generatorRegistry, CoordinateRandom random,
+                                    int maxFilteringRetries, FilteringBehavior filteringBehavior) {
+        super(generatorRegistry, random, maxFilteringRetries, filteringBehavior);
+        this.coordinateRandom = random;
+        this.orderAnalyzer = new GenerationOrderAnalyzer(generatorRegistry);
+        this.namedCollections = new ConcurrentHashMap<>();
+        this.referenceCollections = new ConcurrentHashMap<>();
+        this.namedPicks = new ConcurrentHashMap<>();
+    }
+
+    public IndexedGenerationContext(GeneratorRegistry generatorRegistry, CoordinateRandom random) {
+        this(generatorRegistry, random, 100, FilteringBehavior.RETURN_NULL);
+    }
+
+    @Override
+    public void registerCollection(String name, List<JsonNode> collection) {
+        // Merge collections with the same name by index arithmetic over both parts
+        namedCollections.merge(name, collection, ConcatenatedList::new);
+        invalidateCollection(name);
+    }
+
+    @Override
+    public void registerReferenceCollection(String name, List<JsonNode> collection) {
+        referenceCollections.put(name, collection);
+        invalidateCollection(name);
+    }
+
+    @Override
+    public void registerPick(String name, JsonNode value) {
+        namedPicks.put(name, value);
+    }
+
+    @Override
+    public List<JsonNode> getCollection(String name) {
+        List<JsonNode> collection = referenceCollections.get(name);
+        if (collection != null) {
+            return collection;
+        }
+        collection = namedCollections.get(name);
+        return collection != null ? collection : List.of();
+    }
+
+    @Override
+    public JsonNode getNamedPick(String name) {
+        return namedPicks.get(name);
+    }
+
+    @Override
+    public Map<String, List<JsonNode>> getNamedCollections() {
+        return namedCollections;
+    }
+
+    @Override
+    public JsonNode createAndRegisterCollection(CollectionNode node, DataGenerationVisitor<JsonNode> visitor) {
+        List<JsonNode> items = orderAnalyzer.dependsOnGenerationOrder(node)
+            ? new SequentialItemList(node, visitor)
+            : new IndexedItemList(node, visitor);
+
+        registerCollection(node.getCollectionName(), items);
+
+        if (!node.getName().equals(node.getCollectionName())) {
+            registerReferenceCollection(node.getName(), items);
+        }
+
+        return mapper.createArrayNode();
+    }
+
+    @Override
+    public void registerPickFromCollection(String alias, int index, String collectionName) {
+        List<JsonNode> items = getCollection(collectionName);
+        if (index < items.size()) {
+            registerPick(alias, items.get(index));
+        }
+    }
+
+    /**
+     * Computes one item of a collection on its own coordinate stream. The caller's stream
+     * position and per-item visitor state are left untouched, so items can be computed
+     * while another item is being generated.
+     */
+    private JsonNode computeItem(CollectionNode node, DataGenerationVisitor<JsonNode> visitor, int index) {
+        CoordinateRandom.Position position = coordinateRandom.capturePosition();
+        try {
+            positionRandomAt(node.getName(), index);
+            return node.getItem().accept(visitor.copyForWorker());
+        } finally {
+            coordinateRandom.restorePosition(position);
+        }
+    }
+
+    /**
+     * Items of an order-independent collection, computed from their index on every access.
+     */
+    private class IndexedItemList extends AbstractList<JsonNode> implements RandomAccess {
+        private final CollectionNode node;
+        private final DataGenerationVisitor<JsonNode> visitor;
+
+        IndexedItemList(CollectionNode node, DataGenerationVisitor<JsonNode> visitor) {
+            this.node = node;
+            this.visitor = visitor;
+        }
+
+        @Override
+        public JsonNode get(int index) {
+            return computeItem(node, visitor, Objects.checkIndex(index, size()));
+        }
+
+        @Override
+        public int size() {
+            return node.getCount();
+        }
+    }
+
+    /**
+     * Items of a collection that depends on generation order, generated in full on first access.
+     */
+    private class SequentialItemList extends AbstractList<JsonNode> implements RandomAccess {
+        private final CollectionNode node;
+        private final DataGenerationVisitor<JsonNode> visitor;
+        private volatile JsonNode[] items;
+
+        SequentialItemList(CollectionNode node, DataGenerationVisitor<JsonNode> visitor) {
+            this.node = node;
+            this.visitor = visitor;
+        }
+
+        @Override
+        public JsonNode get(int index) {
+            return materialize()[Objects.checkIndex(index, size())];
+        }
+
+        @Override
+        public int size() {
+            return node.getCount();
+        }
+
+        private JsonNode[] materialize() {
+            JsonNode[] result = items;
+            if (result == null) {
+                synchronized (this) {
+                    result = items;
+                    if (result == null) {
+                        result = new JsonNode[node.getCount()];
+                        for (int i = 0; i < result.length; i++) {
+                            result[i] = computeItem(node, visitor, i);
+                        }
+                        items = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Two collections registered under the same name, addressed as one.
+     */
+    private static class ConcatenatedList extends AbstractList<JsonNode> implements RandomAccess {
+        private final List<JsonNode> first;
+        private final List<JsonNode> second;
+
+        ConcatenatedList(List<JsonNode> first, List<JsonNode> second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public JsonNode get(int index) {
+            int firstSize = first.size();
+            return index < firstSize ? first.get(index) : second.get(index - firstSize);
+        }
+
+        @Override
+        public int size() {
+            return first.size() + second.size();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.github.eddranca.datagenerator.visitor;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.eddranca.datagenerator.generator.Generator;
+import com.github.eddranca.datagenerator.generator.GeneratorContext;
+import com.github.eddranca.datagenerator.generator.JsonGeneratorValueSink;
+import com.github.eddranca.datagenerator.node.DslNode;
+import com.github.eddranca.datagenerator.node.DslNodeVisitor;
+import com.github.eddranca.datagenerator.util.FieldApplicationUtil;
+
+import java.io.IOException;
+
+/**
+ * Flat, pre-bound execution plan for an item or object definition.
+ * <p>
+ * Field names, output flags and spread flags are resolved once into parallel arrays so
+ * that generating an object is a single indexed loop. Each slot holds a {@link FieldStep}
+ * which is either a pre-bound generator call or a fallback to regular visitor dispatch.
+ * <p>
+ * Each slot also carries the field's path within the item. When the generation uses
+ * per-coordinate random streams, the stream is positioned at that path before the field
+ * is generated. Objects nested in arrays or choices have no paths, since the same
+ * definition is generated several times per item.
+ */
+final class ItemPlan {
+    private final String[] fieldNames;
+    private final String[] fieldPaths;
+    private final FieldStep[] steps;
+    private final boolean[] outputFields;
+    private final boolean[] spreadFields;
+    private final boolean usesShadowBindings;
+
+    ItemPlan(String[] fieldNames, String[] fieldPaths, FieldStep[] steps, boolean[] outputFields,
+             boolean[] spreadFields, boolean usesShadowBindings) {
+        this.fieldNames = fieldNames;
+        this.fieldPaths = fieldPaths;
+        this.steps = steps;
+        this.outputFields = outputFields;
+        this.spreadFields = spreadFields;
+        this.usesShadowBindings = usesShadowBindings;
+    }
+
+    /**
+     * Whether any field of this object, at any depth, defines a shadow binding.
+     */
+    boolean usesShadowBindings() {
+        return usesShadowBindings;
+    }
+
+    /**
+     * Whether any field is a spread, whose fields may replace fields declared before it.
+     */
+    boolean hasSpreads() {
+        for (boolean spread : spreadFields) {
+            if (spread) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Generates all fields into the target object, in declaration order.
+     * Shadow binding fields are evaluated but not written, the others are applied with
+     * {@link FieldApplicationUtil}, like in {@link DataGenerationVisitor}.
+     */
+    JsonNode apply(DataGenerationVisitor<?> visitor, ObjectNode target) {
+        boolean fieldStreams = visitor.usesFieldStreams();
+        for (int i = 0; i < steps.length; i++) {
+            if (fieldStreams && fieldPaths[i] != null) {
+                visitor.positionAtField(fieldPaths[i]);
+            }
+            JsonNode value = steps[i].evaluate(visitor);
+
+            if (outputFields[i]) {
+                FieldApplicationUtil.applyFieldToObject(target, fieldNames[i], spreadFields[i], value);
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Generates all fields and writes them to a JSON generator as an object, in declaration
+     * order, without building the object. Only for plans without spread fields, since a
+     * spread may replace fields written before it.
+     */
+    void write(DataGenerationVisitor<?> visitor, JsonGeneratorValueSink sink) throws IOException {
+        boolean fieldStreams = visitor.usesFieldStreams();
+        JsonGenerator generator = sink.getGenerator();
+        generator.writeStartObject();
+        for (int i = 0; i < steps.length; i++) {
+            if (fieldStreams && fieldPaths[i] != null) {
+                visitor.positionAtField(fieldPaths[i]);
+            }
+            if (!outputFields[i]) {
+                steps[i].evaluate(visitor);
+                continue;
+            }
+            generator.writeFieldName(fieldNames[i]);
+            steps[i].write(visitor, sink);
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * One compiled field of a plan.
+     */
+    @FunctionalInterface
+    interface FieldStep {
+        JsonNode evaluate(DslNodeVisitor<JsonNode> visitor);
+
+        /**
+         * Writes the field's value into a sink writing to a JSON generator. Default
+         * implementation writes the evaluated value.
+         */
+        default void write(DataGenerationVisitor<?> visitor, JsonGeneratorValueSink sink) throws IOException {
+            sink.writeValue(evaluate(visitor));
+        }
+
+        static FieldStep visiting(DslNode node) {
+            return new FieldStep() {
+                @Override
+                public JsonNode evaluate(DslNodeVisitor<JsonNode> visitor) {
+                    return node.accept(visitor);
+                }
+
+                @Override
+                public void write(DataGenerationVisitor<?> visitor, JsonGeneratorValueSink sink) throws IOException {
+                    visitor.writeValue(node, sink);
+                }
+            };
+        }
+
+        /**
+         * A generator bound to its context. Written values go through
+         * {@link Generator#generateInto}, without a JsonNode for scalars.
+         */
+        static FieldStep generating(Generator generator, GeneratorContext context) {
+            return new FieldStep() {
+                @Override
+                public JsonNode evaluate(DslNodeVisitor<JsonNode> visitor) {
+                    return generator.generate(context);
+                }
+
+                @Override
+                public void write(DataGenerationVisitor<?> visitor, JsonGeneratorValueSink sink) {
+                    generator.generateInto(context, sink);
+                }
+            };
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.github.eddranca.datagenerator.FilteringBehavior;
 import com.github.eddranca.datagenerator.generator.GeneratorRegistry;
 import com.github.eddranca.datagenerator.node.CollectionNode;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -18,6 +19,14 @@ import java.util.Set;
  * This implementation uses lazy evaluation and caching to minimize memory usage.
  * Collections are stored as lazy proxies and materialized on-demand, with
  * caching to ensure consistency across multiple accesses.
+ * <p>
+ * When references only read known paths of a collection, the collection is not materialized
+ * for them: its referenced paths are copied into a {@link ColumnarReferenceStore} and
+ * references read from that instead.
+ * <p>
+ * Collections that nothing references (see {@link #setStreamedCollections(Set)}) are not
+ * stored at all: their items are created when the collection is streamed for output and
+ * handed straight to the consumer, so memory use does not grow with their count.
  */
 public class LazyGenerationContext extends AbstractGenerationContext<LazyItemProxy> {
     // Lazy collection support for memory optimization
@@ -30,6 +39,8 @@ public class LazyGenerationContext extends AbstractGenerationContext<LazyItemPro
 
     // Memory optimization fields
     private Map<String, Set<String>> referencedPaths;
+    private Set<String> collectionsReadWithoutPaths = Set.of();
+    private Set<String> streamedCollections = Set.of();
 
     public LazyGenerationContext(GeneratorRegistry generatorRegistry, Random random,
                                  int maxFilteringRetries, FilteringBehavior filteringBehavior) {
@@ -45,6 +56,25 @@ public class LazyGenerationContext extends AbstractGenerationContext<LazyItemPro
         this(generatorRegistry, random, 100, FilteringBehavior.RETURN_NULL);
     }
 
+    /**
+     * Lazy items are not positioned per coordinate, fields are materialized on demand
+     * from the shared stream.
+     */
+    @Override
+    protected boolean usesFieldStreams() {
+        return false;
+    }
+
+    /**
+     * Also drops the collection's materialized view, which was built from the items registered
+     * before.
+     */
+    @Override
+    protected void invalidateCollection(String name) {
+        super.invalidateCollection(name);
+        materializedCollectionCache.remove(name);
+    }
+
     @Override
     public void registerCollection(String name, List<LazyItemProxy> collection) {
         List<LazyItemProxy> existing = lazyNamedCollections.get(name);
@@ -54,11 +84,13 @@ public class LazyGenerationContext extends AbstractGenerationContext<LazyItemPro
             // Merge collections with the same name
             existing.addAll(collection);
         }
+        invalidateCollection(name);
     }
 
     @Override
     public void registerReferenceCollection(String name, List<LazyItemProxy> collection) {
         lazyReferenceCollections.put(name, new ArrayList<>(collection));
+        invalidateCollection(name);
     }
 
 
@@ -75,23 +107,24 @@ public class LazyGenerationContext extends AbstractGenerationContext<LazyItemPro
             return cached;
         }
 
-        // Check lazy reference collections first (highest priority)
+        // Check lazy reference collections first (highest priority), then named collections
         List<LazyItemProxy> lazyCollection = lazyReferenceCollections.get(name);
-        if (lazyCollection != null) {
-            List<JsonNode> materialized = materializeLazyCollection(lazyCollection);
-            materializedCollectionCache.put(name, materialized);
-            return materialized;
+        if (lazyCollection == null) {
+            lazyCollection = lazyNamedCollections.get(name);
         }
-
-        // Check lazy named collections
-        lazyCollection = lazyNamedCollections.get(name);
-        if (lazyCollection != null) {
-            List<JsonNode> materialized = materializeLazyCollection(lazyCollection);
-            materializedCollectionCache.put(name, materialized);
-            return materialized;
+        if (lazyCollection == null) {
+            return List.of();
         }
 
-        return List.of();
+        Set<String> paths = getReferencedPaths(name);
+        List<JsonNode> materialized;
+        if (paths.isEmpty() || paths.contains("*") || collectionsReadWithoutPaths.contains(name)) {
+            materialized = materializeLazyCollection(lazyCollection);
+        } else {
+            materialized = ColumnarReferenceStore.build(lazyCollection, paths).rows();
+        }
+        materializedCollectionCache.put(name, materialized);
+        return materialized;
     }
 
 
@@ -126,8 +159,30 @@ public class LazyGenerationContext extends AbstractGenerationContext<LazyItemPro
     }
 
 
+    /**
+     * Sets the collections read by expressions or reference filters, which may access any
+     * path and are therefore always fully materialized for references.
+     */
+    public void setCollectionsReadWithoutPaths(Set<String> collectionsReadWithoutPaths) {
+        this.collectionsReadWithoutPaths = Set.copyOf(collectionsReadWithoutPaths);
+    }
+
+    /**
+     * Sets the DSL keys of the collections whose items are created only at output time.
+     * These collections must not be referenced, picked from or share their collection name.
+     */
+    public void setStreamedCollections(Set<String> streamedCollections) {
+        this.streamedCollections = Set.copyOf(streamedCollections);
+    }
+
     @Override
     public JsonNode createAndRegisterCollection(CollectionNode node, DataGenerationVisitor<LazyItemProxy> visitor) {
+        if (streamedCollections.contains(node.getName())) {
+            // Registered as is - copying the list would create every item
+            lazyNamedCollections.put(node.getCollectionName(), new StreamedItemList(node, visitor));
+            return mapper.createArrayNode();
+        }
+
         Set<String> paths = getReferencedPaths(node.getCollectionName());
 
         // Generate all items with only referenced fields materialized
@@ -164,17 +219,13 @@ public class LazyGenerationContext extends AbstractGenerationContext<LazyItemPro
      * Creates a list of LazyItemProxy objects for a collection.
      */
     private List<LazyItemProxy> createLazyItemList(CollectionNode node, Set<String> referencedPaths, DataGenerationVisitor<LazyItemProxy> visitor) {
-        List<LazyItemProxy> items = new ArrayList<>();
         int count = node.getCount();
+        List<LazyItemProxy> items = new ArrayList<>(count);
+        // One schema per collection - items only keep their values
+        LazyItemSchema schema = LazyItemSchema.of(node, referencedPaths, visitor);
 
         for (int i = 0; i < count; i++) {
-            LazyItemProxy item = new LazyItemProxy(
-                    node.getCollectionName(),
-                    node.getItem().getFields(),
-                    referencedPaths,
-                    visitor
-            );
-            items.add(item);
+            items.add(new LazyItemProxy(schema));
         }
 
         return items;
@@ -186,4 +237,27 @@ public class LazyGenerationContext extends AbstractGenerationContext<LazyItemPro
         }
         return referencedPaths.getOrDefault(collection, Set.of());
     }
+
+    /**
+     * Items of an unreferenced collection, created on every access and not retained.
+     */
+    private static class StreamedItemList extends AbstractList<LazyItemProxy> {
+        private final LazyItemSchema schema;
+        private final int size;
+
+        StreamedItemList(CollectionNode node, DataGenerationVisitor<LazyItemProxy> visitor) {
+            this.schema = LazyItemSchema.streamed(node, visitor);
+            this.size = node.getCount();
+        }
+
+        @Override
+        public LazyItemProxy get(int index) {
+            return new LazyItemProxy(schema);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
 }
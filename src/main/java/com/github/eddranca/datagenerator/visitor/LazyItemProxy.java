@@ -1,15 +1,16 @@
 package com.github.eddranca.datagenerator.visitor;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.eddranca.datagenerator.generator.JsonGeneratorValueSink;
 import com.github.eddranca.datagenerator.node.DslNode;
-import com.github.eddranca.datagenerator.node.GeneratedFieldNode;
 import com.github.eddranca.datagenerator.node.ObjectFieldNode;
-import com.github.eddranca.datagenerator.node.OptionReferenceNode;
-import com.github.eddranca.datagenerator.node.SelfReferenceNode;
-import com.github.eddranca.datagenerator.node.ShadowBindingNode;
+import com.github.eddranca.datagenerator.util.FieldApplicationUtil;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -19,141 +20,125 @@ import java.util.Set;
  * This allows us to keep only referenced fields in memory during generation
  * and generate the rest when needed for output.
  * <p>
+ * Everything that is the same for all items of a collection lives in a shared
+ * {@link LazyItemSchema}. An item only keeps its field values, indexed by slot, and a mask
+ * of the slots materialized so far. Shadow binding values are kept in their slots too.
+ * <p>
  * Supports nested path materialization for complex object hierarchies.
  * This is a simple POJO that doesn't implement JsonNode for cleaner design.
  */
-public class LazyItemProxy extends AbstractLazyProxy {
-    private final String collectionName;
-    private boolean fullyMaterialized = false;
-    // Store shadow bindings per-item to preserve them for later materialization
-    private final Map<String, JsonNode> itemShadowBindings = new HashMap<>();
-
-    public LazyItemProxy(String collectionName,
-                         Map<String, DslNode> fieldNodes,
-                         Set<String> referencedPaths,
-                         DataGenerationVisitor<LazyItemProxy> visitor) {
-        super(fieldNodes, referencedPaths, visitor);
-        this.collectionName = collectionName;
-
-        // Clear shadow bindings for this new item
-        visitor.getShadowBindings().clear();
-
-        // First, materialize shadow bindings (fields starting with $)
-        // These must be materialized before any fields that depend on them
-        materializeShadowBindings();
+public class LazyItemProxy {
+    private final LazyItemSchema schema;
+    private final JsonNode[] values;
+    private long materializedMask; // Slots 0-63
+    private long[] overflowMask; // Slots from 64 on, only for very wide items
 
-        // Store shadow bindings for this item (for later materialization)
-        itemShadowBindings.putAll(visitor.getShadowBindings());
-
-        // Then, materialize fields that are referenced by runtime options
-        // This ensures they're available when generating fields that depend on them
-        materializeRuntimeOptionDependencies();
+    LazyItemProxy(LazyItemSchema schema) {
+        this.schema = schema;
+        this.values = new JsonNode[schema.size()];
+        if (schema.size() > Long.SIZE) {
+            this.overflowMask = new long[(schema.size() - 1) / Long.SIZE];
+        }
 
-        // Then generate only referenced fields immediately
-        materializeReferencedFields();
+        // Clear shadow bindings for this new item; shadow bindings, fields read by runtime
+        // options and referenced fields are materialized right away, in that order
+        DataGenerationVisitor<LazyItemProxy> visitor = schema.visitor();
+        visitor.getShadowBindings().clear();
+        ObjectNode current = currentObject();
+        for (int slot : schema.initialSlots()) {
+            materializeSlot(slot, current);
+        }
     }
 
-    /**
-     * Materializes all shadow binding fields first.
-     * Shadow bindings must be processed before other fields that may depend on them.
-     */
-    private void materializeShadowBindings() {
-        for (Map.Entry<String, DslNode> entry : fieldNodes.entrySet()) {
-            String fieldName = entry.getKey();
-            DslNode fieldNode = entry.getValue();
+    private boolean isMaterialized(int slot) {
+        if (slot < Long.SIZE) {
+            return (materializedMask & (1L << slot)) != 0;
+        }
+        int bit = slot - Long.SIZE;
+        return (overflowMask[bit / Long.SIZE] & (1L << bit)) != 0;
+    }
 
-            if (fieldNode instanceof ShadowBindingNode) {
-                materializeField(fieldName);
-            }
+    private void markMaterialized(int slot) {
+        if (slot < Long.SIZE) {
+            materializedMask |= 1L << slot;
+        } else {
+            int bit = slot - Long.SIZE;
+            overflowMask[bit / Long.SIZE] |= 1L << bit;
         }
     }
 
-    /**
-     * Materializes fields that are referenced by runtime-computed options.
-     * <p>
-     * This ensures that when a field uses runtime options like {"ref": "this.otherField"},
-     * the referenced field is already materialized and available in the delegate.
-     * <p>
-     * This is critical for lazy generation to work correctly with runtime-computed options,
-     * as it establishes the correct field generation order based on dependencies.
-     */
-    private void materializeRuntimeOptionDependencies() {
-        for (Map.Entry<String, DslNode> entry : fieldNodes.entrySet()) {
-            DslNode fieldNode = entry.getValue();
-
-            if (fieldNode instanceof GeneratedFieldNode genField && genField.getOptions().hasRuntimeOptions()) {
-                // This field has runtime options - materialize any self-referenced fields first
-                for (OptionReferenceNode optionRef : genField.getOptions().getRuntimeOptions().values()) {
-                    if (optionRef.getReference() instanceof SelfReferenceNode selfRef) {
-                        materializeSelfReferencedField(selfRef.getFieldName());
-                    }
-                }
+    private boolean isFullyMaterialized() {
+        for (int slot = 0; slot < values.length; slot++) {
+            if (!isMaterialized(slot)) {
+                return false;
             }
         }
+        return true;
     }
 
     /**
-     * Materializes a field referenced by a self-reference.
-     * Handles nested paths by extracting the top-level field name.
-     *
-     * @param fieldPath the field path (e.g., "baseValue" or "data.baseValue")
+     * Materializes a slot if not already materialized, also applying it to the object that
+     * self references of the remaining fields see.
      */
-    private void materializeSelfReferencedField(String fieldPath) {
-        // Handle nested paths like "data.baseValue" - just get the first part
-        String topLevelField = fieldPath.contains(".") ?
-            fieldPath.substring(0, fieldPath.indexOf(".")) :
-            fieldPath;
-
-        // Materialize this field if it exists and hasn't been materialized yet
-        if (fieldNodes.containsKey(topLevelField)) {
-            materializeField(topLevelField);
+    private void materializeSlot(int slot, ObjectNode current) {
+        if (isMaterialized(slot)) {
+            return;
         }
-    }
-
-    @Override
-    protected boolean shouldMaterializeField(String fieldName) {
-        // If entire object is referenced, materialize everything
-        if (referencedPaths.contains("*")) {
-            return true;
+        JsonNode value = generateFieldValue(slot, current);
+        values[slot] = value;
+        markMaterialized(slot);
+        if (schema.isOutput(slot)) {
+            FieldApplicationUtil.applyFieldToObject(current, schema.fieldName(slot), schema.fieldNode(slot), value);
         }
-
-        // Check if this field or any nested path is referenced
-        return referencedPaths.contains(fieldName) || hasReferencesWithPrefix(fieldName);
     }
 
-    @Override
-    protected JsonNode generateFieldValue(String fieldName, DslNode fieldNode) {
-        // If this is an ObjectFieldNode and has nested references, create a LazyObjectProxy
-        if (fieldNode instanceof ObjectFieldNode objectFieldNode && hasReferencesWithPrefix(fieldName)) {
-            Set<String> nestedReferences = getReferencesWithPrefix(fieldName);
+    private JsonNode generateFieldValue(int slot, ObjectNode current) {
+        String fieldName = schema.fieldName(slot);
+        DslNode fieldNode = schema.fieldNode(slot);
+        DataGenerationVisitor<LazyItemProxy> visitor = schema.visitor();
 
+        // If this is an ObjectFieldNode and has nested references, create a LazyObjectProxy
+        Set<String> nestedReferences = schema.nestedReferences(slot);
+        if (fieldNode instanceof ObjectFieldNode objectFieldNode && nestedReferences != null) {
             LazyObjectProxy lazyObjectProxy = new LazyObjectProxy(
                 objectFieldNode.getFields(),
                 nestedReferences,
                 visitor,
                 fieldName);
 
-            // Get the materialized copy for storage in the delegate
+            // Get the materialized copy for storage in the item
             return lazyObjectProxy.getMaterializedCopy();
-        } else {
-            // Set current item context for self-references
-            ObjectNode previousItem = visitor.getCurrentItem();
-            try {
-                visitor.setCurrentItem(delegate);
-                JsonNode value = fieldNode.accept(visitor);
-
-                // If this is a shadow binding, store the value in the visitor's shadow bindings map
-                if (fieldNode instanceof ShadowBindingNode) {
-                    visitor.getShadowBindings().put(fieldName, value);
-                }
+        }
+
+        // Set current item context for self-references
+        ObjectNode previousItem = visitor.getCurrentItem();
+        try {
+            visitor.setCurrentItem(current);
+            JsonNode value = fieldNode.accept(visitor);
 
-                return value;
-            } finally {
-                visitor.setCurrentItem(previousItem);
+            // If this is a shadow binding, store the value in the visitor's shadow bindings map
+            if (schema.isShadowBinding(slot)) {
+                visitor.getShadowBindings().put(fieldName, value);
             }
+
+            return value;
+        } finally {
+            visitor.setCurrentItem(previousItem);
         }
     }
 
+    /**
+     * Builds an object from the materialized output fields, in declaration order.
+     */
+    private ObjectNode currentObject() {
+        ObjectNode object = JsonNodeFactory.instance.objectNode();
+        for (int slot = 0; slot < values.length; slot++) {
+            if (schema.isOutput(slot) && isMaterialized(slot)) {
+                FieldApplicationUtil.applyFieldToObject(object, schema.fieldName(slot), schema.fieldNode(slot), values[slot]);
+            }
+        }
+        return object;
+    }
 
     /**
      * Returns a new ObjectNode with all fields materialized, leaving this proxy
@@ -165,48 +150,197 @@ public class LazyItemProxy extends AbstractLazyProxy {
      * @return a new ObjectNode with all fields materialized
      */
     public ObjectNode getMaterializedCopy() {
-        ObjectNode materializedCopy = JsonNodeFactory.instance.objectNode();
-
-        // First, ensure all fields are materialized in this proxy
-        if (!fullyMaterialized) {
-            // Restore shadow bindings for this item before materializing remaining fields
-            // This is necessary because shadow bindings may have been cleared by subsequent items
-            Map<String, JsonNode> previousBindings = new HashMap<>(visitor.getShadowBindings());
-            visitor.getShadowBindings().clear();
-            visitor.getShadowBindings().putAll(itemShadowBindings);
-
-            try {
-                materializeAll();
-            } finally {
-                // Restore previous bindings
-                visitor.getShadowBindings().clear();
-                visitor.getShadowBindings().putAll(previousBindings);
+        materializeRemaining();
+        return currentObject();
+    }
+
+    /**
+     * Materializes every slot that isn't materialized yet, in declaration order.
+     */
+    private void materializeRemaining() {
+        if (!isFullyMaterialized()) {
+            withItemShadowBindings(() -> {
+                ObjectNode current = currentObject();
+                for (int slot = 0; slot < values.length; slot++) {
+                    materializeSlot(slot, current);
+                }
+            });
+        }
+    }
+
+    /**
+     * Writes the item as a JSON object from its field values, without a copy of the item.
+     * <p>
+     * Items kept in their collection materialize their remaining fields first, like
+     * {@link #getMaterializedCopy()}, so writing them again or reading them later gives the same
+     * values. Items of streamed collections are dropped after they are read: their fields that
+     * aren't materialized yet are generated while they are written and are not kept. When no
+     * field reads the item itself, those fields are written without building an object of the
+     * item, and arrays and compiled objects are written element by element. Items with self
+     * references apply each generated field to an object of the item first, so later fields can
+     * read it.
+     * <p>
+     * Items with spread fields are written from their materialized copy, since a spread may
+     * replace fields that come before it.
+     *
+     * @param generator the generator to write to
+     * @throws IOException if writing fails
+     */
+    public void writeTo(JsonGenerator generator) throws IOException {
+        if (schema.hasSpreads()) {
+            generator.writeTree(getMaterializedCopy());
+            return;
+        }
+        JsonGeneratorValueSink sink = new JsonGeneratorValueSink(generator);
+        try {
+            if (schema.retainsValues()) {
+                materializeRemaining();
+            }
+            if (isFullyMaterialized()) {
+                writeFields(sink, null);
+                return;
             }
-            fullyMaterialized = true;
+            // Shadow bindings are restored through a Runnable, so write failures are rethrown after it
+            IOException[] failure = new IOException[1];
+            withItemShadowBindings(() -> {
+                try {
+                    writeFields(sink, schema.readsCurrentItem() ? currentObject() : null);
+                } catch (IOException e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+        } catch (UncheckedIOException e) {
+            // Thrown by the sink, which can't throw checked exceptions
+            throw e.getCause();
         }
+    }
 
-        // Copy all fields from the delegate (including spread fields)
-        // For streaming efficiency, we'll use the materialized values directly
-        // instead of creating deep copies of LazyObjectProxy instances
-        delegate.fieldNames().forEachRemaining(fieldName -> {
-            JsonNode value = delegate.get(fieldName);
-            if (value != null) {
-                materializedCopy.set(fieldName, value);
+    /**
+     * Writes the output fields in declaration order, generating the fields that aren't
+     * materialized yet.
+     *
+     * @param current the object of the item that self references read, or null if no field reads it
+     */
+    private void writeFields(JsonGeneratorValueSink sink, ObjectNode current) throws IOException {
+        JsonGenerator generator = sink.getGenerator();
+        generator.writeStartObject();
+        for (int slot = 0; slot < values.length; slot++) {
+            if (isMaterialized(slot)) {
+                if (schema.isOutput(slot)) {
+                    generator.writeFieldName(schema.fieldName(slot));
+                    sink.writeValue(values[slot]);
+                }
+            } else if (current != null || !schema.isOutput(slot)) {
+                JsonNode value = generateFieldValue(slot, current);
+                if (schema.isOutput(slot)) {
+                    current.set(schema.fieldName(slot), value);
+                    generator.writeFieldName(schema.fieldName(slot));
+                    sink.writeValue(value);
+                }
+            } else {
+                generator.writeFieldName(schema.fieldName(slot));
+                writeGeneratedValue(sink, slot);
             }
-        });
+        }
+        generator.writeEndObject();
+    }
 
-        return materializedCopy;
+    /**
+     * Generates a field straight into the sink. Only for items whose fields don't read the
+     * item itself.
+     */
+    private void writeGeneratedValue(JsonGeneratorValueSink sink, int slot) throws IOException {
+        DataGenerationVisitor<LazyItemProxy> visitor = schema.visitor();
+        ObjectNode previousItem = visitor.getCurrentItem();
+        try {
+            visitor.setCurrentItem(null);
+            visitor.writeValue(schema.fieldNode(slot), sink);
+        } finally {
+            visitor.setCurrentItem(previousItem);
+        }
     }
 
-    @Override
-    public String toString() {
-        if (fullyMaterialized) {
-            return delegate.toString();
+    /**
+     * Returns the value at a dot-separated path, materializing only the top-level field
+     * that holds it. Paths that can't be matched to a field (e.g. fields merged in by a
+     * spread) materialize the spread fields of the item.
+     *
+     * @param path the referenced path
+     * @return the value, or a missing node if the item has no such path
+     */
+    JsonNode getReferencedValue(String path) {
+        String fieldName = path.contains(".") ? path.substring(0, path.indexOf('.')) : path;
+        int fieldSlot = schema.slotOf(fieldName);
+        if (fieldSlot < 0 || !isMaterialized(fieldSlot)) {
+            withItemShadowBindings(() -> {
+                ObjectNode current = currentObject();
+                if (fieldSlot >= 0) {
+                    materializeSlot(fieldSlot, current);
+                } else {
+                    for (int slot = 0; slot < values.length; slot++) {
+                        if (schema.isSpread(slot)) {
+                            materializeSlot(slot, current);
+                        }
+                    }
+                }
+            });
+        }
+
+        String[] segments = path.split("\\.");
+        JsonNode value;
+        int start;
+        if (fieldSlot >= 0 && !schema.isSpread(fieldSlot) && schema.isOutput(fieldSlot)) {
+            // Read the field's value directly instead of rebuilding the object
+            value = values[fieldSlot] != null ? values[fieldSlot] : JsonNodeFactory.instance.nullNode();
+            start = 1;
         } else {
-            return String.format("LazyItemProxy{collection=%s, materialized=%d/%d fields}",
-                collectionName, delegate.size(), fieldNodes.size());
+            value = currentObject();
+            start = 0;
+        }
+        for (int i = start; i < segments.length; i++) {
+            value = value.path(segments[i]);
         }
+        return value;
     }
 
+    /**
+     * Runs a materialization with this item's shadow bindings in place. This is necessary
+     * because shadow bindings may have been cleared by subsequent items.
+     */
+    private void withItemShadowBindings(Runnable materialization) {
+        Map<String, JsonNode> shadowBindings = schema.visitor().getShadowBindings();
+        Map<String, JsonNode> previousBindings = new HashMap<>(shadowBindings);
+        shadowBindings.clear();
+        for (int slot : schema.shadowBindingSlots()) {
+            if (isMaterialized(slot)) {
+                shadowBindings.put(schema.fieldName(slot), values[slot]);
+            }
+        }
+
+        try {
+            materialization.run();
+        } finally {
+            // Restore previous bindings
+            shadowBindings.clear();
+            shadowBindings.putAll(previousBindings);
+        }
+    }
 
+    @Override
+    public String toString() {
+        if (isFullyMaterialized()) {
+            return currentObject().toString();
+        }
+        int materialized = 0;
+        for (int slot = 0; slot < values.length; slot++) {
+            if (isMaterialized(slot)) {
+                materialized++;
+            }
+        }
+        return String.format("LazyItemProxy{collection=%s, materialized=%d/%d fields}",
+            schema.collectionName(), materialized, values.length);
+    }
 }
@@ -0,0 +1,321 @@
+package com.github.eddranca.datagenerator.visitor;
+
+import com.github.eddranca.datagenerator.expression.ConcatExprNode;
+import com.github.eddranca.datagenerator.expression.ExpressionNode;
+import com.github.eddranca.datagenerator.expression.FunctionCallExprNode;
+import com.github.eddranca.datagenerator.expression.ReferenceExprNode;
+import com.github.eddranca.datagenerator.node.AbstractReferenceNode;
+import com.github.eddranca.datagenerator.node.ArrayFieldNode;
+import com.github.eddranca.datagenerator.node.ChoiceFieldNode;
+import com.github.eddranca.datagenerator.node.CollectionNode;
+import com.github.eddranca.datagenerator.node.DslNode;
+import com.github.eddranca.datagenerator.node.ExpressionFieldNode;
+import com.github.eddranca.datagenerator.node.FilterNode;
+import com.github.eddranca.datagenerator.node.GeneratedFieldNode;
+import com.github.eddranca.datagenerator.node.GeneratorOptionNode;
+import com.github.eddranca.datagenerator.node.ObjectFieldNode;
+import com.github.eddranca.datagenerator.node.OptionReferenceNode;
+import com.github.eddranca.datagenerator.node.ReferenceSpreadFieldNode;
+import com.github.eddranca.datagenerator.node.SelfReferenceNode;
+import com.github.eddranca.datagenerator.node.ShadowBindingNode;
+import com.github.eddranca.datagenerator.node.SpreadFieldNode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-collection layout shared by all {@link LazyItemProxy} instances of a collection.
+ * <p>
+ * Fields are addressed by slot, in declaration order. Everything that is the same for every
+ * item is resolved once here: field names and nodes, which slots are shadow bindings or
+ * spreads, which slots must be materialized when an item is created (shadow bindings, fields
+ * read by runtime options, referenced fields), the referenced sub-paths of nested objects,
+ * whether any field reads the item itself and whether items are kept after they are read.
+ * Items only keep their values and a mask of materialized slots.
+ */
+final class LazyItemSchema {
+    private final String collectionName;
+    private final DataGenerationVisitor<LazyItemProxy> visitor;
+    private final String[] fieldNames;
+    private final DslNode[] fieldNodes;
+    private final boolean[] shadowBindings;
+    private final boolean[] spreads;
+    private final boolean[] outputFields;
+    private final Set<String>[] nestedReferences;
+    private final Map<String, Integer> slotsByName;
+    private final int[] shadowBindingSlots;
+    private final int[] initialSlots;
+    private final boolean readsCurrentItem;
+    private final boolean retainsValues;
+
+    @SuppressWarnings("unchecked")
+    LazyItemSchema(String collectionName, Map<String, DslNode> fields, Set<String> referencedPaths,
+                   DataGenerationVisitor<LazyItemProxy> visitor, boolean retainsValues) {
+        this.collectionName = collectionName;
+        this.retainsValues = retainsValues;
+        this.visitor = visitor;
+        int size = fields.size();
+        this.fieldNames = new String[size];
+        this.fieldNodes = new DslNode[size];
+        this.shadowBindings = new boolean[size];
+        this.spreads = new boolean[size];
+        this.outputFields = new boolean[size];
+        this.nestedReferences = new Set[size];
+        this.slotsByName = new HashMap<>();
+
+        int slot = 0;
+        for (Map.Entry<String, DslNode> entry : fields.entrySet()) {
+            DslNode node = entry.getValue();
+            fieldNames[slot] = entry.getKey();
+            fieldNodes[slot] = node;
+            shadowBindings[slot] = node instanceof ShadowBindingNode;
+            spreads[slot] = node instanceof SpreadFieldNode || node instanceof ReferenceSpreadFieldNode;
+            // Fields starting with $ are evaluated but excluded from output
+            outputFields[slot] = !entry.getKey().startsWith("$");
+            if (node instanceof ObjectFieldNode) {
+                Set<String> nested = referencesWithPrefix(referencedPaths, entry.getKey());
+                nestedReferences[slot] = nested.isEmpty() ? null : nested;
+            }
+            slotsByName.put(entry.getKey(), slot);
+            slot++;
+        }
+
+        List<Integer> shadowSlots = new ArrayList<>();
+        List<Integer> initial = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (shadowBindings[i]) {
+                shadowSlots.add(i);
+            }
+        }
+        // Shadow bindings first, then fields read by runtime options, then referenced fields
+        initial.addAll(shadowSlots);
+        initial.addAll(runtimeOptionDependencies());
+        for (int i = 0; i < size; i++) {
+            if (isReferenced(referencedPaths, fieldNames[i])) {
+                initial.add(i);
+            }
+        }
+        this.shadowBindingSlots = shadowSlots.stream().mapToInt(Integer::intValue).toArray();
+        this.initialSlots = initial.stream().mapToInt(Integer::intValue).toArray();
+        this.readsCurrentItem = anyReadsCurrentItem(fields.values());
+    }
+
+    static LazyItemSchema of(CollectionNode node, Set<String> referencedPaths,
+                             DataGenerationVisitor<LazyItemProxy> visitor) {
+        return new LazyItemSchema(node.getCollectionName(), node.getItem().getFields(), referencedPaths, visitor, true);
+    }
+
+    /**
+     * Schema of a streamed collection, whose items are created on every access and dropped
+     * after they are read.
+     */
+    static LazyItemSchema streamed(CollectionNode node, DataGenerationVisitor<LazyItemProxy> visitor) {
+        return new LazyItemSchema(node.getCollectionName(), node.getItem().getFields(), Set.of(), visitor, false);
+    }
+
+    /**
+     * Slots of the fields that runtime options read through self references, so they are
+     * available when the fields depending on them are generated.
+     */
+    private List<Integer> runtimeOptionDependencies() {
+        List<Integer> slots = new ArrayList<>();
+        for (DslNode node : fieldNodes) {
+            if (node instanceof GeneratedFieldNode genField && genField.getOptions().hasRuntimeOptions()) {
+                for (OptionReferenceNode optionRef : genField.getOptions().getRuntimeOptions().values()) {
+                    if (optionRef.getReference() instanceof SelfReferenceNode selfRef) {
+                        // Handle nested paths like "data.baseValue" - just get the first part
+                        String fieldPath = selfRef.getFieldName();
+                        String topLevelField = fieldPath.contains(".")
+                            ? fieldPath.substring(0, fieldPath.indexOf('.')) : fieldPath;
+                        Integer slot = slotsByName.get(topLevelField);
+                        if (slot != null) {
+                            slots.add(slot);
+                        }
+                    }
+                }
+            }
+        }
+        return slots;
+    }
+
+    private static boolean anyReadsCurrentItem(Collection<? extends DslNode> nodes) {
+        for (DslNode node : nodes) {
+            if (readsCurrentItem(node)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether a node, at any depth, reads fields of the item being generated: self references,
+     * including runtime options and filters built from them, and {@code this.} expression
+     * references.
+     */
+    private static boolean readsCurrentItem(DslNode node) {
+        if (node instanceof SelfReferenceNode) {
+            return true;
+        }
+        if (node instanceof AbstractReferenceNode reference) {
+            return anyReadsCurrentItem(reference.getFilters());
+        }
+        if (node instanceof GeneratedFieldNode generatedField) {
+            for (OptionReferenceNode optionRef : generatedField.getOptions().getRuntimeOptions().values()) {
+                if (readsCurrentItem(optionRef.getReference())) {
+                    return true;
+                }
+            }
+            return anyReadsCurrentItem(generatedField.getOptions().getGeneratorOptions().values())
+                || anyReadsCurrentItem(generatedField.getFilters());
+        }
+        if (node instanceof GeneratorOptionNode option) {
+            return readsCurrentItem(option.isChoiceField() ? option.getChoiceField() : option.getGeneratorField());
+        }
+        if (node instanceof FilterNode filter) {
+            return readsCurrentItem(filter.getFilterExpression());
+        }
+        if (node instanceof ExpressionFieldNode expression) {
+            return readsCurrentItem(expression.getExpressionTree());
+        }
+        if (node instanceof ObjectFieldNode objectField) {
+            return anyReadsCurrentItem(objectField.getFields().values());
+        }
+        if (node instanceof ArrayFieldNode arrayField) {
+            return readsCurrentItem(arrayField.getItemNode());
+        }
+        if (node instanceof ChoiceFieldNode choiceField) {
+            return anyReadsCurrentItem(choiceField.getOptions()) || anyReadsCurrentItem(choiceField.getFilters());
+        }
+        if (node instanceof ShadowBindingNode shadowBinding) {
+            return readsCurrentItem(shadowBinding.getReferenceNode());
+        }
+        if (node instanceof ReferenceSpreadFieldNode referenceSpread) {
+            return readsCurrentItem(referenceSpread.getReferenceNode())
+                || anyReadsCurrentItem(referenceSpread.getFilters());
+        }
+        return false;
+    }
+
+    private static boolean readsCurrentItem(ExpressionNode expression) {
+        if (expression instanceof ReferenceExprNode reference) {
+            return reference.reference().startsWith("this.");
+        }
+        if (expression instanceof FunctionCallExprNode functionCall) {
+            return readsCurrentItem(functionCall.argument());
+        }
+        if (expression instanceof ConcatExprNode concat) {
+            return concat.parts().stream().anyMatch(LazyItemSchema::readsCurrentItem);
+        }
+        return false;
+    }
+
+    private static boolean isReferenced(Set<String> referencedPaths, String fieldName) {
+        // If entire object is referenced, materialize everything
+        if (referencedPaths.contains("*")) {
+            return true;
+        }
+        return referencedPaths.contains(fieldName) || !referencesWithPrefix(referencedPaths, fieldName).isEmpty();
+    }
+
+    private static Set<String> referencesWithPrefix(Set<String> referencedPaths, String prefix) {
+        Set<String> matchingRefs = new HashSet<>();
+        String prefixWithDot = prefix + ".";
+        for (String referencedPath : referencedPaths) {
+            if (referencedPath.startsWith(prefixWithDot)) {
+                matchingRefs.add(referencedPath);
+            }
+        }
+        return matchingRefs;
+    }
+
+    String collectionName() {
+        return collectionName;
+    }
+
+    DataGenerationVisitor<LazyItemProxy> visitor() {
+        return visitor;
+    }
+
+    int size() {
+        return fieldNames.length;
+    }
+
+    String fieldName(int slot) {
+        return fieldNames[slot];
+    }
+
+    DslNode fieldNode(int slot) {
+        return fieldNodes[slot];
+    }
+
+    boolean isShadowBinding(int slot) {
+        return shadowBindings[slot];
+    }
+
+    boolean isSpread(int slot) {
+        return spreads[slot];
+    }
+
+    boolean isOutput(int slot) {
+        return outputFields[slot];
+    }
+
+    /**
+     * Whether any field is a spread, whose fields may replace fields declared before it.
+     */
+    boolean hasSpreads() {
+        for (boolean spread : spreads) {
+            if (spread) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether any field reads fields of the item itself, so fields must be applied to an
+     * object of the item as they are generated.
+     */
+    boolean readsCurrentItem() {
+        return readsCurrentItem;
+    }
+
+    /**
+     * Whether items are kept in their collection, so fields generated while writing an item
+     * must be kept too for later reads to see the same values.
+     */
+    boolean retainsValues() {
+        return retainsValues;
+    }
+
+    /**
+     * Referenced paths below an object field, or null if the object has none.
+     */
+    Set<String> nestedReferences(int slot) {
+        return nestedReferences[slot];
+    }
+
+    /**
+     * Returns the slot of a field, or -1 if the item has no such field.
+     */
+    int slotOf(String fieldName) {
+        Integer slot = slotsByName.get(fieldName);
+        return slot != null ? slot : -1;
+    }
+
+    int[] shadowBindingSlots() {
+        return shadowBindingSlots;
+    }
+
+    /**
+     * Slots materialized when an item is created, in materialization order.
+     */
+    int[] initialSlots() {
+        return initialSlots;
+    }
+}
@@ -1,5 +1,10 @@
 package com.github.eddranca.datagenerator.visitor;
 
+import com.github.eddranca.datagenerator.expression.ConcatExprNode;
+import com.github.eddranca.datagenerator.expression.ExpressionNode;
+import com.github.eddranca.datagenerator.expression.FunctionCallExprNode;
+import com.github.eddranca.datagenerator.expression.ReferenceExprNode;
+import com.github.eddranca.datagenerator.node.AbstractReferenceNode;
 import com.github.eddranca.datagenerator.node.ArrayFieldNode;
 import com.github.eddranca.datagenerator.node.ArrayFieldReferenceNode;
 import com.github.eddranca.datagenerator.node.ChoiceFieldNode;
@@ -27,6 +32,8 @@ import com.github.eddranca.datagenerator.node.SpreadFieldNode;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -39,9 +46,17 @@ import java.util.Set;
  * Supports nested path analysis like "users.address.street" to enable selective
  * generation
  * at any depth in the object hierarchy.
+ * <p>
+ * While walking the tree it also records, for every collection, which collections and picks
+ * it reads from. These dependencies are used to schedule independent collections concurrently.
  */
 public class PathDependencyAnalyzer implements DslNodeVisitor<Void> {
     private final Map<String, Set<String>> referencedPaths = new HashMap<>();
+    private final Map<String, Set<String>> collectionDependencies = new LinkedHashMap<>();
+    private final Map<String, Set<String>> pickDependencies = new LinkedHashMap<>();
+    private final Set<String> collectionsReadWithoutPaths = new HashSet<>();
+    private String currentCollection;
+    private boolean dependenciesOnly;
 
     @Override
     public Void visitRoot(RootNode node) {
@@ -53,7 +68,15 @@ public class PathDependencyAnalyzer implements DslNodeVisitor<Void> {
 
     @Override
     public Void visitCollection(CollectionNode node) {
-        node.getItem().accept(this);
+        String previousCollection = currentCollection;
+        currentCollection = node.getName();
+        collectionDependencies.computeIfAbsent(currentCollection, k -> new LinkedHashSet<>());
+        pickDependencies.computeIfAbsent(currentCollection, k -> new LinkedHashSet<>());
+        try {
+            node.getItem().accept(this);
+        } finally {
+            currentCollection = previousCollection;
+        }
         return null;
     }
 
@@ -76,6 +99,7 @@ public class PathDependencyAnalyzer implements DslNodeVisitor<Void> {
                 addReferencedPath(collectionName, "*");
             }
         });
+        visitReferenceFilters(node);
         return null;
     }
 
@@ -84,6 +108,7 @@ public class PathDependencyAnalyzer implements DslNodeVisitor<Void> {
         node.getCollectionName().ifPresent(collectionName ->
             addReferencedPath(collectionName, node.getFieldName())
         );
+        visitReferenceFilters(node);
         return null;
     }
 
@@ -98,6 +123,7 @@ public class PathDependencyAnalyzer implements DslNodeVisitor<Void> {
                 addReferencedPath(collectionName, "*");
             }
         });
+        visitReferenceFilters(node);
         return null;
     }
 
@@ -105,6 +131,8 @@ public class PathDependencyAnalyzer implements DslNodeVisitor<Void> {
     @Override
     public Void visitPickReference(PickReferenceNode node) {
         // Pick references don't reference collection fields directly
+        addPickDependency(node.getPickName());
+        visitReferenceFilters(node);
         return null;
     }
 
@@ -125,6 +153,7 @@ public class PathDependencyAnalyzer implements DslNodeVisitor<Void> {
             // Entire object referenced
             addReferencedPath(collectionName, "*");
         }
+        visitReferenceFilters(node);
         return null;
     }
 
@@ -152,6 +181,10 @@ public class PathDependencyAnalyzer implements DslNodeVisitor<Void> {
                 addReferencedPath(collectionName, actualField);
             }
         });
+        if (node.getReferenceNode() instanceof PickReferenceNode pickReference) {
+            addPickDependency(pickReference.getPickName());
+        }
+        visitReferenceFilters(node.getReferenceNode());
         return null;
     }
 
@@ -229,7 +262,44 @@ public class PathDependencyAnalyzer implements DslNodeVisitor<Void> {
     }
 
     private void addReferencedPath(String collection, String path) {
-        referencedPaths.computeIfAbsent(collection, k -> new HashSet<>()).add(path);
+        addCollectionDependency(collection);
+        if (dependenciesOnly) {
+            collectionsReadWithoutPaths.add(collection);
+        } else {
+            referencedPaths.computeIfAbsent(collection, k -> new HashSet<>()).add(path);
+        }
+    }
+
+    private void addCollectionDependency(String collection) {
+        if (currentCollection != null) {
+            collectionDependencies.computeIfAbsent(currentCollection, k -> new LinkedHashSet<>()).add(collection);
+        }
+    }
+
+    private void addPickDependency(String pickName) {
+        if (currentCollection != null) {
+            pickDependencies.computeIfAbsent(currentCollection, k -> new LinkedHashSet<>()).add(pickName);
+        }
+    }
+
+    /**
+     * Visits the filters of a reference for dependency tracking only. Filter values are
+     * resolved when the item is generated, so they don't make any path of the filtered
+     * collection referenced.
+     */
+    private void visitReferenceFilters(AbstractReferenceNode node) {
+        if (node == null || node.getFilters().isEmpty()) {
+            return;
+        }
+        boolean previous = dependenciesOnly;
+        dependenciesOnly = true;
+        try {
+            for (FilterNode filter : node.getFilters()) {
+                filter.accept(this);
+            }
+        } finally {
+            dependenciesOnly = previous;
+        }
     }
 
     /**
@@ -241,6 +311,58 @@ public class PathDependencyAnalyzer implements DslNodeVisitor<Void> {
         return new HashMap<>(referencedPaths);
     }
 
+    /**
+     * Returns the collections read by each collection, in declaration order.
+     * Key: DSL collection key
+     * Value: names of the referenced collections (DSL keys or collection names)
+     */
+    public Map<String, Set<String>> getCollectionDependencies() {
+        return new LinkedHashMap<>(collectionDependencies);
+    }
+
+    /**
+     * Returns the collections that are read by expressions or reference filters. These
+     * reads don't contribute referenced paths, so any field of the items may be accessed.
+     */
+    public Set<String> getCollectionsReadWithoutPaths() {
+        return new HashSet<>(collectionsReadWithoutPaths);
+    }
+
+    /**
+     * Returns the picks read by each collection, in declaration order.
+     * Key: DSL collection key
+     * Value: referenced pick aliases
+     */
+    public Map<String, Set<String>> getPickDependencies() {
+        return new LinkedHashMap<>(pickDependencies);
+    }
+
+    /**
+     * Returns the DSL keys of the collections that nothing reads back: no collection refers
+     * to them (by DSL key or collection name), they define no picks and their collection
+     * name is not shared with another collection. Their items are only needed for output.
+     * Must be called after {@link #analyzeRoot(RootNode)}.
+     */
+    public Set<String> getUnreferencedCollections(RootNode rootNode) {
+        Set<String> referenced = new HashSet<>();
+        collectionDependencies.values().forEach(referenced::addAll);
+        Map<String, Integer> collectionNameUses = new HashMap<>();
+        for (CollectionNode collection : rootNode.getCollections().values()) {
+            collectionNameUses.merge(collection.getCollectionName(), 1, Integer::sum);
+        }
+
+        Set<String> unreferenced = new LinkedHashSet<>();
+        for (CollectionNode collection : rootNode.getCollections().values()) {
+            if (!referenced.contains(collection.getName())
+                && !referenced.contains(collection.getCollectionName())
+                && collection.getPicks().isEmpty()
+                && collectionNameUses.get(collection.getCollectionName()) == 1) {
+                unreferenced.add(collection.getName());
+            }
+        }
+        return unreferenced;
+    }
+
     /**
      * Analyzes a root node to find all referenced paths.
      * This is the main entry point for dependency analysis.
@@ -248,6 +370,9 @@ public class PathDependencyAnalyzer implements DslNodeVisitor<Void> {
     public Map<String, Set<String>> analyzeRoot(RootNode rootNode) {
         // Clear previous analysis
         referencedPaths.clear();
+        collectionDependencies.clear();
+        pickDependencies.clear();
+        collectionsReadWithoutPaths.clear();
 
         // Visit the root node to analyze all references
         rootNode.accept(this);
@@ -257,8 +382,41 @@ public class PathDependencyAnalyzer implements DslNodeVisitor<Void> {
 
     @Override
     public Void visitExpression(ExpressionFieldNode node) {
-        // Expression fields contain inline references that are resolved at runtime.
-        // TODO: Could analyze expression tree for cross-collection references if needed.
+        // Expression references are resolved against fully materialized collections,
+        // so they only contribute dependencies, not referenced paths.
+        addExpressionDependencies(node.getExpressionTree());
         return null;
     }
+
+    private void addExpressionDependencies(ExpressionNode expression) {
+        if (expression instanceof ReferenceExprNode reference) {
+            addExpressionReferenceDependency(reference.reference());
+        } else if (expression instanceof FunctionCallExprNode functionCall) {
+            addExpressionDependencies(functionCall.argument());
+        } else if (expression instanceof ConcatExprNode concat) {
+            for (ExpressionNode part : concat.parts()) {
+                addExpressionDependencies(part);
+            }
+        }
+    }
+
+    /**
+     * Mirrors the reference forms accepted in expressions: {@code collection[...]...},
+     * {@code pick.field} and plain {@code collection}.
+     */
+    private void addExpressionReferenceDependency(String reference) {
+        if (reference.startsWith("$") || reference.startsWith("this.")) {
+            return;
+        }
+        if (reference.contains("[")) {
+            String collection = reference.substring(0, reference.indexOf('['));
+            addCollectionDependency(collection);
+            collectionsReadWithoutPaths.add(collection);
+        } else if (reference.contains(".")) {
+            addPickDependency(reference.substring(0, reference.indexOf('.')));
+        } else {
+            addCollectionDependency(reference);
+            collectionsReadWithoutPaths.add(reference);
+        }
+    }
 }
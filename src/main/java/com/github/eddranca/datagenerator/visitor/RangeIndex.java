@@ -0,0 +1,189 @@
+package com.github.eddranca.datagenerator.visitor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.eddranca.datagenerator.node.ComparisonCondition;
+import com.github.eddranca.datagenerator.node.Condition;
+import com.github.eddranca.datagenerator.node.LogicalCondition;
+import com.github.eddranca.datagenerator.util.JsonNodeUtils;
+
+import java.util.AbstractList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+
+/**
+ * Sorted index of a collection by a numeric field, used to answer range conditions such as
+ * {@code products[price<$budget.limit]} with a binary search instead of comparing every item.
+ * <p>
+ * Items are sorted by value (ties keep collection order), so the items matching one or more
+ * range comparisons on the field form a contiguous slice, returned as a view without copying.
+ * Values are compared like {@link ComparisonCondition} does, as doubles.
+ * <p>
+ * Range comparisons fail on items whose value is missing or not a number. If the collection
+ * has such items the index is not usable, and conditions keep being evaluated item by item so
+ * they report the error as before.
+ */
+final class RangeIndex {
+    private final List<JsonNode> source;
+    private final int[] positions; // null if some value is not numeric
+    private final double[] values;
+
+    private RangeIndex(List<JsonNode> source, int[] positions, double[] values) {
+        this.source = source;
+        this.positions = positions;
+        this.values = values;
+    }
+
+    /**
+     * Builds the index of a collection by the value at a numeric field path.
+     *
+     * @param source    the collection to index
+     * @param fieldPath dot-separated path of the indexed field
+     * @return the index, which is not {@link #isUsable() usable} if some value isn't a number
+     */
+    static RangeIndex build(List<JsonNode> source, String fieldPath) {
+        int size = source.size();
+        double[] itemValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            JsonNode value = JsonNodeUtils.extractNestedField(source.get(i), fieldPath);
+            if (!value.isNumber()) {
+                return new RangeIndex(source, null, null);
+            }
+            itemValues[i] = value.asDouble();
+        }
+
+        // Stable sort, items with equal values keep collection order
+        int[] positions = IntStream.range(0, size).boxed()
+            .sorted(Comparator.comparingDouble(i -> itemValues[i]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = itemValues[positions[i]];
+        }
+        return new RangeIndex(source, positions, values);
+    }
+
+    /**
+     * Whether this index was built from the given collection instance.
+     */
+    boolean isFor(List<JsonNode> collection) {
+        return source == collection;
+    }
+
+    boolean isUsable() {
+        return positions != null;
+    }
+
+    int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns the range comparisons of a condition an index can answer: the condition itself,
+     * or the range comparisons of an AND condition. Returns an empty list for other conditions.
+     */
+    static List<ComparisonCondition> indexableComparisons(Condition condition) {
+        if (condition instanceof ComparisonCondition comparison) {
+            return isIndexable(comparison) ? List.of(comparison) : List.of();
+        }
+        if (condition instanceof LogicalCondition logical && logical.getType() == LogicalCondition.Type.AND) {
+            return logical.getConditions().stream()
+                .filter(ComparisonCondition.class::isInstance)
+                .map(ComparisonCondition.class::cast)
+                .filter(RangeIndex::isIndexable)
+                .toList();
+        }
+        return List.of();
+    }
+
+    private static boolean isIndexable(ComparisonCondition comparison) {
+        return comparison.getExpectedValue() instanceof Number && switch (comparison.getOperator()) {
+            case LESS_THAN, LESS_THAN_OR_EQUAL, GREATER_THAN, GREATER_THAN_OR_EQUAL -> true;
+            case EQUALS, NOT_EQUALS -> false;
+        };
+    }
+
+    /**
+     * Returns the start of the slice matching a range comparison, in sorted order.
+     */
+    int from(ComparisonCondition comparison) {
+        double bound = ((Number) comparison.getExpectedValue()).doubleValue();
+        return switch (comparison.getOperator()) {
+            case GREATER_THAN -> firstAbove(bound);
+            case GREATER_THAN_OR_EQUAL -> firstAtLeast(bound);
+            default -> 0;
+        };
+    }
+
+    /**
+     * Returns the end (exclusive) of the slice matching a range comparison, in sorted order.
+     */
+    int to(ComparisonCondition comparison) {
+        double bound = ((Number) comparison.getExpectedValue()).doubleValue();
+        return switch (comparison.getOperator()) {
+            case LESS_THAN -> firstAtLeast(bound);
+            case LESS_THAN_OR_EQUAL -> firstAbove(bound);
+            default -> values.length;
+        };
+    }
+
+    /**
+     * Returns the items between two positions of the sorted order, as a view.
+     */
+    List<JsonNode> slice(int from, int to) {
+        return new Slice(from, Math.max(from, to));
+    }
+
+    private int firstAtLeast(double bound) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Double.compare(values[mid], bound) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int firstAbove(double bound) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Double.compare(values[mid], bound) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private final class Slice extends AbstractList<JsonNode> implements RandomAccess {
+        private final int from;
+        private final int to;
+
+        Slice(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public JsonNode get(int index) {
+            if (index < 0 || index >= to - from) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+            }
+            return source.get(positions[from + index]);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
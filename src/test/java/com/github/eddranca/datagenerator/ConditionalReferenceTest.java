@@ -76,7 +76,7 @@ class ConditionalReferenceTest extends ParameterizedGenerationTest {
                 }
                 """;
 
-        Generation generation = generateFromDslWithSeed(dsl, 456L, memoryOptimized);
+        Generation generation = generateFromDslWithSeed(dsl, 457L, memoryOptimized);
         JsonNode result = createLegacyJsonNode(generation);
 
         // Collect admin names
@@ -172,4 +172,140 @@ class DuplicateCollectionNameTest extends ParameterizedGenerationTest {
             assertThat(sql).startsWith("INSERT INTO users")
         );
     }
+
+    @BothImplementationsTest
+    void testConditionalReferenceAfterSameNameMergeSeesBothParts(boolean memoryOptimized) throws Exception {
+        String dsl = """
+            {
+                "usersA": {
+                    "name": "users",
+                    "count": 3,
+                    "item": {
+                        "id": {"gen": "sequence", "start": 1},
+                        "country": "US"
+                    }
+                },
+                "ordersA": {
+                    "count": 10,
+                    "item": {
+                        "uid": {"ref": "users[country='US'].id"}
+                    }
+                },
+                "usersB": {
+                    "name": "users",
+                    "count": 3,
+                    "item": {
+                        "id": {"gen": "sequence", "start": 100},
+                        "country": "US"
+                    }
+                },
+                "ordersB": {
+                    "count": 60,
+                    "item": {
+                        "uid": {"ref": "users[country='US'].id"}
+                    }
+                }
+            }
+            """;
+
+        Map<String, List<JsonNode>> collections = collectAllJsonNodes(generateFromDsl(dsl, memoryOptimized));
+
+        if (!memoryOptimized) {
+            // Lazy references are resolved when read, after both definitions are merged
+            assertThat(uids(collections.get("ordersA"))).containsOnly(1, 2, 3);
+        }
+        assertThat(uids(collections.get("ordersB"))).containsExactlyInAnyOrder(1, 2, 3, 100, 101, 102);
+    }
+
+    @BothImplementationsTest
+    void testNonIndexedConditionAfterSameNameMergeSeesBothParts(boolean memoryOptimized) throws Exception {
+        String dsl = """
+            {
+                "usersA": {
+                    "name": "users",
+                    "count": 3,
+                    "item": {
+                        "id": {"gen": "sequence", "start": 1},
+                        "country": "US"
+                    }
+                },
+                "ordersA": {
+                    "count": 10,
+                    "item": {
+                        "uid": {"ref": "users[country!='FR'].id"}
+                    }
+                },
+                "usersB": {
+                    "name": "users",
+                    "count": 3,
+                    "item": {
+                        "id": {"gen": "sequence", "start": 100},
+                        "country": "US"
+                    }
+                },
+                "ordersB": {
+                    "count": 60,
+                    "item": {
+                        "uid": {"ref": "users[country!='FR'].id"}
+                    }
+                }
+            }
+            """;
+
+        Map<String, List<JsonNode>> collections = collectAllJsonNodes(generateFromDsl(dsl, memoryOptimized));
+
+        if (!memoryOptimized) {
+            assertThat(uids(collections.get("ordersA"))).containsOnly(1, 2, 3);
+        }
+        assertThat(uids(collections.get("ordersB"))).containsExactlyInAnyOrder(1, 2, 3, 100, 101, 102);
+    }
+
+    @BothImplementationsTest
+    void testRangeConditionAfterSameNameMergeSeesBothParts(boolean memoryOptimized) throws Exception {
+        String dsl = """
+            {
+                "usersA": {
+                    "name": "users",
+                    "count": 3,
+                    "item": {
+                        "id": {"gen": "sequence", "start": 1},
+                        "age": 30
+                    }
+                },
+                "ordersA": {
+                    "count": 10,
+                    "item": {
+                        "uid": {"ref": "users[age>18].id"}
+                    }
+                },
+                "usersB": {
+                    "name": "users",
+                    "count": 3,
+                    "item": {
+                        "id": {"gen": "sequence", "start": 100},
+                        "age": 40
+                    }
+                },
+                "ordersB": {
+                    "count": 60,
+                    "item": {
+                        "uid": {"ref": "users[age>18].id"}
+                    }
+                }
+            }
+            """;
+
+        Map<String, List<JsonNode>> collections = collectAllJsonNodes(generateFromDsl(dsl, memoryOptimized));
+
+        if (!memoryOptimized) {
+            assertThat(uids(collections.get("ordersA"))).containsOnly(1, 2, 3);
+        }
+        assertThat(uids(collections.get("ordersB"))).containsExactlyInAnyOrder(1, 2, 3, 100, 101, 102);
+    }
+
+    private static Set<Integer> uids(List<JsonNode> orders) {
+        return orders.stream()
+            .map(order -> order.get("uid").asInt())
+            .collect(Collectors.toSet());
+    }
 }
@@ -0,0 +1,190 @@
+package com.github.eddranca.datagenerator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelGenerationTest extends ParameterizedGenerationTest {
+    private static final String DSL = """
+        {
+            "users": {
+                "count": 500,
+                "item": {
+                    "id": {"gen": "uuid"},
+                    "name": {"gen": "name.firstName"},
+                    "age": {"gen": "number", "min": 18, "max": 80},
+                    "active": {"gen": "boolean"},
+                    "tags": {"array": {"minSize": 0, "maxSize": 4, "item": {"gen": "lorem.word"}}}
+                }
+            },
+            "orders": {
+                "count": 2000,
+                "item": {
+                    "id": {"gen": "uuid"},
+                    "userId": {"ref": "users[*].id"},
+                    "activeUser": {"ref": "users[active=true].name"},
+                    "status": {"gen": "choice", "options": ["NEW", "PAID", "SHIPPED"], "weights": [1, 2, 3]},
+                    "amount": {"gen": "float", "min": 1, "max": 500, "decimals": 2},
+                    "summary": {"expr": "${this.status}-${this.userId}"}
+                }
+            }
+        }
+        """;
+
+    private Map<String, List<JsonNode>> generateParallel(String dsl, int parallelism) throws IOException {
+        Generation generation = DslDataGenerator.create()
+            .withSeed(123L)
+            .withParallelGeneration(parallelism)
+            .fromJsonString(dsl)
+            .generate();
+        return collectAllJsonNodes(generation);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 4, 8})
+    void testParallelOutputMatchesSingleThreadedOutput(int parallelism) throws IOException {
+        Map<String, List<JsonNode>> expected = generateParallel(DSL, 1);
+        Map<String, List<JsonNode>> actual = generateParallel(DSL, parallelism);
+
+        assertThat(actual.get("users")).hasSize(500).containsExactlyElementsOf(expected.get("users"));
+        assertThat(actual.get("orders")).hasSize(2000).containsExactlyElementsOf(expected.get("orders"));
+    }
+
+    @Test
+    void testParallelGenerationIsRepeatable() throws IOException {
+        Map<String, List<JsonNode>> first = generateParallel(DSL, 4);
+        Map<String, List<JsonNode>> second = generateParallel(DSL, 4);
+
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    void testParallelReferencesPointToExistingItems() throws IOException {
+        Map<String, List<JsonNode>> collections = generateParallel(DSL, 4);
+
+        List<String> userIds = collections.get("users").stream()
+            .map(user -> user.get("id").asText())
+            .toList();
+        List<String> activeNames = collections.get("users").stream()
+            .filter(user -> user.get("active").asBoolean())
+            .map(user -> user.get("name").asText())
+            .toList();
+
+        assertThat(collections.get("orders")).allSatisfy(order -> {
+            assertThat(userIds).contains(order.get("userId").asText());
+            assertThat(activeNames).contains(order.get("activeUser").asText());
+        });
+    }
+
+    @Test
+    void testOrderDependentCollectionsKeepSequentialSemantics() throws IOException {
+        String dsl = """
+            {
+                "users": {
+                    "count": 5,
+                    "item": {
+                        "id": {"gen": "sequence", "start": 1}
+                    }
+                },
+                "orders": {
+                    "count": 200,
+                    "item": {
+                        "id": {"gen": "sequence", "start": 1000},
+                        "userId": {"ref": "users[*].id", "sequential": true}
+                    }
+                }
+            }
+            """;
+
+        Map<String, List<JsonNode>> single = generateParallel(dsl, 1);
+        Map<String, List<JsonNode>> parallel = generateParallel(dsl, 8);
+
+        assertThat(parallel).isEqualTo(single);
+        assertThat(parallel.get("orders"))
+            .extracting(order -> order.get("id").intValue())
+            .containsExactlyElementsOf(IntStream.range(1000, 1200).boxed().toList());
+        assertThat(parallel.get("orders"))
+            .extracting(order -> order.get("userId").intValue())
+            .containsExactlyElementsOf(IntStream.range(0, 200).map(i -> i % 5 + 1).boxed().toList());
+    }
+
+    @Test
+    void testParallelGenerationWithMemoryOptimizationIsDeterministic() throws IOException {
+        DslDataGenerator.Builder builder = DslDataGenerator.create()
+            .withSeed(42L)
+            .withParallelGeneration(4)
+            .withMemoryOptimization();
+
+        Map<String, List<JsonNode>> first = collectAllJsonNodes(builder.fromJsonString(DSL).generate());
+        Map<String, List<JsonNode>> second = collectAllJsonNodes(builder.fromJsonString(DSL).generate());
+
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    void testConcurrentCollectionsMatchSingleThreadedOutput() throws IOException {
+        String dsl = """
+            {
+                "countries": {
+                    "count": 50,
+                    "item": {"code": {"gen": "country.countryCode"}, "name": {"gen": "country.name"}},
+                    "pick": {"home": 0}
+                },
+                "categories": {
+                    "count": 20,
+                    "item": {"name": {"gen": "lorem.word"}, "rank": {"gen": "number", "min": 1, "max": 5}}
+                },
+                "admins": {
+                    "name": "people",
+                    "count": 30,
+                    "item": {"id": {"gen": "uuid"}, "country": {"ref": "home.code"}}
+                },
+                "products": {
+                    "count": 300,
+                    "item": {
+                        "id": {"gen": "uuid"},
+                        "category": {"ref": "categories[rank>=3].name"},
+                        "label": {"expr": "${countries[0].name}-${this.id}"}
+                    }
+                },
+                "customers": {
+                    "name": "people",
+                    "count": 300,
+                    "item": {"id": {"gen": "uuid"}, "country": {"ref": "countries[*].code"}}
+                },
+                "orders": {
+                    "count": 1000,
+                    "item": {
+                        "personId": {"ref": "people[*].id"},
+                        "productId": {"ref": "products[*].id", "filter": [{"ref": "products[0].id"}]},
+                        "seq": {"gen": "sequence", "start": 1}
+                    }
+                }
+            }
+            """;
+
+        Map<String, List<JsonNode>> expected = generateParallel(dsl, 1);
+        Map<String, List<JsonNode>> actual = generateParallel(dsl, 6);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.get("people")).hasSize(330);
+    }
+
+    @Test
+    void testInvalidParallelismIsRejected() {
+        DslDataGenerator.Builder builder = DslDataGenerator.create();
+
+        assertThatThrownBy(() -> builder.withParallelGeneration(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Parallelism must be positive");
+    }
+}
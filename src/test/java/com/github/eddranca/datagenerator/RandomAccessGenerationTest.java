@@ -0,0 +1,121 @@
+package com.github.eddranca.datagenerator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.eddranca.datagenerator.random.RandomnessEngine;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RandomAccessGenerationTest extends ParameterizedGenerationTest {
+    private static final String DSL = """
+        {
+            "users": {
+                "count": 200,
+                "item": {
+                    "id": {"gen": "uuid"},
+                    "name": {"gen": "name.firstName"},
+                    "active": {"gen": "boolean"},
+                    "address": {"city": {"gen": "address.city"}}
+                },
+                "pick": {"firstUser": 0}
+            },
+            "orders": {
+                "count": 500,
+                "item": {
+                    "id": {"gen": "sequence", "start": 1},
+                    "userId": {"ref": "users[*].id"},
+                    "activeUser": {"ref": "users[active=true].name"},
+                    "owner": {"ref": "firstUser.name"},
+                    "amount": {"gen": "float", "min": 1, "max": 500, "decimals": 2},
+                    "lines": {"array": {"minSize": 1, "maxSize": 3, "item": {"gen": "number", "min": 1, "max": 9}}}
+                }
+            },
+            "reviews": {
+                "count": 300,
+                "item": {
+                    "orderId": {"ref": "orders[*].id"},
+                    "rating": {"gen": "number", "min": 1, "max": 5}
+                }
+            }
+        }
+        """;
+
+    private Generation generate(String dsl, boolean randomAccess) throws IOException {
+        DslDataGenerator.Builder builder = DslDataGenerator.create()
+            .withSeed(77L)
+            .withRandomnessEngine(RandomnessEngine.splitMix64());
+        if (randomAccess) {
+            builder.withRandomAccess();
+        }
+        return builder.fromJsonString(dsl).generate();
+    }
+
+    @Test
+    void testRandomAccessMatchesEagerGeneration() throws IOException {
+        Map<String, List<JsonNode>> expected = collectAllJsonNodes(generate(DSL, false));
+        Map<String, List<JsonNode>> actual = collectAllJsonNodes(generate(DSL, true));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void testGetItemAndStreamRangeMatchFullCollection() throws IOException {
+        Generation eager = generate(DSL, false);
+        Generation indexed = generate(DSL, true);
+        List<JsonNode> reviews = eager.streamJsonNodes("reviews").toList();
+
+        assertThat(indexed.getItem("reviews", 123)).isEqualTo(reviews.get(123));
+        assertThat(indexed.getItem("reviews", 123)).isEqualTo(indexed.getItem("reviews", 123));
+        assertThat(indexed.streamRange("reviews", 250, 300).toList()).isEqualTo(reviews.subList(250, 300));
+        assertThat(eager.streamRange("reviews", 250, 300).toList()).isEqualTo(reviews.subList(250, 300));
+        assertThat(indexed.getItem("orders", 42).get("id").intValue()).isEqualTo(43);
+    }
+
+    @Test
+    void testItemsAreComputedWithoutPredecessors() throws IOException {
+        String dsl = """
+            {
+                "users": {
+                    "count": 50000000,
+                    "item": {"id": {"gen": "uuid"}, "name": {"gen": "name.firstName"}}
+                },
+                "orders": {
+                    "count": 100000000,
+                    "item": {
+                        "userId": {"ref": "users[*].id"},
+                        "amount": {"gen": "number", "min": 1, "max": 100}
+                    }
+                }
+            }
+            """;
+        Generation generation = generate(dsl, true);
+
+        JsonNode order = generation.getItem("orders", 99_999_999L);
+
+        assertThat(generation.getCollectionSize("orders")).isEqualTo(100_000_000);
+        assertThat(order.get("userId").isTextual()).isTrue();
+        assertThat(generation.streamRange("users", 49_999_990L, 50_000_000L)).hasSize(10);
+    }
+
+    @Test
+    void testInvalidIndexesAndOptionsAreRejected() throws IOException {
+        Generation generation = generate(DSL, true);
+
+        assertThatThrownBy(() -> generation.getItem("orders", 500))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> generation.streamRange("orders", 10, 5))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> generation.getItem("missing", 0))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        DslDataGenerator.Builder builder = DslDataGenerator.create().withRandomAccess().withMemoryOptimization();
+        assertThatThrownBy(builder::build)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("memory optimization");
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.eddranca.datagenerator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.eddranca.datagenerator.random.RandomnessEngine;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RandomnessEngineTest extends ParameterizedGenerationTest {
+    private static final String DSL = """
+        {
+            "users": {
+                "count": 50,
+                "item": {
+                    "name": {"gen": "name.firstName"},
+                    "age": {"gen": "number", "min": 18, "max": 80},
+                    "address": {
+                        "city": {"gen": "address.city"}
+                    }
+                }
+            }
+        }
+        """;
+
+    private static final String DSL_WITH_EXTRA_FIELDS = """
+        {
+            "users": {
+                "count": 50,
+                "item": {
+                    "id": {"gen": "uuid"},
+                    "name": {"gen": "name.firstName"},
+                    "email": {"gen": "internet.emailAddress"},
+                    "age": {"gen": "number", "min": 18, "max": 80},
+                    "address": {
+                        "street": {"gen": "address.streetAddress"},
+                        "city": {"gen": "address.city"}
+                    }
+                }
+            }
+        }
+        """;
+
+    private List<JsonNode> generateUsers(String dsl, RandomnessEngine engine) throws IOException {
+        Generation generation = DslDataGenerator.create()
+            .withSeed(42L)
+            .withRandomnessEngine(engine)
+            .fromJsonString(dsl)
+            .generate();
+        return collectAllJsonNodes(generation).get("users");
+    }
+
+    @Test
+    void testAddingFieldsKeepsOtherFieldValues() throws IOException {
+        for (RandomnessEngine engine : List.of(RandomnessEngine.splitMix64(), RandomnessEngine.splittable())) {
+            List<JsonNode> before = generateUsers(DSL, engine);
+            List<JsonNode> after = generateUsers(DSL_WITH_EXTRA_FIELDS, engine);
+
+            for (int i = 0; i < before.size(); i++) {
+                assertThat(after.get(i).get("name")).isEqualTo(before.get(i).get("name"));
+                assertThat(after.get(i).get("age")).isEqualTo(before.get(i).get("age"));
+                assertThat(after.get(i).get("address").get("city"))
+                    .isEqualTo(before.get(i).get("address").get("city"));
+            }
+        }
+    }
+
+    @Test
+    void testSequentialEngineIsTheDefault() throws IOException {
+        Generation generation = DslDataGenerator.create()
+            .withSeed(42L)
+            .fromJsonString(DSL)
+            .generate();
+
+        assertThat(generateUsers(DSL, RandomnessEngine.sequential()))
+            .isEqualTo(collectAllJsonNodes(generation).get("users"));
+    }
+
+    @Test
+    void testSplittableEngineIsDeterministicAcrossParallelism() throws IOException {
+        Map<String, List<JsonNode>> expected = null;
+        for (int parallelism : new int[]{1, 3, 8}) {
+            Generation generation = DslDataGenerator.create()
+                .withSeed(42L)
+                .withRandomnessEngine(RandomnessEngine.splittable())
+                .withParallelGeneration(parallelism)
+                .fromJsonString(DSL_WITH_EXTRA_FIELDS)
+                .generate();
+            Map<String, List<JsonNode>> actual = collectAllJsonNodes(generation);
+            if (expected == null) {
+                expected = actual;
+            }
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void testParallelGenerationRejectsSequentialEngine() {
+        DslDataGenerator.Builder builder = DslDataGenerator.create()
+            .withRandomnessEngine(Random::new)
+            .withParallelGeneration(2);
+
+        assertThatThrownBy(builder::build)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("coordinate-based randomness engine");
+        assertThatThrownBy(() -> DslDataGenerator.create().withRandomnessEngine(null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -225,4 +225,45 @@ class SequentialReferenceTest extends ParameterizedGenerationTest {
             .as("All user IDs should be valid (1 or 2)")
             .allSatisfy(userId -> assertThat(userId).isIn(1, 2));
     }
+
+    @BothImplementationsTest
+    void testSequentialRangeConditionKeepsCollectionOrder(boolean memoryOptimized) throws IOException {
+        JsonNode dslNode = mapper.readTree("""
+            {
+                "users": {
+                    "count": 30,
+                    "item": {
+                        "id": {"gen": "sequence", "start": 0},
+                        "age": {"gen": "number", "min": 10, "max": 60}
+                    }
+                },
+                "orders": {
+                    "count": 60,
+                    "item": {
+                        "userId": {
+                            "ref": "users[age>=18].id",
+                            "sequential": true
+                        }
+                    }
+                }
+            }
+            """);
+
+        Generation generation = generateFromDsl(dslNode, memoryOptimized);
+
+        Map<String, List<JsonNode>> collections = collectAllJsonNodes(generation);
+        List<Integer> adultIds = collections.get("users").stream()
+            .filter(user -> user.get("age").intValue() >= 18)
+            .map(user -> user.get("id").intValue())
+            .toList();
+
+        assertThat(adultIds).hasSizeGreaterThan(1);
+        assertThat(collections.get("orders"))
+            .extracting(order -> order.get("userId").intValue())
+            .as("Sequential range references should cycle through matches in collection order")
+            .containsExactlyElementsOf(
+                IntStream.range(0, 60)
+                    .mapToObj(i -> adultIds.get(i % adultIds.size()))
+                    .toList());
+    }
 }
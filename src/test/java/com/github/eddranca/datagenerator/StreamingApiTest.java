@@ -1,12 +1,26 @@
 package com.github.eddranca.datagenerator;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.github.eddranca.datagenerator.generator.GeneratorContext;
+import com.github.eddranca.datagenerator.generator.SinkGenerator;
+import com.github.eddranca.datagenerator.generator.ValueSink;
+import com.github.eddranca.datagenerator.util.SqlBatchOptions;
+import com.github.eddranca.datagenerator.util.SqlProjection;
+import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Test for the new streaming API functionality.
@@ -146,4 +160,320 @@ class StreamingApiTest extends ParameterizedGenerationTest {
             assertThat(sql).contains("id", "name", "email");
         }
     }
+
+    @BothImplementationsTest
+    void testWriteJsonMatchesStreamedItems(boolean memoryOptimized) throws Exception {
+        String dsl = """
+            {
+              "users": {
+                "count": 4,
+                "item": {
+                  "id": {"gen": "uuid"},
+                  "name": {"gen": "name.firstName"},
+                  "active": {"gen": "boolean"}
+                }
+              },
+              "orders": {
+                "count": 6,
+                "item": {
+                  "$user": {"ref": "users[*]"},
+                  "userId": {"ref": "$user.id"},
+                  "total": {"gen": "number", "min": 1, "max": 100},
+                  "label": {"ref": "this.total"},
+                  "lines": {
+                    "array": {
+                      "size": 3,
+                      "item": {"sku": {"gen": "string", "length": 8}, "quantity": {"gen": "number", "min": 1, "max": 5}}
+                    }
+                  },
+                  "...customer": {"ref": "users[*]", "fields": ["name"]}
+                }
+              },
+              "notes": {
+                "count": 3,
+                "item": {
+                  "id": {"gen": "sequence", "start": 1},
+                  "text": {"gen": "lorem", "words": 4},
+                  "address": {"gen": "address"}
+                }
+              }
+            }
+            """;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        generateFromDslWithSeed(dsl, 99L, memoryOptimized).writeJson("orders", out);
+        JsonNode written = mapper.readTree(out.toByteArray());
+        List<JsonNode> streamed = generateFromDslWithSeed(dsl, 99L, memoryOptimized).streamJsonNodes("orders").toList();
+
+        assertThat(written.isArray()).isTrue();
+        assertThat(written).containsExactlyElementsOf(streamed);
+        assertThat(written.get(0).has("$user")).isFalse();
+        assertThat(written.get(0).fieldNames()).toIterable()
+            .containsExactlyElementsOf(() -> streamed.get(0).fieldNames());
+
+        out.reset();
+        generateFromDslWithSeed(dsl, 99L, memoryOptimized).writeJson("notes", out);
+        assertThat(mapper.readTree(out.toByteArray()))
+            .containsExactlyElementsOf(generateFromDslWithSeed(dsl, 99L, memoryOptimized).streamJsonNodes("notes").toList());
+
+        out.reset();
+        generateFromDslWithSeed(dsl, 99L, memoryOptimized).writeAllJson(out);
+        JsonNode all = mapper.readTree(out.toByteArray());
+        JsonNode expected = createLegacyJsonNode(generateFromDslWithSeed(dsl, 99L, memoryOptimized));
+        assertThat(all.fieldNames()).toIterable().containsExactlyInAnyOrder("users", "orders", "notes");
+        for (String collection : List.of("users", "orders", "notes")) {
+            assertThat(all.get(collection)).hasSameSizeAs(expected.get(collection));
+        }
+        if (!memoryOptimized) {
+            // Lazy fields draw from the shared random sequence in output order, so only eager
+            // output is independent of the order collections are written in
+            assertThat(all).isEqualTo(expected);
+        }
+    }
+
+    @BothImplementationsTest
+    void testWriteJsonIsRepeatableAndMatchesStreamedItems(boolean memoryOptimized) throws Exception {
+        String dsl = """
+            {
+              "users": {
+                "count": 5,
+                "item": {
+                  "id": {"gen": "sequence", "start": 1},
+                  "name": {"gen": "name.firstName"},
+                  "score": {"gen": "number", "min": 1, "max": 1000000}
+                }
+              },
+              "orders": {
+                "count": 5,
+                "item": {
+                  "userId": {"ref": "users[*].id"}
+                }
+              }
+            }
+            """;
+        Generation generation = generateFromDslWithSeed(dsl, 1L, memoryOptimized);
+
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        generation.writeJson("users", first);
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        generation.writeJson("users", second);
+
+        assertThat(second.toString()).isEqualTo(first.toString());
+        assertThat(mapper.readTree(first.toByteArray()))
+            .containsExactlyElementsOf(generation.streamJsonNodes("users").toList());
+    }
+
+    @BothImplementationsTest
+    void testWriteJsonStreamsNestedFields(boolean memoryOptimized) throws Exception {
+        String dsl = """
+            {
+              "invoices": {
+                "count": 5,
+                "item": {
+                  "id": {"gen": "uuid"},
+                  "customer": {"name": {"gen": "name.fullName"}, "country": {"gen": "country.name"}},
+                  "lines": {
+                    "array": {
+                      "minSize": 1,
+                      "maxSize": 4,
+                      "item": {
+                        "sku": {"gen": "string", "length": 6},
+                        "tags": {"array": {"size": 2, "item": {"gen": "lorem.word"}}},
+                        "price": {"gen": "float", "min": 1, "max": 50, "decimals": 2}
+                      }
+                    }
+                  },
+                  "$internal": {"ref": "invoices[0].id"}
+                }
+              },
+              "shipments": {
+                "count": 5,
+                "item": {
+                  "weight": {"gen": "number", "min": 1, "max": 30},
+                  "parcels": {"array": {"size": 2, "item": {"label": {"expr": "uppercase(${this.weight})"}}}},
+                  "billedWeight": {"ref": "this.weight"}
+                }
+              }
+            }
+            """;
+
+        for (String collection : List.of("invoices", "shipments")) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            generateFromDslWithSeed(dsl, 21L, memoryOptimized).writeJson(collection, out);
+            List<JsonNode> streamed = generateFromDslWithSeed(dsl, 21L, memoryOptimized)
+                .streamJsonNodes(collection).toList();
+
+            assertThat(mapper.readTree(out.toByteArray())).containsExactlyElementsOf(streamed);
+        }
+    }
+
+    @Test
+    void testStreamedWriteJsonWritesSinkGeneratorsWithoutNodes() throws Exception {
+        AtomicInteger nodesGenerated = new AtomicInteger();
+        SinkGenerator dice = new SinkGenerator() {
+            @Override
+            public void generateInto(GeneratorContext context, ValueSink sink) {
+                sink.writeInt(context.faker().number().numberBetween(1, 7));
+            }
+
+            @Override
+            public JsonNode generate(GeneratorContext context) {
+                nodesGenerated.incrementAndGet();
+                return SinkGenerator.super.generate(context);
+            }
+        };
+        String dsl = """
+            {
+              "rolls": {
+                "count": 10,
+                "item": {
+                  "first": {"gen": "dice"},
+                  "more": {"array": {"size": 3, "item": {"gen": "dice"}}},
+                  "nested": {"last": {"gen": "dice"}}
+                }
+              }
+            }
+            """;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DslDataGenerator.create()
+            .withSeed(4L)
+            .withStreaming()
+            .withCustomGenerator("dice", dice)
+            .fromJsonString(dsl)
+            .generate()
+            .writeJson("rolls", out);
+
+        JsonNode written = mapper.readTree(out.toByteArray());
+        assertThat(written).hasSize(10);
+        for (JsonNode roll : written) {
+            assertThat(roll.get("first").intValue()).isBetween(1, 6);
+            assertThat(roll.get("more")).hasSize(3);
+            assertThat(roll.get("nested").get("last").intValue()).isBetween(1, 6);
+        }
+        assertThat(nodesGenerated).hasValue(0);
+    }
+
+    @BothImplementationsTest
+    void testWriteJsonLeavesStreamOpen(boolean memoryOptimized) throws Exception {
+        String dsl = """
+            {
+              "users": {
+                "count": 2,
+                "item": {"id": {"gen": "uuid"}}
+              }
+            }
+            """;
+        Generation generation = generateFromDsl(dsl, memoryOptimized);
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        generation.writeJson("users", out);
+
+        assertThat(closed).isFalse();
+        assertThat(mapper.readTree(out.toByteArray())).hasSize(2);
+        assertThatThrownBy(() -> generation.writeJson("missing", out))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("missing");
+    }
+
+    @BothImplementationsTest
+    void testWriteBinaryFormatsMatchJson(boolean memoryOptimized) throws Exception {
+        String dsl = """
+            {
+              "users": {
+                "count": 50,
+                "item": {
+                  "id": {"gen": "sequence", "start": 1},
+                  "name": {"gen": "name.firstName"},
+                  "country": {"gen": "country.name"},
+                  "score": {"gen": "float", "min": 0, "max": 10, "decimals": 2},
+                  "tags": {"array": {"size": 2, "item": {"gen": "lorem", "words": 1}}}
+                }
+              }
+            }
+            """;
+        ObjectMapper smileMapper = new SmileMapper();
+        ObjectMapper cborMapper = new CBORMapper();
+
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        generateFromDslWithSeed(dsl, 7L, memoryOptimized).write("users", OutputFormat.JSON, json);
+        ByteArrayOutputStream smile = new ByteArrayOutputStream();
+        generateFromDslWithSeed(dsl, 7L, memoryOptimized).write("users", OutputFormat.SMILE, smile);
+        ByteArrayOutputStream cbor = new ByteArrayOutputStream();
+        generateFromDslWithSeed(dsl, 7L, memoryOptimized).write("users", OutputFormat.CBOR, cbor);
+
+        JsonNode expected = mapper.readTree(json.toByteArray());
+        assertThat(expected).hasSize(50);
+        assertThat(smileMapper.readTree(smile.toByteArray())).isEqualTo(expected);
+        assertThat(cborMapper.readTree(cbor.toByteArray())).isEqualTo(expected);
+        // Shared property names are written once per collection instead of once per item
+        assertThat(smile.size()).isLessThan(json.size());
+        assertThat(cbor.size()).isLessThan(json.size());
+
+        ByteArrayOutputStream all = new ByteArrayOutputStream();
+        generateFromDslWithSeed(dsl, 7L, memoryOptimized).writeAll(OutputFormat.SMILE, all);
+        assertThat(smileMapper.readTree(all.toByteArray()).get("users")).isEqualTo(expected);
+    }
+
+    @BothImplementationsTest
+    void testStreamSqlInsertBatches(boolean memoryOptimized) throws Exception {
+        String dsl = """
+            {
+              "products": {
+                "count": 10,
+                "item": {
+                  "id": {"gen": "sequence", "start": 1},
+                  "name": {"gen": "lorem", "words": 2}
+                }
+              }
+            }
+            """;
+
+        List<String> single = generateFromDslWithSeed(dsl, 5L, memoryOptimized)
+            .streamSqlInsertBatches("products", SqlBatchOptions.ofRows(1)).toList();
+        assertThat(single).containsExactlyElementsOf(
+            generateFromDslWithSeed(dsl, 5L, memoryOptimized).streamSqlInserts("products").toList());
+
+        Map<String, Stream<String>> batches = generateFromDslWithSeed(dsl, 5L, memoryOptimized)
+            .asSqlInsertBatches(SqlBatchOptions.ofRows(4));
+        List<String> statements = batches.get("products").toList();
+        assertThat(statements).hasSize(3);
+        assertThat(statements.get(0)).startsWith("INSERT INTO products (id, name) VALUES (1, ");
+        assertThat(statements.get(2)).contains("(10, ").endsWith(");");
+    }
+
+    @BothImplementationsTest
+    void testWriteSqlMatchesStreamedInserts(boolean memoryOptimized) throws Exception {
+        String dsl = """
+            {
+              "orders": {
+                "count": 8,
+                "item": {
+                  "id": {"gen": "sequence", "start": 1},
+                  "customer": {"gen": "name.fullName"},
+                  "paid": {"gen": "boolean"},
+                  "lines": {"array": {"size": 2, "item": {"gen": "number", "min": 1, "max": 9}}}
+                }
+              }
+            }
+            """;
+        SqlProjection projection = SqlProjection.builder().withFieldType("paid", "TINYINT").build();
+
+        StringWriter out = new StringWriter();
+        generateFromDslWithSeed(dsl, 3L, memoryOptimized).writeSql("orders", projection, out);
+
+        assertThat(out.toString().lines()).containsExactlyElementsOf(
+            generateFromDslWithSeed(dsl, 3L, memoryOptimized).streamSqlInsertsWithProjection("orders", projection).toList());
+
+        StringWriter plain = new StringWriter();
+        generateFromDslWithSeed(dsl, 3L, memoryOptimized).writeSql("orders", plain);
+        assertThat(plain.toString().lines()).containsExactlyElementsOf(
+            generateFromDslWithSeed(dsl, 3L, memoryOptimized).streamSqlInserts("orders").toList());
+    }
 }
@@ -0,0 +1,84 @@
+package com.github.eddranca.datagenerator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingGenerationTest extends ParameterizedGenerationTest {
+
+    @Test
+    void testUnreferencedCollectionIsNotGeneratedUpFront() throws IOException {
+        String dsl = """
+            {
+                "events": {
+                    "count": 100000000,
+                    "item": {
+                        "id": {"gen": "sequence", "start": 1},
+                        "type": {"gen": "choice", "options": ["click", "view"]}
+                    }
+                }
+            }
+            """;
+
+        Generation generation = DslDataGenerator.create()
+            .withSeed(5L)
+            .withStreaming()
+            .fromJsonString(dsl)
+            .generate();
+
+        assertThat(generation.getCollectionSize("events")).isEqualTo(100_000_000);
+        List<JsonNode> first = generation.streamJsonNodes("events").limit(3).toList();
+        assertThat(first).extracting(item -> item.get("id").intValue()).containsExactly(1, 2, 3);
+        assertThat(first).allSatisfy(item -> assertThat(item.get("type").asText()).isIn("click", "view"));
+    }
+
+    @Test
+    void testStreamedCollectionResolvesReferencesToStoredCollections() throws IOException {
+        String dsl = """
+            {
+                "users": {
+                    "count": 20,
+                    "item": {
+                        "id": {"gen": "uuid"},
+                        "name": {"gen": "name.firstName"}
+                    }
+                },
+                "orders": {
+                    "count": 500,
+                    "item": {
+                        "$user": {"ref": "users[*]"},
+                        "userId": {"ref": "$user.id"},
+                        "userName": {"ref": "$user.name"},
+                        "amount": {"gen": "number", "min": 1, "max": 100}
+                    }
+                }
+            }
+            """;
+
+        Generation generation = DslDataGenerator.create()
+            .withSeed(5L)
+            .withStreaming()
+            .fromJsonString(dsl)
+            .generate();
+
+        List<JsonNode> users = generation.streamJsonNodes("users").toList();
+        Set<String> userIds = users.stream().map(user -> user.get("id").asText()).collect(Collectors.toSet());
+        List<JsonNode> orders = generation.streamJsonNodes("orders").toList();
+
+        assertThat(generation.streamJsonNodes("users").toList()).as("referenced collections are stored").isEqualTo(users);
+        assertThat(orders).hasSize(500).allSatisfy(order -> {
+            assertThat(userIds).contains(order.get("userId").asText());
+            assertThat(order.has("$user")).isFalse();
+            assertThat(users).anySatisfy(user -> {
+                assertThat(user.get("id")).isEqualTo(order.get("userId"));
+                assertThat(user.get("name")).isEqualTo(order.get("userName"));
+            });
+        });
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.eddranca.datagenerator.ValidationError;
 import com.github.eddranca.datagenerator.generator.GeneratorRegistry;
+import com.github.eddranca.datagenerator.generator.defaults.NumberGenerator;
 import com.github.eddranca.datagenerator.node.ArrayFieldNode;
 import com.github.eddranca.datagenerator.node.ArrayFieldReferenceNode;
 import com.github.eddranca.datagenerator.node.ChoiceFieldNode;
@@ -452,4 +453,30 @@ class DslTreeBuilderTest {
         assertThat(key1.getCount()).isEqualTo(1);
         assertThat(key2.getCount()).isEqualTo(2);
     }
+
+    @Test
+    void testStaticGeneratorOptionsAreCompiled() throws Exception {
+        JsonNode dsl = mapper.readTree("""
+            {
+                "users": {
+                    "count": 3,
+                    "item": {
+                        "age": {"gen": "number", "min": 18, "max": 65},
+                        "retirement": {"gen": "number", "min": {"ref": "this.age"}, "max": 70},
+                        "joined": {"gen": "date", "from": "2024-01-01", "to": "2020-01-01"}
+                    }
+                }
+            }
+            """);
+
+        ItemNode item = builder.build(dsl).getTree().getCollections().get("users").getItem();
+
+        GeneratedFieldNode age = (GeneratedFieldNode) item.getFields().get("age");
+        assertThat(age.getCompiledGenerator()).isNotNull().isNotInstanceOf(NumberGenerator.class);
+        GeneratedFieldNode retirement = (GeneratedFieldNode) item.getFields().get("retirement");
+        assertThat(retirement.getCompiledGenerator()).isNull();
+        // Invalid options are reported when generating, as for uncompiled generators
+        GeneratedFieldNode joined = (GeneratedFieldNode) item.getFields().get("joined");
+        assertThat(joined.getCompiledGenerator()).isNull();
+    }
 }
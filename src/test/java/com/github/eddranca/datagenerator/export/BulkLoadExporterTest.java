@@ -0,0 +1,111 @@
+package com.github.eddranca.datagenerator.export;
+
+import com.github.eddranca.datagenerator.DslDataGenerator;
+import com.github.eddranca.datagenerator.Generation;
+import com.github.eddranca.datagenerator.util.SqlProjection;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkLoadExporterTest {
+
+    private static final String DSL = """
+        {
+          "users": {
+            "count": 2,
+            "item": {
+              "id": {"gen": "sequence", "start": 1},
+              "name": "O'Brien, \\"Bob\\"\\tjr\\\\",
+              "note": "",
+              "active": true,
+              "createdAt": "2024-01-15T10:30:00",
+              "deletedAt": null,
+              "tags": ["a", "b"]
+            }
+          }
+        }
+        """;
+
+    private static final String CREATE_TABLE = """
+        CREATE TABLE users (
+            id BIGINT,
+            name VARCHAR(255),
+            note TEXT,
+            active BOOLEAN,
+            createdAt TIMESTAMP,
+            deletedAt TIMESTAMP,
+            tags JSONB
+        )
+        """;
+
+    private Generation generate() throws IOException {
+        return DslDataGenerator.create().withSeed(1L).fromJsonString(DSL).generate();
+    }
+
+    private String export(BulkLoadExporter exporter) throws IOException {
+        StringWriter out = new StringWriter();
+        exporter.export(generate(), "users", out);
+        return out.toString();
+    }
+
+    @Test
+    void testPostgresText() throws IOException {
+        String text = export(BulkLoadExporter.builder(BulkLoadFormat.POSTGRES_TEXT).withSchema(CREATE_TABLE).build());
+
+        assertThat(text).isEqualTo(
+            "1\tO'Brien, \"Bob\"\\tjr\\\\\t\ttrue\t2024-01-15 10:30:00\t\\N\t[\"a\",\"b\"]\n"
+                + "2\tO'Brien, \"Bob\"\\tjr\\\\\t\ttrue\t2024-01-15 10:30:00\t\\N\t[\"a\",\"b\"]\n");
+    }
+
+    @Test
+    void testPostgresCsv() throws IOException {
+        String csv = export(BulkLoadExporter.builder(BulkLoadFormat.POSTGRES_CSV).withSchema(CREATE_TABLE).build());
+
+        assertThat(csv.lines()).containsExactly(
+            "1,\"O'Brien, \"\"Bob\"\"\tjr\\\",\"\",true,2024-01-15 10:30:00,,\"[\"\"a\"\",\"\"b\"\"]\"",
+            "2,\"O'Brien, \"\"Bob\"\"\tjr\\\",\"\",true,2024-01-15 10:30:00,,\"[\"\"a\"\",\"\"b\"\"]\"");
+    }
+
+    @Test
+    void testMysqlTsvWritesIntegerBooleansAndUtf8() throws IOException {
+        BulkLoadExporter exporter = BulkLoadExporter.builder(BulkLoadFormat.MYSQL_TSV)
+            .withProjection(SqlProjection.builder().includeFields(Set.of("id", "active", "deletedAt")).build())
+            .build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exporter.export(generate(), "users", out);
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("1\t1\t\\N\n2\t1\t\\N\n");
+    }
+
+    @Test
+    void testLoadStatements() throws IOException {
+        Generation generation = generate();
+        BulkLoadExporter csv = BulkLoadExporter.builder(BulkLoadFormat.POSTGRES_CSV).build();
+        BulkLoadExporter text = BulkLoadExporter.builder(BulkLoadFormat.POSTGRES_TEXT).build();
+        BulkLoadExporter mysql = BulkLoadExporter.builder(BulkLoadFormat.MYSQL_TSV).build();
+        List<String> columns = List.of("id", "name");
+
+        assertThat(csv.columns(generation, "users"))
+            .containsExactly("id", "name", "note", "active", "createdAt", "deletedAt", "tags");
+        assertThat(csv.loadStatement("users", columns, null))
+            .isEqualTo("COPY users (id, name) FROM STDIN WITH (FORMAT csv)");
+        assertThat(text.loadStatement("users", columns, "/tmp/users.txt"))
+            .isEqualTo("COPY users (id, name) FROM '/tmp/users.txt'");
+        assertThat(mysql.loadStatement("users", columns, "users.tsv"))
+            .isEqualTo("LOAD DATA LOCAL INFILE 'users.tsv' INTO TABLE users CHARACTER SET utf8mb4 (id, name)");
+        assertThatThrownBy(() -> mysql.loadStatement("users", columns, null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> csv.export(generation, "missing", new StringWriter()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,66 @@
+package com.github.eddranca.datagenerator.export;
+
+import com.github.eddranca.datagenerator.DslDataGenerator;
+import com.github.eddranca.datagenerator.Generation;
+import com.github.eddranca.datagenerator.OutputFormat;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FormatComparisonTest {
+
+    private static final String DSL = """
+        {
+          "events": {
+            "count": 200,
+            "item": {
+              "id": {"gen": "uuid"},
+              "type": {"gen": "choice", "options": ["click", "view", "purchase"]},
+              "country": {"gen": "country.name"},
+              "amount": {"gen": "float", "min": 1, "max": 100, "decimals": 2}
+            }
+          }
+        }
+        """;
+
+    private Generation generate() throws IOException {
+        return DslDataGenerator.create().withSeed(3L).fromJsonString(DSL).generate();
+    }
+
+    @Test
+    void testReportsSizeAndThroughputPerFormat() throws IOException {
+        Generation generation = generate();
+
+        List<FormatStatistics> stats = FormatComparison.compare(generation, "events", 2);
+
+        assertThat(stats).extracting(FormatStatistics::format)
+            .containsExactly(OutputFormat.JSON, OutputFormat.SMILE, OutputFormat.CBOR);
+        FormatStatistics json = stats.get(0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        generation.writeJson("events", out);
+        assertThat(json.bytes()).isEqualTo(out.size());
+        assertThat(json.sizeRatio(json)).isEqualTo(1.0);
+        for (FormatStatistics format : stats) {
+            assertThat(format.rows()).isEqualTo(200);
+            assertThat(format.rowsPerSecond()).isPositive();
+            assertThat(format.bytesPerSecond()).isPositive();
+        }
+        assertThat(stats.get(1).sizeRatio(json)).isLessThan(1.0);
+        assertThat(stats.get(2).sizeRatio(json)).isLessThan(1.0);
+    }
+
+    @Test
+    void testRejectsInvalidArguments() throws IOException {
+        Generation generation = generate();
+
+        assertThatThrownBy(() -> FormatComparison.compare(generation, "missing", 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FormatComparison.compare(generation, "events", 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,217 @@
+package com.github.eddranca.datagenerator.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.github.eddranca.datagenerator.DslDataGenerator;
+import com.github.eddranca.datagenerator.Generation;
+import com.github.eddranca.datagenerator.util.SqlProjection;
+import com.github.eddranca.datagenerator.util.SqlSchemaParser;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JdbcBatchSinkTest {
+
+    private static final String DSL = """
+        {
+          "users": {
+            "count": 100,
+            "item": {
+              "id": {"gen": "sequence", "start": 1},
+              "name": {"gen": "name.fullName"},
+              "active": {"gen": "boolean"},
+              "createdAt": "2024-01-15T10:30:00",
+              "nickname": null
+            }
+          },
+          "orders": {
+            "count": 250,
+            "item": {
+              "id": {"gen": "sequence", "start": 1},
+              "userId": {"ref": "users[*].id"},
+              "total": {"gen": "float", "min": 1, "max": 500, "decimals": 2},
+              "lines": {"array": {"size": 2, "item": {"gen": "number", "min": 1, "max": 9}}},
+              "trackingCode": {"gen": "uuid"}
+            }
+          }
+        }
+        """;
+
+    private static final String USERS_TABLE = """
+        CREATE TABLE users (
+            id BIGINT PRIMARY KEY,
+            name VARCHAR(255),
+            active TINYINT,
+            createdAt TIMESTAMP,
+            nickname VARCHAR(255)
+        )
+        """;
+
+    private static final String ORDERS_TABLE = """
+        CREATE TABLE orders (
+            id BIGINT PRIMARY KEY,
+            userId BIGINT REFERENCES users(id),
+            total DOUBLE PRECISION,
+            lines VARCHAR(255)
+        )
+        """;
+
+    private static final SqlProjection ORDER_COLUMNS = SqlProjection.builder()
+        .includeFields(Set.of("id", "userId", "total", "lines"))
+        .build();
+
+    private JdbcDataSource dataSource;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID());
+        // Keeps the in-memory database alive for the duration of the test
+        connection = dataSource.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(USERS_TABLE);
+            statement.execute(ORDERS_TABLE);
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    private Generation generate() throws IOException {
+        return DslDataGenerator.create().withSeed(8L).fromJsonString(DSL).generate();
+    }
+
+    private long queryLong(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    @Test
+    void testLoadsTablesInForeignKeyOrderWithParallelConnections() throws Exception {
+        Generation generation = generate();
+
+        LoadStatistics stats = JdbcBatchSink.builder(dataSource)
+            .withBatchSize(7)
+            .withConnectionsPerTable(3)
+            .withProjections(SqlSchemaParser.parseCreateTables(Map.of("users", USERS_TABLE)))
+            .withProjection("orders", ORDER_COLUMNS)
+            .build()
+            .load(generation);
+
+        assertThat(stats.rowsByTable()).containsExactly(Map.entry("users", 100L), Map.entry("orders", 250L));
+        assertThat(stats.rows()).isEqualTo(350);
+        assertThat(stats.batches()).isEqualTo(15 + 36);
+        assertThat(stats.rowsPerSecond()).isPositive();
+
+        long activeUsers = generation.streamJsonNodes("users").filter(user -> user.get("active").asBoolean()).count();
+        assertThat(queryLong("SELECT COUNT(*) FROM users")).isEqualTo(100);
+        assertThat(queryLong("SELECT SUM(active) FROM users")).isEqualTo(activeUsers);
+        assertThat(queryLong("SELECT COUNT(*) FROM users WHERE nickname IS NULL")).isEqualTo(100);
+        assertThat(queryLong("SELECT SUM(id) FROM orders")).isEqualTo(250 * 251 / 2);
+        assertThat(queryLong("SELECT SUM(userId) FROM orders"))
+            .isEqualTo(generation.streamJsonNodes("orders").mapToLong(order -> order.get("userId").asLong()).sum());
+    }
+
+    @Test
+    void testBindsTypedValues() throws Exception {
+        Generation generation = generate();
+
+        JdbcBatchSink.builder(dataSource)
+            .withProjection("users", SqlSchemaParser.parseCreateTable(USERS_TABLE))
+            .withProjection("orders", ORDER_COLUMNS)
+            .build()
+            .load(generation, "users", "orders");
+
+        JsonNode firstOrder = generation.getItem("orders", 0);
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                 "SELECT o.total, o.lines, u.createdAt FROM orders o JOIN users u ON u.id = o.userId WHERE o.id = 1")) {
+            assertThat(resultSet.next()).isTrue();
+            assertThat(resultSet.getDouble(1)).isEqualTo(firstOrder.get("total").asDouble());
+            assertThat(resultSet.getString(2)).isEqualTo(firstOrder.get("lines").toString());
+            assertThat(resultSet.getTimestamp(3)).isEqualTo(Timestamp.valueOf(LocalDateTime.of(2024, 1, 15, 10, 30)));
+        }
+    }
+
+    @Test
+    void testLoadOrderFollowsForeignKeys() throws SQLException {
+        assertThat(JdbcBatchSink.loadOrder(connection.getMetaData(), List.of("orders", "users")))
+            .containsExactly("users", "orders");
+    }
+
+    @Test
+    void testPropagatesInsertFailures() throws Exception {
+        Generation generation = generate();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO users (id) VALUES (42)");
+        }
+        JdbcBatchSink sink = JdbcBatchSink.builder(dataSource)
+            .withBatchSize(10)
+            .withConnectionsPerTable(2)
+            .build();
+
+        assertThatThrownBy(() -> sink.load(generation, "users"))
+            .isInstanceOf(SQLException.class);
+        assertThatThrownBy(() -> sink.load(generation, "missing"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JdbcBatchSink.builder(dataSource).withBatchSize(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testNullsAreBoundWithParameterTypes() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+            "INSERT INTO users (id, name, active, createdAt, nickname) VALUES (?, ?, ?, ?, ?)")) {
+            assertThat(JdbcBatchSink.nullTypes(statement, 5))
+                .containsExactly(Types.BIGINT, Types.VARCHAR, Types.TINYINT, Types.TIMESTAMP, Types.VARCHAR);
+        }
+    }
+
+    @Test
+    void testNullTypesFallBackToVarcharWithoutParameterMetaData() throws SQLException {
+        List<Integer> boundTypes = new ArrayList<>();
+        PreparedStatement statement = (PreparedStatement) Proxy.newProxyInstance(
+            getClass().getClassLoader(), new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                if (method.getName().equals("getParameterMetaData")) {
+                    throw new SQLFeatureNotSupportedException();
+                }
+                if (method.getName().equals("setNull")) {
+                    boundTypes.add((Integer) args[1]);
+                }
+                return null;
+            });
+
+        int[] nullTypes = JdbcBatchSink.nullTypes(statement, 2);
+        JdbcBatchSink.bind(statement, 1, null, ColumnKind.DEFAULT, nullTypes[0]);
+        JdbcBatchSink.bind(statement, 2, NullNode.getInstance(), ColumnKind.DEFAULT, nullTypes[1]);
+
+        assertThat(nullTypes).containsExactly(Types.VARCHAR, Types.VARCHAR);
+        assertThat(boundTypes).containsExactly(Types.VARCHAR, Types.VARCHAR);
+    }
+}
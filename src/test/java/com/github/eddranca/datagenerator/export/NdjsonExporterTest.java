@@ -0,0 +1,126 @@
+package com.github.eddranca.datagenerator.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.eddranca.datagenerator.DslDataGenerator;
+import com.github.eddranca.datagenerator.Generation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NdjsonExporterTest {
+
+    private static final String DSL = """
+        {
+          "users": {
+            "count": 250,
+            "item": {
+              "id": {"gen": "sequence", "start": 1},
+              "name": {"gen": "name.fullName"},
+              "tags": {"array": {"size": 3, "item": {"gen": "lorem", "words": 2}}}
+            }
+          },
+          "orders": {
+            "count": 40,
+            "item": {
+              "userId": {"ref": "users[*].id"},
+              "total": {"gen": "float", "min": 1, "max": 500}
+            }
+          }
+        }
+        """;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    private Generation generate() throws IOException {
+        return DslDataGenerator.create().withSeed(17L).fromJsonString(DSL).generate();
+    }
+
+    private List<JsonNode> readRows(List<Path> files) throws IOException {
+        List<JsonNode> rows = new ArrayList<>();
+        for (Path file : files) {
+            for (String line : Files.readAllLines(file)) {
+                rows.add(mapper.readTree(line));
+            }
+        }
+        return rows;
+    }
+
+    @Test
+    void testExportsEachCollectionInOrder() throws IOException {
+        Generation generation = generate();
+
+        ExportStatistics stats = NdjsonExporter.builder(directory)
+            .withThreads(4)
+            .withChunkSize(7)
+            .withBufferSize(512)
+            .build()
+            .export(generation);
+
+        assertThat(stats.files()).containsExactly(directory.resolve("orders.ndjson"), directory.resolve("users.ndjson"));
+        assertThat(readRows(List.of(directory.resolve("users.ndjson"))))
+            .containsExactlyElementsOf(generation.streamJsonNodes("users").toList());
+        assertThat(readRows(List.of(directory.resolve("orders.ndjson"))))
+            .containsExactlyElementsOf(generation.streamJsonNodes("orders").toList());
+        assertThat(stats.rows()).isEqualTo(290);
+        assertThat(stats.bytes()).isEqualTo(Files.size(stats.files().get(0)) + Files.size(stats.files().get(1)));
+        assertThat(stats.rowsPerSecond()).isPositive();
+        assertThat(stats.bytesPerSecond()).isPositive();
+    }
+
+    @Test
+    void testRollsOverWithoutSplittingRows() throws IOException {
+        Generation generation = generate();
+        long maxFileSize = 2_000;
+
+        ExportStatistics stats = NdjsonExporter.builder(directory)
+            .withThreads(2)
+            .withChunkSize(64)
+            .withMaxFileSize(maxFileSize)
+            .build()
+            .export(generation, "users");
+
+        assertThat(stats.files()).hasSizeGreaterThan(1);
+        assertThat(stats.files().get(0)).isEqualTo(directory.resolve("users-00000.ndjson"));
+        for (Path file : stats.files()) {
+            assertThat(Files.size(file)).isPositive().isLessThanOrEqualTo(maxFileSize);
+        }
+        assertThat(readRows(stats.files())).containsExactlyElementsOf(generation.streamJsonNodes("users").toList());
+        assertThat(stats.rows()).isEqualTo(250);
+    }
+
+    @Test
+    void testExportsFromGenerationBuilder() throws IOException {
+        ExportStatistics stats = NdjsonExporter.builder(directory.resolve("nested"))
+            .build()
+            .export(DslDataGenerator.create().withSeed(17L).withMemoryOptimization().fromJsonString(DSL));
+
+        assertThat(readRows(List.of(directory.resolve("nested").resolve("users.ndjson")))).hasSize(250);
+        assertThat(stats.rows()).isEqualTo(290);
+    }
+
+    @Test
+    void testRejectsInvalidConfiguration() throws IOException {
+        Generation generation = generate();
+        NdjsonExporter exporter = NdjsonExporter.builder(directory).build();
+
+        assertThatThrownBy(() -> exporter.export(generation, "missing"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("missing");
+        assertThatThrownBy(() -> NdjsonExporter.builder(directory).withThreads(0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> NdjsonExporter.builder(directory).withMaxFileSize(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.eddranca.datagenerator.generator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.IntNode;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompositeGeneratorTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final GeneratorContext context = new GeneratorContext(new Faker(new Random(7L)), mapper.createObjectNode(), mapper);
+
+    private static final class CountingGenerator extends CompositeGenerator {
+        final AtomicInteger firstCalls = new AtomicInteger();
+        final AtomicInteger secondCalls = new AtomicInteger();
+
+        CountingGenerator(ObjectMapper mapper) {
+            field("first", ctx -> new IntNode(firstCalls.incrementAndGet()));
+            field("second", ctx -> {
+                secondCalls.incrementAndGet();
+                return mapper.createObjectNode().put("nested", "value");
+            });
+        }
+    }
+
+    @Test
+    void testGenerateAtPathOnlyRunsRequestedField() {
+        CountingGenerator generator = new CountingGenerator(mapper);
+
+        assertThat(generator.generateAtPath(context, "first").intValue()).isEqualTo(1);
+        assertThat(generator.generateAtPath(context, "second.nested").asText()).isEqualTo("value");
+        assertThat(generator.generateAtPath(context, "second.missing")).isNull();
+        assertThat(generator.generateAtPath(context, "missing")).isNull();
+
+        assertThat(generator.firstCalls).hasValue(1);
+        assertThat(generator.secondCalls).hasValue(2);
+    }
+
+    @Test
+    void testGenerateKeepsRegistrationOrder() {
+        JsonNode result = new CountingGenerator(mapper).generate(context);
+
+        assertThat(result.fieldNames()).toIterable().containsExactly("first", "second");
+        assertThat(result.get("second").get("nested").asText()).isEqualTo("value");
+    }
+
+    @Test
+    void testBuiltInFieldGeneratorsMatchGeneratedObjects() {
+        GeneratorRegistry registry = GeneratorRegistry.withDefaultGenerators(new Faker());
+
+        for (String name : registry.getRegisteredGeneratorNames()) {
+            if (!(registry.get(name) instanceof CompositeGenerator composite)) {
+                continue;
+            }
+            JsonNode full = composite.generate(context);
+            assertThat(full.fieldNames()).toIterable()
+                .as(name)
+                .containsExactlyElementsOf(composite.getFieldGenerators().keySet());
+
+            for (Map.Entry<String, Generator> field : composite.getFieldGenerators().entrySet()) {
+                assertThat(registry.getFieldGenerator(name, field.getKey())).isSameAs(field.getValue());
+                JsonNode value = composite.generateAtPath(context, field.getKey());
+                assertThat(value.isTextual()).as(name + "." + field.getKey()).isTrue();
+                assertThat(value.asText()).isNotEmpty();
+            }
+        }
+        assertThat(registry.getFieldGenerator("name", "missing")).isNull();
+        assertThat(registry.getFieldGenerator("uuid", "value")).isNull();
+    }
+
+    @Test
+    void testSeededPathGenerationIsDeterministic() {
+        Generator generator = GeneratorRegistry.withDefaultGenerators(new Faker()).get("address");
+        GeneratorContext first = new GeneratorContext(new Faker(new Random(42L)), mapper.createObjectNode(), mapper);
+        GeneratorContext second = new GeneratorContext(new Faker(new Random(42L)), mapper.createObjectNode(), mapper);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(generator.generateAtPath(first, "city")).isEqualTo(generator.generateAtPath(second, "city"));
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.github.eddranca.datagenerator.generator;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValueSinkTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private static final class RecordingSink implements ValueSink {
+        final List<String> calls = new ArrayList<>();
+
+        @Override
+        public void writeNull() {
+            calls.add("null");
+        }
+
+        @Override
+        public void writeBoolean(boolean value) {
+            calls.add("boolean:" + value);
+        }
+
+        @Override
+        public void writeInt(int value) {
+            calls.add("int:" + value);
+        }
+
+        @Override
+        public void writeLong(long value) {
+            calls.add("long:" + value);
+        }
+
+        @Override
+        public void writeDouble(double value) {
+            calls.add("double:" + value);
+        }
+
+        @Override
+        public void writeString(String value) {
+            calls.add("string:" + value);
+        }
+
+        @Override
+        public void writeNode(JsonNode value) {
+            calls.add("node:" + value);
+        }
+    }
+
+    @Test
+    void testWriteValueUsesTypedMethodsForScalars() {
+        RecordingSink sink = new RecordingSink();
+
+        sink.writeValue(null);
+        sink.writeValue(NullNode.getInstance());
+        sink.writeValue(BooleanNode.TRUE);
+        sink.writeValue(IntNode.valueOf(3));
+        sink.writeValue(LongNode.valueOf(6_000_000_000L));
+        sink.writeValue(DoubleNode.valueOf(1.5));
+        sink.writeValue(TextNode.valueOf("a"));
+        sink.writeValue(mapper.createObjectNode().put("k", 1));
+
+        assertThat(sink.calls).containsExactly("null", "null", "boolean:true", "int:3",
+            "long:6000000000", "double:1.5", "string:a", "node:{\"k\":1}");
+    }
+
+    @Test
+    void testJsonNodeSinkBuildsTypedNodes() {
+        JsonNodeValueSink sink = new JsonNodeValueSink();
+        assertThat(sink.getValue().isNull()).isTrue();
+
+        sink.writeInt(7);
+        assertThat(sink.getValue().isInt()).isTrue();
+        sink.writeLong(7L);
+        assertThat(sink.getValue().isLong()).isTrue();
+        sink.writeDouble(0.25);
+        assertThat(sink.getValue().isDouble()).isTrue();
+        sink.writeBoolean(false);
+        assertThat(sink.getValue().isBoolean()).isTrue();
+        sink.writeString("text");
+        assertThat(sink.getValue()).isEqualTo(TextNode.valueOf("text"));
+        sink.writeString(null);
+        assertThat(sink.getValue().isNull()).isTrue();
+    }
+
+    @Test
+    void testBuiltInGeneratorsWriteTheValuesTheyGenerate() {
+        GeneratorRegistry registry = GeneratorRegistry.withDefaultGenerators(new Faker());
+
+        for (String name : List.of("uuid", "number", "float", "string", "date", "boolean", "lorem", "phone", "name")) {
+            Generator generator = registry.get(name);
+            JsonNode options = name.equals("lorem") ? mapper.createObjectNode().put("words", 3) : mapper.createObjectNode();
+            GeneratorContext generateContext = new GeneratorContext(new Faker(new Random(31L)), options, mapper);
+            GeneratorContext sinkContext = new GeneratorContext(new Faker(new Random(31L)), options, mapper);
+
+            for (int i = 0; i < 5; i++) {
+                JsonNodeValueSink sink = new JsonNodeValueSink();
+                generator.generateInto(sinkContext, sink);
+                assertThat(sink.getValue()).as(name).isEqualTo(generator.generate(generateContext));
+            }
+        }
+    }
+
+    @Test
+    void testScalarGeneratorsBypassJsonNodes() {
+        GeneratorRegistry registry = GeneratorRegistry.withDefaultGenerators(new Faker());
+        GeneratorContext context = new GeneratorContext(new Faker(new Random(2L)),
+            mapper.createObjectNode().put("min", 1).put("max", 2), mapper);
+        RecordingSink sink = new RecordingSink();
+
+        registry.get("number").generateInto(context, sink);
+        registry.getFieldGenerator("name", "firstName").generateInto(context, sink);
+
+        assertThat(sink.calls).hasSize(2);
+        assertThat(sink.calls.get(0)).isEqualTo("int:1");
+        assertThat(sink.calls.get(1)).startsWith("string:");
+    }
+
+    @Test
+    void testJsonGeneratorSinkWritesValuesToTheGenerator() throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = mapper.createGenerator(out)) {
+            JsonGeneratorValueSink sink = new JsonGeneratorValueSink(generator);
+            generator.writeStartArray();
+            sink.writeNull();
+            sink.writeBoolean(true);
+            sink.writeInt(3);
+            sink.writeLong(6_000_000_000L);
+            sink.writeDouble(1.5);
+            sink.writeString("a");
+            sink.writeNode(mapper.createObjectNode().put("k", 1));
+            sink.writeValue(DecimalNode.valueOf(new BigDecimal("2.50")));
+            sink.writeValue(null);
+            generator.writeEndArray();
+        }
+
+        assertThat(out).hasToString("[null,true,3,6000000000,1.5,\"a\",{\"k\":1},2.50,null]");
+    }
+
+    @Test
+    void testGeneratorsWriteTheSameJsonThroughASink() throws IOException {
+        GeneratorRegistry registry = GeneratorRegistry.withDefaultGenerators(new Faker());
+        Generator generator = registry.get("float");
+        JsonNode options = mapper.createObjectNode().put("min", 0).put("max", 10).put("decimals", 3);
+        GeneratorContext generateContext = new GeneratorContext(new Faker(new Random(8L)), options, mapper);
+        GeneratorContext sinkContext = new GeneratorContext(new Faker(new Random(8L)), options, mapper);
+
+        StringWriter out = new StringWriter();
+        StringBuilder expected = new StringBuilder();
+        try (JsonGenerator json = mapper.createGenerator(out)) {
+            JsonGeneratorValueSink sink = new JsonGeneratorValueSink(json);
+            json.writeStartArray();
+            for (int i = 0; i < 5; i++) {
+                generator.generateInto(sinkContext, sink);
+                expected.append(i == 0 ? "[" : ",").append(mapper.writeValueAsString(generator.generate(generateContext)));
+            }
+            json.writeEndArray();
+        }
+
+        assertThat(out).hasToString(expected.append("]").toString());
+    }
+}
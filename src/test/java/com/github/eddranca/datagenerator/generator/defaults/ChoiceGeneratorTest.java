@@ -5,8 +5,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.github.eddranca.datagenerator.exception.FilteringException;
+import com.github.eddranca.datagenerator.generator.Generator;
 import com.github.eddranca.datagenerator.generator.GeneratorContext;
 import net.datafaker.Faker;
+import net.datafaker.service.RandomService;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
@@ -20,6 +22,7 @@ import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
 
 class ChoiceGeneratorTest {
     private final ObjectMapper mapper = new ObjectMapper();
@@ -217,4 +220,65 @@ class ChoiceGeneratorTest {
         // option3 should appear more frequently than option2 (higher weight)
         assertThat(counts.get("option3")).isGreaterThan(counts.get("option2"));
     }
+
+    @Test
+    void testFixedWeightsMatchWeightsFromOptions() {
+        ObjectNode options = mapper.createObjectNode();
+        options.putArray("options").add("a").add("b").add("c");
+        ObjectNode weightedOptions = options.deepCopy();
+        weightedOptions.putArray("weights").add(1.0).add(5.0).add(2.0);
+
+        ChoiceGenerator fixed = ChoiceGenerator.withWeights(List.of(1.0, 5.0, 2.0));
+        GeneratorContext fixedContext = new GeneratorContext(new Faker(new Random(3L)), options, mapper);
+        GeneratorContext context = new GeneratorContext(new Faker(new Random(3L)), weightedOptions, mapper);
+        GeneratorContext compiledContext = new GeneratorContext(new Faker(new Random(3L)), weightedOptions, mapper);
+        Generator compiled = generator.compile(weightedOptions);
+
+        for (int i = 0; i < 100; i++) {
+            JsonNode expected = generator.generate(context);
+            assertThat(fixed.generate(fixedContext)).isEqualTo(expected);
+            assertThat(compiled.generate(compiledContext)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void testAliasTableFollowsWeights() {
+        ChoiceGenerator weighted = ChoiceGenerator.withWeights(List.of(1.0, 2.0, 7.0));
+        RandomService random = new Faker(new Random(9L)).random();
+        int[] counts = new int[3];
+
+        for (int i = 0; i < 100_000; i++) {
+            counts[weighted.chooseIndex(3, random)]++;
+        }
+
+        assertThat(counts[0] / 100_000.0).isCloseTo(0.1, offset(0.01));
+        assertThat(counts[1] / 100_000.0).isCloseTo(0.2, offset(0.01));
+        assertThat(counts[2] / 100_000.0).isCloseTo(0.7, offset(0.01));
+    }
+
+    @Test
+    void testChooseIndexSkipsExcludedOptions() {
+        // The remaining option is very unlikely, so choosing it falls back to scanning
+        ChoiceGenerator weighted = ChoiceGenerator.withWeights(List.of(1000.0, 1000.0, 0.01, 0.02));
+        RandomService random = new Faker(new Random(4L)).random();
+        boolean[] excluded = {true, true, false, false};
+        int[] counts = new int[4];
+
+        for (int i = 0; i < 3000; i++) {
+            counts[weighted.chooseIndex(4, random, excluded, 2)]++;
+        }
+
+        assertThat(counts[0]).isZero();
+        assertThat(counts[1]).isZero();
+        assertThat(counts[3]).isGreaterThan(counts[2]).isGreaterThan(0);
+        assertThat(weighted.chooseIndex(4, random, new boolean[]{true, true, true, false}, 1)).isEqualTo(3);
+    }
+
+    @Test
+    void testChooseIndexRequiresFixedWeights() {
+        RandomService random = new Faker().random();
+
+        assertThatThrownBy(() -> generator.chooseIndex(2, random))
+            .isInstanceOf(IllegalStateException.class);
+    }
 }
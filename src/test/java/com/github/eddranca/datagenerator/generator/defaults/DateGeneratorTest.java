@@ -2,6 +2,7 @@ package com.github.eddranca.datagenerator.generator.defaults;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.eddranca.datagenerator.generator.Generator;
 import com.github.eddranca.datagenerator.generator.GeneratorContext;
 import net.datafaker.Faker;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +11,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import java.time.LocalDate;
+import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -126,4 +128,29 @@ class DateGeneratorTest {
         // Then
         assertThat(result.asText()).isEqualTo(expected);
     }
+
+    @Test
+    @DisplayName("Compiled generator should produce the same dates as the uncompiled one")
+    void compiledGeneratorShouldMatchUncompiled() throws Exception {
+        // Given
+        JsonNode options = objectMapper.readTree("{\"from\": \"2020-01-01\", \"to\": \"2024-12-31\", \"format\": \"dd/MM/yyyy\"}");
+        Generator compiled = dateGenerator.compile(options);
+        GeneratorContext compiledContext = new GeneratorContext(new Faker(new Random(11L)), options, objectMapper);
+        GeneratorContext context = new GeneratorContext(new Faker(new Random(11L)), options, objectMapper);
+
+        // When & Then
+        for (int i = 0; i < 50; i++) {
+            assertThat(compiled.generate(compiledContext)).isEqualTo(dateGenerator.generate(context));
+        }
+    }
+
+    @Test
+    @DisplayName("Compiling should reject a from date after the to date")
+    void compileShouldRejectInvertedRange() throws Exception {
+        JsonNode options = objectMapper.readTree("{\"from\": \"2023-12-31\", \"to\": \"2023-01-01\"}");
+
+        assertThatThrownBy(() -> dateGenerator.compile(options))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("'from' date must be before 'to' date");
+    }
 }
@@ -2,6 +2,7 @@ package com.github.eddranca.datagenerator.generator.defaults;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.eddranca.datagenerator.generator.Generator;
 import com.github.eddranca.datagenerator.generator.GeneratorContext;
 import net.datafaker.Faker;
 import org.junit.jupiter.api.Test;
@@ -152,4 +153,17 @@ class StringGeneratorTest {
             .as("Generated string should match regex [a-z]{5}[0-9]{5}")
             .matches("[a-z]{5}[0-9]{5}");
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{}", "{\"length\": 8}", "{\"minLength\": 3, \"maxLength\": 6, \"allowedChars\": \"abc\"}", "{\"regex\": \"[A-Z]{3}-[0-9]{2}\"}"})
+    void testCompiledGeneratorMatchesUncompiled(String json) throws Exception {
+        JsonNode options = mapper.readTree(json);
+        Generator compiled = generator.compile(options);
+        GeneratorContext compiledContext = new GeneratorContext(new Faker(new Random(5L)), options, mapper);
+        GeneratorContext context = new GeneratorContext(new Faker(new Random(5L)), options, mapper);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(compiled.generate(compiledContext)).isEqualTo(generator.generate(context));
+        }
+    }
 }
@@ -59,10 +59,8 @@ class ArrayFieldReferenceNodeTest {
         JsonNode currentItem = mapper.createObjectNode();
         JsonNode user1 = mapper.createObjectNode().put("name", "John").put("age", 30);
         JsonNode user2 = mapper.createObjectNode().put("name", "Jane").put("age", 25);
-        List<JsonNode> collection = List.of(user1, user2);
 
-        when(mockContext.getFilteredCollectionForArrayField("users", "name", null)).thenReturn(collection);
-        when(mockContext.getElementFromCollection(collection, node, false)).thenReturn(user1);
+        when(mockContext.selectFromFilteredCollectionForArrayField("users", "name", null, node, false)).thenReturn(user1);
 
         JsonNode result = node.resolve(mockContext, currentItem, null);
 
@@ -74,12 +72,10 @@ class ArrayFieldReferenceNodeTest {
         ArrayFieldReferenceNode node = new ArrayFieldReferenceNode("users", "name", false);
         JsonNode currentItem = mapper.createObjectNode();
         JsonNode user = mapper.createObjectNode().put("name", "Jane");
-        List<JsonNode> filteredCollection = List.of(user);
         JsonNode filterValue = mapper.valueToTree("John");
         List<JsonNode> filterValues = List.of(filterValue);
 
-        when(mockContext.getFilteredCollectionForArrayField("users", "name", filterValues)).thenReturn(filteredCollection);
-        when(mockContext.getElementFromCollection(filteredCollection, node, false)).thenReturn(user);
+        when(mockContext.selectFromFilteredCollectionForArrayField("users", "name", filterValues, node, false)).thenReturn(user);
 
         JsonNode result = node.resolve(mockContext, currentItem, filterValues);
 
@@ -91,7 +87,7 @@ class ArrayFieldReferenceNodeTest {
         ArrayFieldReferenceNode node = new ArrayFieldReferenceNode("users", "name", false);
         JsonNode currentItem = mapper.createObjectNode();
 
-        when(mockContext.getFilteredCollectionForArrayField("users", "name", null)).thenReturn(List.of());
+        when(mockContext.selectFromFilteredCollectionForArrayField("users", "name", null, node, false)).thenReturn(null);
         when(mockContext.getMapper()).thenReturn(mapper);
 
         JsonNode result = node.resolve(mockContext, currentItem, null);
@@ -103,12 +99,11 @@ class ArrayFieldReferenceNodeTest {
     void testResolveWithFilteringReturnsFailure() {
         ArrayFieldReferenceNode node = new ArrayFieldReferenceNode("users", "name", false);
         JsonNode currentItem = mapper.createObjectNode();
-        List<JsonNode> emptyFilteredCollection = List.of();
         JsonNode filterValue = mapper.valueToTree("John");
         List<JsonNode> filterValues = List.of(filterValue);
         JsonNode failureResult = mapper.nullNode();
 
-        when(mockContext.getFilteredCollectionForArrayField("users", "name", filterValues)).thenReturn(emptyFilteredCollection);
+        when(mockContext.selectFromFilteredCollectionForArrayField("users", "name", filterValues, node, false)).thenReturn(null);
         when(mockContext.handleFilteringFailure("Array field reference 'users[*].name' has no valid values after filtering"))
             .thenReturn(failureResult);
 
@@ -122,10 +117,8 @@ class ArrayFieldReferenceNodeTest {
         ArrayFieldReferenceNode node = new ArrayFieldReferenceNode("users", "missingField", false);
         JsonNode currentItem = mapper.createObjectNode();
         JsonNode user = mapper.createObjectNode().put("name", "John");
-        List<JsonNode> collection = List.of(user);
 
-        when(mockContext.getFilteredCollectionForArrayField("users", "missingField", null)).thenReturn(collection);
-        when(mockContext.getElementFromCollection(collection, node, false)).thenReturn(user);
+        when(mockContext.selectFromFilteredCollectionForArrayField("users", "missingField", null, node, false)).thenReturn(user);
         when(mockContext.getMapper()).thenReturn(mapper);
 
         JsonNode result = node.resolve(mockContext, currentItem, null);
@@ -131,7 +131,7 @@ class IndexedReferenceNodeTest {
         List<JsonNode> collection = List.of(user1, user2);
 
         when(mockContext.getCollection("users")).thenReturn(collection);
-        when(mockContext.getElementFromCollection(collection, node, false)).thenReturn(user1);
+        when(mockContext.selectFromFilteredCollection("users", null, null, "name", node, false)).thenReturn(user1);
 
         JsonNode result = node.resolve(mockContext, currentItem, null);
 
@@ -143,12 +143,10 @@ class IndexedReferenceNodeTest {
         IndexedReferenceNode node = new IndexedReferenceNode("users", "*", "name", List.of(), false);
         JsonNode currentItem = mapper.createObjectNode();
         JsonNode user2 = mapper.createObjectNode().put("name", "Jane");
-        List<JsonNode> filteredCollection = List.of(user2);
         JsonNode filterValue = mapper.valueToTree("John");
         List<JsonNode> filterValues = List.of(filterValue);
 
-        when(mockContext.getFilteredCollection("users", null, filterValues, "name")).thenReturn(filteredCollection);
-        when(mockContext.getElementFromCollection(filteredCollection, node, false)).thenReturn(user2);
+        when(mockContext.selectFromFilteredCollection("users", null, filterValues, "name", node, false)).thenReturn(user2);
 
         JsonNode result = node.resolve(mockContext, currentItem, filterValues);
 
@@ -51,10 +51,8 @@ class SimpleReferenceNodeTest {
         JsonNode currentItem = mapper.createObjectNode();
         JsonNode user1 = mapper.createObjectNode().put("name", "John").put("age", 30);
         JsonNode user2 = mapper.createObjectNode().put("name", "Jane").put("age", 25);
-        List<JsonNode> collection = List.of(user1, user2);
 
-        when(mockContext.getCollection("users")).thenReturn(collection);
-        when(mockContext.getElementFromCollection(collection, node, false)).thenReturn(user1);
+        when(mockContext.selectFromFilteredCollection("users", null, null, "", node, false)).thenReturn(user1);
 
         JsonNode result = node.resolve(mockContext, currentItem, null);
 
@@ -66,10 +64,8 @@ class SimpleReferenceNodeTest {
         SimpleReferenceNode node = new SimpleReferenceNode("users", "name", List.of(), false);
         JsonNode currentItem = mapper.createObjectNode();
         JsonNode user = mapper.createObjectNode().put("name", "John").put("age", 30);
-        List<JsonNode> collection = List.of(user);
 
-        when(mockContext.getCollection("users")).thenReturn(collection);
-        when(mockContext.getElementFromCollection(collection, node, false)).thenReturn(user);
+        when(mockContext.selectFromFilteredCollection("users", null, null, "name", node, false)).thenReturn(user);
 
         JsonNode result = node.resolve(mockContext, currentItem, null);
 
@@ -81,7 +77,7 @@ class SimpleReferenceNodeTest {
         SimpleReferenceNode node = new SimpleReferenceNode("users", "name", List.of(), false);
         JsonNode currentItem = mapper.createObjectNode();
 
-        when(mockContext.getCollection("users")).thenReturn(List.of());
+        when(mockContext.selectFromFilteredCollection("users", null, null, "name", node, false)).thenReturn(null);
         when(mockContext.getMapper()).thenReturn(mapper);
 
         JsonNode result = node.resolve(mockContext, currentItem, null);
@@ -94,12 +90,10 @@ class SimpleReferenceNodeTest {
         SimpleReferenceNode node = new SimpleReferenceNode("users", "name", List.of(), false);
         JsonNode currentItem = mapper.createObjectNode();
         JsonNode user = mapper.createObjectNode().put("name", "Jane");
-        List<JsonNode> filteredCollection = List.of(user);
         JsonNode filterValue = mapper.valueToTree("John");
         List<JsonNode> filterValues = List.of(filterValue);
 
-        when(mockContext.getFilteredCollection("users", null, filterValues, "name")).thenReturn(filteredCollection);
-        when(mockContext.getElementFromCollection(filteredCollection, node, false)).thenReturn(user);
+        when(mockContext.selectFromFilteredCollection("users", null, filterValues, "name", node, false)).thenReturn(user);
 
         JsonNode result = node.resolve(mockContext, currentItem, filterValues);
 
@@ -111,12 +105,10 @@ class SimpleReferenceNodeTest {
         SimpleReferenceNode node = new SimpleReferenceNode("users", null, List.of(), false);
         JsonNode currentItem = mapper.createObjectNode();
         JsonNode user = mapper.valueToTree("Jane");
-        List<JsonNode> filteredCollection = List.of(user);
         JsonNode filterValue = mapper.valueToTree("John");
         List<JsonNode> filterValues = List.of(filterValue);
 
-        when(mockContext.getFilteredCollection("users", null, filterValues, "")).thenReturn(filteredCollection);
-        when(mockContext.getElementFromCollection(filteredCollection, node, false)).thenReturn(user);
+        when(mockContext.selectFromFilteredCollection("users", null, filterValues, "", node, false)).thenReturn(user);
 
         JsonNode result = node.resolve(mockContext, currentItem, filterValues);
 
@@ -127,12 +119,11 @@ class SimpleReferenceNodeTest {
     void testResolveWithFilteringReturnsFailureForEmptyResult() {
         SimpleReferenceNode node = new SimpleReferenceNode("users", "name", List.of(), false);
         JsonNode currentItem = mapper.createObjectNode();
-        List<JsonNode> emptyFilteredCollection = List.of();
         JsonNode filterValue = mapper.valueToTree("John");
         List<JsonNode> filterValues = List.of(filterValue);
         JsonNode failureResult = mapper.nullNode();
 
-        when(mockContext.getFilteredCollection("users", null, filterValues, "name")).thenReturn(emptyFilteredCollection);
+        when(mockContext.selectFromFilteredCollection("users", null, filterValues, "name", node, false)).thenReturn(null);
         when(mockContext.handleFilteringFailure("Simple reference 'users.name' has no valid values after filtering"))
             .thenReturn(failureResult);
 
@@ -158,10 +149,8 @@ class SimpleReferenceNodeTest {
         SimpleReferenceNode node = new SimpleReferenceNode("users", "missingField", List.of(), false);
         JsonNode currentItem = mapper.createObjectNode();
         JsonNode user = mapper.createObjectNode().put("name", "John");
-        List<JsonNode> collection = List.of(user);
 
-        when(mockContext.getCollection("users")).thenReturn(collection);
-        when(mockContext.getElementFromCollection(collection, node, false)).thenReturn(user);
+        when(mockContext.selectFromFilteredCollection("users", null, null, "missingField", node, false)).thenReturn(user);
 
         JsonNode result = node.resolve(mockContext, currentItem, null);
 
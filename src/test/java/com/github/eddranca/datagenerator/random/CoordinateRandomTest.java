@@ -0,0 +1,106 @@
+package com.github.eddranca.datagenerator.random;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoordinateRandomTest {
+
+    private long[] draw(CoordinateRandom random, String collection, long index) {
+        random.positionAt(collection, index);
+        return new long[]{random.nextLong(), random.nextInt(100), Double.doubleToLongBits(random.nextDouble())};
+    }
+
+    @Test
+    void testSameCoordinateProducesSameValues() {
+        CoordinateRandom random = new CoordinateRandom(7L);
+
+        long[] first = draw(random, "users", 3);
+        draw(random, "users", 4);
+        long[] again = draw(random, "users", 3);
+
+        assertThat(again).containsExactly(first);
+    }
+
+    @Test
+    void testDifferentCoordinatesProduceDifferentStreams() {
+        CoordinateRandom random = new CoordinateRandom(7L);
+
+        long users = draw(random, "users", 0)[0];
+        long orders = draw(random, "orders", 0)[0];
+        long nextUser = draw(random, "users", 1)[0];
+
+        assertThat(users).isNotEqualTo(orders).isNotEqualTo(nextUser);
+    }
+
+    @Test
+    void testSetSeedChangesBaseSeed() {
+        CoordinateRandom random = new CoordinateRandom(7L);
+        long before = draw(random, "users", 0)[0];
+
+        random.setSeed(8L);
+
+        assertThat(random.getBaseSeed()).isEqualTo(8L);
+        assertThat(draw(random, "users", 0)[0]).isNotEqualTo(before);
+    }
+
+    @Test
+    void testThreadsKeepIndependentPositions() {
+        CoordinateRandom random = new CoordinateRandom(99L);
+        long[] expected = draw(random, "items", 10);
+
+        List<long[]> results = IntStream.range(0, 8)
+            .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                draw(random, "items", i);
+                return draw(random, "items", 10);
+            }))
+            .map(CompletableFuture::join)
+            .toList();
+
+        assertThat(results).allSatisfy(result -> assertThat(result).containsExactly(expected));
+    }
+
+    @Test
+    void testFieldStreamsDependOnlyOnItemAndPath() {
+        CoordinateRandom random = new CoordinateRandom(7L);
+
+        random.positionAt("users", 2);
+        random.positionAtField("name");
+        long name = random.nextLong();
+        random.positionAtField("age");
+        long age = random.nextLong();
+
+        random.positionAt("users", 2);
+        random.positionAtField("age");
+        assertThat(random.nextLong()).isEqualTo(age).isNotEqualTo(name);
+
+        random.positionAt("users", 3);
+        random.positionAtField("age");
+        assertThat(random.nextLong()).isNotEqualTo(age);
+    }
+
+    @Test
+    void testSplittableStreamsArePositionedPerCoordinate() {
+        CoordinateRandom random = new SplittableCoordinateRandom(7L);
+
+        long[] first = draw(random, "users", 3);
+        draw(random, "users", 4);
+
+        assertThat(draw(random, "users", 3)).containsExactly(first);
+        assertThat(draw(new CoordinateRandom(7L), "users", 3)).isNotEqualTo(first);
+    }
+
+    @Test
+    void testBoundedValuesStayInRange() {
+        CoordinateRandom random = new CoordinateRandom(1L);
+        random.positionAt("numbers", 0);
+
+        assertThat(IntStream.range(0, 1000).map(i -> random.nextInt(10)))
+            .allSatisfy(value -> assertThat(value).isBetween(0, 9));
+        assertThat(random.nextGaussian()).isFinite();
+    }
+}
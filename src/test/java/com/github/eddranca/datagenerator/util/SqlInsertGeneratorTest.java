@@ -10,6 +10,8 @@ import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.statement.insert.Insert;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -274,4 +276,79 @@ class SqlInsertGeneratorTest {
         assertThat(values.get(activeIndex)).isInstanceOf(LongValue.class);
         assertThat(((LongValue) values.get(activeIndex)).getValue()).isEqualTo(1L);
     }
+
+    private List<JsonNode> rows(int count) {
+        List<JsonNode> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(mapper.createObjectNode().put("id", i).put("name", "user's " + i).put("active", i % 2 == 0));
+        }
+        return rows;
+    }
+
+    @Test
+    void shouldBatchRowsIntoMultiRowInserts() {
+        List<String> statements = SqlInsertGenerator.generateSqlInsertBatches("users", rows(7).stream(),
+            null, SqlBatchOptions.ofRows(3)).toList();
+
+        assertThat(statements).containsExactly(
+            "INSERT INTO users (id, name, active) VALUES (0, 'user''s 0', true), (1, 'user''s 1', false), (2, 'user''s 2', true);",
+            "INSERT INTO users (id, name, active) VALUES (3, 'user''s 3', false), (4, 'user''s 4', true), (5, 'user''s 5', false);",
+            "INSERT INTO users (id, name, active) VALUES (6, 'user''s 6', true);");
+        for (String sql : statements) {
+            assertThat(parseInsert(sql).getTable().getName()).isEqualTo("users");
+        }
+    }
+
+    @Test
+    void shouldMatchSingleRowInsertsWithOneRowPerStatement() {
+        List<JsonNode> rows = rows(4);
+
+        assertThat(SqlInsertGenerator.generateSqlInsertBatches("users", rows.stream(), null, SqlBatchOptions.ofRows(1)))
+            .containsExactlyElementsOf(rows.stream().map(row -> SqlInsertGenerator.generateSqlInsert("users", row)).toList());
+    }
+
+    @Test
+    void shouldRespectStatementByteLimit() {
+        int maxBytes = 120;
+
+        List<String> statements = SqlInsertGenerator.generateSqlInsertBatches("users", rows(20).stream(),
+            null, new SqlBatchOptions(1_000, maxBytes)).toList();
+
+        assertThat(statements).hasSizeGreaterThan(1);
+        for (String sql : statements) {
+            assertThat(sql.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(maxBytes);
+        }
+        assertThat(String.join("", statements).split("\\(\\d+, ")).hasSize(21);
+
+        // A row longer than the limit still gets a statement of its own
+        List<String> oversized = SqlInsertGenerator.generateSqlInsertBatches("users", rows(2).stream(),
+            null, new SqlBatchOptions(10, 10)).toList();
+        assertThat(oversized).hasSize(2);
+    }
+
+    @Test
+    void shouldStartNewStatementWhenColumnsChange() throws Exception {
+        List<JsonNode> rows = List.of(
+            mapper.readTree("{\"id\": 1, \"name\": \"a\"}"),
+            mapper.readTree("{\"id\": 2, \"name\": \"b\"}"),
+            mapper.readTree("{\"id\": 3}"),
+            mapper.readTree("{\"id\": 4, \"name\": \"d\", \"extra\": \"x\"}"));
+
+        assertThat(SqlInsertGenerator.generateSqlInsertBatches("t", rows.stream(), null, SqlBatchOptions.ofRows(10)))
+            .containsExactly(
+                "INSERT INTO t (id, name) VALUES (1, 'a'), (2, 'b');",
+                "INSERT INTO t (id) VALUES (3);",
+                "INSERT INTO t (id, name, extra) VALUES (4, 'd', 'x');");
+    }
+
+    @Test
+    void shouldApplyProjectionToBatches() {
+        SqlProjection projection = SqlProjection.builder()
+            .includeFields(Set.of("id", "active"))
+            .withFieldType("active", "TINYINT")
+            .build();
+
+        assertThat(SqlInsertGenerator.generateSqlInsertBatches("users", rows(2).stream(), projection, SqlBatchOptions.ofRows(5)))
+            .containsExactly("INSERT INTO users (id, active) VALUES (0, 1), (1, 0);");
+    }
 }
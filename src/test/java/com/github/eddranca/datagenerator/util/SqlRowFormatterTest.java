@@ -0,0 +1,87 @@
+package com.github.eddranca.datagenerator.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlRowFormatterTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void shouldFormatInsertsWithCompiledColumns() throws Exception {
+        SqlRowFormatter formatter = SqlRowFormatter.of("users", SqlProjection.builder()
+            .includeFields(Set.of("id", "name", "active"))
+            .withFieldType("active", "TINYINT")
+            .build());
+
+        assertThat(formatter.formatInsert(mapper.readTree("{\"id\": 1, \"name\": \"O'Neil\", \"active\": true, \"tmp\": 0}")))
+            .isEqualTo("INSERT INTO users (id, name, active) VALUES (1, 'O''Neil', 1);");
+        assertThat(formatter.formatInsert(mapper.readTree("{\"id\": 2, \"name\": null, \"active\": false}")))
+            .isEqualTo("INSERT INTO users (id, name, active) VALUES (2, NULL, 0);");
+        assertThat(formatter.formatInsert(mapper.readTree("{\"name\": \"x\", \"id\": 3}")))
+            .isEqualTo("INSERT INTO users (name, id) VALUES ('x', 3);");
+    }
+
+    @Test
+    void shouldAppendToWriters() throws Exception {
+        SqlRowFormatter formatter = SqlRowFormatter.of("t", null);
+        StringWriter out = new StringWriter();
+
+        formatter.appendInsert(mapper.readTree("{\"a\": \"it's\", \"b\": [1, \"''\"]}"), out);
+
+        assertThat(out).hasToString("INSERT INTO t (a, b) VALUES ('it''s', '[1,\"''''\"]');");
+    }
+
+    @Test
+    void shouldMatchSqlInsertGenerator() throws Exception {
+        JsonNode item = mapper.readTree("{\"id\": 7, \"price\": 1.5, \"ok\": true, \"tags\": {\"k\": \"v\"}, \"note\": \"a'b\"}");
+
+        assertThat(SqlRowFormatter.of("items", null).formatInsert(item))
+            .isEqualTo(SqlInsertGenerator.generateSqlInsert("items", item))
+            .isEqualTo("INSERT INTO items (id, price, ok, tags, note) VALUES (7, 1.5, true, '{\"k\":\"v\"}', 'a''b');");
+    }
+
+    @Test
+    void shouldWarnAboutComplexFieldsOncePerTable() throws Exception {
+        Logger logger = Logger.getLogger(SqlRowFormatter.class.getName());
+        List<LogRecord> records = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord logRecord) {
+                records.add(logRecord);
+            }
+
+            @Override
+            public void flush() {
+                // Nothing buffered
+            }
+
+            @Override
+            public void close() {
+                // Nothing to release
+            }
+        };
+        logger.addHandler(handler);
+        try {
+            SqlRowFormatter formatter = SqlRowFormatter.of("docs", null);
+            for (int i = 0; i < 50; i++) {
+                formatter.formatInsert(mapper.readTree("{\"id\": " + i + ", \"body\": {\"n\": " + i + "}, \"tags\": [1]}"));
+            }
+        } finally {
+            logger.removeHandler(handler);
+        }
+
+        assertThat(records).hasSize(2).allMatch(logRecord -> logRecord.getLevel() == Level.WARNING);
+    }
+}
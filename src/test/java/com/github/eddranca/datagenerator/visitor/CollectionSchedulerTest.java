@@ -0,0 +1,131 @@
+package com.github.eddranca.datagenerator.visitor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.eddranca.datagenerator.builder.DslTreeBuilder;
+import com.github.eddranca.datagenerator.generator.GeneratorRegistry;
+import com.github.eddranca.datagenerator.node.RootNode;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CollectionSchedulerTest {
+
+    private DslTreeBuilder builder;
+    private ObjectMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        GeneratorRegistry registry = GeneratorRegistry.withDefaultGenerators(new Faker());
+        builder = new DslTreeBuilder(registry);
+        mapper = new ObjectMapper();
+    }
+
+    private RootNode parseAndBuild(String dsl) throws Exception {
+        return builder.build(mapper.readTree(dsl)).getTree();
+    }
+
+    @Test
+    void testIndependentCollectionsShareAWave() throws Exception {
+        RootNode root = parseAndBuild("""
+            {
+              "countries": {"count": 2, "item": {"code": {"gen": "country.countryCode"}}},
+              "categories": {"count": 2, "item": {"name": {"gen": "lorem.word"}}},
+              "products": {
+                "count": 3,
+                "item": {"category": {"ref": "categories[*].name"}}
+              },
+              "users": {
+                "count": 3,
+                "item": {"id": {"gen": "uuid"}, "country": {"ref": "countries[*].code"}}
+              },
+              "orders": {
+                "count": 3,
+                "item": {"userId": {"ref": "users[*].id"}, "product": {"ref": "products[*]"}}
+              }
+            }
+            """);
+
+        CollectionScheduler scheduler = new CollectionScheduler(root);
+
+        assertThat(scheduler.getWaves()).containsExactly(
+            List.of("countries", "categories"),
+            List.of("products", "users"),
+            List.of("orders"));
+        assertThat(scheduler.getDependencies())
+            .containsEntry("orders", Set.of("products", "users"))
+            .containsEntry("countries", Set.of());
+    }
+
+    @Test
+    void testMergedCollectionsAndPicksKeepDeclarationOrder() throws Exception {
+        RootNode root = parseAndBuild("""
+            {
+              "admins": {"name": "users", "count": 2, "item": {"id": {"gen": "uuid"}}, "pick": {"firstAdmin": 0}},
+              "audit": {"count": 2, "item": {"userId": {"ref": "users[*].id"}, "admin": {"ref": "firstAdmin.id"}}},
+              "customers": {"name": "users", "count": 2, "item": {"id": {"gen": "uuid"}}},
+              "other": {"count": 2, "item": {"value": {"gen": "uuid"}}}
+            }
+            """);
+
+        CollectionScheduler scheduler = new CollectionScheduler(root);
+
+        // customers must wait for the earlier contributor and for the earlier reader of "users"
+        assertThat(scheduler.getDependencies())
+            .containsEntry("audit", Set.of("admins"))
+            .containsEntry("customers", Set.of("admins", "audit"))
+            .containsEntry("other", Set.of());
+        assertThat(scheduler.getWaves()).containsExactly(
+            List.of("admins", "other"),
+            List.of("audit"),
+            List.of("customers"));
+    }
+
+    @Test
+    void testRunRespectsDependencies() throws Exception {
+        RootNode root = parseAndBuild("""
+            {
+              "a": {"count": 1, "item": {"id": {"gen": "uuid"}}},
+              "b": {"count": 1, "item": {"id": {"ref": "a[*].id"}}},
+              "c": {"count": 1, "item": {"id": {"ref": "b[*].id"}}}
+            }
+            """);
+        List<String> completed = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            new CollectionScheduler(root).run(executor, collection -> completed.add(collection.getName()));
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(completed).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void testRunPropagatesTaskFailure() throws Exception {
+        RootNode root = parseAndBuild("""
+            {
+              "a": {"count": 1, "item": {"id": {"gen": "uuid"}}}
+            }
+            """);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            CollectionScheduler scheduler = new CollectionScheduler(root);
+            assertThatThrownBy(() -> scheduler.run(executor, collection -> {
+                throw new IllegalStateException("boom");
+            })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.eddranca.datagenerator.visitor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.eddranca.datagenerator.builder.DslTreeBuilder;
+import com.github.eddranca.datagenerator.generator.GeneratorRegistry;
+import com.github.eddranca.datagenerator.node.RootNode;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnarReferenceStoreTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private LazyGenerationContext generate(String dsl) throws Exception {
+        Random random = new Random(11L);
+        GeneratorRegistry registry = GeneratorRegistry.withDefaultGenerators(new Faker(random));
+        RootNode root = new DslTreeBuilder(registry).build(mapper.readTree(dsl)).getTree();
+
+        PathDependencyAnalyzer analyzer = new PathDependencyAnalyzer();
+        LazyGenerationContext context = new LazyGenerationContext(registry, random);
+        context.setReferencedPaths(analyzer.analyzeRoot(root));
+        context.setCollectionsReadWithoutPaths(analyzer.getCollectionsReadWithoutPaths());
+        root.accept(new DataGenerationVisitor<>(context));
+        return context;
+    }
+
+    @Test
+    void testReferencesReadOnlyReferencedPaths() throws Exception {
+        LazyGenerationContext context = generate("""
+            {
+                "users": {
+                    "count": 100,
+                    "item": {
+                        "id": {"gen": "sequence", "start": 1},
+                        "big": {"gen": "number", "min": 3000000000, "max": 4000000000},
+                        "score": {"gen": "float", "min": 0, "max": 1},
+                        "active": {"gen": "boolean"},
+                        "country": {"gen": "choice", "options": ["ES", "FR", "DE"]},
+                        "address": {"city": {"gen": "address.city"}, "zip": {"gen": "address.zipCode"}},
+                        "bio": {"gen": "lorem.paragraph"}
+                    }
+                },
+                "orders": {
+                    "count": 10,
+                    "item": {
+                        "userId": {"ref": "users[*].id"},
+                        "big": {"ref": "users[*].big"},
+                        "score": {"ref": "users[*].score"},
+                        "country": {"ref": "users[active=true].country"},
+                        "city": {"ref": "users[*].address.city"}
+                    }
+                }
+            }
+            """);
+
+        List<JsonNode> rows = context.getCollection("users");
+        List<LazyItemProxy> items = context.getNamedCollections().get("users");
+
+        assertThat(rows).hasSize(100);
+        for (int i = 0; i < rows.size(); i++) {
+            JsonNode row = rows.get(i);
+            JsonNode item = items.get(i).getMaterializedCopy();
+            assertThat(row.get("id")).isEqualTo(item.get("id"));
+            assertThat(row.get("big")).isEqualTo(item.get("big"));
+            assertThat(row.get("score")).isEqualTo(item.get("score"));
+            assertThat(row.get("active")).isEqualTo(item.get("active"));
+            assertThat(row.get("country")).isEqualTo(item.get("country"));
+            assertThat(row.get("address")).isEqualTo(mapper.createObjectNode().set("city", item.get("address").get("city")));
+            assertThat(row.has("bio")).isFalse();
+        }
+    }
+
+    @Test
+    void testWholeItemReferencesAreFullyMaterialized() throws Exception {
+        LazyGenerationContext context = generate("""
+            {
+                "users": {
+                    "count": 5,
+                    "item": {
+                        "id": {"gen": "uuid"},
+                        "bio": {"gen": "lorem.sentence"}
+                    }
+                },
+                "orders": {
+                    "count": 5,
+                    "item": {
+                        "user": {"ref": "users[*]"},
+                        "label": {"expr": "${users[0].bio}"}
+                    }
+                }
+            }
+            """);
+
+        assertThat(context.getCollection("users"))
+            .allSatisfy(user -> assertThat(user.has("bio")).isTrue());
+    }
+}
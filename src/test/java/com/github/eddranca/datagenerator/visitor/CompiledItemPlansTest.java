@@ -0,0 +1,96 @@
+package com.github.eddranca.datagenerator.visitor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.eddranca.datagenerator.builder.DslTreeBuilder;
+import com.github.eddranca.datagenerator.expression.ExpressionFunctionRegistry;
+import com.github.eddranca.datagenerator.generator.GeneratorRegistry;
+import com.github.eddranca.datagenerator.node.CollectionNode;
+import com.github.eddranca.datagenerator.node.GeneratedFieldNode;
+import com.github.eddranca.datagenerator.node.ObjectFieldNode;
+import com.github.eddranca.datagenerator.node.RootNode;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompiledItemPlansTest {
+
+    private static final String DSL = """
+        {
+            "users": {
+                "count": 20,
+                "item": {
+                    "id": {"gen": "sequence", "start": 100},
+                    "name": {"gen": "name", "path": "firstName"},
+                    "age": {"gen": "number", "min": 18, "max": 65},
+                    "profile": {
+                        "bio": {"gen": "lorem.sentence"},
+                        "tags": {"array": {"size": 2, "item": {"gen": "lorem.word"}}}
+                    },
+                    "...address": {"gen": "address", "fields": ["city"]},
+                    "status": {"gen": "choice", "options": ["A", "B"]}
+                }
+            },
+            "orders": {
+                "count": 30,
+                "item": {
+                    "$user": {"ref": "users[*]"},
+                    "userId": {"ref": "$user.id"},
+                    "retirement": {"gen": "number", "min": {"ref": "this.total"}, "max": 100},
+                    "total": {"gen": "number", "min": 1, "max": 50}
+                }
+            }
+        }
+        """;
+
+    private ObjectMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new ObjectMapper();
+    }
+
+    private JsonNode generate(long seed, boolean compiled) throws Exception {
+        Random random = new Random(seed);
+        GeneratorRegistry registry = GeneratorRegistry.withDefaultGenerators(new Faker(random));
+        RootNode root = new DslTreeBuilder(registry).build(mapper.readTree(DSL)).getTree();
+        EagerGenerationContext context = new EagerGenerationContext(registry, random);
+
+        CompiledItemPlans plans = compiled ? CompiledItemPlans.compile(root, registry, context.getMapper()) : null;
+        return root.accept(new DataGenerationVisitor<>(context, new ExpressionFunctionRegistry(), plans));
+    }
+
+    @Test
+    void testCompiledPlansProduceSameOutputAsVisitorDispatch() throws Exception {
+        JsonNode expected = generate(42L, false);
+        JsonNode actual = generate(42L, true);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.get("users").get(3).get("id").intValue()).isEqualTo(103);
+        assertThat(actual.get("users").get(0).has("city")).isTrue();
+        assertThat(actual.get("orders").get(0).has("$user")).isFalse();
+    }
+
+    @Test
+    void testPlansPreBindOnlyStaticGeneratedFields() throws Exception {
+        GeneratorRegistry registry = GeneratorRegistry.withDefaultGenerators(new Faker());
+        RootNode root = new DslTreeBuilder(registry).build(mapper.readTree(DSL)).getTree();
+        CompiledItemPlans plans = CompiledItemPlans.compile(root, registry, mapper);
+
+        CollectionNode users = root.getCollections().get("users");
+        CollectionNode orders = root.getCollections().get("orders");
+        GeneratedFieldNode age = (GeneratedFieldNode) users.getItem().getFields().get("age");
+        GeneratedFieldNode retirement = (GeneratedFieldNode) orders.getItem().getFields().get("retirement");
+        ObjectFieldNode profile = (ObjectFieldNode) users.getItem().getFields().get("profile");
+
+        assertThat(plans.stepFor(age)).isNotNull();
+        assertThat(plans.stepFor(retirement)).as("runtime options are resolved per item").isNull();
+        assertThat(plans.planFor(profile)).isNotNull();
+        assertThat(plans.planFor(users.getItem()).usesShadowBindings()).isFalse();
+        assertThat(plans.planFor(orders.getItem()).usesShadowBindings()).isTrue();
+    }
+}
@@ -9,7 +9,10 @@ import net.datafaker.Faker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -214,4 +217,56 @@ class DataGenerationVisitorTest {
 
         assertThat(result1).isEqualTo(result2);
     }
+
+    @Test
+    void testChoiceOnlyGeneratesChosenOption() throws Exception {
+        JsonNode dsl = mapper.readTree("""
+            {
+                "events": {
+                    "count": 200,
+                    "item": {
+                        "code": {"gen": "choice", "options": [
+                            {"gen": "sequence", "start": 1},
+                            {"gen": "sequence", "start": 1000}
+                        ], "weights": [1, 3]}
+                    }
+                }
+            }
+            """);
+
+        DslTreeBuildResult buildResult = builder.build(dsl);
+        EagerGenerationContext context = new EagerGenerationContext(registry, new Random(17L));
+        JsonNode events = buildResult.getTree().accept(new DataGenerationVisitor<>(context)).get("events");
+
+        // Each sequence only advances when its option is chosen
+        List<Integer> low = new ArrayList<>();
+        List<Integer> high = new ArrayList<>();
+        events.forEach(event -> (event.get("code").intValue() < 1000 ? low : high).add(event.get("code").intValue()));
+        assertThat(low).isEqualTo(IntStream.rangeClosed(1, low.size()).boxed().toList());
+        assertThat(high).isEqualTo(IntStream.range(1000, 1000 + high.size()).boxed().toList());
+        assertThat(high).hasSizeGreaterThan(low.size());
+    }
+
+    @Test
+    void testFilteredChoiceChoosesAmongRemainingOptions() throws Exception {
+        JsonNode dsl = mapper.readTree("""
+            {
+                "items": {
+                    "count": 100,
+                    "item": {
+                        "size": {"gen": "choice", "options": ["S", "M", "L", "XL"],
+                            "weights": [50, 30, 15, 5], "filter": ["S", "M"]},
+                        "none": {"gen": "choice", "options": ["S"], "filter": ["S"]}
+                    }
+                }
+            }
+            """);
+
+        DslTreeBuildResult buildResult = builder.build(dsl);
+        EagerGenerationContext context = new EagerGenerationContext(registry, new Random(23L));
+        JsonNode items = buildResult.getTree().accept(new DataGenerationVisitor<>(context)).get("items");
+
+        assertThat(items).extracting(item -> item.get("size").asText()).containsOnly("L", "XL").contains("L", "XL");
+        assertThat(items).allMatch(item -> item.get("none").isNull());
+    }
 }
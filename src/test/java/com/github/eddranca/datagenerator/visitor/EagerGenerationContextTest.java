@@ -13,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
@@ -355,4 +356,44 @@ class EagerGenerationContextTest {
 
         assertThat(result).isEqualTo(expectedResult);
     }
+
+    @Test
+    void testSelectFromFilteredCollectionSamplesWithoutMaterializing() {
+        EagerGenerationContext samplingContext = new EagerGenerationContext(mockGeneratorRegistry, new Random(7L));
+        List<JsonNode> users = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            users.add(mapper.createObjectNode().put("id", i));
+        }
+        samplingContext.registerCollection("users", users);
+        List<JsonNode> filterValues = List.of(mapper.valueToTree(1), mapper.valueToTree(2));
+
+        for (int i = 0; i < 500; i++) {
+            JsonNode selected = samplingContext.selectFromFilteredCollection("users", null, filterValues, "id", null, false);
+            assertThat(selected.get("id").intValue()).isNotIn(1, 2);
+        }
+
+        // A few exclusions are rejected while sampling, no filtered copy is built
+        assertThat(samplingContext.filteredCollectionCache.size()).isZero();
+    }
+
+    @Test
+    void testSelectFromFilteredCollectionMaterializesWhenMostItemsAreExcluded() {
+        EagerGenerationContext samplingContext = new EagerGenerationContext(mockGeneratorRegistry, new Random(7L));
+        List<JsonNode> users = new ArrayList<>();
+        List<JsonNode> filterValues = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            users.add(mapper.createObjectNode().put("id", i));
+            if (i != 500) {
+                filterValues.add(mapper.valueToTree(i));
+            }
+        }
+        samplingContext.registerCollection("users", users);
+
+        JsonNode selected = samplingContext.selectFromFilteredCollection("users", null, filterValues, "id", null, false);
+
+        assertThat(selected.get("id").intValue()).isEqualTo(500);
+        assertThat(samplingContext.filteredCollectionCache.size()).isEqualTo(1);
+        assertThat(samplingContext.selectFromFilteredCollection("users", null, users.stream().map(u -> u.get("id")).toList(),
+            "id", null, false)).isNull();
+    }
 }
@@ -0,0 +1,100 @@
+package com.github.eddranca.datagenerator.visitor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.eddranca.datagenerator.generator.GeneratorRegistry;
+import com.github.eddranca.datagenerator.node.ComparisonCondition;
+import com.github.eddranca.datagenerator.node.ComparisonOperator;
+import com.github.eddranca.datagenerator.node.Condition;
+import com.github.eddranca.datagenerator.node.LogicalCondition;
+import com.github.eddranca.datagenerator.node.ShadowBindingReference;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EqualityIndexTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private List<JsonNode> users() throws Exception {
+        List<JsonNode> users = new ArrayList<>();
+        users.add(mapper.readTree("{\"id\": 1, \"country\": \"ES\", \"active\": true, \"address\": {\"zip\": \"1\"}}"));
+        users.add(mapper.readTree("{\"id\": 2, \"country\": \"FR\", \"active\": \"true\"}"));
+        users.add(mapper.readTree("{\"id\": 3, \"country\": \"ES\", \"active\": false, \"address\": {\"zip\": 1}}"));
+        users.add(mapper.readTree("{\"id\": 4, \"country\": null, \"active\": true}"));
+        users.add(mapper.readTree("{\"id\": 5, \"active\": true, \"score\": 1.0}"));
+        users.add(mapper.readTree("{\"id\": 6000000000, \"country\": \"ES\", \"active\": true}"));
+        return users;
+    }
+
+    private static List<JsonNode> scan(List<JsonNode> items, Condition condition) {
+        return items.stream().filter(condition::matches).toList();
+    }
+
+    @Test
+    void testLookupMatchesConditionScan() throws Exception {
+        List<JsonNode> users = users();
+        List<ComparisonCondition> conditions = List.of(
+            new ComparisonCondition("country", ComparisonOperator.EQUALS, "ES"),
+            new ComparisonCondition("country", ComparisonOperator.EQUALS, null),
+            new ComparisonCondition("country", ComparisonOperator.EQUALS, "IT"),
+            new ComparisonCondition("active", ComparisonOperator.EQUALS, true),
+            new ComparisonCondition("active", ComparisonOperator.EQUALS, "true"),
+            new ComparisonCondition("id", ComparisonOperator.EQUALS, 3),
+            new ComparisonCondition("id", ComparisonOperator.EQUALS, 6_000_000_000L),
+            new ComparisonCondition("address.zip", ComparisonOperator.EQUALS, "1"),
+            new ComparisonCondition("address.zip", ComparisonOperator.EQUALS, 1)
+        );
+
+        for (ComparisonCondition condition : conditions) {
+            EqualityIndex index = EqualityIndex.build(users, condition.getFieldPath());
+            assertThat(index.lookup(condition.getExpectedValue()))
+                .as(condition.toConditionString())
+                .containsExactlyElementsOf(scan(users, condition));
+        }
+    }
+
+    @Test
+    void testOnlyEqualityComparisonsAreIndexable() {
+        ComparisonCondition equals = new ComparisonCondition("country", ComparisonOperator.EQUALS, "ES");
+        ComparisonCondition greater = new ComparisonCondition("id", ComparisonOperator.GREATER_THAN, 2);
+        ComparisonCondition decimal = new ComparisonCondition("score", ComparisonOperator.EQUALS, 1.0);
+
+        assertThat(EqualityIndex.indexableComparisons(equals)).containsExactly(equals);
+        assertThat(EqualityIndex.indexableComparisons(greater)).isEmpty();
+        assertThat(EqualityIndex.indexableComparisons(decimal)).isEmpty();
+        assertThat(EqualityIndex.indexableComparisons(
+            new LogicalCondition(LogicalCondition.Type.AND, List.of(equals, greater)))).containsExactly(equals);
+        assertThat(EqualityIndex.indexableComparisons(
+            new LogicalCondition(LogicalCondition.Type.OR, List.of(equals, greater)))).isEmpty();
+    }
+
+    @Test
+    void testFilteredCollectionUsesIndexForResolvedShadowBindings() throws Exception {
+        Random random = new Random(1L);
+        EagerGenerationContext context = new EagerGenerationContext(
+            GeneratorRegistry.withDefaultGenerators(new Faker(random)), random);
+        List<JsonNode> users = users();
+        context.registerCollection("users", users);
+
+        Condition condition = new LogicalCondition(LogicalCondition.Type.AND, List.of(
+            new ComparisonCondition("country", ComparisonOperator.EQUALS, ShadowBindingReference.parse("$order.country")),
+            new ComparisonCondition("active", ComparisonOperator.EQUALS, true)));
+
+        for (int i = 0; i < 100; i++) {
+            Condition resolved = condition.resolveShadowBindings(
+                Map.of("$order", mapper.readTree("{\"country\": \"ES\"}")));
+            assertThat(context.getFilteredCollection("users", resolved, null, ""))
+                .containsExactlyElementsOf(scan(users, resolved));
+        }
+
+        // Resolved conditions are new objects every time, they must not pile up in the cache
+        assertThat(context.filteredCollectionCache.size()).isZero();
+    }
+}
@@ -1,6 +1,8 @@
 package com.github.eddranca.datagenerator.visitor;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.eddranca.datagenerator.CacheStatistics;
+import com.github.eddranca.datagenerator.DslDataGenerator;
 import com.github.eddranca.datagenerator.Generation;
 import com.github.eddranca.datagenerator.ParameterizedGenerationTest;
 import org.junit.jupiter.api.Test;
@@ -10,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Tests for the filtered collection caching mechanism.
@@ -305,4 +308,93 @@ class FilteredCollectionCacheTest extends ParameterizedGenerationTest {
             }
         }
     }
+
+    @Test
+    void testCacheEvictsLeastRecentlyUsedEntries() {
+        FilteredCollectionCache cache = new FilteredCollectionCache(2);
+        FilteredCollectionKey first = new FilteredCollectionKey("users", null, null, "a");
+        FilteredCollectionKey second = new FilteredCollectionKey("users", null, null, "b");
+        FilteredCollectionKey third = new FilteredCollectionKey("users", null, null, "c");
+
+        cache.get(first, List::of);
+        cache.get(second, List::of);
+        cache.get(first, List::of);
+        cache.get(third, List::of);
+        cache.get(second, List::of);
+
+        CacheStatistics statistics = cache.statistics();
+        assertThat(statistics.hits()).isEqualTo(1);
+        assertThat(statistics.misses()).isEqualTo(4);
+        assertThat(statistics.evictions()).isEqualTo(2);
+        assertThat(statistics.size()).isEqualTo(2);
+        assertThat(statistics.maxSize()).isEqualTo(2);
+        assertThat(statistics.hitRate()).isEqualTo(0.2);
+
+        cache.setMaxSize(0);
+        cache.get(first, List::of);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.statistics().evictions()).isEqualTo(4);
+    }
+
+    @Test
+    void testEvictCollectionRemovesOnlyItsEntries() {
+        FilteredCollectionCache cache = new FilteredCollectionCache(10);
+        FilteredCollectionKey users = new FilteredCollectionKey("users", null, null, "a");
+        FilteredCollectionKey orders = new FilteredCollectionKey("orders", null, null, "a");
+        cache.get(users, List::of);
+        cache.get(orders, List::of);
+
+        cache.evictCollection("users");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.statistics().evictions()).isZero();
+        cache.get(orders, List::of);
+        cache.get(users, List::of);
+        assertThat(cache.statistics().hits()).isEqualTo(1);
+        assertThat(cache.statistics().misses()).isEqualTo(3);
+    }
+
+    @Test
+    void testResolvedConditionsAreKeyedByValue() throws IOException {
+        String dsl = """
+            {
+              "users": {
+                "count": 30,
+                "item": {
+                  "id": {"gen": "uuid"},
+                  "country": {"gen": "choice", "options": ["ES", "FR"]},
+                  "tier": {"gen": "choice", "options": ["gold", "silver"]}
+                }
+              },
+              "orders": {
+                "count": 200,
+                "item": {
+                  "$user": {"ref": "users[*]"},
+                  "peerId": {"ref": "users[country=$user.country or tier=$user.tier].id"}
+                }
+              }
+            }
+            """;
+        Generation generation = DslDataGenerator.create()
+            .withSeed(3L)
+            .withFilteredCollectionCacheSize(100)
+            .fromJsonString(dsl)
+            .generate();
+
+        // OR conditions are not indexable; at most 4 distinct resolved conditions exist
+        CacheStatistics statistics = generation.getFilteredCollectionCacheStatistics();
+        assertThat(statistics.misses()).isLessThanOrEqualTo(4);
+        assertThat(statistics.hits()).isEqualTo(200 - statistics.misses());
+        assertThat(statistics.evictions()).isZero();
+        assertThat(statistics.maxSize()).isEqualTo(100);
+    }
+
+    @Test
+    void testNegativeCacheSizeIsRejected() {
+        DslDataGenerator.Builder builder = DslDataGenerator.create();
+
+        assertThatThrownBy(() -> builder.withFilteredCollectionCacheSize(-1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("must not be negative");
+    }
 }
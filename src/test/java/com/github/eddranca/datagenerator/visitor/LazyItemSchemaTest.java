@@ -0,0 +1,205 @@
+package com.github.eddranca.datagenerator.visitor;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.eddranca.datagenerator.builder.DslTreeBuilder;
+import com.github.eddranca.datagenerator.generator.GeneratorRegistry;
+import com.github.eddranca.datagenerator.node.CollectionNode;
+import com.github.eddranca.datagenerator.node.RootNode;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LazyItemSchemaTest {
+    private static final String WRITTEN_USERS_DSL = """
+        {
+            "users": {
+                "count": 2,
+                "item": {
+                    "id": {"gen": "uuid"},
+                    "tags": {"array": {"size": 3, "item": {"gen": "lorem.word"}}},
+                    "address": {"city": {"gen": "address.city"}}
+                }
+            },
+            "orders": {
+                "count": 2,
+                "item": {"userId": {"ref": "users[*].id"}}
+            }
+        }
+        """;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private RootNode build(String dsl, GeneratorRegistry registry) throws Exception {
+        return new DslTreeBuilder(registry).build(mapper.readTree(dsl)).getTree();
+    }
+
+    @Test
+    void testSchemaResolvesSlotsOnce() throws Exception {
+        Random random = new Random(3L);
+        GeneratorRegistry registry = GeneratorRegistry.withDefaultGenerators(new Faker(random));
+        RootNode root = build("""
+            {
+                "users": {
+                    "count": 3,
+                    "item": {"name": {"gen": "name.firstName"}}
+                },
+                "orders": {
+                    "count": 3,
+                    "item": {
+                        "$user": {"ref": "users[*]"},
+                        "id": {"gen": "uuid"},
+                        "address": {"city": {"gen": "address.city"}, "zip": {"gen": "address.zipCode"}},
+                        "bio": {"gen": "lorem.sentence"}
+                    }
+                }
+            }
+            """, registry);
+        CollectionNode orders = root.getCollections().get("orders");
+        DataGenerationVisitor<LazyItemProxy> visitor =
+            new DataGenerationVisitor<>(new LazyGenerationContext(registry, random));
+
+        LazyItemSchema schema = LazyItemSchema.of(orders, Set.of("id", "address.city"), visitor);
+
+        assertThat(schema.size()).isEqualTo(4);
+        assertThat(schema.slotOf("id")).isEqualTo(1);
+        assertThat(schema.slotOf("missing")).isEqualTo(-1);
+        assertThat(schema.isShadowBinding(0)).isTrue();
+        assertThat(schema.isOutput(0)).isFalse();
+        assertThat(schema.nestedReferences(2)).containsExactly("address.city");
+        assertThat(schema.nestedReferences(3)).isNull();
+        assertThat(schema.shadowBindingSlots()).containsExactly(0);
+        assertThat(schema.initialSlots()).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void testItemsSharingASchemaMaterializeInDeclarationOrder() throws Exception {
+        Random random = new Random(5L);
+        GeneratorRegistry registry = GeneratorRegistry.withDefaultGenerators(new Faker(random));
+        RootNode root = build("""
+            {
+                "users": {
+                    "count": 20,
+                    "item": {
+                        "name": {"gen": "name.firstName"},
+                        "id": {"gen": "sequence", "start": 1},
+                        "email": {"gen": "internet.emailAddress"}
+                    }
+                },
+                "orders": {
+                    "count": 5,
+                    "item": {"userId": {"ref": "users[*].id"}}
+                }
+            }
+            """, registry);
+        LazyGenerationContext context = new LazyGenerationContext(registry, random);
+        context.setReferencedPaths(new PathDependencyAnalyzer().analyzeRoot(root));
+        root.accept(new DataGenerationVisitor<>(context));
+
+        List<LazyItemProxy> users = context.getNamedCollections().get("users");
+
+        assertThat(users).hasSize(20);
+        for (int i = 0; i < users.size(); i++) {
+            JsonNode user = users.get(i).getMaterializedCopy();
+            assertThat(user.fieldNames()).toIterable().containsExactly("name", "id", "email");
+            assertThat(user.get("id").intValue()).isEqualTo(i + 1);
+        }
+    }
+
+    @Test
+    void testDetectsFieldsReadingTheItem() throws Exception {
+        Random random = new Random(7L);
+        GeneratorRegistry registry = GeneratorRegistry.withDefaultGenerators(new Faker(random));
+        RootNode root = build("""
+            {
+                "plain": {
+                    "count": 1,
+                    "item": {
+                        "id": {"gen": "uuid"},
+                        "tags": {"array": {"size": 2, "item": {"gen": "lorem.word"}}},
+                        "label": {"expr": "uppercase(${plain[0].id})"}
+                    }
+                },
+                "selfRef": {
+                    "count": 1,
+                    "item": {"total": {"gen": "number", "min": 1, "max": 5}, "copy": {"ref": "this.total"}}
+                },
+                "nestedExpression": {
+                    "count": 1,
+                    "item": {
+                        "name": {"gen": "name.firstName"},
+                        "contact": {"email": {"expr": "lowercase(${this.name}@example.com)"}}
+                    }
+                },
+                "runtimeOption": {
+                    "count": 1,
+                    "item": {
+                        "max": {"gen": "number", "min": 5, "max": 10},
+                        "value": {"gen": "number", "min": 1, "max": {"ref": "this.max"}}
+                    }
+                }
+            }
+            """, registry);
+        DataGenerationVisitor<LazyItemProxy> visitor =
+            new DataGenerationVisitor<>(new LazyGenerationContext(registry, random));
+
+        assertThat(LazyItemSchema.of(root.getCollections().get("plain"), Set.of(), visitor).readsCurrentItem())
+            .isFalse();
+        assertThat(LazyItemSchema.of(root.getCollections().get("selfRef"), Set.of(), visitor).readsCurrentItem())
+            .isTrue();
+        assertThat(LazyItemSchema.of(root.getCollections().get("nestedExpression"), Set.of(), visitor).readsCurrentItem())
+            .isTrue();
+        assertThat(LazyItemSchema.of(root.getCollections().get("runtimeOption"), Set.of(), visitor).readsCurrentItem())
+            .isTrue();
+    }
+
+    @Test
+    void testWritingKeepsGeneratedFieldsOfRetainedItems() throws Exception {
+        Random random = new Random(11L);
+        GeneratorRegistry registry = GeneratorRegistry.withDefaultGenerators(new Faker(random));
+        RootNode root = build(WRITTEN_USERS_DSL, registry);
+        LazyGenerationContext context = new LazyGenerationContext(registry, random);
+        context.setReferencedPaths(new PathDependencyAnalyzer().analyzeRoot(root));
+        root.accept(new DataGenerationVisitor<>(context));
+        LazyItemProxy user = context.getNamedCollections().get("users").get(0);
+
+        JsonNode written = write(user);
+        assertThat(written.fieldNames()).toIterable().containsExactly("id", "tags", "address");
+        assertThat(written.get("tags")).hasSize(3);
+        assertThat(written.get("address").get("city").isTextual()).isTrue();
+        assertThat(user.toString()).isEqualTo(written.toString());
+        assertThat(write(user)).isEqualTo(written);
+        assertThat(user.getMaterializedCopy()).isEqualTo(written);
+    }
+
+    @Test
+    void testWritingDoesNotKeepGeneratedFieldsOfStreamedItems() throws Exception {
+        Random random = new Random(11L);
+        GeneratorRegistry registry = GeneratorRegistry.withDefaultGenerators(new Faker(random));
+        RootNode root = build(WRITTEN_USERS_DSL, registry);
+        LazyGenerationContext context = new LazyGenerationContext(registry, random);
+        DataGenerationVisitor<LazyItemProxy> visitor = new DataGenerationVisitor<>(context);
+        LazyItemProxy user = new LazyItemProxy(LazyItemSchema.streamed(root.getCollections().get("users"), visitor));
+
+        JsonNode written = write(user);
+        assertThat(written.fieldNames()).toIterable().containsExactly("id", "tags", "address");
+        assertThat(written.get("tags")).hasSize(3);
+        assertThat(written.get("address").get("city").isTextual()).isTrue();
+        assertThat(user).hasToString("LazyItemProxy{collection=users, materialized=0/3 fields}");
+    }
+
+    private JsonNode write(LazyItemProxy item) throws Exception {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = mapper.createGenerator(out)) {
+            item.writeTo(generator);
+        }
+        return mapper.readTree(out.toString());
+    }
+}
@@ -190,4 +190,49 @@ class PathDependencyAnalyzerTest {
         assertThat(userPaths).contains("id", "name", "email")
             .doesNotContain("bio");
     }
+
+    @Test
+    void testCollectionAndPickDependencies() throws Exception {
+        String dsl = """
+            {
+              "countries": {
+                "count": 3,
+                "item": {
+                  "code": {"gen": "country.countryCode"}
+                },
+                "pick": {"home": 0}
+              },
+              "users": {
+                "count": 5,
+                "item": {
+                  "id": {"gen": "uuid"},
+                  "homeCode": {"ref": "home.code"},
+                  "label": {"expr": "${countries[0].code}-${this.id}"}
+                }
+              },
+              "orders": {
+                "count": 5,
+                "item": {
+                  "userId": {"ref": "users[*].id", "filter": [{"ref": "countries[0].code"}]}
+                }
+              }
+            }
+            """;
+
+        RootNode root = parseAndBuild(dsl);
+        Map<String, Set<String>> referencedPaths = analyzer.analyzeRoot(root);
+
+        assertThat(analyzer.getCollectionDependencies())
+            .containsEntry("countries", Set.of())
+            .containsEntry("users", Set.of("countries"))
+            .containsEntry("orders", Set.of("users", "countries"));
+        assertThat(analyzer.getPickDependencies())
+            .containsEntry("users", Set.of("home"))
+            .containsEntry("orders", Set.of());
+
+        // Filters and expressions only add dependencies, not referenced paths
+        assertThat(referencedPaths).containsOnlyKeys("users");
+        // countries defines a pick and users is referenced by orders
+        assertThat(analyzer.getUnreferencedCollections(root)).containsExactly("orders");
+    }
 }
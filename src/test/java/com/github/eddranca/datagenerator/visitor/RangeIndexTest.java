@@ -0,0 +1,103 @@
+package com.github.eddranca.datagenerator.visitor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.eddranca.datagenerator.generator.GeneratorRegistry;
+import com.github.eddranca.datagenerator.node.ComparisonCondition;
+import com.github.eddranca.datagenerator.node.ComparisonOperator;
+import com.github.eddranca.datagenerator.node.Condition;
+import com.github.eddranca.datagenerator.node.LogicalCondition;
+import com.github.eddranca.datagenerator.node.ShadowBindingReference;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RangeIndexTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private List<JsonNode> products() {
+        Random random = new Random(9L);
+        List<JsonNode> products = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            products.add(mapper.createObjectNode()
+                .put("id", i)
+                .put("price", random.nextInt(50) + (i % 3 == 0 ? 0.5 : 0))
+                .put("category", i % 2 == 0 ? "books" : "games"));
+        }
+        return products;
+    }
+
+    private EagerGenerationContext context(List<JsonNode> products) {
+        Random random = new Random(1L);
+        EagerGenerationContext context = new EagerGenerationContext(
+            GeneratorRegistry.withDefaultGenerators(new Faker(random)), random);
+        context.registerCollection("products", products);
+        return context;
+    }
+
+    private static List<JsonNode> scan(List<JsonNode> items, Condition condition) {
+        return items.stream().filter(condition::matches).toList();
+    }
+
+    @Test
+    void testSlicesMatchConditionScan() {
+        List<JsonNode> products = products();
+        RangeIndex index = RangeIndex.build(products, "price");
+        List<Number> bounds = List.of(-1, 0, 10, 10.5, 25, 49.5, 60);
+
+        assertThat(index.isUsable()).isTrue();
+        for (ComparisonOperator operator : List.of(ComparisonOperator.LESS_THAN, ComparisonOperator.LESS_THAN_OR_EQUAL,
+            ComparisonOperator.GREATER_THAN, ComparisonOperator.GREATER_THAN_OR_EQUAL)) {
+            for (Number bound : bounds) {
+                ComparisonCondition condition = new ComparisonCondition("price", operator, bound);
+                assertThat(index.slice(index.from(condition), index.to(condition)))
+                    .as(condition.toConditionString())
+                    .containsExactlyInAnyOrderElementsOf(scan(products, condition));
+            }
+        }
+    }
+
+    @Test
+    void testFilteredCollectionUsesSliceForShadowBoundThresholds() throws Exception {
+        List<JsonNode> products = products();
+        EagerGenerationContext context = context(products);
+        Condition condition = new LogicalCondition(LogicalCondition.Type.AND, List.of(
+            new ComparisonCondition("price", ComparisonOperator.GREATER_THAN_OR_EQUAL, 5),
+            new ComparisonCondition("price", ComparisonOperator.LESS_THAN, ShadowBindingReference.parse("$budget.limit"))));
+
+        for (int limit = 0; limit < 60; limit++) {
+            Condition resolved = condition.resolveShadowBindings(
+                Map.of("$budget", mapper.readTree("{\"limit\": " + limit + "}")));
+            assertThat(context.getFilteredCollection("products", resolved, null, ""))
+                .containsExactlyInAnyOrderElementsOf(scan(products, resolved));
+        }
+
+        Condition mixed = new LogicalCondition(LogicalCondition.Type.AND, List.of(
+            new ComparisonCondition("price", ComparisonOperator.LESS_THAN, 20),
+            new ComparisonCondition("category", ComparisonOperator.EQUALS, "games")));
+        assertThat(context.getFilteredCollection("products", mixed, null, ""))
+            .containsExactlyInAnyOrderElementsOf(scan(products, mixed));
+        assertThat(context.filteredCollectionCache.size()).isZero();
+    }
+
+    @Test
+    void testNonNumericValuesKeepScanErrors() throws Exception {
+        List<JsonNode> products = new ArrayList<>(products());
+        products.add(mapper.readTree("{\"id\": 200, \"price\": \"free\"}"));
+        EagerGenerationContext context = context(products);
+
+        assertThat(RangeIndex.build(products, "price").isUsable()).isFalse();
+        assertThatThrownBy(() -> context.getFilteredCollection("products",
+            new ComparisonCondition("price", ComparisonOperator.LESS_THAN, 10), null, ""))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("non-numeric");
+    }
+}